@@ -0,0 +1,835 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+/**
+ * Generator of sources of the api from the schema of Proxmox VE (apidoc.js of
+ * pve-docs api-viewer or its json array).
+ *
+ * Usage: PveApiGenerator apidoc output flavours
+ *
+ * codegen/apidoc-sample.js is a small sample of the schema to check the
+ * generator, the full schema is not part of the sources.
+ *
+ * Flavours, comma separated:
+ * <ul>
+ * <li>table: resource/it/corsinvest/proxmoxve/api/pve-api.txt, table of
+ * endpoints of PveApiClient</li>
+ * <li>async: java/it/corsinvest/proxmoxve/api/PveAsyncApi.java, a method
+ * returning CompletableFuture for every endpoint</li>
+ * <li>tree: java/it/corsinvest/proxmoxve/api/PveClient.java, the resource tree
+ * with a method for every endpoint, named as in the schema</li>
+ * <li>views: java/it/corsinvest/proxmoxve/api/{view}.java, a PveView for
+ * every endpoint of VIEWS, from the schema of the returned object</li>
+ * </ul>
+ */
+public class PveApiGenerator {
+
+    private static final String PACKAGE_PATH = "it/corsinvest/proxmoxve/api";
+    private static final List<String> HTTP_METHODS = Arrays.asList("GET", "PUT", "POST", "DELETE");
+    private static final List<String> METHOD_TYPES = Arrays.asList("GET", "SET", "CREATE", "DELETE");
+    private static final int LINE_WIDTH = 80;
+
+    /**
+     * Views generated from the returns of GET endpoints: path, class name.
+     */
+    private static final Map<String, String> VIEWS = new TreeMap<>();
+
+    static {
+        VIEWS.put("/cluster/resources", "ClusterResource");
+        VIEWS.put("/nodes/{node}/status", "NodeStatus");
+        VIEWS.put("/nodes/{node}/qemu/{vmid}/status/current", "VmStatus");
+    }
+
+    /**
+     * Names of parameters changed with a trailing _: keywords of Java and the
+     * names already changed in the published PveClient.
+     */
+    private static final Set<String> RESERVED_NAMES = new HashSet<>(Arrays.asList(
+            "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const",
+            "continue", "default", "do", "double", "else", "enum", "extends", "final", "finally", "float",
+            "for", "goto", "if", "implements", "import", "instanceof", "int", "interface", "long", "native",
+            "new", "package", "private", "protected", "public", "return", "short", "static", "strictfp",
+            "super", "switch", "synchronized", "this", "throw", "throws", "transient", "try", "void",
+            "volatile", "while", "true", "false", "null", "base", "lock", "namespace"));
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: PveApiGenerator apidoc output flavours");
+            System.exit(1);
+        }
+
+        Path apidoc = Paths.get(args[0]);
+        if (!Files.exists(apidoc)) {
+            System.err.println("Schema " + apidoc + " not found, download it with: curl -o " + apidoc
+                    + " https://pve.proxmox.com/pve-docs/api-viewer/apidoc.js");
+            System.exit(1);
+        }
+
+        JSONArray schema = readSchema(apidoc);
+        List<Endpoint> endpoints = new ArrayList<>();
+        readEndpoints(schema, endpoints);
+        endpoints.sort((a, b) -> a._path.equals(b._path)
+                ? Integer.compare(METHOD_TYPES.indexOf(a._methodType), METHOD_TYPES.indexOf(b._methodType))
+                : a._path.compareTo(b._path));
+
+        Path output = Paths.get(args[1]);
+        for (String flavour : args[2].split(",")) {
+            switch (flavour.trim()) {
+                case "table":
+                    writeTable(endpoints, output.resolve("resources").resolve(PACKAGE_PATH).resolve("pve-api.txt"));
+                    break;
+
+                case "async":
+                    writeAsync(endpoints, output.resolve("java").resolve(PACKAGE_PATH).resolve("PveAsyncApi.java"));
+                    break;
+
+                case "tree":
+                    writeTree(schema, output.resolve("java").resolve(PACKAGE_PATH).resolve("PveClient.java"));
+                    break;
+
+                case "views":
+                    writeViews(schema, output.resolve("java").resolve(PACKAGE_PATH));
+                    break;
+
+                default:
+                    System.err.println("Flavour " + flavour + " not supported (table, async, tree, views)");
+                    System.exit(1);
+            }
+        }
+        System.out.println("Endpoints: " + endpoints.size());
+    }
+
+    /**
+     * Schema as json array, also inside apidoc.js (const apiSchema = [...]).
+     */
+    private static JSONArray readSchema(Path apidoc) throws IOException {
+        String text = new String(Files.readAllBytes(apidoc), StandardCharsets.UTF_8);
+        int start = text.trim().startsWith("[") ? text.indexOf('[') : text.indexOf('[', text.indexOf('='));
+        return (JSONArray) new JSONTokener(text.substring(start)).nextValue();
+    }
+
+    private static void readEndpoints(JSONArray nodes, List<Endpoint> endpoints) {
+        for (int i = 0; i < nodes.length(); i++) {
+            JSONObject node = nodes.getJSONObject(i);
+            JSONObject info = node.optJSONObject("info");
+            if (info != null) {
+                for (String httpMethod : HTTP_METHODS) {
+                    JSONObject method = info.optJSONObject(httpMethod);
+                    if (method != null) {
+                        endpoints.add(new Endpoint(METHOD_TYPES.get(HTTP_METHODS.indexOf(httpMethod)),
+                                node.getString("path"),
+                                method.optString("description", "")));
+                    }
+                }
+            }
+
+            JSONArray children = node.optJSONArray("children");
+            if (children != null) {
+                readEndpoints(children, endpoints);
+            }
+        }
+    }
+
+    private static void writeTable(List<Endpoint> endpoints, Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("# SPDX-FileCopyrightText: Copyright Corsinvest Srl\n");
+            out.write("# SPDX-License-Identifier: GPL-3.0-only\n");
+            out.write("#\n");
+            out.write("# Endpoints of Proxmox VE api: method path\n");
+            for (Endpoint endpoint : endpoints) {
+                out.write(endpoint._methodType + " " + endpoint._path + "\n");
+            }
+        }
+    }
+
+    private static void writeAsync(List<Endpoint> endpoints, Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Set<String> names = new HashSet<>();
+        TreeMap<String, Endpoint> methods = new TreeMap<>();
+        for (Endpoint endpoint : endpoints) {
+            String name = endpoint.getMethodName();
+            if (!names.add(name)) {
+                name += "By" + String.join("", endpoint.getParameters().stream()
+                        .map(PveApiGenerator::capitalize)
+                        .toArray(String[]::new));
+                names.add(name);
+            }
+            methods.put(name, endpoint);
+        }
+
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("/*\n");
+            out.write(" * SPDX-FileCopyrightText: Copyright Corsinvest Srl\n");
+            out.write(" * SPDX-License-Identifier: GPL-3.0-only\n");
+            out.write(" */\n");
+            out.write("package it.corsinvest.proxmoxve.api;\n\n");
+            out.write("import java.util.Map;\n");
+            out.write("import java.util.concurrent.CompletableFuture;\n\n");
+            out.write("/**\n");
+            out.write(" * Proxmox VE api, asynchronous (generated by PveApiGenerator)\n");
+            out.write(" */\n");
+            out.write("public class PveAsyncApi {\n\n");
+            out.write("    private final PveClientBase _client;\n\n");
+            out.write("    public PveAsyncApi(PveClientBase client) {\n");
+            out.write("        _client = client;\n");
+            out.write("    }\n");
+
+            int index = 0;
+            for (Endpoint endpoint : methods.values()) {
+                out.write("\n    private static final PveOperation OPERATION_" + index++
+                        + " = new PveOperation(MethodType." + endpoint._methodType
+                        + ", \"" + endpoint._path + "\");\n");
+            }
+
+            index = 0;
+            for (String name : methods.keySet()) {
+                Endpoint endpoint = methods.get(name);
+                List<String> parameters = endpoint.getParameters();
+
+                out.write("\n    /**\n");
+                for (String line : endpoint._description.split("\n")) {
+                    out.write("     * " + escapeComment(line.trim()) + "\n");
+                }
+                out.write("     *\n");
+                for (String parameter : parameters) {
+                    out.write("     * @param " + toIdentifier(parameter) + " " + parameter + "\n");
+                }
+                out.write("     * @param parameters Parameters, can be null\n");
+                out.write("     * @return CompletableFuture of Result\n");
+                out.write("     */\n");
+
+                StringBuilder signature = new StringBuilder();
+                StringBuilder values = new StringBuilder();
+                for (String parameter : parameters) {
+                    signature.append("Object ").append(toIdentifier(parameter)).append(", ");
+                    values.append(", ").append(toIdentifier(parameter));
+                }
+                out.write("    public CompletableFuture<Result> " + name + "(" + signature
+                        + "Map<String, Object> parameters) {\n");
+                out.write("        return OPERATION_" + index++ + ".executeAsync(_client, parameters" + values + ");\n");
+                out.write("    }\n");
+            }
+            out.write("}\n");
+        }
+    }
+
+    private static void writeTree(JSONArray schema, Path file) throws IOException {
+        Tree tree = new Tree();
+        StringBuilder members = new StringBuilder();
+        List<JSONObject> children = children(schema);
+        tree.writeGetters(children, new ArrayList<>(), 1, members);
+        for (JSONObject child : children) {
+            members.append("\n");
+            tree.writeClass(child, new ArrayList<>(), 1, members);
+        }
+
+        Files.createDirectories(file.getParent());
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("/*\n");
+            out.write(" * SPDX-FileCopyrightText: Copyright Corsinvest Srl\n");
+            out.write(" * SPDX-License-Identifier: GPL-3.0-only\n");
+            out.write(" */\n");
+            out.write("package it.corsinvest.proxmoxve.api;\n\n");
+            if (tree._indexed) {
+                out.write("import java.util.HashMap;\n");
+                out.write("import java.util.Map;\n");
+            }
+            out.write("import org.json.JSONException;\n\n");
+            out.write("/**\n");
+            out.write(" * Proxmox VE Client\n");
+            out.write(" *\n");
+            out.write(" * The state of resource objects is set in final fields by the constructor and\n");
+            out.write(" * the lazy getters read their field once into a local, so they need no lock\n");
+            out.write(" * when the client is shared by many threads: a race can only create the same\n");
+            out.write(" * resource object twice, never return null.\n");
+            out.write(" *\n");
+            out.write(" * Items of collections (node, vmid, ...) are cached by id, so polling the same\n");
+            out.write(" * path again reuses the objects instead of allocating a new chain.\n");
+            out.write(" */\n");
+            out.write("public class PveClient extends PveClientBase {\n\n");
+            out.write("    /**\n");
+            out.write("     * Operations of the endpoints, loaded on first call of an endpoint.\n");
+            out.write("     */\n");
+            out.write("    private static final class Operations {\n\n");
+            for (String operation : tree._operations.values()) {
+                out.write(operation);
+            }
+            out.write("    }\n\n");
+            out.write("    private final PveClient client;\n\n");
+            out.write("    public PveClient(String hostname, int port) {\n");
+            out.write("        super(hostname, port);\n");
+            out.write("        client = this;\n");
+            out.write("    }\n");
+            out.write(members.toString());
+            out.write("\n}\n");
+        }
+        System.out.println("Operations: " + tree._operations.size());
+    }
+
+    private static void writeViews(JSONArray schema, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, String> view : VIEWS.entrySet()) {
+            JSONObject node = findNode(schema, view.getKey());
+            JSONObject method = node == null || node.optJSONObject("info") == null
+                    ? null
+                    : node.getJSONObject("info").optJSONObject("GET");
+            JSONObject returns = method == null ? null : method.optJSONObject("returns");
+            if (returns != null && "array".equals(returns.optString("type"))) {
+                returns = returns.optJSONObject("items");
+            }
+            if (returns == null || returns.optJSONObject("properties") == null) {
+                System.err.println("View " + view.getValue() + ": no returned object for GET " + view.getKey());
+                continue;
+            }
+
+            Path file = directory.resolve(view.getValue() + ".java");
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                out.write(new View(view.getValue(), view.getKey(), method, returns).write());
+            }
+        }
+        System.out.println("Views: " + VIEWS.size());
+    }
+
+    private static JSONObject findNode(JSONArray nodes, String path) {
+        for (JSONObject node : children(nodes)) {
+            if (node.getString("path").equals(path)) {
+                return node;
+            }
+            JSONObject ret = findNode(node.optJSONArray("children"), path);
+            if (ret != null) {
+                return ret;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * PveView of the object returned by an endpoint: a getter for every
+     * string, integer (long), number (double) and boolean property, also of
+     * nested objects (one level). Arrays and objects without properties are
+     * skipped, use getData().
+     */
+    private static class View {
+
+        private static final int MAX_FIELDS = 64;
+
+        private final String _className;
+        private final String _path;
+        private final JSONObject _method;
+        private final JSONObject _returns;
+        private final List<String> _fields = new ArrayList<>();
+        private final StringBuilder _getters = new StringBuilder();
+
+        View(String className, String path, JSONObject method, JSONObject returns) {
+            _className = className;
+            _path = path;
+            _method = method;
+            _returns = returns;
+        }
+
+        String write() {
+            JSONObject properties = _returns.getJSONObject("properties");
+            for (String key : new TreeMap<>(properties.toMap()).keySet()) {
+                JSONObject property = properties.getJSONObject(key);
+                JSONObject nested = property.optJSONObject("properties");
+                if ("object".equals(property.optString("type")) && nested != null) {
+                    for (String nestedKey : new TreeMap<>(nested.toMap()).keySet()) {
+                        writeGetter(key, nestedKey, nested.getJSONObject(nestedKey));
+                    }
+                } else {
+                    writeGetter(null, key, property);
+                }
+            }
+            if (_fields.size() > MAX_FIELDS) {
+                throw new IllegalStateException("View " + _className + " has more than " + MAX_FIELDS
+                        + " numeric fields");
+            }
+
+            StringBuilder out = new StringBuilder();
+            out.append("/*\n");
+            out.append(" * SPDX-FileCopyrightText: Copyright Corsinvest Srl\n");
+            out.append(" * SPDX-License-Identifier: GPL-3.0-only\n");
+            out.append(" */\n");
+            out.append("package it.corsinvest.proxmoxve.api;\n\n");
+            out.append("import org.json.JSONObject;\n\n");
+            out.append("/**\n");
+            writeComment("", _method.optString("description", "GET " + _path), out);
+            out.append(" *\n");
+            writeComment("", "Data of GET " + _path + ", generated by PveApiGenerator from the schema of the"
+                    + " returned object.", out);
+            out.append(" *\n");
+            out.append(" * <pre>\n");
+            out.append(" * ").append(_className).append(" view = result.")
+                    .append(_returns == _method.getJSONObject("returns") ? "getDataAs(" : "getDataAsList(")
+                    .append(_className).append("::new);\n");
+            out.append(" * </pre>\n");
+            out.append(" */\n");
+            out.append("public class ").append(_className).append(" extends PveView {\n\n");
+            for (int i = 0; i < _fields.size(); i++) {
+                out.append("    private static final int ").append(_fields.get(i)).append(" = ").append(i).append(";\n");
+            }
+            if (!_fields.isEmpty()) {
+                out.append("\n");
+            }
+            out.append("    public ").append(_className).append("(JSONObject data) {\n");
+            out.append("        super(data, ").append(_fields.size()).append(");\n");
+            out.append("    }\n");
+            out.append(_getters);
+            out.append("}\n");
+            return out.toString();
+        }
+
+        private void writeGetter(String object, String key, JSONObject property) {
+            String type = property.optString("type", "string");
+            String name = capitalize(toIdentifier(object == null ? key : object + "-" + key));
+            String field = (object == null ? key : object + "_" + key).replaceAll("[^A-Za-z0-9]", "_")
+                    .toUpperCase();
+            String location = (object == null ? "" : "\"" + object + "\", ") + "\"" + key + "\"";
+
+            String returnType;
+            String getter;
+            String body;
+            switch (type) {
+                case "integer":
+                    returnType = "long";
+                    getter = "get" + name;
+                    body = "getLong(" + field + ", " + location + ")";
+                    break;
+
+                case "number":
+                    returnType = "double";
+                    getter = "get" + name;
+                    body = "getDouble(" + field + ", " + location + ")";
+                    break;
+
+                case "boolean":
+                    returnType = "boolean";
+                    getter = "is" + name;
+                    body = "getBoolean(" + field + ", " + location + ")";
+                    break;
+
+                case "string":
+                    returnType = "String";
+                    getter = "get" + name;
+                    body = "getString(" + location + ")";
+                    break;
+
+                default:
+                    return;
+            }
+            if ("getData".equals(getter) || "getClass".equals(getter)) {
+                getter += "Value";
+            }
+            if (!"String".equals(returnType)) {
+                _fields.add(field);
+            }
+
+            _getters.append("\n    /**\n");
+            writeComment("    ", property.optString("description", key), _getters);
+            _getters.append("     *\n");
+            _getters.append("     * @return ").append(returnType).append("\n");
+            _getters.append("     */\n");
+            _getters.append("    public ").append(returnType).append(" ").append(getter).append("() {\n");
+            _getters.append("        return ").append(body).append(";\n");
+            _getters.append("    }\n");
+        }
+    }
+
+    private static List<JSONObject> children(JSONArray nodes) {
+        List<JSONObject> ret = new ArrayList<>();
+        if (nodes != null) {
+            for (int i = 0; i < nodes.length(); i++) {
+                ret.add(nodes.getJSONObject(i));
+            }
+        }
+        return ret;
+    }
+
+    private static String indent(int level) {
+        return String.join("", Collections.nCopies(level, "    "));
+    }
+
+    /**
+     * Name of a node of the schema: last segment of the path, without braces.
+     */
+    private static String segment(JSONObject node) {
+        String path = node.getString("path");
+        String ret = path.substring(path.lastIndexOf('/') + 1);
+        return isItem(node) ? ret.substring(1, ret.length() - 1) : ret;
+    }
+
+    /**
+     * Node of an item of a collection, eg. /nodes/{node}.
+     */
+    private static boolean isItem(JSONObject node) {
+        return node.getString("path").endsWith("}");
+    }
+
+    private static String className(JSONObject node) {
+        return "PVE" + capitalize(toIdentifier(segment(node))) + (isItem(node) ? "Item" : "");
+    }
+
+    private static String toJavaName(String text) {
+        String ret = toIdentifier(text);
+        return RESERVED_NAMES.contains(ret) ? ret + "_" : ret;
+    }
+
+    /**
+     * Lines of a comment, wrapped at LINE_WIDTH.
+     */
+    private static void writeComment(String indent, String text, StringBuilder out) {
+        String prefix = indent + " * ";
+        StringBuilder line = new StringBuilder(prefix);
+        for (String word : escapeComment(text).trim().split("\\s+")) {
+            if (line.length() > prefix.length() && line.length() + 1 + word.length() > LINE_WIDTH) {
+                out.append(line).append("\n");
+                line.setLength(0);
+                line.append(prefix);
+            }
+            if (line.length() > prefix.length()) {
+                line.append(' ');
+            }
+            line.append(word);
+        }
+        out.append(line).append("\n");
+    }
+
+    /**
+     * Resource tree of PveClient: a class for every path, a method for every
+     * endpoint and a static PveOperation for every endpoint, in the holder
+     * class Operations.
+     */
+    private static class Tree {
+
+        private final Map<String, String> _operations = new TreeMap<>();
+        private boolean _indexed;
+
+        void writeGetters(List<JSONObject> children, List<String> pathParameters, int level, StringBuilder out) {
+            String indent = indent(level);
+            String arguments = arguments(pathParameters);
+            for (JSONObject child : children) {
+                String className = className(child);
+                if (isItem(child)) {
+                    String name = toJavaName(segment(child));
+                    out.append("\n");
+                    out.append(indent).append("private final PveHandleCache<").append(className)
+                            .append("> handles = new PveHandleCache<>();\n\n");
+                    out.append(indent).append("public ").append(className).append(" get(Object ").append(name).append(") {\n");
+                    out.append(indent).append("    ").append(className).append(" item = handles.get(").append(name).append(");\n");
+                    out.append(indent).append("    return item != null ? item : handles.put(").append(name)
+                            .append(", new ").append(className).append("(client").append(arguments)
+                            .append(", ").append(name).append("));\n");
+                    out.append(indent).append("}\n");
+                } else {
+                    String field = toJavaName(segment(child));
+                    out.append("\n");
+                    out.append(indent).append("private ").append(className).append(" ").append(field).append(";\n\n");
+                    out.append(indent).append("public ").append(className).append(" get")
+                            .append(capitalize(toIdentifier(segment(child)))).append("() {\n");
+                    out.append(indent).append("    ").append(className).append(" instance = ").append(field).append(";\n");
+                    out.append(indent).append("    if (instance == null) {\n");
+                    out.append(indent).append("        ").append(field).append(" = instance = new ").append(className)
+                            .append("(client").append(arguments).append(");\n");
+                    out.append(indent).append("    }\n");
+                    out.append(indent).append("    return instance;\n");
+                    out.append(indent).append("}\n");
+                }
+            }
+        }
+
+        void writeClass(JSONObject node, List<String> parentParameters, int level, StringBuilder out) {
+            String indent = indent(level);
+            String className = className(node);
+            List<String> pathParameters = new ArrayList<>(parentParameters);
+            if (isItem(node)) {
+                pathParameters.add(segment(node));
+            }
+
+            out.append(indent).append("public class ").append(className).append(" {\n\n");
+            out.append(indent).append("    private final PveClient client;\n");
+            StringBuilder parameters = new StringBuilder();
+            for (String parameter : pathParameters) {
+                out.append(indent).append("    private final Object ").append(toJavaName(parameter)).append(";\n");
+                parameters.append(", Object ").append(toJavaName(parameter));
+            }
+            out.append("\n");
+            out.append(indent).append("    protected ").append(className).append("(PveClient client")
+                    .append(parameters).append(") {\n");
+            out.append(indent).append("        this.client = client;\n");
+            for (String parameter : pathParameters) {
+                out.append(indent).append("        this.").append(toJavaName(parameter)).append(" = ")
+                        .append(toJavaName(parameter)).append(";\n");
+            }
+            out.append(indent).append("    }\n");
+
+            List<JSONObject> children = children(node.optJSONArray("children"));
+            writeGetters(children, pathParameters, level + 1, out);
+            for (JSONObject child : children) {
+                out.append("\n");
+                writeClass(child, pathParameters, level + 1, out);
+            }
+
+            JSONObject info = node.optJSONObject("info");
+            if (info != null) {
+                for (String httpMethod : new TreeMap<>(info.toMap()).keySet()) {
+                    if (HTTP_METHODS.contains(httpMethod)) {
+                        writeMethods(node.getString("path"), httpMethod, info.getJSONObject(httpMethod),
+                                pathParameters, level + 1, out);
+                    }
+                }
+            }
+            out.append("\n").append(indent).append("}\n");
+        }
+
+        private void writeMethods(String path,
+                String httpMethod,
+                JSONObject method,
+                List<String> pathParameters,
+                int level,
+                StringBuilder out) {
+            String methodType = METHOD_TYPES.get(HTTP_METHODS.indexOf(httpMethod));
+            String constant = methodType + path.replaceAll("[{}]", "").replaceAll("[^A-Za-z0-9/]", "_")
+                    .replace('/', '_').toUpperCase();
+            String operation = "Operations." + constant;
+
+            // required parameters first, then optional, each sorted by name
+            List<Parameter> required = new ArrayList<>();
+            List<Parameter> optional = new ArrayList<>();
+            JSONObject properties = method.optJSONObject("parameters") == null
+                    ? null
+                    : method.getJSONObject("parameters").optJSONObject("properties");
+            if (properties != null) {
+                for (String name : new TreeMap<>(properties.toMap()).keySet()) {
+                    if (!pathParameters.contains(name)) {
+                        Parameter parameter = new Parameter(name, properties.getJSONObject(name));
+                        (parameter._required ? required : optional).add(parameter);
+                    }
+                }
+            }
+            List<Parameter> all = new ArrayList<>(required);
+            all.addAll(optional);
+
+            StringBuilder declaration = new StringBuilder("        private static final PveOperation ")
+                    .append(constant).append(" = new PveOperation(MethodType.").append(methodType)
+                    .append(", \"").append(path).append("\"");
+            for (Parameter parameter : all) {
+                if (!parameter._indexed) {
+                    declaration.append(", \"").append(parameter._name).append("\"");
+                }
+            }
+            _operations.put(path + " " + constant, declaration.append(");\n").toString());
+
+            String name = toJavaName(method.optString("name", methodType.toLowerCase()));
+            String description = method.optString("description", methodType + " " + path);
+            writeMethod(name, description, operation, all, pathParameters, level, out);
+            if (!optional.isEmpty()) {
+                writeMethod(name, description, operation, required, pathParameters, level, out);
+            }
+        }
+
+        private void writeMethod(String name,
+                String description,
+                String operation,
+                List<Parameter> parameters,
+                List<String> pathParameters,
+                int level,
+                StringBuilder out) {
+            String indent = indent(level);
+            out.append("\n").append(indent).append("/**\n");
+            for (String line : description.split("\n")) {
+                if (!line.trim().isEmpty()) {
+                    writeComment(indent, line, out);
+                }
+            }
+            out.append(indent).append(" *\n");
+            for (Parameter parameter : parameters) {
+                writeComment(indent, "@param " + parameter._javaName + " " + parameter._description, out);
+            }
+            out.append(indent).append(" * @return Result\n");
+            out.append(indent).append(" * @throws JSONException\n");
+            out.append(indent).append(" */\n");
+
+            StringBuilder signature = new StringBuilder();
+            StringBuilder values = new StringBuilder();
+            boolean indexed = false;
+            for (Parameter parameter : parameters) {
+                signature.append(signature.length() == 0 ? "" : ", ").append(parameter._type)
+                        .append(" ").append(parameter._javaName);
+                if (parameter._indexed) {
+                    indexed = true;
+                } else {
+                    values.append(values.length() == 0 ? "" : ", ").append(parameter._javaName);
+                }
+            }
+            String arguments = arguments(pathParameters);
+
+            out.append(indent).append("public Result ").append(name).append("(").append(signature)
+                    .append(") throws JSONException {\n");
+            if (parameters.isEmpty()) {
+                out.append(indent).append("    return ").append(operation).append(".execute(client, null")
+                        .append(arguments).append(");\n");
+            } else if (!indexed) {
+                out.append(indent).append("    return ").append(operation).append(".execute(client, ")
+                        .append(operation).append(".parameters(").append(values).append(")")
+                        .append(arguments).append(");\n");
+            } else {
+                // indexed parameters (netN, ...) have a key for every index
+                _indexed = true;
+                out.append(indent).append("    Map<String, Object> parameters = new HashMap<>();\n");
+                for (Parameter parameter : parameters) {
+                    if (!parameter._indexed) {
+                        out.append(indent).append("    parameters.put(\"").append(parameter._name).append("\", ")
+                                .append(parameter._javaName).append(");\n");
+                    }
+                }
+                for (Parameter parameter : parameters) {
+                    if (parameter._indexed) {
+                        out.append(indent).append("    addIndexedParameter(parameters, \"")
+                                .append(parameter._name, 0, parameter._name.length() - 3).append("\", ")
+                                .append(parameter._javaName).append(");\n");
+                    }
+                }
+                out.append(indent).append("    return ").append(operation).append(".execute(client, parameters")
+                        .append(arguments).append(");\n");
+            }
+            out.append(indent).append("}\n");
+        }
+
+        private static String arguments(List<String> pathParameters) {
+            StringBuilder ret = new StringBuilder();
+            for (String parameter : pathParameters) {
+                ret.append(", this.").append(toJavaName(parameter));
+            }
+            return ret.toString();
+        }
+    }
+
+    /**
+     * Parameter of an endpoint, eg. vmstate or net[n] (indexed).
+     */
+    private static class Parameter {
+
+        private final String _name;
+        private final String _javaName;
+        private final String _type;
+        private final String _description;
+        private final boolean _required;
+        private final boolean _indexed;
+
+        Parameter(String name, JSONObject schema) {
+            _name = name;
+            _indexed = name.endsWith("[n]");
+            _required = schema.optInt("optional", 0) == 0;
+            _javaName = _indexed
+                    ? toJavaName(name.substring(0, name.length() - 3)) + "N"
+                    : RESERVED_NAMES.contains(name) ? name + "_" : name.replace('-', '_');
+
+            String type = schema.optString("type", "string");
+            if (_indexed) {
+                _type = "Map<Integer, String>";
+            } else if ("integer".equals(type)) {
+                _type = _required ? "int" : "Integer";
+            } else if ("boolean".equals(type)) {
+                _type = _required ? "boolean" : "Boolean";
+            } else if ("number".equals(type)) {
+                _type = _required ? "float" : "Float";
+            } else {
+                _type = "String";
+            }
+
+            String description = schema.optString("description", "");
+            JSONArray values = schema.optJSONArray("enum");
+            if (values != null) {
+                List<String> texts = new ArrayList<>();
+                for (int i = 0; i < values.length(); i++) {
+                    texts.add(values.get(i).toString());
+                }
+                description += (description.isEmpty() ? "" : " ") + "Enum: " + String.join(",", texts);
+            }
+            _description = description;
+        }
+    }
+
+    private static String capitalize(String text) {
+        return text.isEmpty() ? text : Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    private static String toIdentifier(String text) {
+        StringBuilder ret = new StringBuilder();
+        boolean upper = false;
+        for (char c : text.toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                ret.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            } else {
+                upper = ret.length() > 0;
+            }
+        }
+        return ret.length() == 0 || !Character.isLetter(ret.charAt(0)) ? "_" + ret : ret.toString();
+    }
+
+    private static String escapeComment(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("*/", "*&#47;");
+    }
+
+    private static class Endpoint {
+
+        private final String _methodType;
+        private final String _path;
+        private final String _description;
+
+        Endpoint(String methodType, String path, String description) {
+            _methodType = methodType;
+            _path = path;
+            _description = description.isEmpty() ? methodType + " " + path : description;
+        }
+
+        /**
+         * Name of path parameters, in order.
+         */
+        List<String> getParameters() {
+            List<String> ret = new ArrayList<>();
+            for (String segment : _path.split("/")) {
+                if (segment.startsWith("{") && segment.endsWith("}")) {
+                    ret.add(segment.substring(1, segment.length() - 1));
+                }
+            }
+            return ret;
+        }
+
+        /**
+         * Method name from type and literal segments, eg. getNodesQemuStatusCurrent.
+         */
+        String getMethodName() {
+            StringBuilder ret = new StringBuilder(_methodType.toLowerCase());
+            for (String segment : _path.split("/")) {
+                if (!segment.isEmpty() && !segment.startsWith("{")) {
+                    ret.append(capitalize(toIdentifier(segment)));
+                }
+            }
+            return ret.toString();
+        }
+    }
+}
@@ -0,0 +1,998 @@
+// SPDX-FileCopyrightText: Copyright Corsinvest Srl
+// SPDX-License-Identifier: GPL-3.0-only
+//
+// Sample of the schema of Proxmox VE (apidoc.js of api-viewer), a few endpoints
+// to check the generator without downloading the full schema.
+const apiSchema = [
+  {
+    "path": "/cluster",
+    "text": "cluster",
+    "leaf": 0,
+    "info": {
+      "GET": {
+        "method": "GET",
+        "name": "index",
+        "description": "Cluster index.",
+        "parameters": {
+          "additionalProperties": 0,
+          "properties": {}
+        }
+      }
+    },
+    "children": [
+      {
+        "path": "/cluster/replication",
+        "text": "replication",
+        "leaf": 0,
+        "info": {
+          "GET": {
+            "method": "GET",
+            "name": "index",
+            "description": "List replication jobs.",
+            "parameters": {
+              "additionalProperties": 0,
+              "properties": {}
+            }
+          },
+          "POST": {
+            "method": "POST",
+            "name": "create",
+            "description": "Create a new replication job",
+            "parameters": {
+              "additionalProperties": 0,
+              "properties": {
+                "id": {
+                  "type": "string",
+                  "format": "pve-replication-job-id",
+                  "description": "Replication Job ID. The ID is composed of a Guest ID and a job number, separated by a hyphen, i.e. '<GUEST>-<JOBNUM>'."
+                },
+                "target": {
+                  "type": "string",
+                  "format": "pve-node",
+                  "description": "Target node."
+                },
+                "type": {
+                  "type": "string",
+                  "enum": [
+                    "local"
+                  ],
+                  "description": "Section type."
+                },
+                "comment": {
+                  "type": "string",
+                  "optional": 1,
+                  "description": "Description."
+                },
+                "disable": {
+                  "type": "boolean",
+                  "optional": 1,
+                  "description": "Flag to disable/deactivate the entry."
+                },
+                "rate": {
+                  "type": "number",
+                  "optional": 1,
+                  "description": "Rate limit in mbps (megabytes per second) as floating point number."
+                },
+                "remove_job": {
+                  "type": "string",
+                  "optional": 1,
+                  "enum": [
+                    "local",
+                    "full"
+                  ],
+                  "description": "Mark the replication job for removal. The job will remove all local replication snapshots. When set to 'full', it also tries to remove replicated volumes on the target. The job then removes itself from the configuration file."
+                },
+                "schedule": {
+                  "type": "string",
+                  "optional": 1,
+                  "description": "Storage replication schedule. The format is a subset of `systemd` calendar events."
+                },
+                "source": {
+                  "type": "string",
+                  "optional": 1,
+                  "description": "For internal use, to detect if the guest was stolen."
+                }
+              }
+            }
+          }
+        },
+        "children": [
+          {
+            "path": "/cluster/replication/{id}",
+            "text": "{id}",
+            "leaf": 1,
+            "info": {
+              "DELETE": {
+                "method": "DELETE",
+                "name": "delete",
+                "description": "Mark replication job for removal.",
+                "parameters": {
+                  "additionalProperties": 0,
+                  "properties": {
+                    "id": {
+                      "type": "string",
+                      "format": "pve-replication-job-id",
+                      "description": "Replication Job ID. The ID is composed of a Guest ID and a job number, separated by a hyphen, i.e. '<GUEST>-<JOBNUM>'."
+                    },
+                    "force": {
+                      "type": "boolean",
+                      "optional": 1,
+                      "description": "Will remove the jobconfig entry, but will not cleanup."
+                    },
+                    "keep": {
+                      "type": "boolean",
+                      "optional": 1,
+                      "description": "Keep replicated data at target (do not remove)."
+                    }
+                  }
+                }
+              },
+              "GET": {
+                "method": "GET",
+                "name": "read",
+                "description": "Read replication job configuration.",
+                "parameters": {
+                  "additionalProperties": 0,
+                  "properties": {
+                    "id": {
+                      "type": "string",
+                      "format": "pve-replication-job-id",
+                      "description": "Replication Job ID. The ID is composed of a Guest ID and a job number, separated by a hyphen, i.e. '<GUEST>-<JOBNUM>'."
+                    }
+                  }
+                }
+              }
+            }
+          }
+        ]
+      },
+      {
+        "path": "/cluster/config",
+        "text": "config",
+        "leaf": 0,
+        "info": {
+          "GET": {
+            "method": "GET",
+            "name": "index",
+            "description": "Directory index.",
+            "parameters": {
+              "additionalProperties": 0,
+              "properties": {}
+            }
+          },
+          "POST": {
+            "method": "POST",
+            "name": "create",
+            "description": "Generate new cluster configuration. If no links given, default to local IP address as link0.",
+            "parameters": {
+              "additionalProperties": 0,
+              "properties": {
+                "clustername": {
+                  "type": "string",
+                  "format": "pve-node",
+                  "description": "The name of the cluster."
+                },
+                "link[n]": {
+                  "type": "string",
+                  "optional": 1,
+                  "description": "Address and priority information of a single corosync link. (up to 8 links supported; link0..link7)"
+                },
+                "nodeid": {
+                  "type": "integer",
+                  "optional": 1,
+                  "minimum": 1,
+                  "description": "Node id for this node."
+                },
+                "votes": {
+                  "type": "integer",
+                  "optional": 1,
+                  "minimum": 1,
+                  "description": "Number of votes for this node."
+                }
+              }
+            }
+          }
+        },
+        "children": [
+          {
+            "path": "/cluster/config/nodes",
+            "text": "nodes",
+            "leaf": 0,
+            "info": {
+              "GET": {
+                "method": "GET",
+                "name": "nodes",
+                "description": "Corosync node list.",
+                "parameters": {
+                  "additionalProperties": 0,
+                  "properties": {}
+                }
+              }
+            },
+            "children": [
+              {
+                "path": "/cluster/config/nodes/{node}",
+                "text": "{node}",
+                "leaf": 1,
+                "info": {
+                  "DELETE": {
+                    "method": "DELETE",
+                    "name": "delnode",
+                    "description": "Removes a node from the cluster configuration.",
+                    "parameters": {
+                      "additionalProperties": 0,
+                      "properties": {
+                        "node": {
+                          "type": "string",
+                          "format": "pve-node",
+                          "description": "The cluster node name."
+                        }
+                      }
+                    }
+                  },
+                  "POST": {
+                    "method": "POST",
+                    "name": "addnode",
+                    "description": "Adds a node to the cluster configuration. This call is for internal use.",
+                    "parameters": {
+                      "additionalProperties": 0,
+                      "properties": {
+                        "node": {
+                          "type": "string",
+                          "format": "pve-node",
+                          "description": "The cluster node name."
+                        },
+                        "apiversion": {
+                          "type": "integer",
+                          "optional": 1,
+                          "description": "The JOIN_API_VERSION of the new node."
+                        },
+                        "force": {
+                          "type": "boolean",
+                          "optional": 1,
+                          "description": "Do not throw error if node already exists."
+                        },
+                        "link[n]": {
+                          "type": "string",
+                          "optional": 1,
+                          "description": "Address and priority information of a single corosync link. (up to 8 links supported; link0..link7)"
+                        },
+                        "new_node_ip": {
+                          "type": "string",
+                          "optional": 1,
+                          "format": "ip",
+                          "description": "IP Address of node to add. Used as fallback if no links are given."
+                        },
+                        "nodeid": {
+                          "type": "integer",
+                          "optional": 1,
+                          "minimum": 1,
+                          "description": "Node id for this node."
+                        },
+                        "votes": {
+                          "type": "integer",
+                          "optional": 1,
+                          "minimum": 0,
+                          "description": "Number of votes for this node"
+                        }
+                      }
+                    }
+                  }
+                }
+              }
+            ]
+          }
+        ]
+      },
+      {
+        "path": "/cluster/resources",
+        "text": "resources",
+        "leaf": 1,
+        "info": {
+          "GET": {
+            "method": "GET",
+            "name": "resources",
+            "description": "Resources index (cluster wide).",
+            "parameters": {
+              "additionalProperties": 0,
+              "properties": {
+                "type": {
+                  "type": "string",
+                  "enum": [
+                    "vm",
+                    "storage",
+                    "node",
+                    "sdn"
+                  ],
+                  "optional": 1,
+                  "description": "Resource type."
+                }
+              }
+            },
+            "returns": {
+              "type": "array",
+              "items": {
+                "type": "object",
+                "properties": {
+                  "cgroup-mode": {
+                    "type": "integer",
+                    "optional": 1,
+                    "description": "The cgroup mode the node operates under (when type == node)."
+                  },
+                  "content": {
+                    "type": "string",
+                    "format": "pve-storage-content-list",
+                    "optional": 1,
+                    "description": "Allowed storage content types (when type == storage)."
+                  },
+                  "cpu": {
+                    "type": "number",
+                    "renderer": "fraction_as_percentage",
+                    "optional": 1,
+                    "description": "CPU utilization (when type in node,qemu,lxc)."
+                  },
+                  "disk": {
+                    "type": "integer",
+                    "renderer": "bytes",
+                    "optional": 1,
+                    "description": "Used disk space in bytes (when type in storage), used root image space for VMs (type in qemu,lxc)."
+                  },
+                  "diskread": {
+                    "type": "integer",
+                    "renderer": "bytes",
+                    "optional": 1,
+                    "description": "The amount of bytes the guest read from its block devices since the guest was started. (when type in qemu,lxc)"
+                  },
+                  "diskwrite": {
+                    "type": "integer",
+                    "renderer": "bytes",
+                    "optional": 1,
+                    "description": "The amount of bytes the guest wrote to its block devices since the guest was started. (when type in qemu,lxc)"
+                  },
+                  "hastate": {
+                    "type": "string",
+                    "optional": 1,
+                    "description": "HA service status (for HA managed VMs)."
+                  },
+                  "id": {
+                    "type": "string",
+                    "description": "Resource id."
+                  },
+                  "level": {
+                    "type": "string",
+                    "optional": 1,
+                    "description": "Support level (when type == node)."
+                  },
+                  "lock": {
+                    "type": "string",
+                    "optional": 1,
+                    "description": "The guest's current config lock (when type in qemu,lxc)"
+                  },
+                  "maxcpu": {
+                    "type": "number",
+                    "optional": 1,
+                    "description": "Number of available CPUs (when type in node,qemu,lxc)."
+                  },
+                  "maxdisk": {
+                    "type": "integer",
+                    "renderer": "bytes",
+                    "optional": 1,
+                    "description": "Storage size in bytes (when type in storage), root image size for VMs (type in qemu,lxc)."
+                  },
+                  "maxmem": {
+                    "type": "integer",
+                    "renderer": "bytes",
+                    "optional": 1,
+                    "description": "Number of available memory in bytes (when type in node,qemu,lxc)."
+                  },
+                  "mem": {
+                    "type": "integer",
+                    "renderer": "bytes",
+                    "optional": 1,
+                    "description": "Used memory in bytes (when type in node,qemu,lxc)."
+                  },
+                  "name": {
+                    "type": "string",
+                    "optional": 1,
+                    "description": "Name of the resource."
+                  },
+                  "netin": {
+                    "type": "integer",
+                    "renderer": "bytes",
+                    "optional": 1,
+                    "description": "The amount of traffic in bytes that was sent to the guest over the network since it was started. (when type in qemu,lxc)"
+                  },
+                  "netout": {
+                    "type": "integer",
+                    "renderer": "bytes",
+                    "optional": 1,
+                    "description": "The amount of traffic in bytes that was sent from the guest over the network since it was started. (when type in qemu,lxc)"
+                  },
+                  "node": {
+                    "type": "string",
+                    "format": "pve-node",
+                    "optional": 1,
+                    "description": "The cluster node name (when type in node,storage,qemu,lxc)."
+                  },
+                  "plugintype": {
+                    "type": "string",
+                    "optional": 1,
+                    "description": "More specific type, if available."
+                  },
+                  "pool": {
+                    "type": "string",
+                    "optional": 1,
+                    "description": "The pool name (when type in pool,qemu,lxc)."
+                  },
+                  "status": {
+                    "type": "string",
+                    "optional": 1,
+                    "description": "Resource type dependent status."
+                  },
+                  "storage": {
+                    "type": "string",
+                    "format": "pve-storage-id",
+                    "optional": 1,
+                    "description": "The storage identifier (when type == storage)."
+                  },
+                  "tags": {
+                    "type": "string",
+                    "optional": 1,
+                    "description": "The guest's tags (when type in qemu,lxc)"
+                  },
+                  "template": {
+                    "type": "boolean",
+                    "optional": 1,
+                    "description": "Determines if the guest is a template. (when type in qemu,lxc)"
+                  },
+                  "type": {
+                    "type": "string",
+                    "enum": [
+                      "node",
+                      "storage",
+                      "pool",
+                      "qemu",
+                      "lxc",
+                      "openvz",
+                      "sdn"
+                    ],
+                    "description": "Resource type."
+                  },
+                  "uptime": {
+                    "type": "integer",
+                    "renderer": "duration",
+                    "optional": 1,
+                    "description": "Uptime of node or virtual guest in seconds (when type in node,qemu,lxc)."
+                  },
+                  "vmid": {
+                    "type": "integer",
+                    "optional": 1,
+                    "description": "The numerical vmid (when type in qemu,lxc)."
+                  }
+                }
+              }
+            }
+          }
+        }
+      }
+    ]
+  },
+  {
+    "path": "/nodes",
+    "text": "nodes",
+    "leaf": 0,
+    "info": {
+      "GET": {
+        "method": "GET",
+        "name": "index",
+        "description": "Cluster node index.",
+        "parameters": {
+          "additionalProperties": 0,
+          "properties": {}
+        }
+      }
+    },
+    "children": [
+      {
+        "path": "/nodes/{node}",
+        "text": "{node}",
+        "leaf": 0,
+        "info": {
+          "GET": {
+            "method": "GET",
+            "name": "index",
+            "description": "Node index.",
+            "parameters": {
+              "additionalProperties": 0,
+              "properties": {
+                "node": {
+                  "type": "string",
+                  "format": "pve-node",
+                  "description": "The cluster node name."
+                }
+              }
+            }
+          }
+        },
+        "children": [
+          {
+            "path": "/nodes/{node}/qemu",
+            "text": "qemu",
+            "leaf": 0,
+            "info": {
+              "GET": {
+                "method": "GET",
+                "name": "vmlist",
+                "description": "Virtual machine index (per node).",
+                "parameters": {
+                  "additionalProperties": 0,
+                  "properties": {
+                    "node": {
+                      "type": "string",
+                      "format": "pve-node",
+                      "description": "The cluster node name."
+                    },
+                    "full": {
+                      "type": "boolean",
+                      "optional": 1,
+                      "description": "Determine the full status of active VMs."
+                    }
+                  }
+                }
+              }
+            },
+            "children": [
+              {
+                "path": "/nodes/{node}/qemu/{vmid}",
+                "text": "{vmid}",
+                "leaf": 0,
+                "info": {
+                  "GET": {
+                    "method": "GET",
+                    "name": "vmdiridx",
+                    "description": "Directory index",
+                    "parameters": {
+                      "additionalProperties": 0,
+                      "properties": {
+                        "node": {
+                          "type": "string",
+                          "format": "pve-node",
+                          "description": "The cluster node name."
+                        },
+                        "vmid": {
+                          "type": "integer",
+                          "format": "pve-vmid",
+                          "minimum": 100,
+                          "description": "The (unique) ID of the VM."
+                        }
+                      }
+                    }
+                  }
+                },
+                "children": [
+                  {
+                    "path": "/nodes/{node}/qemu/{vmid}/snapshot",
+                    "text": "snapshot",
+                    "leaf": 0,
+                    "info": {
+                      "GET": {
+                        "method": "GET",
+                        "name": "snapshot_list",
+                        "description": "List all snapshots.",
+                        "parameters": {
+                          "additionalProperties": 0,
+                          "properties": {
+                            "node": {
+                              "type": "string",
+                              "format": "pve-node",
+                              "description": "The cluster node name."
+                            },
+                            "vmid": {
+                              "type": "integer",
+                              "format": "pve-vmid",
+                              "minimum": 100,
+                              "description": "The (unique) ID of the VM."
+                            }
+                          }
+                        }
+                      },
+                      "POST": {
+                        "method": "POST",
+                        "name": "snapshot",
+                        "description": "Snapshot a VM.",
+                        "parameters": {
+                          "additionalProperties": 0,
+                          "properties": {
+                            "node": {
+                              "type": "string",
+                              "format": "pve-node",
+                              "description": "The cluster node name."
+                            },
+                            "vmid": {
+                              "type": "integer",
+                              "format": "pve-vmid",
+                              "minimum": 100,
+                              "description": "The (unique) ID of the VM."
+                            },
+                            "snapname": {
+                              "type": "string",
+                              "format": "pve-configid",
+                              "description": "The name of the snapshot."
+                            },
+                            "description": {
+                              "type": "string",
+                              "optional": 1,
+                              "description": "A textual description or comment."
+                            },
+                            "vmstate": {
+                              "type": "boolean",
+                              "optional": 1,
+                              "description": "Save the vmstate"
+                            }
+                          }
+                        }
+                      }
+                    }
+                  },
+                  {
+                    "path": "/nodes/{node}/qemu/{vmid}/status",
+                    "text": "status",
+                    "leaf": 0,
+                    "info": {
+                      "GET": {
+                        "method": "GET",
+                        "name": "vmcmdidx",
+                        "description": "Directory index",
+                        "parameters": {
+                          "additionalProperties": 0,
+                          "properties": {
+                            "node": {
+                              "type": "string",
+                              "format": "pve-node",
+                              "description": "The cluster node name."
+                            },
+                            "vmid": {
+                              "type": "integer",
+                              "format": "pve-vmid",
+                              "minimum": 100,
+                              "description": "The (unique) ID of the VM."
+                            }
+                          }
+                        }
+                      }
+                    },
+                    "children": [
+                      {
+                        "path": "/nodes/{node}/qemu/{vmid}/status/current",
+                        "text": "current",
+                        "leaf": 1,
+                        "info": {
+                          "GET": {
+                            "method": "GET",
+                            "name": "vm_status",
+                            "description": "Get virtual machine status.",
+                            "parameters": {
+                              "additionalProperties": 0,
+                              "properties": {
+                                "node": {
+                                  "type": "string",
+                                  "format": "pve-node",
+                                  "description": "The cluster node name."
+                                },
+                                "vmid": {
+                                  "type": "integer",
+                                  "format": "pve-vmid",
+                                  "minimum": 100,
+                                  "description": "The (unique) ID of the VM."
+                                }
+                              }
+                            },
+                            "returns": {
+                              "type": "object",
+                              "additionalProperties": 1,
+                              "properties": {
+                                "agent": {
+                                  "type": "boolean",
+                                  "optional": 1,
+                                  "description": "QEMU Guest Agent is enabled in config."
+                                },
+                                "cpu": {
+                                  "type": "number",
+                                  "renderer": "fraction_as_percentage",
+                                  "optional": 1,
+                                  "description": "Current CPU usage."
+                                },
+                                "cpus": {
+                                  "type": "number",
+                                  "optional": 1,
+                                  "description": "Maximum usable CPUs."
+                                },
+                                "diskread": {
+                                  "type": "integer",
+                                  "renderer": "bytes",
+                                  "optional": 1,
+                                  "description": "The amount of bytes the guest read from it's block devices since the guest was started."
+                                },
+                                "diskwrite": {
+                                  "type": "integer",
+                                  "renderer": "bytes",
+                                  "optional": 1,
+                                  "description": "The amount of bytes the guest wrote from it's block devices since the guest was started."
+                                },
+                                "ha": {
+                                  "type": "object",
+                                  "description": "HA manager service status."
+                                },
+                                "lock": {
+                                  "type": "string",
+                                  "optional": 1,
+                                  "description": "The current config lock, if any."
+                                },
+                                "maxdisk": {
+                                  "type": "integer",
+                                  "renderer": "bytes",
+                                  "optional": 1,
+                                  "description": "Root disk size in bytes."
+                                },
+                                "maxmem": {
+                                  "type": "integer",
+                                  "renderer": "bytes",
+                                  "optional": 1,
+                                  "description": "Maximum memory in bytes."
+                                },
+                                "mem": {
+                                  "type": "integer",
+                                  "renderer": "bytes",
+                                  "optional": 1,
+                                  "description": "Currently used memory in bytes."
+                                },
+                                "name": {
+                                  "type": "string",
+                                  "optional": 1,
+                                  "description": "VM (host)name."
+                                },
+                                "netin": {
+                                  "type": "integer",
+                                  "renderer": "bytes",
+                                  "optional": 1,
+                                  "description": "The amount of traffic in bytes that was sent to the guest over the network since it was started."
+                                },
+                                "netout": {
+                                  "type": "integer",
+                                  "renderer": "bytes",
+                                  "optional": 1,
+                                  "description": "The amount of traffic in bytes that was sent from the guest over the network since it was started."
+                                },
+                                "pid": {
+                                  "type": "integer",
+                                  "optional": 1,
+                                  "description": "PID of the QEMU process, if the VM is running."
+                                },
+                                "qmpstatus": {
+                                  "type": "string",
+                                  "optional": 1,
+                                  "description": "VM run state from the 'query-status' QMP monitor command."
+                                },
+                                "running-machine": {
+                                  "type": "string",
+                                  "optional": 1,
+                                  "description": "The currently running machine type (if running)."
+                                },
+                                "running-qemu": {
+                                  "type": "string",
+                                  "optional": 1,
+                                  "description": "The QEMU version the VM is currently using (if running)."
+                                },
+                                "status": {
+                                  "type": "string",
+                                  "enum": [
+                                    "stopped",
+                                    "running"
+                                  ],
+                                  "description": "QEMU process status."
+                                },
+                                "tags": {
+                                  "type": "string",
+                                  "optional": 1,
+                                  "description": "The current configured tags, if any"
+                                },
+                                "template": {
+                                  "type": "boolean",
+                                  "optional": 1,
+                                  "description": "Determines if the guest is a template."
+                                },
+                                "uptime": {
+                                  "type": "integer",
+                                  "renderer": "duration",
+                                  "optional": 1,
+                                  "description": "Uptime in seconds."
+                                },
+                                "vmid": {
+                                  "type": "integer",
+                                  "format": "pve-vmid",
+                                  "description": "The (unique) ID of the VM."
+                                }
+                              }
+                            }
+                          }
+                        }
+                      }
+                    ]
+                  }
+                ]
+              }
+            ]
+          },
+          {
+            "path": "/nodes/{node}/status",
+            "text": "status",
+            "leaf": 1,
+            "info": {
+              "GET": {
+                "method": "GET",
+                "name": "status",
+                "description": "Read node status",
+                "parameters": {
+                  "additionalProperties": 0,
+                  "properties": {
+                    "node": {
+                      "type": "string",
+                      "format": "pve-node",
+                      "description": "The cluster node name."
+                    }
+                  }
+                },
+                "returns": {
+                  "type": "object",
+                  "additionalProperties": 1,
+                  "properties": {
+                    "cpu": {
+                      "type": "number",
+                      "description": "The current cpu usage."
+                    },
+                    "cpuinfo": {
+                      "type": "object",
+                      "properties": {
+                        "cores": {
+                          "type": "integer",
+                          "description": "The number of physical cores of the CPU."
+                        },
+                        "cpus": {
+                          "type": "integer",
+                          "description": "The number of logical threads of the CPU."
+                        },
+                        "model": {
+                          "type": "string",
+                          "description": "The CPU model"
+                        },
+                        "sockets": {
+                          "type": "integer",
+                          "description": "The number of logical threads of the CPU."
+                        }
+                      }
+                    },
+                    "current-kernel": {
+                      "type": "object",
+                      "description": "Meta-information about the currently booted kernel of this node.",
+                      "properties": {
+                        "release": {
+                          "type": "string",
+                          "description": "The release number of the kernel."
+                        },
+                        "version": {
+                          "type": "string",
+                          "description": "The version of the kernel."
+                        }
+                      }
+                    },
+                    "loadavg": {
+                      "type": "array",
+                      "items": {
+                        "type": "number",
+                        "description": "The value of the load."
+                      },
+                      "description": "An array of load avg for 1, 5 and 15 minutes respectively."
+                    },
+                    "memory": {
+                      "type": "object",
+                      "properties": {
+                        "free": {
+                          "type": "integer",
+                          "description": "The free memory in bytes."
+                        },
+                        "total": {
+                          "type": "integer",
+                          "description": "The total memory in bytes."
+                        },
+                        "used": {
+                          "type": "integer",
+                          "description": "The used memory in bytes."
+                        }
+                      }
+                    },
+                    "pveversion": {
+                      "type": "string",
+                      "description": "The PVE version string."
+                    },
+                    "rootfs": {
+                      "type": "object",
+                      "properties": {
+                        "avail": {
+                          "type": "integer",
+                          "description": "The available bytes in the root filesystem."
+                        },
+                        "free": {
+                          "type": "integer",
+                          "description": "The free bytes on the root filesystem."
+                        },
+                        "total": {
+                          "type": "integer",
+                          "description": "The total size of the root filesystem in bytes."
+                        },
+                        "used": {
+                          "type": "integer",
+                          "description": "The used bytes in the root filesystem."
+                        }
+                      }
+                    }
+                  }
+                }
+              }
+            }
+          }
+        ]
+      }
+    ]
+  },
+  {
+    "path": "/pools",
+    "text": "pools",
+    "leaf": 0,
+    "info": {
+      "GET": {
+        "method": "GET",
+        "name": "index",
+        "description": "Pool index.",
+        "parameters": {
+          "additionalProperties": 0,
+          "properties": {}
+        }
+      },
+      "POST": {
+        "method": "POST",
+        "name": "create_pool",
+        "description": "Create new pool.",
+        "parameters": {
+          "additionalProperties": 0,
+          "properties": {
+            "poolid": {
+              "type": "string",
+              "format": "pve-poolid"
+            },
+            "comment": {
+              "type": "string",
+              "optional": 1,
+              "maxLength": 4096
+            }
+          }
+        }
+      }
+    }
+  },
+  {
+    "path": "/version",
+    "text": "version",
+    "leaf": 1,
+    "info": {
+      "GET": {
+        "method": "GET",
+        "name": "version",
+        "description": "API version details, including some parts of the global datacenter config.",
+        "parameters": {
+          "additionalProperties": 0,
+          "properties": {}
+        }
+      }
+    }
+  }
+];
@@ -0,0 +1,733 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Inventory of cluster from /cluster/resources, stored by column: metrics in
+ * primitive arrays, type, node, status, pool and tags encoded in dictionaries
+ * with a bitmap of rows for every value.
+ *
+ * The inventory is immutable and can be read by many threads.
+ *
+ * <pre>
+ * ClusterInventory inventory = new ClusterInventory(client.getCluster().getResources().resources());
+ * BitSet rows = inventory.getRows("qemu", "pve1", null, "running", null);
+ * for (int row = rows.nextSetBit(0); row &gt;= 0; row = rows.nextSetBit(row + 1)) {
+ *     inventory.getMem(row);
+ * }
+ * </pre>
+ */
+public class ClusterInventory {
+
+    private static final Pattern TAG_SEPARATOR = Pattern.compile("[;,\\s]+");
+    private static final int[] NO_TAGS = new int[0];
+
+    private final int _size;
+    private final String[] _ids;
+    private final String[] _names;
+    private final String[] _storages;
+    private final Column _types;
+    private final Column _nodes;
+    private final Column _statuses;
+    private final Column _pools;
+    private final Dictionary _tags;
+    private final int[][] _rowTags;
+    private final BitSet[] _tagRows;
+    private final long[] _vmIds;
+    private final BitSet _templates;
+    private final double[] _cpu;
+    private final double[] _maxCpu;
+    private final long[] _mem;
+    private final long[] _maxMem;
+    private final long[] _disk;
+    private final long[] _maxDisk;
+    private final long[] _uptime;
+    private final long[] _netIn;
+    private final long[] _netOut;
+    private final long[] _diskRead;
+    private final long[] _diskWrite;
+    private final Map<String, Integer> _idRows;
+    private final long[] _sortedVmIds;
+    private final int[] _sortedVmRows;
+
+    /**
+     * Inventory from result of /cluster/resources.
+     *
+     * @param result Result
+     */
+    public ClusterInventory(Result result) {
+        this(result.getResponse().optJSONArray("data"));
+    }
+
+    /**
+     * Inventory from data of /cluster/resources.
+     *
+     * @param resources Array of resources, can be null
+     */
+    public ClusterInventory(JSONArray resources) {
+        this(toBuilder(resources));
+    }
+
+    private ClusterInventory(Builder builder) {
+        int size = builder._size;
+        _size = size;
+        _ids = new String[size];
+        _names = Arrays.copyOf(builder._names, size);
+        _storages = Arrays.copyOf(builder._storages, size);
+        _types = new Column(new Dictionary(builder._types), Arrays.copyOf(builder._typeCodes, size));
+        _nodes = new Column(new Dictionary(builder._nodes), Arrays.copyOf(builder._nodeCodes, size));
+        _statuses = new Column(new Dictionary(builder._statuses), Arrays.copyOf(builder._statusCodes, size));
+        _pools = new Column(new Dictionary(builder._pools), Arrays.copyOf(builder._poolCodes, size));
+        _tags = new Dictionary(builder._tags);
+        _rowTags = Arrays.copyOf(builder._rowTags, size);
+        _vmIds = Arrays.copyOf(builder._vmIds, size);
+        _templates = (BitSet) builder._templates.clone();
+        _cpu = Arrays.copyOf(builder._cpu, size);
+        _maxCpu = Arrays.copyOf(builder._maxCpu, size);
+        _mem = Arrays.copyOf(builder._mem, size);
+        _maxMem = Arrays.copyOf(builder._maxMem, size);
+        _disk = Arrays.copyOf(builder._disk, size);
+        _maxDisk = Arrays.copyOf(builder._maxDisk, size);
+        _uptime = Arrays.copyOf(builder._uptime, size);
+        _netIn = Arrays.copyOf(builder._netIn, size);
+        _netOut = Arrays.copyOf(builder._netOut, size);
+        _diskRead = Arrays.copyOf(builder._diskRead, size);
+        _diskWrite = Arrays.copyOf(builder._diskWrite, size);
+
+        _tagRows = new BitSet[_tags.size()];
+        for (int i = 0; i < _tagRows.length; i++) {
+            _tagRows[i] = new BitSet(size);
+        }
+        _idRows = new HashMap<>();
+        int vms = 0;
+        for (int row = 0; row < size; row++) {
+            for (int tag : _rowTags[row]) {
+                _tagRows[tag].set(row);
+            }
+
+            // id of VM/CT (eg. qemu/100) is not stored, it is built from type and vmid
+            String id = builder._ids[row];
+            if (_vmIds[row] > 0) {
+                vms++;
+            }
+            if (_vmIds[row] <= 0 || id == null || !id.equals(getVmIdText(row))) {
+                _ids[row] = id;
+                if (id != null) {
+                    _idRows.put(id, row);
+                }
+            }
+        }
+
+        // rows of VM/CT sorted by vmid, for binary search
+        long[] keys = new long[vms];
+        int index = 0;
+        for (int row = 0; row < size; row++) {
+            if (_vmIds[row] > 0) {
+                keys[index++] = _vmIds[row] << 32 | row;
+            }
+        }
+        Arrays.sort(keys);
+        _sortedVmIds = new long[vms];
+        _sortedVmRows = new int[vms];
+        for (int i = 0; i < vms; i++) {
+            _sortedVmIds[i] = keys[i] >>> 32;
+            _sortedVmRows[i] = (int) keys[i];
+        }
+    }
+
+    private static Builder toBuilder(JSONArray resources) {
+        Builder ret = new Builder();
+        if (resources != null) {
+            for (int i = 0; i < resources.length(); i++) {
+                ret.accept(resources.opt(i));
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Number of resources.
+     *
+     * @return int
+     */
+    public int size() {
+        return _size;
+    }
+
+    /**
+     * Row of resource.
+     *
+     * @param id Id, eg. qemu/100, node/pve1
+     * @return int Row or -1 if not found
+     */
+    public int find(String id) {
+        if (id == null) {
+            return -1;
+        }
+        Integer ret = _idRows.get(id);
+        if (ret != null) {
+            return ret;
+        }
+
+        int separator = id.indexOf('/');
+        if (separator > 0) {
+            try {
+                int row = findVm(Long.parseLong(id.substring(separator + 1)));
+                String type = row < 0 ? null : getType(row);
+                if (type != null && type.length() == separator && id.startsWith(type)) {
+                    return row;
+                }
+            } catch (NumberFormatException ex) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Row of VM/CT.
+     *
+     * @param vmId Id of VM/CT
+     * @return int Row or -1 if not found
+     */
+    public int findVm(long vmId) {
+        int index = Arrays.binarySearch(_sortedVmIds, vmId);
+        return index < 0 ? -1 : _sortedVmRows[index];
+    }
+
+    /**
+     * Rows matching all values not null.
+     *
+     * @param type Type (node, qemu, lxc, storage, pool, sdn) or null
+     * @param node Node or null
+     * @param pool Pool or null
+     * @param status Status or null
+     * @param tag Tag or null
+     * @return BitSet of rows, can be modified
+     */
+    public BitSet getRows(String type, String node, String pool, String status, String tag) {
+        BitSet ret = and(null, _types, type);
+        ret = and(ret, _nodes, node);
+        ret = and(ret, _pools, pool);
+        ret = and(ret, _statuses, status);
+        if (tag != null) {
+            int code = _tags.getCode(tag);
+            ret = and(ret, code < 0 ? null : _tagRows[code]);
+        }
+
+        if (ret == null) {
+            ret = new BitSet(_size);
+            ret.set(0, _size);
+        }
+        return ret;
+    }
+
+    /**
+     * Number of rows matching all values not null.
+     *
+     * @param type Type or null
+     * @param node Node or null
+     * @param pool Pool or null
+     * @param status Status or null
+     * @param tag Tag or null
+     * @return int
+     */
+    public int count(String type, String node, String pool, String status, String tag) {
+        return getRows(type, node, pool, status, tag).cardinality();
+    }
+
+    /**
+     * Distinct nodes.
+     *
+     * @return List of String
+     */
+    public List<String> getNodes() {
+        return _nodes._dictionary.getValues();
+    }
+
+    /**
+     * Distinct pools.
+     *
+     * @return List of String
+     */
+    public List<String> getPools() {
+        return _pools._dictionary.getValues();
+    }
+
+    /**
+     * Distinct tags.
+     *
+     * @return List of String
+     */
+    public List<String> getTags() {
+        return _tags.getValues();
+    }
+
+    /**
+     * Id of row, eg. qemu/100.
+     *
+     * @param row Row
+     * @return String
+     */
+    public String getId(int row) {
+        return _ids[row] == null ? getVmIdText(row) : _ids[row];
+    }
+
+    /**
+     * Type of row.
+     *
+     * @param row Row
+     * @return String
+     */
+    public String getType(int row) {
+        return _types.get(row);
+    }
+
+    /**
+     * Node of row.
+     *
+     * @param row Row
+     * @return String
+     */
+    public String getNode(int row) {
+        return _nodes.get(row);
+    }
+
+    /**
+     * Status of row.
+     *
+     * @param row Row
+     * @return String
+     */
+    public String getStatus(int row) {
+        return _statuses.get(row);
+    }
+
+    /**
+     * Pool of row.
+     *
+     * @param row Row
+     * @return String
+     */
+    public String getPool(int row) {
+        return _pools.get(row);
+    }
+
+    /**
+     * Name of VM/CT of row.
+     *
+     * @param row Row
+     * @return String
+     */
+    public String getName(int row) {
+        return _names[row];
+    }
+
+    /**
+     * Storage of row.
+     *
+     * @param row Row
+     * @return String
+     */
+    public String getStorage(int row) {
+        return _storages[row];
+    }
+
+    /**
+     * Tags of row.
+     *
+     * @param row Row
+     * @return List of String
+     */
+    public List<String> getTags(int row) {
+        int[] codes = _rowTags[row];
+        List<String> ret = new ArrayList<>(codes.length);
+        for (int code : codes) {
+            ret.add(_tags.getValue(code));
+        }
+        return ret;
+    }
+
+    /**
+     * Id of VM/CT of row.
+     *
+     * @param row Row
+     * @return long, 0 if not VM/CT
+     */
+    public long getVmId(int row) {
+        return _vmIds[row];
+    }
+
+    /**
+     * VM/CT of row is a template.
+     *
+     * @param row Row
+     * @return boolean
+     */
+    public boolean isTemplate(int row) {
+        return _templates.get(row);
+    }
+
+    /**
+     * CPU utilization of row.
+     *
+     * @param row Row
+     * @return double
+     */
+    public double getCpu(int row) {
+        return _cpu[row];
+    }
+
+    /**
+     * Number of CPUs of row.
+     *
+     * @param row Row
+     * @return double
+     */
+    public double getMaxCpu(int row) {
+        return _maxCpu[row];
+    }
+
+    /**
+     * Used memory of row in bytes.
+     *
+     * @param row Row
+     * @return long
+     */
+    public long getMem(int row) {
+        return _mem[row];
+    }
+
+    /**
+     * Memory size of row in bytes.
+     *
+     * @param row Row
+     * @return long
+     */
+    public long getMaxMem(int row) {
+        return _maxMem[row];
+    }
+
+    /**
+     * Used disk space of row in bytes.
+     *
+     * @param row Row
+     * @return long
+     */
+    public long getDisk(int row) {
+        return _disk[row];
+    }
+
+    /**
+     * Disk size of row in bytes.
+     *
+     * @param row Row
+     * @return long
+     */
+    public long getMaxDisk(int row) {
+        return _maxDisk[row];
+    }
+
+    /**
+     * Uptime of row in seconds.
+     *
+     * @param row Row
+     * @return long
+     */
+    public long getUptime(int row) {
+        return _uptime[row];
+    }
+
+    /**
+     * Bytes received by network of row.
+     *
+     * @param row Row
+     * @return long
+     */
+    public long getNetIn(int row) {
+        return _netIn[row];
+    }
+
+    /**
+     * Bytes sent by network of row.
+     *
+     * @param row Row
+     * @return long
+     */
+    public long getNetOut(int row) {
+        return _netOut[row];
+    }
+
+    /**
+     * Bytes read from disks of row.
+     *
+     * @param row Row
+     * @return long
+     */
+    public long getDiskRead(int row) {
+        return _diskRead[row];
+    }
+
+    /**
+     * Bytes written to disks of row.
+     *
+     * @param row Row
+     * @return long
+     */
+    public long getDiskWrite(int row) {
+        return _diskWrite[row];
+    }
+
+    private String getVmIdText(int row) {
+        String type = getType(row);
+        return type == null || _vmIds[row] <= 0 ? null : type + "/" + _vmIds[row];
+    }
+
+    private static BitSet and(BitSet rows, Column column, String value) {
+        if (value == null) {
+            return rows;
+        }
+        int code = column._dictionary.getCode(value);
+        return and(rows, code < 0 ? null : column._rows[code]);
+    }
+
+    /**
+     * Rows of index and rows, the first index is copied.
+     */
+    private static BitSet and(BitSet rows, BitSet index) {
+        if (index == null) {
+            return new BitSet();
+        } else if (rows == null) {
+            return (BitSet) index.clone();
+        }
+        rows.and(index);
+        return rows;
+    }
+
+    /**
+     * Builder of inventory from elements of data, to use as action of
+     * getStream without building the response in memory.
+     *
+     * <pre>
+     * ClusterInventory.Builder builder = new ClusterInventory.Builder();
+     * client.getStream("/cluster/resources", null, builder);
+     * ClusterInventory inventory = builder.build();
+     * </pre>
+     */
+    public static class Builder implements Consumer<Object> {
+
+        private int _size;
+        private String[] _ids = new String[16];
+        private String[] _names = new String[16];
+        private String[] _storages = new String[16];
+        private final Dictionary _types = new Dictionary();
+        private int[] _typeCodes = new int[16];
+        private final Dictionary _nodes = new Dictionary();
+        private int[] _nodeCodes = new int[16];
+        private final Dictionary _statuses = new Dictionary();
+        private int[] _statusCodes = new int[16];
+        private final Dictionary _pools = new Dictionary();
+        private int[] _poolCodes = new int[16];
+        private final Dictionary _tags = new Dictionary();
+        private int[][] _rowTags = new int[16][];
+        private long[] _vmIds = new long[16];
+        private final BitSet _templates = new BitSet();
+        private double[] _cpu = new double[16];
+        private double[] _maxCpu = new double[16];
+        private long[] _mem = new long[16];
+        private long[] _maxMem = new long[16];
+        private long[] _disk = new long[16];
+        private long[] _maxDisk = new long[16];
+        private long[] _uptime = new long[16];
+        private long[] _netIn = new long[16];
+        private long[] _netOut = new long[16];
+        private long[] _diskRead = new long[16];
+        private long[] _diskWrite = new long[16];
+
+        /**
+         * Add resource, elements not JSONObject are ignored.
+         *
+         * @param element Element of data
+         */
+        @Override
+        public void accept(Object element) {
+            if (element instanceof JSONObject) {
+                add((JSONObject) element);
+            }
+        }
+
+        /**
+         * Add resource.
+         *
+         * @param resource Resource of /cluster/resources
+         * @return Builder
+         */
+        public synchronized Builder add(JSONObject resource) {
+            if (_size == _ids.length) {
+                grow();
+            }
+
+            int row = _size++;
+            _ids[row] = getString(resource, "id");
+            _names[row] = getString(resource, "name");
+            _storages[row] = getString(resource, "storage");
+            _typeCodes[row] = _types.encode(getString(resource, "type"));
+            _nodeCodes[row] = _nodes.encode(getString(resource, "node"));
+            _statusCodes[row] = _statuses.encode(getString(resource, "status"));
+            _poolCodes[row] = _pools.encode(getString(resource, "pool"));
+
+            String tags = getString(resource, "tags");
+            if (tags == null || tags.isEmpty()) {
+                _rowTags[row] = NO_TAGS;
+            } else {
+                _rowTags[row] = TAG_SEPARATOR.splitAsStream(tags)
+                        .filter(tag -> !tag.isEmpty())
+                        .mapToInt(_tags::encode)
+                        .distinct()
+                        .toArray();
+            }
+
+            _vmIds[row] = resource.optLong("vmid", 0);
+            _templates.set(row, resource.optInt("template", 0) != 0);
+            _cpu[row] = resource.optDouble("cpu", 0);
+            _maxCpu[row] = resource.optDouble("maxcpu", 0);
+            _mem[row] = resource.optLong("mem", 0);
+            _maxMem[row] = resource.optLong("maxmem", 0);
+            _disk[row] = resource.optLong("disk", 0);
+            _maxDisk[row] = resource.optLong("maxdisk", 0);
+            _uptime[row] = resource.optLong("uptime", 0);
+            _netIn[row] = resource.optLong("netin", 0);
+            _netOut[row] = resource.optLong("netout", 0);
+            _diskRead[row] = resource.optLong("diskread", 0);
+            _diskWrite[row] = resource.optLong("diskwrite", 0);
+            return this;
+        }
+
+        /**
+         * Build inventory of resources added.
+         *
+         * @return ClusterInventory
+         */
+        public synchronized ClusterInventory build() {
+            return new ClusterInventory(this);
+        }
+
+        private void grow() {
+            int capacity = _ids.length * 2;
+            _ids = Arrays.copyOf(_ids, capacity);
+            _names = Arrays.copyOf(_names, capacity);
+            _storages = Arrays.copyOf(_storages, capacity);
+            _typeCodes = Arrays.copyOf(_typeCodes, capacity);
+            _nodeCodes = Arrays.copyOf(_nodeCodes, capacity);
+            _statusCodes = Arrays.copyOf(_statusCodes, capacity);
+            _poolCodes = Arrays.copyOf(_poolCodes, capacity);
+            _rowTags = Arrays.copyOf(_rowTags, capacity);
+            _vmIds = Arrays.copyOf(_vmIds, capacity);
+            _cpu = Arrays.copyOf(_cpu, capacity);
+            _maxCpu = Arrays.copyOf(_maxCpu, capacity);
+            _mem = Arrays.copyOf(_mem, capacity);
+            _maxMem = Arrays.copyOf(_maxMem, capacity);
+            _disk = Arrays.copyOf(_disk, capacity);
+            _maxDisk = Arrays.copyOf(_maxDisk, capacity);
+            _uptime = Arrays.copyOf(_uptime, capacity);
+            _netIn = Arrays.copyOf(_netIn, capacity);
+            _netOut = Arrays.copyOf(_netOut, capacity);
+            _diskRead = Arrays.copyOf(_diskRead, capacity);
+            _diskWrite = Arrays.copyOf(_diskWrite, capacity);
+        }
+
+        private static String getString(JSONObject resource, String key) {
+            Object value = resource.opt(key);
+            return value == null || JSONObject.NULL.equals(value) ? null : value.toString();
+        }
+    }
+
+    /**
+     * Dictionary of distinct values, code is the index of value.
+     */
+    private static class Dictionary {
+
+        private final List<String> _values = new ArrayList<>();
+        private final Map<String, Integer> _codes = new HashMap<>();
+
+        Dictionary() {
+        }
+
+        Dictionary(Dictionary dictionary) {
+            _values.addAll(dictionary._values);
+            _codes.putAll(dictionary._codes);
+        }
+
+        int encode(String value) {
+            if (value == null) {
+                return -1;
+            }
+            Integer code = _codes.get(value);
+            if (code == null) {
+                code = _values.size();
+                _values.add(value);
+                _codes.put(value, code);
+            }
+            return code;
+        }
+
+        int getCode(String value) {
+            Integer code = _codes.get(value);
+            return code == null ? -1 : code;
+        }
+
+        String getValue(int code) {
+            return code < 0 ? null : _values.get(code);
+        }
+
+        List<String> getValues() {
+            return Collections.unmodifiableList(_values);
+        }
+
+        int size() {
+            return _values.size();
+        }
+    }
+
+    /**
+     * Column encoded with dictionary and bitmap of rows for every value.
+     */
+    private static class Column {
+
+        private final Dictionary _dictionary;
+        private final int[] _codes;
+        private final BitSet[] _rows;
+
+        Column(Dictionary dictionary, int[] codes) {
+            _dictionary = dictionary;
+            _codes = codes;
+            _rows = new BitSet[dictionary.size()];
+            for (int i = 0; i < _rows.length; i++) {
+                _rows[i] = new BitSet(codes.length);
+            }
+            for (int row = 0; row < codes.length; row++) {
+                if (codes[row] >= 0) {
+                    _rows[codes[row]].set(row);
+                }
+            }
+        }
+
+        String get(int row) {
+            return _dictionary.getValue(_codes[row]);
+        }
+    }
+}
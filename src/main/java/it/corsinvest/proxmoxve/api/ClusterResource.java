@@ -0,0 +1,244 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import org.json.JSONObject;
+
+/**
+ * Resource of cluster, item of /cluster/resources.
+ *
+ * <pre>
+ * for (ClusterResource resource : result.getDataAsList(ClusterResource::new)) {
+ *     resource.getCpu();
+ * }
+ * </pre>
+ */
+public class ClusterResource extends PveView {
+
+    private static final int VMID = 0;
+    private static final int TEMPLATE = 1;
+    private static final int CPU = 2;
+    private static final int MAXCPU = 3;
+    private static final int MEM = 4;
+    private static final int MAXMEM = 5;
+    private static final int DISK = 6;
+    private static final int MAXDISK = 7;
+    private static final int UPTIME = 8;
+    private static final int NETIN = 9;
+    private static final int NETOUT = 10;
+    private static final int DISKREAD = 11;
+    private static final int DISKWRITE = 12;
+
+    public ClusterResource(JSONObject data) {
+        super(data, 13);
+    }
+
+    /**
+     * Id, eg. qemu/100, node/pve1, storage/pve1/local.
+     *
+     * @return String
+     */
+    public String getId() {
+        return getString("id");
+    }
+
+    /**
+     * Type: node, qemu, lxc, storage, pool, sdn.
+     *
+     * @return String
+     */
+    public String getType() {
+        return getString("type");
+    }
+
+    /**
+     * Node.
+     *
+     * @return String
+     */
+    public String getNode() {
+        return getString("node");
+    }
+
+    /**
+     * Status, eg. running, stopped, online.
+     *
+     * @return String
+     */
+    public String getStatus() {
+        return getString("status");
+    }
+
+    /**
+     * Name of VM/CT.
+     *
+     * @return String
+     */
+    public String getName() {
+        return getString("name");
+    }
+
+    /**
+     * Pool.
+     *
+     * @return String
+     */
+    public String getPool() {
+        return getString("pool");
+    }
+
+    /**
+     * Tags, separated by ;
+     *
+     * @return String
+     */
+    public String getTags() {
+        return getString("tags");
+    }
+
+    /**
+     * Storage.
+     *
+     * @return String
+     */
+    public String getStorage() {
+        return getString("storage");
+    }
+
+    /**
+     * HA state.
+     *
+     * @return String
+     */
+    public String getHaState() {
+        return getString("hastate");
+    }
+
+    /**
+     * Lock of VM/CT.
+     *
+     * @return String
+     */
+    public String getLock() {
+        return getString("lock");
+    }
+
+    /**
+     * Id of VM/CT.
+     *
+     * @return long
+     */
+    public long getVmId() {
+        return getLong(VMID, "vmid");
+    }
+
+    /**
+     * VM/CT is a template.
+     *
+     * @return boolean
+     */
+    public boolean isTemplate() {
+        return getBoolean(TEMPLATE, "template");
+    }
+
+    /**
+     * CPU utilization, 1 is 100% of maxcpu.
+     *
+     * @return double
+     */
+    public double getCpu() {
+        return getDouble(CPU, "cpu");
+    }
+
+    /**
+     * Number of CPUs.
+     *
+     * @return double
+     */
+    public double getMaxCpu() {
+        return getDouble(MAXCPU, "maxcpu");
+    }
+
+    /**
+     * Used memory in bytes.
+     *
+     * @return long
+     */
+    public long getMem() {
+        return getLong(MEM, "mem");
+    }
+
+    /**
+     * Memory size in bytes.
+     *
+     * @return long
+     */
+    public long getMaxMem() {
+        return getLong(MAXMEM, "maxmem");
+    }
+
+    /**
+     * Used disk space in bytes.
+     *
+     * @return long
+     */
+    public long getDisk() {
+        return getLong(DISK, "disk");
+    }
+
+    /**
+     * Disk size in bytes.
+     *
+     * @return long
+     */
+    public long getMaxDisk() {
+        return getLong(MAXDISK, "maxdisk");
+    }
+
+    /**
+     * Uptime in seconds.
+     *
+     * @return long
+     */
+    public long getUptime() {
+        return getLong(UPTIME, "uptime");
+    }
+
+    /**
+     * Bytes received by network.
+     *
+     * @return long
+     */
+    public long getNetIn() {
+        return getLong(NETIN, "netin");
+    }
+
+    /**
+     * Bytes sent by network.
+     *
+     * @return long
+     */
+    public long getNetOut() {
+        return getLong(NETOUT, "netout");
+    }
+
+    /**
+     * Bytes read from disks.
+     *
+     * @return long
+     */
+    public long getDiskRead() {
+        return getLong(DISKREAD, "diskread");
+    }
+
+    /**
+     * Bytes written to disks.
+     *
+     * @return long
+     */
+    public long getDiskWrite() {
+        return getLong(DISKWRITE, "diskwrite");
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.nio.charset.StandardCharsets;
+import org.json.JSONTokener;
+
+/**
+ * Scanner of raw Proxmox VE response that extracts the top-level "data" value
+ * without building a JSON tree.
+ */
+final class JSONDataScanner {
+
+    private static final byte[] DATA_KEY = "data".getBytes(StandardCharsets.UTF_8);
+
+    private JSONDataScanner() {
+    }
+
+    /**
+     * Get top-level "data" value as string. A string value is unescaped,
+     * numbers and booleans are returned as written, objects and arrays as
+     * JSON text.
+     *
+     * @param body Raw response
+     * @return String or null if data is missing, null or body is not a JSON
+     * object
+     */
+    static String dataAsString(byte[] body) {
+        if (body == null) {
+            return null;
+        }
+
+        int i = skipWhitespace(body, 0);
+        if (i >= body.length || body[i] != '{') {
+            return null;
+        }
+        i = skipWhitespace(body, i + 1);
+
+        while (i < body.length && body[i] == '"') {
+            int keyStart = i + 1;
+            int keyEnd = skipString(body, i) - 1;
+            i = skipWhitespace(body, keyEnd + 1);
+            if (i >= body.length || body[i] != ':') {
+                return null;
+            }
+            int valueStart = skipWhitespace(body, i + 1);
+            int valueEnd = skipValue(body, valueStart);
+            if (valueEnd < 0) {
+                return null;
+            }
+
+            if (isDataKey(body, keyStart, keyEnd)) {
+                return toString(body, valueStart, valueEnd);
+            }
+
+            i = skipWhitespace(body, valueEnd);
+            if (i >= body.length || body[i] != ',') {
+                return null;
+            }
+            i = skipWhitespace(body, i + 1);
+        }
+        return null;
+    }
+
+    private static boolean isDataKey(byte[] body, int start, int end) {
+        if (end - start != DATA_KEY.length) {
+            return false;
+        }
+        for (int i = 0; i < DATA_KEY.length; i++) {
+            if (body[start + i] != DATA_KEY[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String toString(byte[] body, int start, int end) {
+        if (body[start] == '"') {
+            for (int i = start + 1; i < end - 1; i++) {
+                if (body[i] == '\\') {
+                    return (String) new JSONTokener(new String(body, start, end - start, StandardCharsets.UTF_8))
+                            .nextValue();
+                }
+            }
+            return new String(body, start + 1, end - start - 2, StandardCharsets.UTF_8);
+        }
+
+        String value = new String(body, start, end - start, StandardCharsets.UTF_8);
+        return "null".equals(value) ? null : value;
+    }
+
+    private static int skipWhitespace(byte[] body, int i) {
+        while (i < body.length && (body[i] == ' ' || body[i] == '\n' || body[i] == '\r' || body[i] == '\t')) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Skip string starting at quote.
+     *
+     * @return index after closing quote
+     */
+    private static int skipString(byte[] body, int i) {
+        i++;
+        while (i < body.length) {
+            byte c = body[i++];
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i;
+            }
+        }
+        return body.length + 1;
+    }
+
+    /**
+     * Skip value.
+     *
+     * @return index after value or -1 if body is malformed
+     */
+    private static int skipValue(byte[] body, int i) {
+        if (i >= body.length) {
+            return -1;
+        }
+
+        byte c = body[i];
+        if (c == '"') {
+            int end = skipString(body, i);
+            return end > body.length ? -1 : end;
+        } else if (c == '{' || c == '[') {
+            int depth = 0;
+            while (i < body.length) {
+                c = body[i];
+                if (c == '"') {
+                    i = skipString(body, i);
+                    continue;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                    if (depth == 0) {
+                        return i + 1;
+                    }
+                }
+                i++;
+            }
+            return -1;
+        } else {
+            int start = i;
+            while (i < body.length && body[i] != ',' && body[i] != '}' && body[i] != ']'
+                    && body[i] != ' ' && body[i] != '\n' && body[i] != '\r' && body[i] != '\t') {
+                i++;
+            }
+            return i > start ? i : -1;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+/**
+ * Streaming decoder of Proxmox VE response. The elements of "data" array are
+ * passed one at a time to a consumer and never collected, all other keys are
+ * returned in the response object.
+ */
+final class JSONDataStream {
+
+    private JSONDataStream() {
+    }
+
+    /**
+     * Decode response and pass each element of "data" array to action.
+     *
+     * @param reader Reader of response body
+     * @param action Consumer of data element (JSONObject, JSONArray, String,
+     * Number, Boolean or JSONObject.NULL)
+     * @return JSONObject Response without data elements
+     * @throws JSONException
+     */
+    static JSONObject read(Reader reader, Consumer<Object> action) throws JSONException {
+        JSONTokener tokener = new JSONTokener(reader);
+        JSONObject ret = new JSONObject();
+        if (tokener.nextClean() != '{') {
+            throw tokener.syntaxError("A JSONObject text must begin with '{'");
+        }
+
+        char c = tokener.nextClean();
+        while (c != '}') {
+            if (c != '"') {
+                throw tokener.syntaxError("Expected a key");
+            }
+            String key = tokener.nextString('"');
+            if (tokener.nextClean() != ':') {
+                throw tokener.syntaxError("Expected a ':' after a key");
+            }
+
+            if ("data".equals(key) && tokener.nextClean() == '[') {
+                readArray(tokener, action);
+            } else {
+                if ("data".equals(key)) {
+                    tokener.back();
+                }
+                ret.put(key, tokener.nextValue());
+            }
+
+            c = tokener.nextClean();
+            if (c == ',') {
+                c = tokener.nextClean();
+            } else if (c != '}') {
+                throw tokener.syntaxError("Expected a ',' or '}'");
+            }
+        }
+        return ret;
+    }
+
+    private static void readArray(JSONTokener tokener, Consumer<Object> action) throws JSONException {
+        char c = tokener.nextClean();
+        if (c == ']') {
+            return;
+        }
+        tokener.back();
+
+        while (true) {
+            action.accept(tokener.nextValue());
+            c = tokener.nextClean();
+            if (c == ']') {
+                return;
+            } else if (c != ',') {
+                throw tokener.syntaxError("Expected a ',' or ']'");
+            }
+        }
+    }
+
+    /**
+     * Read reader to the end, so the connection can be reused.
+     *
+     * @param reader Reader
+     * @throws IOException
+     */
+    static void drain(Reader reader) throws IOException {
+        char[] buffer = new char[256];
+        while (reader.read(buffer) != -1) {
+            // discard
+        }
+    }
+}
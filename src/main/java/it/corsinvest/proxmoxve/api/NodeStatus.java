@@ -0,0 +1,201 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Status of node, data of /nodes/{node}/status.
+ *
+ * <pre>
+ * NodeStatus status = result.getDataAs(NodeStatus::new);
+ * </pre>
+ */
+public class NodeStatus extends PveView {
+
+    private static final int CPU = 0;
+    private static final int WAIT = 1;
+    private static final int UPTIME = 2;
+    private static final int CPUS = 3;
+    private static final int SOCKETS = 4;
+    private static final int MEMORY_TOTAL = 5;
+    private static final int MEMORY_USED = 6;
+    private static final int MEMORY_FREE = 7;
+    private static final int SWAP_TOTAL = 8;
+    private static final int SWAP_USED = 9;
+    private static final int SWAP_FREE = 10;
+    private static final int ROOTFS_TOTAL = 11;
+    private static final int ROOTFS_USED = 12;
+    private static final int ROOTFS_AVAIL = 13;
+
+    public NodeStatus(JSONObject data) {
+        super(data, 14);
+    }
+
+    /**
+     * CPU utilization, 1 is 100% of cpus.
+     *
+     * @return double
+     */
+    public double getCpu() {
+        return getDouble(CPU, "cpu");
+    }
+
+    /**
+     * IO wait.
+     *
+     * @return double
+     */
+    public double getWait() {
+        return getDouble(WAIT, "wait");
+    }
+
+    /**
+     * Uptime in seconds.
+     *
+     * @return long
+     */
+    public long getUptime() {
+        return getLong(UPTIME, "uptime");
+    }
+
+    /**
+     * Load average.
+     *
+     * @param index 0 one minute, 1 five minutes, 2 fifteen minutes
+     * @return double
+     */
+    public double getLoadAverage(int index) {
+        JSONArray loadAverage = getData().optJSONArray("loadavg");
+        return loadAverage == null ? 0 : loadAverage.optDouble(index, 0);
+    }
+
+    /**
+     * Number of CPUs.
+     *
+     * @return long
+     */
+    public long getCpus() {
+        return getLong(CPUS, "cpuinfo", "cpus");
+    }
+
+    /**
+     * Number of sockets.
+     *
+     * @return long
+     */
+    public long getSockets() {
+        return getLong(SOCKETS, "cpuinfo", "sockets");
+    }
+
+    /**
+     * Model of CPU.
+     *
+     * @return String
+     */
+    public String getCpuModel() {
+        return getString("cpuinfo", "model");
+    }
+
+    /**
+     * Total memory in bytes.
+     *
+     * @return long
+     */
+    public long getMemoryTotal() {
+        return getLong(MEMORY_TOTAL, "memory", "total");
+    }
+
+    /**
+     * Used memory in bytes.
+     *
+     * @return long
+     */
+    public long getMemoryUsed() {
+        return getLong(MEMORY_USED, "memory", "used");
+    }
+
+    /**
+     * Free memory in bytes.
+     *
+     * @return long
+     */
+    public long getMemoryFree() {
+        return getLong(MEMORY_FREE, "memory", "free");
+    }
+
+    /**
+     * Total swap in bytes.
+     *
+     * @return long
+     */
+    public long getSwapTotal() {
+        return getLong(SWAP_TOTAL, "swap", "total");
+    }
+
+    /**
+     * Used swap in bytes.
+     *
+     * @return long
+     */
+    public long getSwapUsed() {
+        return getLong(SWAP_USED, "swap", "used");
+    }
+
+    /**
+     * Free swap in bytes.
+     *
+     * @return long
+     */
+    public long getSwapFree() {
+        return getLong(SWAP_FREE, "swap", "free");
+    }
+
+    /**
+     * Size of root filesystem in bytes.
+     *
+     * @return long
+     */
+    public long getRootfsTotal() {
+        return getLong(ROOTFS_TOTAL, "rootfs", "total");
+    }
+
+    /**
+     * Used space of root filesystem in bytes.
+     *
+     * @return long
+     */
+    public long getRootfsUsed() {
+        return getLong(ROOTFS_USED, "rootfs", "used");
+    }
+
+    /**
+     * Available space of root filesystem in bytes.
+     *
+     * @return long
+     */
+    public long getRootfsAvail() {
+        return getLong(ROOTFS_AVAIL, "rootfs", "avail");
+    }
+
+    /**
+     * Version of kernel.
+     *
+     * @return String
+     */
+    public String getKernelVersion() {
+        return getString("kversion");
+    }
+
+    /**
+     * Version of Proxmox VE.
+     *
+     * @return String
+     */
+    public String getPveVersion() {
+        return getString("pveversion");
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Encoder of request parameters in a reused buffer, without intermediate maps
+ * or strings. Null values are skipped, booleans are encoded as 1/0, integers
+ * are written digit by digit.
+ *
+ * Encoders are kept in a small shared pool instead of a ThreadLocal, so they
+ * are reused by virtual threads too, which never run two requests.
+ */
+final class ParameterEncoder {
+
+    private static final int MAX_RETAINED_SIZE = 64 * 1024;
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final int POOL_SIZE = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+    private static final AtomicReferenceArray<ParameterEncoder> POOL = new AtomicReferenceArray<>(POOL_SIZE);
+
+    private byte[] _buffer = new byte[256];
+    private int _length;
+
+    private ParameterEncoder() {
+    }
+
+    /**
+     * Empty encoder taken from the pool, or a new one if the pool is empty.
+     * Give it back with release when the content is no longer used.
+     *
+     * @return ParameterEncoder
+     */
+    static ParameterEncoder acquire() {
+        int start = slot();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            ParameterEncoder encoder = POOL.getAndSet((start + i) % POOL_SIZE, null);
+            if (encoder != null) {
+                encoder._length = 0;
+                return encoder;
+            }
+        }
+        return new ParameterEncoder();
+    }
+
+    /**
+     * Give back the encoder to the pool, dropped if the pool is full.
+     */
+    void release() {
+        if (_buffer.length > MAX_RETAINED_SIZE) {
+            return;
+        }
+        int start = slot();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            if (POOL.compareAndSet((start + i) % POOL_SIZE, null, this)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * First slot to try, spread by thread to limit contention.
+     */
+    private static int slot() {
+        return (System.identityHashCode(Thread.currentThread()) & Integer.MAX_VALUE) % POOL_SIZE;
+    }
+
+    /**
+     * Encode parameters as key=value joined by &amp;.
+     *
+     * @param parameters Parameters, can be null
+     * @param urlEncode Encode values for url (query string), otherwise values
+     * are written as is (form body)
+     * @return ParameterEncoder
+     */
+    ParameterEncoder encode(Map<String, Object> parameters, boolean urlEncode) {
+        if (parameters == null) {
+            return this;
+        }
+
+        if (parameters instanceof PveParameters) {
+            // names and values read from the arrays, no entry is created
+            PveParameters values = (PveParameters) parameters;
+            for (int i = 0; i < values.size(); i++) {
+                encode(values.getName(i), values.getValue(i), urlEncode);
+            }
+        } else {
+            for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+                encode(entry.getKey(), entry.getValue(), urlEncode);
+            }
+        }
+        return this;
+    }
+
+    private void encode(String name, Object value, boolean urlEncode) {
+        if (value == null) {
+            return;
+        }
+
+        if (_length > 0) {
+            write('&');
+        }
+        writeText(name, false);
+        write('=');
+        if (value instanceof Boolean) {
+            write((Boolean) value ? '1' : '0');
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+            writeLong(((Number) value).longValue());
+        } else {
+            writeText(value instanceof CharSequence ? (CharSequence) value : value.toString(), urlEncode);
+        }
+    }
+
+    /**
+     * Length of encoded parameters.
+     *
+     * @return int
+     */
+    int length() {
+        return _length;
+    }
+
+    /**
+     * Write encoded parameters.
+     *
+     * @param out Output stream
+     * @throws IOException
+     */
+    void writeTo(OutputStream out) throws IOException {
+        out.write(_buffer, 0, _length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(_buffer, 0, _length, StandardCharsets.UTF_8);
+    }
+
+    private void write(int b) {
+        if (_length == _buffer.length) {
+            byte[] buffer = new byte[_buffer.length * 2];
+            System.arraycopy(_buffer, 0, buffer, 0, _length);
+            _buffer = buffer;
+        }
+        _buffer[_length++] = (byte) b;
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeText(Long.toString(value), false);
+            return;
+        }
+        if (value < 0) {
+            write('-');
+            value = -value;
+        }
+
+        long divisor = 1;
+        while (value / divisor >= 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            write('0' + (int) (value / divisor % 10));
+        }
+    }
+
+    private void writeText(CharSequence text, boolean urlEncode) {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (urlEncode && isUnreserved(c)) {
+                write(c);
+            } else if (urlEncode && c == ' ') {
+                write('+');
+            } else if (c < 0x80) {
+                writeByte(c, urlEncode);
+            } else if (c < 0x800) {
+                writeByte(0xC0 | (c >> 6), urlEncode);
+                writeByte(0x80 | (c & 0x3F), urlEncode);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                writeByte(0xF0 | (codePoint >> 18), urlEncode);
+                writeByte(0x80 | ((codePoint >> 12) & 0x3F), urlEncode);
+                writeByte(0x80 | ((codePoint >> 6) & 0x3F), urlEncode);
+                writeByte(0x80 | (codePoint & 0x3F), urlEncode);
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, as String.getBytes
+                writeByte('?', urlEncode);
+            } else {
+                writeByte(0xE0 | (c >> 12), urlEncode);
+                writeByte(0x80 | ((c >> 6) & 0x3F), urlEncode);
+                writeByte(0x80 | (c & 0x3F), urlEncode);
+            }
+        }
+    }
+
+    private void writeByte(int b, boolean urlEncode) {
+        if (urlEncode) {
+            write('%');
+            write(HEX[(b >> 4) & 0x0F]);
+            write(HEX[b & 0x0F]);
+        } else {
+            write(b);
+        }
+    }
+
+    /**
+     * Characters not encoded, as URLEncoder.
+     */
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '.' || c == '-' || c == '*' || c == '_';
+    }
+}
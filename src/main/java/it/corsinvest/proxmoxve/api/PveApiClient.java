@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.json.JSONException;
+
+/**
+ * Proxmox VE Client driven by the table of endpoints of the api: endpoints
+ * are called by path template, without the resource tree of PveClient.
+ * PveClient loads only the classes of the paths navigated, so the saving at
+ * startup is small (see ColdStartBenchmark).
+ *
+ * The table (resource pve-api.txt) is read on first use. Paths are templates
+ * of the api, values of parameters in braces are given in order.
+ *
+ * <pre>
+ * PveApiClient client = new PveApiClient("10.92.90.91", 8006);
+ * client.login("root", "password");
+ * Result result = client.execute(MethodType.GET, "/nodes/{node}/qemu/{vmid}/status/current", null, "pve1", 100);
+ * </pre>
+ */
+public class PveApiClient extends PveClientBase {
+
+    private static final String TABLE_RESOURCE = "pve-api.txt";
+
+    public PveApiClient(String hostname, int port) {
+        super(hostname, port);
+    }
+
+    /**
+     * Execute endpoint of api.
+     *
+     * @param methodType Method type
+     * @param pathTemplate Path of api, eg. /nodes/{node}/qemu/{vmid}/config
+     * @param parameters Parameters, can be null
+     * @param values Values of path parameters, in order
+     * @return Result
+     * @throws JSONException
+     */
+    public Result execute(MethodType methodType,
+            String pathTemplate,
+            Map<String, Object> parameters,
+            Object... values) throws JSONException {
+        return getOperation(methodType, pathTemplate).execute(this, parameters, values);
+    }
+
+    /**
+     * Execute endpoint of api asynchronously on the executor.
+     *
+     * @param methodType Method type
+     * @param pathTemplate Path of api, eg. /nodes/{node}/qemu/{vmid}/config
+     * @param parameters Parameters, can be null
+     * @param values Values of path parameters, in order
+     * @return CompletableFuture of Result
+     */
+    public CompletableFuture<Result> executeAsync(MethodType methodType,
+            String pathTemplate,
+            Map<String, Object> parameters,
+            Object... values) {
+        return getOperation(methodType, pathTemplate).executeAsync(this, parameters, values);
+    }
+
+    /**
+     * Operation of endpoint of api.
+     *
+     * @param methodType Method type
+     * @param pathTemplate Path of api, eg. /nodes/{node}/qemu/{vmid}/config
+     * @return PveOperation
+     * @throws IllegalArgumentException if the endpoint is not in the api
+     */
+    public static PveOperation getOperation(MethodType methodType, String pathTemplate) {
+        PveOperation ret = Table.OPERATIONS.get(getKey(methodType, pathTemplate));
+        if (ret == null) {
+            throw new IllegalArgumentException("Endpoint " + methodType + " " + pathTemplate + " not found");
+        }
+        return ret;
+    }
+
+    /**
+     * Operations of all endpoints of api.
+     *
+     * @return Collection of PveOperation
+     */
+    public static Collection<PveOperation> getOperations() {
+        return Collections.unmodifiableCollection(Table.OPERATIONS.values());
+    }
+
+    private static String getKey(MethodType methodType, String pathTemplate) {
+        return methodType + " " + pathTemplate;
+    }
+
+    /**
+     * Table of endpoints, loaded on first access.
+     */
+    private static final class Table {
+
+        private static final Map<String, PveOperation> OPERATIONS = load();
+
+        private static Map<String, PveOperation> load() {
+            Map<String, PveOperation> ret = new LinkedHashMap<>();
+            try (InputStream stream = PveApiClient.class.getResourceAsStream(TABLE_RESOURCE)) {
+                if (stream == null) {
+                    throw new IllegalStateException("Resource " + TABLE_RESOURCE + " not found");
+                }
+
+                BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty() || line.startsWith("#")) {
+                        continue;
+                    }
+                    int separator = line.indexOf(' ');
+                    MethodType methodType = MethodType.valueOf(line.substring(0, separator));
+                    String pathTemplate = line.substring(separator + 1);
+                    ret.put(getKey(methodType, pathTemplate), new PveOperation(methodType, pathTemplate));
+                }
+            } catch (IOException ex) {
+                throw new IllegalStateException("Error reading " + TABLE_RESOURCE, ex);
+            }
+            return ret;
+        }
+    }
+}
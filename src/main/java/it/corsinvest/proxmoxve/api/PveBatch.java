@@ -0,0 +1,263 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Batch of calls to a node, executed with one request to
+ * /nodes/{node}/execute for every batch size calls (root only).
+ *
+ * The calls are executed by the node in order and every call has its own
+ * Result, with the status code and data of the call.
+ */
+public class PveBatch {
+
+    private final PveClientBase _client;
+    private final String _node;
+    private final int _batchSize;
+    private final List<Call> _calls = new ArrayList<>();
+
+    /**
+     * Constructor
+     *
+     * @param client Client
+     * @param node Node executing the calls
+     * @param batchSize Max calls for request
+     */
+    public PveBatch(PveClientBase client, String node, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be greater than zero");
+        }
+        _client = client;
+        _node = node;
+        _batchSize = batchSize;
+    }
+
+    /**
+     * Add call GET
+     *
+     * @param resource Path of node, eg. /nodes/pve1/qemu/100/config or
+     * /qemu/100/config
+     * @param parameters Additional parameters
+     * @return CompletableFuture of Result, completed by execute
+     */
+    public CompletableFuture<Result> get(String resource, Map<String, Object> parameters) {
+        return add(resource, MethodType.GET, parameters);
+    }
+
+    /**
+     * Add call PUT
+     *
+     * @param resource Path of node
+     * @param parameters Additional parameters
+     * @return CompletableFuture of Result, completed by execute
+     */
+    public CompletableFuture<Result> set(String resource, Map<String, Object> parameters) {
+        return add(resource, MethodType.SET, parameters);
+    }
+
+    /**
+     * Add call POST
+     *
+     * @param resource Path of node
+     * @param parameters Additional parameters
+     * @return CompletableFuture of Result, completed by execute
+     */
+    public CompletableFuture<Result> create(String resource, Map<String, Object> parameters) {
+        return add(resource, MethodType.CREATE, parameters);
+    }
+
+    /**
+     * Add call DELETE
+     *
+     * @param resource Path of node
+     * @param parameters Additional parameters
+     * @return CompletableFuture of Result, completed by execute
+     */
+    public CompletableFuture<Result> delete(String resource, Map<String, Object> parameters) {
+        return add(resource, MethodType.DELETE, parameters);
+    }
+
+    /**
+     * Number of calls not executed.
+     *
+     * @return int
+     */
+    public synchronized int size() {
+        return _calls.size();
+    }
+
+    /**
+     * Execute calls added, one request for every batch size calls.
+     *
+     * @return List of Result of calls, in order of addition
+     * @throws JSONException
+     */
+    public List<Result> execute() throws JSONException {
+        List<Call> calls;
+        synchronized (this) {
+            calls = new ArrayList<>(_calls);
+            _calls.clear();
+        }
+
+        List<Result> ret = new ArrayList<>(calls.size());
+        for (int i = 0; i < calls.size(); i += _batchSize) {
+            List<Call> batch = calls.subList(i, Math.min(i + _batchSize, calls.size()));
+            try {
+                ret.addAll(execute(batch));
+            } catch (RuntimeException ex) {
+                calls.subList(i, calls.size()).forEach(call -> call._result.completeExceptionally(ex));
+                throw ex;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Execute calls added asynchronously on the client executor.
+     *
+     * @return CompletableFuture of List of Result
+     */
+    public CompletableFuture<List<Result>> executeAsync() {
+        return _client.async(this::execute);
+    }
+
+    private synchronized CompletableFuture<Result> add(String resource,
+            MethodType methodType,
+            Map<String, Object> parameters) {
+        String prefix = "/nodes/" + _node;
+        String path = resource.startsWith(prefix + "/") ? resource.substring(prefix.length()) : resource;
+        if (path.startsWith("/nodes/")) {
+            throw new IllegalArgumentException("Resource " + resource + " is not of node " + _node);
+        }
+
+        Call call = new Call(prefix + (path.startsWith("/") ? path : "/" + path), methodType, parameters);
+        _calls.add(call);
+        return call._result;
+    }
+
+    private List<Result> execute(List<Call> batch) throws JSONException {
+        JSONArray commands = new JSONArray();
+        for (Call call : batch) {
+            JSONObject args = new JSONObject();
+            if (call._parameters != null) {
+                call._parameters.forEach((key, value) -> {
+                    if (value != null) {
+                        args.put(key, value instanceof Boolean ? ((Boolean) value ? "1" : "0") : value.toString());
+                    }
+                });
+            }
+
+            commands.put(new JSONObject()
+                    .put("path", call._resource.substring(("/nodes/" + _node + "/").length()))
+                    .put("method", getHttpMethod(call._methodType))
+                    .put("args", args));
+        }
+
+        // the client writes the values of a form body as they are
+        Map<String, Object> parameters = new HashMap<>();
+        try {
+            parameters.put("commands", URLEncoder.encode(commands.toString(), "UTF-8"));
+        } catch (UnsupportedEncodingException ex) {
+            Logger.getLogger(PveBatch.class.getName()).log(Level.SEVERE, null, ex);
+        }
+        Result result = _client.create("/nodes/" + _node + "/execute", parameters);
+
+        JSONArray responses = result.isSuccessStatusCode()
+                ? result.getResponse().optJSONArray("data")
+                : null;
+
+        List<Result> ret = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Call call = batch.get(i);
+            JSONObject response = responses == null ? null : responses.optJSONObject(i);
+
+            Result callResult;
+            if (response == null) {
+                // request failed, every call has the status of the request
+                callResult = new Result(result.getResponse(),
+                        responses == null ? result.getStatusCode() : 500,
+                        responses == null ? result.getReasonPhrase() : "Missing result of call",
+                        call._resource,
+                        call._parameters,
+                        call._methodType,
+                        ResponseType.JSON);
+            } else {
+                int statusCode = response.optInt("status", 500);
+                JSONObject document = new JSONObject().put("data", response.has("data")
+                        ? response.get("data")
+                        : JSONObject.NULL);
+                if (response.has("errors")) {
+                    document.put("errors", response.get("errors"));
+                }
+                if (response.has("message")) {
+                    document.put("message", response.get("message"));
+                }
+
+                callResult = new Result(document,
+                        statusCode,
+                        statusCode == 200 ? "OK" : response.optString("message", "").trim(),
+                        call._resource,
+                        call._parameters,
+                        call._methodType,
+                        ResponseType.JSON);
+            }
+
+            PveResponseCache cache = _client.getResponseCache();
+            if (cache != null && call._methodType != MethodType.GET) {
+                cache.invalidate(call._resource);
+            }
+
+            call._result.complete(callResult);
+            ret.add(callResult);
+        }
+        return ret;
+    }
+
+    private static String getHttpMethod(MethodType methodType) {
+        switch (methodType) {
+            case GET:
+                return "GET";
+
+            case SET:
+                return "PUT";
+
+            case CREATE:
+                return "POST";
+
+            case DELETE:
+                return "DELETE";
+
+            default:
+                throw new AssertionError();
+        }
+    }
+
+    private static class Call {
+
+        private final String _resource;
+        private final MethodType _methodType;
+        private final Map<String, Object> _parameters;
+        private final CompletableFuture<Result> _result = new CompletableFuture<>();
+
+        Call(String resource, MethodType methodType, Map<String, Object> parameters) {
+            _resource = resource;
+            _methodType = methodType;
+            _parameters = parameters;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker of a target (node or host).
+ *
+ * After a number of consecutive transient failures the circuit opens and
+ * requests to the target fail immediately. When the open time is elapsed one
+ * request is let through: if it succeeds the circuit closes, otherwise it
+ * opens again.
+ */
+public class PveCircuitBreaker {
+
+    /**
+     * State of circuit.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String _name;
+    private final int _failureThreshold;
+    private final long _openTime;
+    private State _state = State.CLOSED;
+    private int _failures;
+    private long _openedAt;
+    private long _opened;
+    private long _rejected;
+
+    /**
+     * Constructor
+     *
+     * @param name Name of target
+     * @param failureThreshold Consecutive failures that open the circuit
+     * @param openTime Millisecond the circuit stays open
+     */
+    public PveCircuitBreaker(String name, int failureThreshold, long openTime) {
+        _name = name;
+        _failureThreshold = failureThreshold;
+        _openTime = TimeUnit.MILLISECONDS.toNanos(openTime);
+    }
+
+    /**
+     * Name of target.
+     *
+     * @return String
+     */
+    public String getName() {
+        return _name;
+    }
+
+    /**
+     * State of circuit.
+     *
+     * @return State
+     */
+    public synchronized State getState() {
+        return _state;
+    }
+
+    /**
+     * Number of consecutive failures.
+     *
+     * @return int
+     */
+    public synchronized int getFailures() {
+        return _failures;
+    }
+
+    /**
+     * Number of times the circuit opened.
+     *
+     * @return long
+     */
+    public synchronized long getOpened() {
+        return _opened;
+    }
+
+    /**
+     * Number of requests failed immediately.
+     *
+     * @return long
+     */
+    public synchronized long getRejected() {
+        return _rejected;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return _name + " State: " + _state
+                + ", Failures: " + _failures
+                + ", Opened: " + _opened
+                + ", Rejected: " + _rejected;
+    }
+
+    /**
+     * Request can be sent.
+     *
+     * @return boolean
+     */
+    synchronized boolean allowRequest() {
+        if (_state == State.CLOSED) {
+            return true;
+        }
+
+        // one trial request after open time, another if the trial never ended
+        if (System.nanoTime() - _openedAt >= _openTime) {
+            _state = State.HALF_OPEN;
+            _openedAt = System.nanoTime();
+            return true;
+        }
+        _rejected++;
+        return false;
+    }
+
+    /**
+     * Request succeeded.
+     */
+    synchronized void onSuccess() {
+        _failures = 0;
+        _state = State.CLOSED;
+    }
+
+    /**
+     * Request failed for a transient reason.
+     */
+    synchronized void onFailure() {
+        _failures++;
+        if (_state == State.HALF_OPEN || (_state == State.CLOSED && _failures >= _failureThreshold)) {
+            _state = State.OPEN;
+            _openedAt = System.nanoTime();
+            _opened++;
+        }
+    }
+}
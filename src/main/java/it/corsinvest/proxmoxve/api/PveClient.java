@@ -10,9 +10,573 @@ import org.json.JSONException;
 
 /**
  * Proxmox VE Client
+ *
+ * The state of resource objects is set in final fields by the constructor and
+ * the lazy getters read their field once into a local, so they need no lock
+ * when the client is shared by many threads: a race can only create the same
+ * resource object twice, never return null.
+ *
+ * Items of collections (node, vmid, ...) are cached by id, so polling the same
+ * path again reuses the objects instead of allocating a new chain.
  */
 public class PveClient extends PveClientBase {
 
+    /**
+     * Operations of the endpoints, loaded on first call of an endpoint.
+     */
+    private static final class Operations {
+
+        private static final PveOperation GET_ACCESS = new PveOperation(MethodType.GET, "/access");
+        private static final PveOperation GET_ACCESS_ACL = new PveOperation(MethodType.GET, "/access/acl");
+        private static final PveOperation SET_ACCESS_ACL = new PveOperation(MethodType.SET, "/access/acl", "path", "roles", "delete", "groups", "propagate", "tokens", "users");
+        private static final PveOperation CREATE_ACCESS_DOMAINS = new PveOperation(MethodType.CREATE, "/access/domains", "realm", "type", "acr-values", "autocreate", "base_dn", "bind_dn", "capath", "case-sensitive", "cert", "certkey", "client-id", "client-key", "comment", "default", "domain", "filter", "group_classes", "group_dn", "group_filter", "group_name_attr", "issuer-url", "mode", "password", "port", "prompt", "scopes", "secure", "server1", "server2", "sslversion", "sync-defaults-options", "sync_attributes", "tfa", "user_attr", "user_classes", "username-claim", "verify");
+        private static final PveOperation GET_ACCESS_DOMAINS = new PveOperation(MethodType.GET, "/access/domains");
+        private static final PveOperation DELETE_ACCESS_DOMAINS_REALM = new PveOperation(MethodType.DELETE, "/access/domains/{realm}");
+        private static final PveOperation GET_ACCESS_DOMAINS_REALM = new PveOperation(MethodType.GET, "/access/domains/{realm}");
+        private static final PveOperation SET_ACCESS_DOMAINS_REALM = new PveOperation(MethodType.SET, "/access/domains/{realm}", "acr-values", "autocreate", "base_dn", "bind_dn", "capath", "case-sensitive", "cert", "certkey", "client-id", "client-key", "comment", "default", "delete", "digest", "domain", "filter", "group_classes", "group_dn", "group_filter", "group_name_attr", "issuer-url", "mode", "password", "port", "prompt", "scopes", "secure", "server1", "server2", "sslversion", "sync-defaults-options", "sync_attributes", "tfa", "user_attr", "user_classes", "verify");
+        private static final PveOperation CREATE_ACCESS_DOMAINS_REALM_SYNC = new PveOperation(MethodType.CREATE, "/access/domains/{realm}/sync", "dry-run", "enable-new", "full", "purge", "remove-vanished", "scope");
+        private static final PveOperation CREATE_ACCESS_GROUPS = new PveOperation(MethodType.CREATE, "/access/groups", "groupid", "comment");
+        private static final PveOperation GET_ACCESS_GROUPS = new PveOperation(MethodType.GET, "/access/groups");
+        private static final PveOperation DELETE_ACCESS_GROUPS_GROUPID = new PveOperation(MethodType.DELETE, "/access/groups/{groupid}");
+        private static final PveOperation GET_ACCESS_GROUPS_GROUPID = new PveOperation(MethodType.GET, "/access/groups/{groupid}");
+        private static final PveOperation SET_ACCESS_GROUPS_GROUPID = new PveOperation(MethodType.SET, "/access/groups/{groupid}", "comment");
+        private static final PveOperation GET_ACCESS_OPENID = new PveOperation(MethodType.GET, "/access/openid");
+        private static final PveOperation CREATE_ACCESS_OPENID_AUTH_URL = new PveOperation(MethodType.CREATE, "/access/openid/auth-url", "realm", "redirect-url");
+        private static final PveOperation CREATE_ACCESS_OPENID_LOGIN = new PveOperation(MethodType.CREATE, "/access/openid/login", "code", "redirect-url", "state");
+        private static final PveOperation SET_ACCESS_PASSWORD = new PveOperation(MethodType.SET, "/access/password", "password", "userid");
+        private static final PveOperation GET_ACCESS_PERMISSIONS = new PveOperation(MethodType.GET, "/access/permissions", "path", "userid");
+        private static final PveOperation CREATE_ACCESS_ROLES = new PveOperation(MethodType.CREATE, "/access/roles", "roleid", "privs");
+        private static final PveOperation GET_ACCESS_ROLES = new PveOperation(MethodType.GET, "/access/roles");
+        private static final PveOperation DELETE_ACCESS_ROLES_ROLEID = new PveOperation(MethodType.DELETE, "/access/roles/{roleid}");
+        private static final PveOperation GET_ACCESS_ROLES_ROLEID = new PveOperation(MethodType.GET, "/access/roles/{roleid}");
+        private static final PveOperation SET_ACCESS_ROLES_ROLEID = new PveOperation(MethodType.SET, "/access/roles/{roleid}", "append", "privs");
+        private static final PveOperation GET_ACCESS_TFA = new PveOperation(MethodType.GET, "/access/tfa");
+        private static final PveOperation CREATE_ACCESS_TFA_USERID = new PveOperation(MethodType.CREATE, "/access/tfa/{userid}", "type", "challenge", "description", "password", "totp", "value");
+        private static final PveOperation GET_ACCESS_TFA_USERID = new PveOperation(MethodType.GET, "/access/tfa/{userid}");
+        private static final PveOperation DELETE_ACCESS_TFA_USERID_ID = new PveOperation(MethodType.DELETE, "/access/tfa/{userid}/{id}", "password");
+        private static final PveOperation GET_ACCESS_TFA_USERID_ID = new PveOperation(MethodType.GET, "/access/tfa/{userid}/{id}");
+        private static final PveOperation SET_ACCESS_TFA_USERID_ID = new PveOperation(MethodType.SET, "/access/tfa/{userid}/{id}", "description", "enable", "password");
+        private static final PveOperation CREATE_ACCESS_TICKET = new PveOperation(MethodType.CREATE, "/access/ticket", "password", "username", "new-format", "otp", "path", "privs", "realm", "tfa-challenge");
+        private static final PveOperation GET_ACCESS_TICKET = new PveOperation(MethodType.GET, "/access/ticket");
+        private static final PveOperation CREATE_ACCESS_USERS = new PveOperation(MethodType.CREATE, "/access/users", "userid", "comment", "email", "enable", "expire", "firstname", "groups", "keys", "lastname", "password");
+        private static final PveOperation GET_ACCESS_USERS = new PveOperation(MethodType.GET, "/access/users", "enabled", "full");
+        private static final PveOperation DELETE_ACCESS_USERS_USERID = new PveOperation(MethodType.DELETE, "/access/users/{userid}");
+        private static final PveOperation GET_ACCESS_USERS_USERID = new PveOperation(MethodType.GET, "/access/users/{userid}");
+        private static final PveOperation SET_ACCESS_USERS_USERID = new PveOperation(MethodType.SET, "/access/users/{userid}", "append", "comment", "email", "enable", "expire", "firstname", "groups", "keys", "lastname");
+        private static final PveOperation GET_ACCESS_USERS_USERID_TFA = new PveOperation(MethodType.GET, "/access/users/{userid}/tfa", "multiple");
+        private static final PveOperation GET_ACCESS_USERS_USERID_TOKEN = new PveOperation(MethodType.GET, "/access/users/{userid}/token");
+        private static final PveOperation CREATE_ACCESS_USERS_USERID_TOKEN_TOKENID = new PveOperation(MethodType.CREATE, "/access/users/{userid}/token/{tokenid}", "comment", "expire", "privsep");
+        private static final PveOperation DELETE_ACCESS_USERS_USERID_TOKEN_TOKENID = new PveOperation(MethodType.DELETE, "/access/users/{userid}/token/{tokenid}");
+        private static final PveOperation GET_ACCESS_USERS_USERID_TOKEN_TOKENID = new PveOperation(MethodType.GET, "/access/users/{userid}/token/{tokenid}");
+        private static final PveOperation SET_ACCESS_USERS_USERID_TOKEN_TOKENID = new PveOperation(MethodType.SET, "/access/users/{userid}/token/{tokenid}", "comment", "expire", "privsep");
+        private static final PveOperation SET_ACCESS_USERS_USERID_UNLOCK_TFA = new PveOperation(MethodType.SET, "/access/users/{userid}/unlock-tfa");
+        private static final PveOperation GET_CLUSTER = new PveOperation(MethodType.GET, "/cluster");
+        private static final PveOperation GET_CLUSTER_ACME = new PveOperation(MethodType.GET, "/cluster/acme");
+        private static final PveOperation CREATE_CLUSTER_ACME_ACCOUNT = new PveOperation(MethodType.CREATE, "/cluster/acme/account", "contact", "directory", "name", "tos_url");
+        private static final PveOperation GET_CLUSTER_ACME_ACCOUNT = new PveOperation(MethodType.GET, "/cluster/acme/account");
+        private static final PveOperation DELETE_CLUSTER_ACME_ACCOUNT_NAME = new PveOperation(MethodType.DELETE, "/cluster/acme/account/{name}");
+        private static final PveOperation GET_CLUSTER_ACME_ACCOUNT_NAME = new PveOperation(MethodType.GET, "/cluster/acme/account/{name}");
+        private static final PveOperation SET_CLUSTER_ACME_ACCOUNT_NAME = new PveOperation(MethodType.SET, "/cluster/acme/account/{name}", "contact");
+        private static final PveOperation GET_CLUSTER_ACME_CHALLENGE_SCHEMA = new PveOperation(MethodType.GET, "/cluster/acme/challenge-schema");
+        private static final PveOperation GET_CLUSTER_ACME_DIRECTORIES = new PveOperation(MethodType.GET, "/cluster/acme/directories");
+        private static final PveOperation CREATE_CLUSTER_ACME_PLUGINS = new PveOperation(MethodType.CREATE, "/cluster/acme/plugins", "id", "type", "api", "data", "disable", "nodes", "validation-delay");
+        private static final PveOperation GET_CLUSTER_ACME_PLUGINS = new PveOperation(MethodType.GET, "/cluster/acme/plugins", "type");
+        private static final PveOperation DELETE_CLUSTER_ACME_PLUGINS_ID = new PveOperation(MethodType.DELETE, "/cluster/acme/plugins/{id}");
+        private static final PveOperation GET_CLUSTER_ACME_PLUGINS_ID = new PveOperation(MethodType.GET, "/cluster/acme/plugins/{id}");
+        private static final PveOperation SET_CLUSTER_ACME_PLUGINS_ID = new PveOperation(MethodType.SET, "/cluster/acme/plugins/{id}", "api", "data", "delete", "digest", "disable", "nodes", "validation-delay");
+        private static final PveOperation GET_CLUSTER_ACME_TOS = new PveOperation(MethodType.GET, "/cluster/acme/tos", "directory");
+        private static final PveOperation CREATE_CLUSTER_BACKUP = new PveOperation(MethodType.CREATE, "/cluster/backup", "all", "bwlimit", "comment", "compress", "dow", "dumpdir", "enabled", "exclude", "exclude-path", "id", "ionice", "lockwait", "mailnotification", "mailto", "maxfiles", "mode", "node", "notes-template", "performance", "pigz", "pool", "protected", "prune-backups", "quiet", "remove", "repeat-missed", "schedule", "script", "starttime", "stdexcludes", "stop", "stopwait", "storage", "tmpdir", "vmid", "zstd");
+        private static final PveOperation GET_CLUSTER_BACKUP = new PveOperation(MethodType.GET, "/cluster/backup");
+        private static final PveOperation GET_CLUSTER_BACKUP_INFO = new PveOperation(MethodType.GET, "/cluster/backup-info");
+        private static final PveOperation GET_CLUSTER_BACKUP_INFO_NOT_BACKED_UP = new PveOperation(MethodType.GET, "/cluster/backup-info/not-backed-up");
+        private static final PveOperation DELETE_CLUSTER_BACKUP_ID = new PveOperation(MethodType.DELETE, "/cluster/backup/{id}");
+        private static final PveOperation GET_CLUSTER_BACKUP_ID = new PveOperation(MethodType.GET, "/cluster/backup/{id}");
+        private static final PveOperation SET_CLUSTER_BACKUP_ID = new PveOperation(MethodType.SET, "/cluster/backup/{id}", "all", "bwlimit", "comment", "compress", "delete", "dow", "dumpdir", "enabled", "exclude", "exclude-path", "ionice", "lockwait", "mailnotification", "mailto", "maxfiles", "mode", "node", "notes-template", "performance", "pigz", "pool", "protected", "prune-backups", "quiet", "remove", "repeat-missed", "schedule", "script", "starttime", "stdexcludes", "stop", "stopwait", "storage", "tmpdir", "vmid", "zstd");
+        private static final PveOperation GET_CLUSTER_BACKUP_ID_INCLUDED_VOLUMES = new PveOperation(MethodType.GET, "/cluster/backup/{id}/included_volumes");
+        private static final PveOperation GET_CLUSTER_CEPH = new PveOperation(MethodType.GET, "/cluster/ceph");
+        private static final PveOperation GET_CLUSTER_CEPH_FLAGS = new PveOperation(MethodType.GET, "/cluster/ceph/flags");
+        private static final PveOperation SET_CLUSTER_CEPH_FLAGS = new PveOperation(MethodType.SET, "/cluster/ceph/flags", "nobackfill", "nodeep-scrub", "nodown", "noin", "noout", "norebalance", "norecover", "noscrub", "notieragent", "noup", "pause");
+        private static final PveOperation GET_CLUSTER_CEPH_FLAGS_FLAG = new PveOperation(MethodType.GET, "/cluster/ceph/flags/{flag}");
+        private static final PveOperation SET_CLUSTER_CEPH_FLAGS_FLAG = new PveOperation(MethodType.SET, "/cluster/ceph/flags/{flag}", "value");
+        private static final PveOperation GET_CLUSTER_CEPH_METADATA = new PveOperation(MethodType.GET, "/cluster/ceph/metadata", "scope");
+        private static final PveOperation GET_CLUSTER_CEPH_STATUS = new PveOperation(MethodType.GET, "/cluster/ceph/status");
+        private static final PveOperation CREATE_CLUSTER_CONFIG = new PveOperation(MethodType.CREATE, "/cluster/config", "clustername", "nodeid", "votes");
+        private static final PveOperation GET_CLUSTER_CONFIG = new PveOperation(MethodType.GET, "/cluster/config");
+        private static final PveOperation GET_CLUSTER_CONFIG_APIVERSION = new PveOperation(MethodType.GET, "/cluster/config/apiversion");
+        private static final PveOperation CREATE_CLUSTER_CONFIG_JOIN = new PveOperation(MethodType.CREATE, "/cluster/config/join", "fingerprint", "hostname", "password", "force", "nodeid", "votes");
+        private static final PveOperation GET_CLUSTER_CONFIG_JOIN = new PveOperation(MethodType.GET, "/cluster/config/join", "node");
+        private static final PveOperation GET_CLUSTER_CONFIG_NODES = new PveOperation(MethodType.GET, "/cluster/config/nodes");
+        private static final PveOperation CREATE_CLUSTER_CONFIG_NODES_NODE = new PveOperation(MethodType.CREATE, "/cluster/config/nodes/{node}", "apiversion", "force", "new_node_ip", "nodeid", "votes");
+        private static final PveOperation DELETE_CLUSTER_CONFIG_NODES_NODE = new PveOperation(MethodType.DELETE, "/cluster/config/nodes/{node}");
+        private static final PveOperation GET_CLUSTER_CONFIG_QDEVICE = new PveOperation(MethodType.GET, "/cluster/config/qdevice");
+        private static final PveOperation GET_CLUSTER_CONFIG_TOTEM = new PveOperation(MethodType.GET, "/cluster/config/totem");
+        private static final PveOperation GET_CLUSTER_FIREWALL = new PveOperation(MethodType.GET, "/cluster/firewall");
+        private static final PveOperation CREATE_CLUSTER_FIREWALL_ALIASES = new PveOperation(MethodType.CREATE, "/cluster/firewall/aliases", "cidr", "name", "comment");
+        private static final PveOperation GET_CLUSTER_FIREWALL_ALIASES = new PveOperation(MethodType.GET, "/cluster/firewall/aliases");
+        private static final PveOperation DELETE_CLUSTER_FIREWALL_ALIASES_NAME = new PveOperation(MethodType.DELETE, "/cluster/firewall/aliases/{name}", "digest");
+        private static final PveOperation GET_CLUSTER_FIREWALL_ALIASES_NAME = new PveOperation(MethodType.GET, "/cluster/firewall/aliases/{name}");
+        private static final PveOperation SET_CLUSTER_FIREWALL_ALIASES_NAME = new PveOperation(MethodType.SET, "/cluster/firewall/aliases/{name}", "cidr", "comment", "digest", "rename");
+        private static final PveOperation CREATE_CLUSTER_FIREWALL_GROUPS = new PveOperation(MethodType.CREATE, "/cluster/firewall/groups", "group", "comment", "digest", "rename");
+        private static final PveOperation GET_CLUSTER_FIREWALL_GROUPS = new PveOperation(MethodType.GET, "/cluster/firewall/groups");
+        private static final PveOperation CREATE_CLUSTER_FIREWALL_GROUPS_GROUP = new PveOperation(MethodType.CREATE, "/cluster/firewall/groups/{group}", "action", "type", "comment", "dest", "digest", "dport", "enable", "icmp-type", "iface", "log", "macro", "pos", "proto", "source", "sport");
+        private static final PveOperation DELETE_CLUSTER_FIREWALL_GROUPS_GROUP = new PveOperation(MethodType.DELETE, "/cluster/firewall/groups/{group}");
+        private static final PveOperation GET_CLUSTER_FIREWALL_GROUPS_GROUP = new PveOperation(MethodType.GET, "/cluster/firewall/groups/{group}");
+        private static final PveOperation DELETE_CLUSTER_FIREWALL_GROUPS_GROUP_POS = new PveOperation(MethodType.DELETE, "/cluster/firewall/groups/{group}/{pos}", "digest");
+        private static final PveOperation GET_CLUSTER_FIREWALL_GROUPS_GROUP_POS = new PveOperation(MethodType.GET, "/cluster/firewall/groups/{group}/{pos}");
+        private static final PveOperation SET_CLUSTER_FIREWALL_GROUPS_GROUP_POS = new PveOperation(MethodType.SET, "/cluster/firewall/groups/{group}/{pos}", "action", "comment", "delete", "dest", "digest", "dport", "enable", "icmp-type", "iface", "log", "macro", "moveto", "proto", "source", "sport", "type");
+        private static final PveOperation CREATE_CLUSTER_FIREWALL_IPSET = new PveOperation(MethodType.CREATE, "/cluster/firewall/ipset", "name", "comment", "digest", "rename");
+        private static final PveOperation GET_CLUSTER_FIREWALL_IPSET = new PveOperation(MethodType.GET, "/cluster/firewall/ipset");
+        private static final PveOperation CREATE_CLUSTER_FIREWALL_IPSET_NAME = new PveOperation(MethodType.CREATE, "/cluster/firewall/ipset/{name}", "cidr", "comment", "nomatch");
+        private static final PveOperation DELETE_CLUSTER_FIREWALL_IPSET_NAME = new PveOperation(MethodType.DELETE, "/cluster/firewall/ipset/{name}", "force");
+        private static final PveOperation GET_CLUSTER_FIREWALL_IPSET_NAME = new PveOperation(MethodType.GET, "/cluster/firewall/ipset/{name}");
+        private static final PveOperation DELETE_CLUSTER_FIREWALL_IPSET_NAME_CIDR = new PveOperation(MethodType.DELETE, "/cluster/firewall/ipset/{name}/{cidr}", "digest");
+        private static final PveOperation GET_CLUSTER_FIREWALL_IPSET_NAME_CIDR = new PveOperation(MethodType.GET, "/cluster/firewall/ipset/{name}/{cidr}");
+        private static final PveOperation SET_CLUSTER_FIREWALL_IPSET_NAME_CIDR = new PveOperation(MethodType.SET, "/cluster/firewall/ipset/{name}/{cidr}", "comment", "digest", "nomatch");
+        private static final PveOperation GET_CLUSTER_FIREWALL_MACROS = new PveOperation(MethodType.GET, "/cluster/firewall/macros");
+        private static final PveOperation GET_CLUSTER_FIREWALL_OPTIONS = new PveOperation(MethodType.GET, "/cluster/firewall/options");
+        private static final PveOperation SET_CLUSTER_FIREWALL_OPTIONS = new PveOperation(MethodType.SET, "/cluster/firewall/options", "delete", "digest", "ebtables", "enable", "log_ratelimit", "policy_in", "policy_out");
+        private static final PveOperation GET_CLUSTER_FIREWALL_REFS = new PveOperation(MethodType.GET, "/cluster/firewall/refs", "type");
+        private static final PveOperation CREATE_CLUSTER_FIREWALL_RULES = new PveOperation(MethodType.CREATE, "/cluster/firewall/rules", "action", "type", "comment", "dest", "digest", "dport", "enable", "icmp-type", "iface", "log", "macro", "pos", "proto", "source", "sport");
+        private static final PveOperation GET_CLUSTER_FIREWALL_RULES = new PveOperation(MethodType.GET, "/cluster/firewall/rules");
+        private static final PveOperation DELETE_CLUSTER_FIREWALL_RULES_POS = new PveOperation(MethodType.DELETE, "/cluster/firewall/rules/{pos}", "digest");
+        private static final PveOperation GET_CLUSTER_FIREWALL_RULES_POS = new PveOperation(MethodType.GET, "/cluster/firewall/rules/{pos}");
+        private static final PveOperation SET_CLUSTER_FIREWALL_RULES_POS = new PveOperation(MethodType.SET, "/cluster/firewall/rules/{pos}", "action", "comment", "delete", "dest", "digest", "dport", "enable", "icmp-type", "iface", "log", "macro", "moveto", "proto", "source", "sport", "type");
+        private static final PveOperation GET_CLUSTER_HA = new PveOperation(MethodType.GET, "/cluster/ha");
+        private static final PveOperation CREATE_CLUSTER_HA_GROUPS = new PveOperation(MethodType.CREATE, "/cluster/ha/groups", "group", "nodes", "comment", "nofailback", "restricted", "type");
+        private static final PveOperation GET_CLUSTER_HA_GROUPS = new PveOperation(MethodType.GET, "/cluster/ha/groups");
+        private static final PveOperation DELETE_CLUSTER_HA_GROUPS_GROUP = new PveOperation(MethodType.DELETE, "/cluster/ha/groups/{group}");
+        private static final PveOperation GET_CLUSTER_HA_GROUPS_GROUP = new PveOperation(MethodType.GET, "/cluster/ha/groups/{group}");
+        private static final PveOperation SET_CLUSTER_HA_GROUPS_GROUP = new PveOperation(MethodType.SET, "/cluster/ha/groups/{group}", "comment", "delete", "digest", "nodes", "nofailback", "restricted");
+        private static final PveOperation CREATE_CLUSTER_HA_RESOURCES = new PveOperation(MethodType.CREATE, "/cluster/ha/resources", "sid", "comment", "group", "max_relocate", "max_restart", "state", "type");
+        private static final PveOperation GET_CLUSTER_HA_RESOURCES = new PveOperation(MethodType.GET, "/cluster/ha/resources", "type");
+        private static final PveOperation DELETE_CLUSTER_HA_RESOURCES_SID = new PveOperation(MethodType.DELETE, "/cluster/ha/resources/{sid}");
+        private static final PveOperation GET_CLUSTER_HA_RESOURCES_SID = new PveOperation(MethodType.GET, "/cluster/ha/resources/{sid}");
+        private static final PveOperation SET_CLUSTER_HA_RESOURCES_SID = new PveOperation(MethodType.SET, "/cluster/ha/resources/{sid}", "comment", "delete", "digest", "group", "max_relocate", "max_restart", "state");
+        private static final PveOperation CREATE_CLUSTER_HA_RESOURCES_SID_MIGRATE = new PveOperation(MethodType.CREATE, "/cluster/ha/resources/{sid}/migrate", "node");
+        private static final PveOperation CREATE_CLUSTER_HA_RESOURCES_SID_RELOCATE = new PveOperation(MethodType.CREATE, "/cluster/ha/resources/{sid}/relocate", "node");
+        private static final PveOperation GET_CLUSTER_HA_STATUS = new PveOperation(MethodType.GET, "/cluster/ha/status");
+        private static final PveOperation GET_CLUSTER_HA_STATUS_CURRENT = new PveOperation(MethodType.GET, "/cluster/ha/status/current");
+        private static final PveOperation GET_CLUSTER_HA_STATUS_MANAGER_STATUS = new PveOperation(MethodType.GET, "/cluster/ha/status/manager_status");
+        private static final PveOperation GET_CLUSTER_JOBS = new PveOperation(MethodType.GET, "/cluster/jobs");
+        private static final PveOperation GET_CLUSTER_JOBS_REALM_SYNC = new PveOperation(MethodType.GET, "/cluster/jobs/realm-sync");
+        private static final PveOperation CREATE_CLUSTER_JOBS_REALM_SYNC_ID = new PveOperation(MethodType.CREATE, "/cluster/jobs/realm-sync/{id}", "schedule", "comment", "enable-new", "enabled", "realm", "remove-vanished", "scope");
+        private static final PveOperation DELETE_CLUSTER_JOBS_REALM_SYNC_ID = new PveOperation(MethodType.DELETE, "/cluster/jobs/realm-sync/{id}");
+        private static final PveOperation GET_CLUSTER_JOBS_REALM_SYNC_ID = new PveOperation(MethodType.GET, "/cluster/jobs/realm-sync/{id}");
+        private static final PveOperation SET_CLUSTER_JOBS_REALM_SYNC_ID = new PveOperation(MethodType.SET, "/cluster/jobs/realm-sync/{id}", "schedule", "comment", "delete", "enable-new", "enabled", "remove-vanished", "scope");
+        private static final PveOperation GET_CLUSTER_JOBS_SCHEDULE_ANALYZE = new PveOperation(MethodType.GET, "/cluster/jobs/schedule-analyze", "schedule", "iterations", "starttime");
+        private static final PveOperation GET_CLUSTER_LOG = new PveOperation(MethodType.GET, "/cluster/log", "max");
+        private static final PveOperation GET_CLUSTER_MAPPING = new PveOperation(MethodType.GET, "/cluster/mapping");
+        private static final PveOperation CREATE_CLUSTER_MAPPING_PCI = new PveOperation(MethodType.CREATE, "/cluster/mapping/pci", "id", "map", "description", "mdev");
+        private static final PveOperation GET_CLUSTER_MAPPING_PCI = new PveOperation(MethodType.GET, "/cluster/mapping/pci", "check-node");
+        private static final PveOperation DELETE_CLUSTER_MAPPING_PCI_ID = new PveOperation(MethodType.DELETE, "/cluster/mapping/pci/{id}");
+        private static final PveOperation GET_CLUSTER_MAPPING_PCI_ID = new PveOperation(MethodType.GET, "/cluster/mapping/pci/{id}");
+        private static final PveOperation SET_CLUSTER_MAPPING_PCI_ID = new PveOperation(MethodType.SET, "/cluster/mapping/pci/{id}", "delete", "description", "digest", "map", "mdev");
+        private static final PveOperation CREATE_CLUSTER_MAPPING_USB = new PveOperation(MethodType.CREATE, "/cluster/mapping/usb", "id", "map", "description");
+        private static final PveOperation GET_CLUSTER_MAPPING_USB = new PveOperation(MethodType.GET, "/cluster/mapping/usb", "check-node");
+        private static final PveOperation DELETE_CLUSTER_MAPPING_USB_ID = new PveOperation(MethodType.DELETE, "/cluster/mapping/usb/{id}");
+        private static final PveOperation GET_CLUSTER_MAPPING_USB_ID = new PveOperation(MethodType.GET, "/cluster/mapping/usb/{id}");
+        private static final PveOperation SET_CLUSTER_MAPPING_USB_ID = new PveOperation(MethodType.SET, "/cluster/mapping/usb/{id}", "map", "delete", "description", "digest");
+        private static final PveOperation GET_CLUSTER_METRICS = new PveOperation(MethodType.GET, "/cluster/metrics");
+        private static final PveOperation GET_CLUSTER_METRICS_SERVER = new PveOperation(MethodType.GET, "/cluster/metrics/server");
+        private static final PveOperation CREATE_CLUSTER_METRICS_SERVER_ID = new PveOperation(MethodType.CREATE, "/cluster/metrics/server/{id}", "port", "server", "type", "api-path-prefix", "bucket", "disable", "influxdbproto", "max-body-size", "mtu", "organization", "path", "proto", "timeout", "token", "verify-certificate");
+        private static final PveOperation DELETE_CLUSTER_METRICS_SERVER_ID = new PveOperation(MethodType.DELETE, "/cluster/metrics/server/{id}");
+        private static final PveOperation GET_CLUSTER_METRICS_SERVER_ID = new PveOperation(MethodType.GET, "/cluster/metrics/server/{id}");
+        private static final PveOperation SET_CLUSTER_METRICS_SERVER_ID = new PveOperation(MethodType.SET, "/cluster/metrics/server/{id}", "port", "server", "api-path-prefix", "bucket", "delete", "digest", "disable", "influxdbproto", "max-body-size", "mtu", "organization", "path", "proto", "timeout", "token", "verify-certificate");
+        private static final PveOperation GET_CLUSTER_NEXTID = new PveOperation(MethodType.GET, "/cluster/nextid", "vmid");
+        private static final PveOperation GET_CLUSTER_OPTIONS = new PveOperation(MethodType.GET, "/cluster/options");
+        private static final PveOperation SET_CLUSTER_OPTIONS = new PveOperation(MethodType.SET, "/cluster/options", "bwlimit", "console", "crs", "delete", "description", "email_from", "fencing", "ha", "http_proxy", "keyboard", "language", "mac_prefix", "max_workers", "migration", "migration_unsecure", "next-id", "notify", "registered-tags", "tag-style", "u2f", "user-tag-access", "webauthn");
+        private static final PveOperation CREATE_CLUSTER_REPLICATION = new PveOperation(MethodType.CREATE, "/cluster/replication", "id", "target", "type", "comment", "disable", "rate", "remove_job", "schedule", "source");
+        private static final PveOperation GET_CLUSTER_REPLICATION = new PveOperation(MethodType.GET, "/cluster/replication");
+        private static final PveOperation DELETE_CLUSTER_REPLICATION_ID = new PveOperation(MethodType.DELETE, "/cluster/replication/{id}", "force", "keep");
+        private static final PveOperation GET_CLUSTER_REPLICATION_ID = new PveOperation(MethodType.GET, "/cluster/replication/{id}");
+        private static final PveOperation SET_CLUSTER_REPLICATION_ID = new PveOperation(MethodType.SET, "/cluster/replication/{id}", "comment", "delete", "digest", "disable", "rate", "remove_job", "schedule", "source");
+        private static final PveOperation GET_CLUSTER_RESOURCES = new PveOperation(MethodType.GET, "/cluster/resources", "type");
+        private static final PveOperation GET_CLUSTER_SDN = new PveOperation(MethodType.GET, "/cluster/sdn");
+        private static final PveOperation SET_CLUSTER_SDN = new PveOperation(MethodType.SET, "/cluster/sdn");
+        private static final PveOperation CREATE_CLUSTER_SDN_CONTROLLERS = new PveOperation(MethodType.CREATE, "/cluster/sdn/controllers", "controller", "type", "asn", "bgp-multipath-as-path-relax", "ebgp", "ebgp-multihop", "loopback", "node", "peers");
+        private static final PveOperation GET_CLUSTER_SDN_CONTROLLERS = new PveOperation(MethodType.GET, "/cluster/sdn/controllers", "pending", "running", "type");
+        private static final PveOperation DELETE_CLUSTER_SDN_CONTROLLERS_CONTROLLER = new PveOperation(MethodType.DELETE, "/cluster/sdn/controllers/{controller}");
+        private static final PveOperation GET_CLUSTER_SDN_CONTROLLERS_CONTROLLER = new PveOperation(MethodType.GET, "/cluster/sdn/controllers/{controller}", "pending", "running");
+        private static final PveOperation SET_CLUSTER_SDN_CONTROLLERS_CONTROLLER = new PveOperation(MethodType.SET, "/cluster/sdn/controllers/{controller}", "asn", "bgp-multipath-as-path-relax", "delete", "digest", "ebgp", "ebgp-multihop", "loopback", "node", "peers");
+        private static final PveOperation CREATE_CLUSTER_SDN_DNS = new PveOperation(MethodType.CREATE, "/cluster/sdn/dns", "dns", "key", "type", "url", "reversemaskv6", "reversev6mask", "ttl");
+        private static final PveOperation GET_CLUSTER_SDN_DNS = new PveOperation(MethodType.GET, "/cluster/sdn/dns", "type");
+        private static final PveOperation DELETE_CLUSTER_SDN_DNS_DNS = new PveOperation(MethodType.DELETE, "/cluster/sdn/dns/{dns}");
+        private static final PveOperation GET_CLUSTER_SDN_DNS_DNS = new PveOperation(MethodType.GET, "/cluster/sdn/dns/{dns}");
+        private static final PveOperation SET_CLUSTER_SDN_DNS_DNS = new PveOperation(MethodType.SET, "/cluster/sdn/dns/{dns}", "delete", "digest", "key", "reversemaskv6", "ttl", "url");
+        private static final PveOperation CREATE_CLUSTER_SDN_IPAMS = new PveOperation(MethodType.CREATE, "/cluster/sdn/ipams", "ipam", "type", "section", "token", "url");
+        private static final PveOperation GET_CLUSTER_SDN_IPAMS = new PveOperation(MethodType.GET, "/cluster/sdn/ipams", "type");
+        private static final PveOperation DELETE_CLUSTER_SDN_IPAMS_IPAM = new PveOperation(MethodType.DELETE, "/cluster/sdn/ipams/{ipam}");
+        private static final PveOperation GET_CLUSTER_SDN_IPAMS_IPAM = new PveOperation(MethodType.GET, "/cluster/sdn/ipams/{ipam}");
+        private static final PveOperation SET_CLUSTER_SDN_IPAMS_IPAM = new PveOperation(MethodType.SET, "/cluster/sdn/ipams/{ipam}", "delete", "digest", "section", "token", "url");
+        private static final PveOperation CREATE_CLUSTER_SDN_VNETS = new PveOperation(MethodType.CREATE, "/cluster/sdn/vnets", "vnet", "zone", "alias", "tag", "type", "vlanaware");
+        private static final PveOperation GET_CLUSTER_SDN_VNETS = new PveOperation(MethodType.GET, "/cluster/sdn/vnets", "pending", "running");
+        private static final PveOperation DELETE_CLUSTER_SDN_VNETS_VNET = new PveOperation(MethodType.DELETE, "/cluster/sdn/vnets/{vnet}");
+        private static final PveOperation GET_CLUSTER_SDN_VNETS_VNET = new PveOperation(MethodType.GET, "/cluster/sdn/vnets/{vnet}", "pending", "running");
+        private static final PveOperation SET_CLUSTER_SDN_VNETS_VNET = new PveOperation(MethodType.SET, "/cluster/sdn/vnets/{vnet}", "alias", "delete", "digest", "tag", "vlanaware", "zone");
+        private static final PveOperation CREATE_CLUSTER_SDN_VNETS_VNET_SUBNETS = new PveOperation(MethodType.CREATE, "/cluster/sdn/vnets/{vnet}/subnets", "subnet", "type", "dnszoneprefix", "gateway", "snat");
+        private static final PveOperation GET_CLUSTER_SDN_VNETS_VNET_SUBNETS = new PveOperation(MethodType.GET, "/cluster/sdn/vnets/{vnet}/subnets", "pending", "running");
+        private static final PveOperation DELETE_CLUSTER_SDN_VNETS_VNET_SUBNETS_SUBNET = new PveOperation(MethodType.DELETE, "/cluster/sdn/vnets/{vnet}/subnets/{subnet}");
+        private static final PveOperation GET_CLUSTER_SDN_VNETS_VNET_SUBNETS_SUBNET = new PveOperation(MethodType.GET, "/cluster/sdn/vnets/{vnet}/subnets/{subnet}", "pending", "running");
+        private static final PveOperation SET_CLUSTER_SDN_VNETS_VNET_SUBNETS_SUBNET = new PveOperation(MethodType.SET, "/cluster/sdn/vnets/{vnet}/subnets/{subnet}", "delete", "digest", "dnszoneprefix", "gateway", "snat");
+        private static final PveOperation CREATE_CLUSTER_SDN_ZONES = new PveOperation(MethodType.CREATE, "/cluster/sdn/zones", "type", "zone", "advertise-subnets", "bridge", "bridge-disable-mac-learning", "controller", "disable-arp-nd-suppression", "dns", "dnszone", "dp-id", "exitnodes", "exitnodes-local-routing", "exitnodes-primary", "ipam", "mac", "mtu", "nodes", "peers", "reversedns", "rt-import", "tag", "vlan-protocol", "vrf-vxlan", "vxlan-port");
+        private static final PveOperation GET_CLUSTER_SDN_ZONES = new PveOperation(MethodType.GET, "/cluster/sdn/zones", "pending", "running", "type");
+        private static final PveOperation DELETE_CLUSTER_SDN_ZONES_ZONE = new PveOperation(MethodType.DELETE, "/cluster/sdn/zones/{zone}");
+        private static final PveOperation GET_CLUSTER_SDN_ZONES_ZONE = new PveOperation(MethodType.GET, "/cluster/sdn/zones/{zone}", "pending", "running");
+        private static final PveOperation SET_CLUSTER_SDN_ZONES_ZONE = new PveOperation(MethodType.SET, "/cluster/sdn/zones/{zone}", "advertise-subnets", "bridge", "bridge-disable-mac-learning", "controller", "delete", "digest", "disable-arp-nd-suppression", "dns", "dnszone", "dp-id", "exitnodes", "exitnodes-local-routing", "exitnodes-primary", "ipam", "mac", "mtu", "nodes", "peers", "reversedns", "rt-import", "tag", "vlan-protocol", "vrf-vxlan", "vxlan-port");
+        private static final PveOperation GET_CLUSTER_STATUS = new PveOperation(MethodType.GET, "/cluster/status");
+        private static final PveOperation GET_CLUSTER_TASKS = new PveOperation(MethodType.GET, "/cluster/tasks");
+        private static final PveOperation GET_NODES = new PveOperation(MethodType.GET, "/nodes");
+        private static final PveOperation GET_NODES_NODE = new PveOperation(MethodType.GET, "/nodes/{node}");
+        private static final PveOperation CREATE_NODES_NODE_APLINFO = new PveOperation(MethodType.CREATE, "/nodes/{node}/aplinfo", "storage", "template");
+        private static final PveOperation GET_NODES_NODE_APLINFO = new PveOperation(MethodType.GET, "/nodes/{node}/aplinfo");
+        private static final PveOperation GET_NODES_NODE_APT = new PveOperation(MethodType.GET, "/nodes/{node}/apt");
+        private static final PveOperation GET_NODES_NODE_APT_CHANGELOG = new PveOperation(MethodType.GET, "/nodes/{node}/apt/changelog", "name", "version");
+        private static final PveOperation CREATE_NODES_NODE_APT_REPOSITORIES = new PveOperation(MethodType.CREATE, "/nodes/{node}/apt/repositories", "index", "path", "digest", "enabled");
+        private static final PveOperation GET_NODES_NODE_APT_REPOSITORIES = new PveOperation(MethodType.GET, "/nodes/{node}/apt/repositories");
+        private static final PveOperation SET_NODES_NODE_APT_REPOSITORIES = new PveOperation(MethodType.SET, "/nodes/{node}/apt/repositories", "handle", "digest");
+        private static final PveOperation CREATE_NODES_NODE_APT_UPDATE = new PveOperation(MethodType.CREATE, "/nodes/{node}/apt/update", "notify", "quiet");
+        private static final PveOperation GET_NODES_NODE_APT_UPDATE = new PveOperation(MethodType.GET, "/nodes/{node}/apt/update");
+        private static final PveOperation GET_NODES_NODE_APT_VERSIONS = new PveOperation(MethodType.GET, "/nodes/{node}/apt/versions");
+        private static final PveOperation GET_NODES_NODE_CAPABILITIES = new PveOperation(MethodType.GET, "/nodes/{node}/capabilities");
+        private static final PveOperation GET_NODES_NODE_CAPABILITIES_QEMU = new PveOperation(MethodType.GET, "/nodes/{node}/capabilities/qemu");
+        private static final PveOperation GET_NODES_NODE_CAPABILITIES_QEMU_CPU = new PveOperation(MethodType.GET, "/nodes/{node}/capabilities/qemu/cpu");
+        private static final PveOperation GET_NODES_NODE_CAPABILITIES_QEMU_MACHINES = new PveOperation(MethodType.GET, "/nodes/{node}/capabilities/qemu/machines");
+        private static final PveOperation GET_NODES_NODE_CEPH = new PveOperation(MethodType.GET, "/nodes/{node}/ceph");
+        private static final PveOperation GET_NODES_NODE_CEPH_CFG = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/cfg");
+        private static final PveOperation GET_NODES_NODE_CEPH_CFG_DB = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/cfg/db");
+        private static final PveOperation GET_NODES_NODE_CEPH_CFG_RAW = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/cfg/raw");
+        private static final PveOperation GET_NODES_NODE_CEPH_CMD_SAFETY = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/cmd-safety", "action", "id", "service");
+        private static final PveOperation GET_NODES_NODE_CEPH_CRUSH = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/crush");
+        private static final PveOperation GET_NODES_NODE_CEPH_FS = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/fs");
+        private static final PveOperation CREATE_NODES_NODE_CEPH_FS_NAME = new PveOperation(MethodType.CREATE, "/nodes/{node}/ceph/fs/{name}", "add-storage", "pg_num");
+        private static final PveOperation CREATE_NODES_NODE_CEPH_INIT = new PveOperation(MethodType.CREATE, "/nodes/{node}/ceph/init", "cluster-network", "disable_cephx", "min_size", "network", "pg_bits", "size");
+        private static final PveOperation GET_NODES_NODE_CEPH_LOG = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/log", "limit", "start");
+        private static final PveOperation GET_NODES_NODE_CEPH_MDS = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/mds");
+        private static final PveOperation CREATE_NODES_NODE_CEPH_MDS_NAME = new PveOperation(MethodType.CREATE, "/nodes/{node}/ceph/mds/{name}", "hotstandby");
+        private static final PveOperation DELETE_NODES_NODE_CEPH_MDS_NAME = new PveOperation(MethodType.DELETE, "/nodes/{node}/ceph/mds/{name}");
+        private static final PveOperation GET_NODES_NODE_CEPH_MGR = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/mgr");
+        private static final PveOperation CREATE_NODES_NODE_CEPH_MGR_ID = new PveOperation(MethodType.CREATE, "/nodes/{node}/ceph/mgr/{id}");
+        private static final PveOperation DELETE_NODES_NODE_CEPH_MGR_ID = new PveOperation(MethodType.DELETE, "/nodes/{node}/ceph/mgr/{id}");
+        private static final PveOperation GET_NODES_NODE_CEPH_MON = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/mon");
+        private static final PveOperation CREATE_NODES_NODE_CEPH_MON_MONID = new PveOperation(MethodType.CREATE, "/nodes/{node}/ceph/mon/{monid}", "mon-address");
+        private static final PveOperation DELETE_NODES_NODE_CEPH_MON_MONID = new PveOperation(MethodType.DELETE, "/nodes/{node}/ceph/mon/{monid}");
+        private static final PveOperation CREATE_NODES_NODE_CEPH_OSD = new PveOperation(MethodType.CREATE, "/nodes/{node}/ceph/osd", "dev", "crush-device-class", "db_dev", "db_dev_size", "encrypted", "wal_dev", "wal_dev_size");
+        private static final PveOperation GET_NODES_NODE_CEPH_OSD = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/osd");
+        private static final PveOperation DELETE_NODES_NODE_CEPH_OSD_OSDID = new PveOperation(MethodType.DELETE, "/nodes/{node}/ceph/osd/{osdid}", "cleanup");
+        private static final PveOperation GET_NODES_NODE_CEPH_OSD_OSDID = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/osd/{osdid}");
+        private static final PveOperation CREATE_NODES_NODE_CEPH_OSD_OSDID_IN = new PveOperation(MethodType.CREATE, "/nodes/{node}/ceph/osd/{osdid}/in");
+        private static final PveOperation GET_NODES_NODE_CEPH_OSD_OSDID_LV_INFO = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/osd/{osdid}/lv-info", "type");
+        private static final PveOperation GET_NODES_NODE_CEPH_OSD_OSDID_METADATA = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/osd/{osdid}/metadata");
+        private static final PveOperation CREATE_NODES_NODE_CEPH_OSD_OSDID_OUT = new PveOperation(MethodType.CREATE, "/nodes/{node}/ceph/osd/{osdid}/out");
+        private static final PveOperation CREATE_NODES_NODE_CEPH_OSD_OSDID_SCRUB = new PveOperation(MethodType.CREATE, "/nodes/{node}/ceph/osd/{osdid}/scrub", "deep");
+        private static final PveOperation CREATE_NODES_NODE_CEPH_POOL = new PveOperation(MethodType.CREATE, "/nodes/{node}/ceph/pool", "name", "add_storages", "application", "crush_rule", "erasure-coding", "min_size", "pg_autoscale_mode", "pg_num", "pg_num_min", "size", "target_size", "target_size_ratio");
+        private static final PveOperation GET_NODES_NODE_CEPH_POOL = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/pool");
+        private static final PveOperation DELETE_NODES_NODE_CEPH_POOL_NAME = new PveOperation(MethodType.DELETE, "/nodes/{node}/ceph/pool/{name}", "force", "remove_ecprofile", "remove_storages");
+        private static final PveOperation GET_NODES_NODE_CEPH_POOL_NAME = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/pool/{name}");
+        private static final PveOperation SET_NODES_NODE_CEPH_POOL_NAME = new PveOperation(MethodType.SET, "/nodes/{node}/ceph/pool/{name}", "application", "crush_rule", "min_size", "pg_autoscale_mode", "pg_num", "pg_num_min", "size", "target_size", "target_size_ratio");
+        private static final PveOperation GET_NODES_NODE_CEPH_POOL_NAME_STATUS = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/pool/{name}/status", "verbose");
+        private static final PveOperation CREATE_NODES_NODE_CEPH_RESTART = new PveOperation(MethodType.CREATE, "/nodes/{node}/ceph/restart", "service");
+        private static final PveOperation GET_NODES_NODE_CEPH_RULES = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/rules");
+        private static final PveOperation CREATE_NODES_NODE_CEPH_START = new PveOperation(MethodType.CREATE, "/nodes/{node}/ceph/start", "service");
+        private static final PveOperation GET_NODES_NODE_CEPH_STATUS = new PveOperation(MethodType.GET, "/nodes/{node}/ceph/status");
+        private static final PveOperation CREATE_NODES_NODE_CEPH_STOP = new PveOperation(MethodType.CREATE, "/nodes/{node}/ceph/stop", "service");
+        private static final PveOperation GET_NODES_NODE_CERTIFICATES = new PveOperation(MethodType.GET, "/nodes/{node}/certificates");
+        private static final PveOperation GET_NODES_NODE_CERTIFICATES_ACME = new PveOperation(MethodType.GET, "/nodes/{node}/certificates/acme");
+        private static final PveOperation CREATE_NODES_NODE_CERTIFICATES_ACME_CERTIFICATE = new PveOperation(MethodType.CREATE, "/nodes/{node}/certificates/acme/certificate", "force");
+        private static final PveOperation DELETE_NODES_NODE_CERTIFICATES_ACME_CERTIFICATE = new PveOperation(MethodType.DELETE, "/nodes/{node}/certificates/acme/certificate");
+        private static final PveOperation SET_NODES_NODE_CERTIFICATES_ACME_CERTIFICATE = new PveOperation(MethodType.SET, "/nodes/{node}/certificates/acme/certificate", "force");
+        private static final PveOperation CREATE_NODES_NODE_CERTIFICATES_CUSTOM = new PveOperation(MethodType.CREATE, "/nodes/{node}/certificates/custom", "certificates", "force", "key", "restart");
+        private static final PveOperation DELETE_NODES_NODE_CERTIFICATES_CUSTOM = new PveOperation(MethodType.DELETE, "/nodes/{node}/certificates/custom", "restart");
+        private static final PveOperation GET_NODES_NODE_CERTIFICATES_INFO = new PveOperation(MethodType.GET, "/nodes/{node}/certificates/info");
+        private static final PveOperation GET_NODES_NODE_CONFIG = new PveOperation(MethodType.GET, "/nodes/{node}/config", "property");
+        private static final PveOperation SET_NODES_NODE_CONFIG = new PveOperation(MethodType.SET, "/nodes/{node}/config", "acme", "delete", "description", "digest", "startall-onboot-delay", "wakeonlan");
+        private static final PveOperation GET_NODES_NODE_DISKS = new PveOperation(MethodType.GET, "/nodes/{node}/disks");
+        private static final PveOperation CREATE_NODES_NODE_DISKS_DIRECTORY = new PveOperation(MethodType.CREATE, "/nodes/{node}/disks/directory", "device", "name", "add_storage", "filesystem");
+        private static final PveOperation GET_NODES_NODE_DISKS_DIRECTORY = new PveOperation(MethodType.GET, "/nodes/{node}/disks/directory");
+        private static final PveOperation DELETE_NODES_NODE_DISKS_DIRECTORY_NAME = new PveOperation(MethodType.DELETE, "/nodes/{node}/disks/directory/{name}", "cleanup-config", "cleanup-disks");
+        private static final PveOperation CREATE_NODES_NODE_DISKS_INITGPT = new PveOperation(MethodType.CREATE, "/nodes/{node}/disks/initgpt", "disk", "uuid");
+        private static final PveOperation GET_NODES_NODE_DISKS_LIST = new PveOperation(MethodType.GET, "/nodes/{node}/disks/list", "include-partitions", "skipsmart", "type");
+        private static final PveOperation CREATE_NODES_NODE_DISKS_LVM = new PveOperation(MethodType.CREATE, "/nodes/{node}/disks/lvm", "device", "name", "add_storage");
+        private static final PveOperation GET_NODES_NODE_DISKS_LVM = new PveOperation(MethodType.GET, "/nodes/{node}/disks/lvm");
+        private static final PveOperation DELETE_NODES_NODE_DISKS_LVM_NAME = new PveOperation(MethodType.DELETE, "/nodes/{node}/disks/lvm/{name}", "cleanup-config", "cleanup-disks");
+        private static final PveOperation CREATE_NODES_NODE_DISKS_LVMTHIN = new PveOperation(MethodType.CREATE, "/nodes/{node}/disks/lvmthin", "device", "name", "add_storage");
+        private static final PveOperation GET_NODES_NODE_DISKS_LVMTHIN = new PveOperation(MethodType.GET, "/nodes/{node}/disks/lvmthin");
+        private static final PveOperation DELETE_NODES_NODE_DISKS_LVMTHIN_NAME = new PveOperation(MethodType.DELETE, "/nodes/{node}/disks/lvmthin/{name}", "volume-group", "cleanup-config", "cleanup-disks");
+        private static final PveOperation GET_NODES_NODE_DISKS_SMART = new PveOperation(MethodType.GET, "/nodes/{node}/disks/smart", "disk", "healthonly");
+        private static final PveOperation SET_NODES_NODE_DISKS_WIPEDISK = new PveOperation(MethodType.SET, "/nodes/{node}/disks/wipedisk", "disk");
+        private static final PveOperation CREATE_NODES_NODE_DISKS_ZFS = new PveOperation(MethodType.CREATE, "/nodes/{node}/disks/zfs", "devices", "name", "raidlevel", "add_storage", "ashift", "compression", "draid-config");
+        private static final PveOperation GET_NODES_NODE_DISKS_ZFS = new PveOperation(MethodType.GET, "/nodes/{node}/disks/zfs");
+        private static final PveOperation DELETE_NODES_NODE_DISKS_ZFS_NAME = new PveOperation(MethodType.DELETE, "/nodes/{node}/disks/zfs/{name}", "cleanup-config", "cleanup-disks");
+        private static final PveOperation GET_NODES_NODE_DISKS_ZFS_NAME = new PveOperation(MethodType.GET, "/nodes/{node}/disks/zfs/{name}");
+        private static final PveOperation GET_NODES_NODE_DNS = new PveOperation(MethodType.GET, "/nodes/{node}/dns");
+        private static final PveOperation SET_NODES_NODE_DNS = new PveOperation(MethodType.SET, "/nodes/{node}/dns", "search", "dns1", "dns2", "dns3");
+        private static final PveOperation CREATE_NODES_NODE_EXECUTE = new PveOperation(MethodType.CREATE, "/nodes/{node}/execute", "commands");
+        private static final PveOperation GET_NODES_NODE_FIREWALL = new PveOperation(MethodType.GET, "/nodes/{node}/firewall");
+        private static final PveOperation GET_NODES_NODE_FIREWALL_LOG = new PveOperation(MethodType.GET, "/nodes/{node}/firewall/log", "limit", "since", "start", "until");
+        private static final PveOperation GET_NODES_NODE_FIREWALL_OPTIONS = new PveOperation(MethodType.GET, "/nodes/{node}/firewall/options");
+        private static final PveOperation SET_NODES_NODE_FIREWALL_OPTIONS = new PveOperation(MethodType.SET, "/nodes/{node}/firewall/options", "delete", "digest", "enable", "log_level_in", "log_level_out", "log_nf_conntrack", "ndp", "nf_conntrack_allow_invalid", "nf_conntrack_helpers", "nf_conntrack_max", "nf_conntrack_tcp_timeout_established", "nf_conntrack_tcp_timeout_syn_recv", "nosmurfs", "protection_synflood", "protection_synflood_burst", "protection_synflood_rate", "smurf_log_level", "tcp_flags_log_level", "tcpflags");
+        private static final PveOperation CREATE_NODES_NODE_FIREWALL_RULES = new PveOperation(MethodType.CREATE, "/nodes/{node}/firewall/rules", "action", "type", "comment", "dest", "digest", "dport", "enable", "icmp-type", "iface", "log", "macro", "pos", "proto", "source", "sport");
+        private static final PveOperation GET_NODES_NODE_FIREWALL_RULES = new PveOperation(MethodType.GET, "/nodes/{node}/firewall/rules");
+        private static final PveOperation DELETE_NODES_NODE_FIREWALL_RULES_POS = new PveOperation(MethodType.DELETE, "/nodes/{node}/firewall/rules/{pos}", "digest");
+        private static final PveOperation GET_NODES_NODE_FIREWALL_RULES_POS = new PveOperation(MethodType.GET, "/nodes/{node}/firewall/rules/{pos}");
+        private static final PveOperation SET_NODES_NODE_FIREWALL_RULES_POS = new PveOperation(MethodType.SET, "/nodes/{node}/firewall/rules/{pos}", "action", "comment", "delete", "dest", "digest", "dport", "enable", "icmp-type", "iface", "log", "macro", "moveto", "proto", "source", "sport", "type");
+        private static final PveOperation GET_NODES_NODE_HARDWARE = new PveOperation(MethodType.GET, "/nodes/{node}/hardware");
+        private static final PveOperation GET_NODES_NODE_HARDWARE_PCI = new PveOperation(MethodType.GET, "/nodes/{node}/hardware/pci", "pci-class-blacklist", "verbose");
+        private static final PveOperation GET_NODES_NODE_HARDWARE_PCI_PCIID = new PveOperation(MethodType.GET, "/nodes/{node}/hardware/pci/{pciid}");
+        private static final PveOperation GET_NODES_NODE_HARDWARE_PCI_PCIID_MDEV = new PveOperation(MethodType.GET, "/nodes/{node}/hardware/pci/{pciid}/mdev");
+        private static final PveOperation GET_NODES_NODE_HARDWARE_USB = new PveOperation(MethodType.GET, "/nodes/{node}/hardware/usb");
+        private static final PveOperation CREATE_NODES_NODE_HOSTS = new PveOperation(MethodType.CREATE, "/nodes/{node}/hosts", "data", "digest");
+        private static final PveOperation GET_NODES_NODE_HOSTS = new PveOperation(MethodType.GET, "/nodes/{node}/hosts");
+        private static final PveOperation GET_NODES_NODE_JOURNAL = new PveOperation(MethodType.GET, "/nodes/{node}/journal", "endcursor", "lastentries", "since", "startcursor", "until");
+        private static final PveOperation CREATE_NODES_NODE_LXC = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc", "ostemplate", "vmid", "arch", "bwlimit", "cmode", "console", "cores", "cpulimit", "cpuunits", "debug", "description", "features", "force", "hookscript", "hostname", "ignore-unpack-errors", "lock", "memory", "nameserver", "onboot", "ostype", "password", "pool", "protection", "restore", "rootfs", "searchdomain", "ssh-public-keys", "start", "startup", "storage", "swap", "tags", "template", "timezone", "tty", "unique", "unprivileged");
+        private static final PveOperation GET_NODES_NODE_LXC = new PveOperation(MethodType.GET, "/nodes/{node}/lxc");
+        private static final PveOperation DELETE_NODES_NODE_LXC_VMID = new PveOperation(MethodType.DELETE, "/nodes/{node}/lxc/{vmid}", "destroy-unreferenced-disks", "force", "purge");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_CLONE = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/clone", "newid", "bwlimit", "description", "full", "hostname", "pool", "snapname", "storage", "target");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_CONFIG = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/config", "current", "snapshot");
+        private static final PveOperation SET_NODES_NODE_LXC_VMID_CONFIG = new PveOperation(MethodType.SET, "/nodes/{node}/lxc/{vmid}/config", "arch", "cmode", "console", "cores", "cpulimit", "cpuunits", "debug", "delete", "description", "digest", "features", "hookscript", "hostname", "lock", "memory", "nameserver", "onboot", "ostype", "protection", "revert", "rootfs", "searchdomain", "startup", "swap", "tags", "template", "timezone", "tty", "unprivileged");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_FEATURE = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/feature", "feature", "snapname");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_FIREWALL = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/firewall");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_FIREWALL_ALIASES = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/firewall/aliases", "cidr", "name", "comment");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_FIREWALL_ALIASES = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/firewall/aliases");
+        private static final PveOperation DELETE_NODES_NODE_LXC_VMID_FIREWALL_ALIASES_NAME = new PveOperation(MethodType.DELETE, "/nodes/{node}/lxc/{vmid}/firewall/aliases/{name}", "digest");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_FIREWALL_ALIASES_NAME = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/firewall/aliases/{name}");
+        private static final PveOperation SET_NODES_NODE_LXC_VMID_FIREWALL_ALIASES_NAME = new PveOperation(MethodType.SET, "/nodes/{node}/lxc/{vmid}/firewall/aliases/{name}", "cidr", "comment", "digest", "rename");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_FIREWALL_IPSET = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/firewall/ipset", "name", "comment", "digest", "rename");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_FIREWALL_IPSET = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/firewall/ipset");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/firewall/ipset/{name}", "cidr", "comment", "nomatch");
+        private static final PveOperation DELETE_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME = new PveOperation(MethodType.DELETE, "/nodes/{node}/lxc/{vmid}/firewall/ipset/{name}", "force");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/firewall/ipset/{name}");
+        private static final PveOperation DELETE_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME_CIDR = new PveOperation(MethodType.DELETE, "/nodes/{node}/lxc/{vmid}/firewall/ipset/{name}/{cidr}", "digest");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME_CIDR = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/firewall/ipset/{name}/{cidr}");
+        private static final PveOperation SET_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME_CIDR = new PveOperation(MethodType.SET, "/nodes/{node}/lxc/{vmid}/firewall/ipset/{name}/{cidr}", "comment", "digest", "nomatch");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_FIREWALL_LOG = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/firewall/log", "limit", "since", "start", "until");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_FIREWALL_OPTIONS = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/firewall/options");
+        private static final PveOperation SET_NODES_NODE_LXC_VMID_FIREWALL_OPTIONS = new PveOperation(MethodType.SET, "/nodes/{node}/lxc/{vmid}/firewall/options", "delete", "dhcp", "digest", "enable", "ipfilter", "log_level_in", "log_level_out", "macfilter", "ndp", "policy_in", "policy_out", "radv");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_FIREWALL_REFS = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/firewall/refs", "type");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_FIREWALL_RULES = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/firewall/rules", "action", "type", "comment", "dest", "digest", "dport", "enable", "icmp-type", "iface", "log", "macro", "pos", "proto", "source", "sport");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_FIREWALL_RULES = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/firewall/rules");
+        private static final PveOperation DELETE_NODES_NODE_LXC_VMID_FIREWALL_RULES_POS = new PveOperation(MethodType.DELETE, "/nodes/{node}/lxc/{vmid}/firewall/rules/{pos}", "digest");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_FIREWALL_RULES_POS = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/firewall/rules/{pos}");
+        private static final PveOperation SET_NODES_NODE_LXC_VMID_FIREWALL_RULES_POS = new PveOperation(MethodType.SET, "/nodes/{node}/lxc/{vmid}/firewall/rules/{pos}", "action", "comment", "delete", "dest", "digest", "dport", "enable", "icmp-type", "iface", "log", "macro", "moveto", "proto", "source", "sport", "type");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_MIGRATE = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/migrate", "target", "bwlimit", "online", "restart", "target-storage", "timeout");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_MOVE_VOLUME = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/move_volume", "volume", "bwlimit", "delete", "digest", "storage", "target-digest", "target-vmid", "target-volume");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_MTUNNEL = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/mtunnel", "bridges", "storages");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_MTUNNELWEBSOCKET = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/mtunnelwebsocket", "socket", "ticket");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_PENDING = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/pending");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_REMOTE_MIGRATE = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/remote_migrate", "target-bridge", "target-endpoint", "target-storage", "bwlimit", "delete", "online", "restart", "target-vmid", "timeout");
+        private static final PveOperation SET_NODES_NODE_LXC_VMID_RESIZE = new PveOperation(MethodType.SET, "/nodes/{node}/lxc/{vmid}/resize", "disk", "size", "digest");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_RRD = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/rrd", "ds", "timeframe", "cf");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_RRDDATA = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/rrddata", "timeframe", "cf");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_SNAPSHOT = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/snapshot", "snapname", "description");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_SNAPSHOT = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/snapshot");
+        private static final PveOperation DELETE_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME = new PveOperation(MethodType.DELETE, "/nodes/{node}/lxc/{vmid}/snapshot/{snapname}", "force");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/snapshot/{snapname}");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME_CONFIG = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/snapshot/{snapname}/config");
+        private static final PveOperation SET_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME_CONFIG = new PveOperation(MethodType.SET, "/nodes/{node}/lxc/{vmid}/snapshot/{snapname}/config", "description");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME_ROLLBACK = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/snapshot/{snapname}/rollback", "start");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_SPICEPROXY = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/spiceproxy", "proxy");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_STATUS = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/status");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_STATUS_CURRENT = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/status/current");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_STATUS_REBOOT = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/status/reboot", "timeout");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_STATUS_RESUME = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/status/resume");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_STATUS_SHUTDOWN = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/status/shutdown", "forceStop", "timeout");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_STATUS_START = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/status/start", "debug", "skiplock");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_STATUS_STOP = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/status/stop", "skiplock");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_STATUS_SUSPEND = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/status/suspend");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_TEMPLATE = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/template");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_TERMPROXY = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/termproxy");
+        private static final PveOperation CREATE_NODES_NODE_LXC_VMID_VNCPROXY = new PveOperation(MethodType.CREATE, "/nodes/{node}/lxc/{vmid}/vncproxy", "height", "websocket", "width");
+        private static final PveOperation GET_NODES_NODE_LXC_VMID_VNCWEBSOCKET = new PveOperation(MethodType.GET, "/nodes/{node}/lxc/{vmid}/vncwebsocket", "port", "vncticket");
+        private static final PveOperation CREATE_NODES_NODE_MIGRATEALL = new PveOperation(MethodType.CREATE, "/nodes/{node}/migrateall", "target", "maxworkers", "vms", "with-local-disks");
+        private static final PveOperation GET_NODES_NODE_NETSTAT = new PveOperation(MethodType.GET, "/nodes/{node}/netstat");
+        private static final PveOperation CREATE_NODES_NODE_NETWORK = new PveOperation(MethodType.CREATE, "/nodes/{node}/network", "iface", "type", "address", "address6", "autostart", "bond-primary", "bond_mode", "bond_xmit_hash_policy", "bridge_ports", "bridge_vlan_aware", "cidr", "cidr6", "comments", "comments6", "gateway", "gateway6", "mtu", "netmask", "netmask6", "ovs_bonds", "ovs_bridge", "ovs_options", "ovs_ports", "ovs_tag", "slaves", "vlan-id", "vlan-raw-device");
+        private static final PveOperation DELETE_NODES_NODE_NETWORK = new PveOperation(MethodType.DELETE, "/nodes/{node}/network");
+        private static final PveOperation GET_NODES_NODE_NETWORK = new PveOperation(MethodType.GET, "/nodes/{node}/network", "type");
+        private static final PveOperation SET_NODES_NODE_NETWORK = new PveOperation(MethodType.SET, "/nodes/{node}/network");
+        private static final PveOperation DELETE_NODES_NODE_NETWORK_IFACE = new PveOperation(MethodType.DELETE, "/nodes/{node}/network/{iface}");
+        private static final PveOperation GET_NODES_NODE_NETWORK_IFACE = new PveOperation(MethodType.GET, "/nodes/{node}/network/{iface}");
+        private static final PveOperation SET_NODES_NODE_NETWORK_IFACE = new PveOperation(MethodType.SET, "/nodes/{node}/network/{iface}", "type", "address", "address6", "autostart", "bond-primary", "bond_mode", "bond_xmit_hash_policy", "bridge_ports", "bridge_vlan_aware", "cidr", "cidr6", "comments", "comments6", "delete", "gateway", "gateway6", "mtu", "netmask", "netmask6", "ovs_bonds", "ovs_bridge", "ovs_options", "ovs_ports", "ovs_tag", "slaves", "vlan-id", "vlan-raw-device");
+        private static final PveOperation CREATE_NODES_NODE_QEMU = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu", "vmid", "acpi", "affinity", "agent", "arch", "archive", "args", "audio0", "autostart", "balloon", "bios", "boot", "bootdisk", "bwlimit", "cdrom", "cicustom", "cipassword", "citype", "ciupgrade", "ciuser", "cores", "cpu", "cpulimit", "cpuunits", "description", "efidisk0", "force", "freeze", "hookscript", "hotplug", "hugepages", "ivshmem", "keephugepages", "keyboard", "kvm", "live-restore", "localtime", "lock", "machine", "memory", "migrate_downtime", "migrate_speed", "name", "nameserver", "numa", "onboot", "ostype", "pool", "protection", "reboot", "rng0", "scsihw", "searchdomain", "shares", "smbios1", "smp", "sockets", "spice_enhancements", "sshkeys", "start", "startdate", "startup", "storage", "tablet", "tags", "tdf", "template", "tpmstate0", "unique", "vcpus", "vga", "vmgenid", "vmstatestorage", "watchdog");
+        private static final PveOperation GET_NODES_NODE_QEMU = new PveOperation(MethodType.GET, "/nodes/{node}/qemu", "full");
+        private static final PveOperation DELETE_NODES_NODE_QEMU_VMID = new PveOperation(MethodType.DELETE, "/nodes/{node}/qemu/{vmid}", "destroy-unreferenced-disks", "purge", "skiplock");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_AGENT = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/agent", "command");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_AGENT = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/agent");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_AGENT_EXEC = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/agent/exec", "command", "input-data");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_AGENT_EXEC_STATUS = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/agent/exec-status", "pid");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_AGENT_FILE_READ = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/agent/file-read", "file");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_AGENT_FILE_WRITE = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/agent/file-write", "content", "file", "encode");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_AGENT_FSFREEZE_FREEZE = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/agent/fsfreeze-freeze");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_AGENT_FSFREEZE_STATUS = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/agent/fsfreeze-status");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_AGENT_FSFREEZE_THAW = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/agent/fsfreeze-thaw");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_AGENT_FSTRIM = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/agent/fstrim");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_AGENT_GET_FSINFO = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/agent/get-fsinfo");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_AGENT_GET_HOST_NAME = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/agent/get-host-name");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_AGENT_GET_MEMORY_BLOCK_INFO = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/agent/get-memory-block-info");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_AGENT_GET_MEMORY_BLOCKS = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/agent/get-memory-blocks");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_AGENT_GET_OSINFO = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/agent/get-osinfo");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_AGENT_GET_TIME = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/agent/get-time");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_AGENT_GET_TIMEZONE = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/agent/get-timezone");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_AGENT_GET_USERS = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/agent/get-users");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_AGENT_GET_VCPUS = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/agent/get-vcpus");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_AGENT_INFO = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/agent/info");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_AGENT_NETWORK_GET_INTERFACES = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/agent/network-get-interfaces");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_AGENT_PING = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/agent/ping");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_AGENT_SET_USER_PASSWORD = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/agent/set-user-password", "password", "username", "crypted");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_AGENT_SHUTDOWN = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/agent/shutdown");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_AGENT_SUSPEND_DISK = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/agent/suspend-disk");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_AGENT_SUSPEND_HYBRID = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/agent/suspend-hybrid");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_AGENT_SUSPEND_RAM = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/agent/suspend-ram");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_CLONE = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/clone", "newid", "bwlimit", "description", "format", "full", "name", "pool", "snapname", "storage", "target");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_CLOUDINIT = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/cloudinit");
+        private static final PveOperation SET_NODES_NODE_QEMU_VMID_CLOUDINIT = new PveOperation(MethodType.SET, "/nodes/{node}/qemu/{vmid}/cloudinit");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_CLOUDINIT_DUMP = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/cloudinit/dump", "type");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_CONFIG = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/config", "acpi", "affinity", "agent", "arch", "args", "audio0", "autostart", "background_delay", "balloon", "bios", "boot", "bootdisk", "cdrom", "cicustom", "cipassword", "citype", "ciupgrade", "ciuser", "cores", "cpu", "cpulimit", "cpuunits", "delete", "description", "digest", "efidisk0", "force", "freeze", "hookscript", "hotplug", "hugepages", "ivshmem", "keephugepages", "keyboard", "kvm", "localtime", "lock", "machine", "memory", "migrate_downtime", "migrate_speed", "name", "nameserver", "numa", "onboot", "ostype", "protection", "reboot", "revert", "rng0", "scsihw", "searchdomain", "shares", "skiplock", "smbios1", "smp", "sockets", "spice_enhancements", "sshkeys", "startdate", "startup", "tablet", "tags", "tdf", "template", "tpmstate0", "vcpus", "vga", "vmgenid", "vmstatestorage", "watchdog");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_CONFIG = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/config", "current", "snapshot");
+        private static final PveOperation SET_NODES_NODE_QEMU_VMID_CONFIG = new PveOperation(MethodType.SET, "/nodes/{node}/qemu/{vmid}/config", "acpi", "affinity", "agent", "arch", "args", "audio0", "autostart", "balloon", "bios", "boot", "bootdisk", "cdrom", "cicustom", "cipassword", "citype", "ciupgrade", "ciuser", "cores", "cpu", "cpulimit", "cpuunits", "delete", "description", "digest", "efidisk0", "force", "freeze", "hookscript", "hotplug", "hugepages", "ivshmem", "keephugepages", "keyboard", "kvm", "localtime", "lock", "machine", "memory", "migrate_downtime", "migrate_speed", "name", "nameserver", "numa", "onboot", "ostype", "protection", "reboot", "revert", "rng0", "scsihw", "searchdomain", "shares", "skiplock", "smbios1", "smp", "sockets", "spice_enhancements", "sshkeys", "startdate", "startup", "tablet", "tags", "tdf", "template", "tpmstate0", "vcpus", "vga", "vmgenid", "vmstatestorage", "watchdog");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_FEATURE = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/feature", "feature", "snapname");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_FIREWALL = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/firewall");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/firewall/aliases", "cidr", "name", "comment");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/firewall/aliases");
+        private static final PveOperation DELETE_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES_NAME = new PveOperation(MethodType.DELETE, "/nodes/{node}/qemu/{vmid}/firewall/aliases/{name}", "digest");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES_NAME = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/firewall/aliases/{name}");
+        private static final PveOperation SET_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES_NAME = new PveOperation(MethodType.SET, "/nodes/{node}/qemu/{vmid}/firewall/aliases/{name}", "cidr", "comment", "digest", "rename");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/firewall/ipset", "name", "comment", "digest", "rename");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_FIREWALL_IPSET = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/firewall/ipset");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/firewall/ipset/{name}", "cidr", "comment", "nomatch");
+        private static final PveOperation DELETE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME = new PveOperation(MethodType.DELETE, "/nodes/{node}/qemu/{vmid}/firewall/ipset/{name}", "force");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/firewall/ipset/{name}");
+        private static final PveOperation DELETE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME_CIDR = new PveOperation(MethodType.DELETE, "/nodes/{node}/qemu/{vmid}/firewall/ipset/{name}/{cidr}", "digest");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME_CIDR = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/firewall/ipset/{name}/{cidr}");
+        private static final PveOperation SET_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME_CIDR = new PveOperation(MethodType.SET, "/nodes/{node}/qemu/{vmid}/firewall/ipset/{name}/{cidr}", "comment", "digest", "nomatch");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_FIREWALL_LOG = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/firewall/log", "limit", "since", "start", "until");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_FIREWALL_OPTIONS = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/firewall/options");
+        private static final PveOperation SET_NODES_NODE_QEMU_VMID_FIREWALL_OPTIONS = new PveOperation(MethodType.SET, "/nodes/{node}/qemu/{vmid}/firewall/options", "delete", "dhcp", "digest", "enable", "ipfilter", "log_level_in", "log_level_out", "macfilter", "ndp", "policy_in", "policy_out", "radv");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_FIREWALL_REFS = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/firewall/refs", "type");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_FIREWALL_RULES = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/firewall/rules", "action", "type", "comment", "dest", "digest", "dport", "enable", "icmp-type", "iface", "log", "macro", "pos", "proto", "source", "sport");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_FIREWALL_RULES = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/firewall/rules");
+        private static final PveOperation DELETE_NODES_NODE_QEMU_VMID_FIREWALL_RULES_POS = new PveOperation(MethodType.DELETE, "/nodes/{node}/qemu/{vmid}/firewall/rules/{pos}", "digest");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_FIREWALL_RULES_POS = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/firewall/rules/{pos}");
+        private static final PveOperation SET_NODES_NODE_QEMU_VMID_FIREWALL_RULES_POS = new PveOperation(MethodType.SET, "/nodes/{node}/qemu/{vmid}/firewall/rules/{pos}", "action", "comment", "delete", "dest", "digest", "dport", "enable", "icmp-type", "iface", "log", "macro", "moveto", "proto", "source", "sport", "type");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_MIGRATE = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/migrate", "target", "bwlimit", "force", "migration_network", "migration_type", "online", "targetstorage", "with-local-disks");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_MIGRATE = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/migrate", "target");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_MONITOR = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/monitor", "command");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_MOVE_DISK = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/move_disk", "disk", "bwlimit", "delete", "digest", "format", "storage", "target-digest", "target-disk", "target-vmid");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_MTUNNEL = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/mtunnel", "bridges", "storages");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_MTUNNELWEBSOCKET = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/mtunnelwebsocket", "socket", "ticket");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_PENDING = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/pending");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_REMOTE_MIGRATE = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/remote_migrate", "target-bridge", "target-endpoint", "target-storage", "bwlimit", "delete", "online", "target-vmid");
+        private static final PveOperation SET_NODES_NODE_QEMU_VMID_RESIZE = new PveOperation(MethodType.SET, "/nodes/{node}/qemu/{vmid}/resize", "disk", "size", "digest", "skiplock");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_RRD = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/rrd", "ds", "timeframe", "cf");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_RRDDATA = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/rrddata", "timeframe", "cf");
+        private static final PveOperation SET_NODES_NODE_QEMU_VMID_SENDKEY = new PveOperation(MethodType.SET, "/nodes/{node}/qemu/{vmid}/sendkey", "key", "skiplock");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_SNAPSHOT = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/snapshot", "snapname", "description", "vmstate");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_SNAPSHOT = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/snapshot");
+        private static final PveOperation DELETE_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME = new PveOperation(MethodType.DELETE, "/nodes/{node}/qemu/{vmid}/snapshot/{snapname}", "force");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/snapshot/{snapname}");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME_CONFIG = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/snapshot/{snapname}/config");
+        private static final PveOperation SET_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME_CONFIG = new PveOperation(MethodType.SET, "/nodes/{node}/qemu/{vmid}/snapshot/{snapname}/config", "description");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME_ROLLBACK = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/snapshot/{snapname}/rollback", "start");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_SPICEPROXY = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/spiceproxy", "proxy");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_STATUS = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/status");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_STATUS_CURRENT = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/status/current");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_STATUS_REBOOT = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/status/reboot", "timeout");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_STATUS_RESET = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/status/reset", "skiplock");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_STATUS_RESUME = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/status/resume", "nocheck", "skiplock");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_STATUS_SHUTDOWN = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/status/shutdown", "forceStop", "keepActive", "skiplock", "timeout");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_STATUS_START = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/status/start", "force-cpu", "machine", "migratedfrom", "migration_network", "migration_type", "skiplock", "stateuri", "targetstorage", "timeout");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_STATUS_STOP = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/status/stop", "keepActive", "migratedfrom", "skiplock", "timeout");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_STATUS_SUSPEND = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/status/suspend", "skiplock", "statestorage", "todisk");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_TEMPLATE = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/template", "disk");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_TERMPROXY = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/termproxy", "serial");
+        private static final PveOperation SET_NODES_NODE_QEMU_VMID_UNLINK = new PveOperation(MethodType.SET, "/nodes/{node}/qemu/{vmid}/unlink", "idlist", "force");
+        private static final PveOperation CREATE_NODES_NODE_QEMU_VMID_VNCPROXY = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/vncproxy", "generate-password", "websocket");
+        private static final PveOperation GET_NODES_NODE_QEMU_VMID_VNCWEBSOCKET = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/vncwebsocket", "port", "vncticket");
+        private static final PveOperation GET_NODES_NODE_QUERY_URL_METADATA = new PveOperation(MethodType.GET, "/nodes/{node}/query-url-metadata", "url", "verify-certificates");
+        private static final PveOperation GET_NODES_NODE_REPLICATION = new PveOperation(MethodType.GET, "/nodes/{node}/replication", "guest");
+        private static final PveOperation GET_NODES_NODE_REPLICATION_ID = new PveOperation(MethodType.GET, "/nodes/{node}/replication/{id}");
+        private static final PveOperation GET_NODES_NODE_REPLICATION_ID_LOG = new PveOperation(MethodType.GET, "/nodes/{node}/replication/{id}/log", "limit", "start");
+        private static final PveOperation CREATE_NODES_NODE_REPLICATION_ID_SCHEDULE_NOW = new PveOperation(MethodType.CREATE, "/nodes/{node}/replication/{id}/schedule_now");
+        private static final PveOperation GET_NODES_NODE_REPLICATION_ID_STATUS = new PveOperation(MethodType.GET, "/nodes/{node}/replication/{id}/status");
+        private static final PveOperation GET_NODES_NODE_REPORT = new PveOperation(MethodType.GET, "/nodes/{node}/report");
+        private static final PveOperation GET_NODES_NODE_RRD = new PveOperation(MethodType.GET, "/nodes/{node}/rrd", "ds", "timeframe", "cf");
+        private static final PveOperation GET_NODES_NODE_RRDDATA = new PveOperation(MethodType.GET, "/nodes/{node}/rrddata", "timeframe", "cf");
+        private static final PveOperation GET_NODES_NODE_SCAN = new PveOperation(MethodType.GET, "/nodes/{node}/scan");
+        private static final PveOperation GET_NODES_NODE_SCAN_CIFS = new PveOperation(MethodType.GET, "/nodes/{node}/scan/cifs", "server", "domain", "password", "username");
+        private static final PveOperation GET_NODES_NODE_SCAN_GLUSTERFS = new PveOperation(MethodType.GET, "/nodes/{node}/scan/glusterfs", "server");
+        private static final PveOperation GET_NODES_NODE_SCAN_ISCSI = new PveOperation(MethodType.GET, "/nodes/{node}/scan/iscsi", "portal");
+        private static final PveOperation GET_NODES_NODE_SCAN_LVM = new PveOperation(MethodType.GET, "/nodes/{node}/scan/lvm");
+        private static final PveOperation GET_NODES_NODE_SCAN_LVMTHIN = new PveOperation(MethodType.GET, "/nodes/{node}/scan/lvmthin", "vg");
+        private static final PveOperation GET_NODES_NODE_SCAN_NFS = new PveOperation(MethodType.GET, "/nodes/{node}/scan/nfs", "server");
+        private static final PveOperation GET_NODES_NODE_SCAN_PBS = new PveOperation(MethodType.GET, "/nodes/{node}/scan/pbs", "password", "server", "username", "fingerprint", "port");
+        private static final PveOperation GET_NODES_NODE_SCAN_ZFS = new PveOperation(MethodType.GET, "/nodes/{node}/scan/zfs");
+        private static final PveOperation GET_NODES_NODE_SDN = new PveOperation(MethodType.GET, "/nodes/{node}/sdn");
+        private static final PveOperation GET_NODES_NODE_SDN_ZONES = new PveOperation(MethodType.GET, "/nodes/{node}/sdn/zones");
+        private static final PveOperation GET_NODES_NODE_SDN_ZONES_ZONE = new PveOperation(MethodType.GET, "/nodes/{node}/sdn/zones/{zone}");
+        private static final PveOperation GET_NODES_NODE_SDN_ZONES_ZONE_CONTENT = new PveOperation(MethodType.GET, "/nodes/{node}/sdn/zones/{zone}/content");
+        private static final PveOperation GET_NODES_NODE_SERVICES = new PveOperation(MethodType.GET, "/nodes/{node}/services");
+        private static final PveOperation GET_NODES_NODE_SERVICES_SERVICE = new PveOperation(MethodType.GET, "/nodes/{node}/services/{service}");
+        private static final PveOperation CREATE_NODES_NODE_SERVICES_SERVICE_RELOAD = new PveOperation(MethodType.CREATE, "/nodes/{node}/services/{service}/reload");
+        private static final PveOperation CREATE_NODES_NODE_SERVICES_SERVICE_RESTART = new PveOperation(MethodType.CREATE, "/nodes/{node}/services/{service}/restart");
+        private static final PveOperation CREATE_NODES_NODE_SERVICES_SERVICE_START = new PveOperation(MethodType.CREATE, "/nodes/{node}/services/{service}/start");
+        private static final PveOperation GET_NODES_NODE_SERVICES_SERVICE_STATE = new PveOperation(MethodType.GET, "/nodes/{node}/services/{service}/state");
+        private static final PveOperation CREATE_NODES_NODE_SERVICES_SERVICE_STOP = new PveOperation(MethodType.CREATE, "/nodes/{node}/services/{service}/stop");
+        private static final PveOperation CREATE_NODES_NODE_SPICESHELL = new PveOperation(MethodType.CREATE, "/nodes/{node}/spiceshell", "cmd", "cmd-opts", "proxy");
+        private static final PveOperation CREATE_NODES_NODE_STARTALL = new PveOperation(MethodType.CREATE, "/nodes/{node}/startall", "force", "vms");
+        private static final PveOperation CREATE_NODES_NODE_STATUS = new PveOperation(MethodType.CREATE, "/nodes/{node}/status", "command");
+        private static final PveOperation GET_NODES_NODE_STATUS = new PveOperation(MethodType.GET, "/nodes/{node}/status");
+        private static final PveOperation CREATE_NODES_NODE_STOPALL = new PveOperation(MethodType.CREATE, "/nodes/{node}/stopall", "force-stop", "timeout", "vms");
+        private static final PveOperation GET_NODES_NODE_STORAGE = new PveOperation(MethodType.GET, "/nodes/{node}/storage", "content", "enabled", "format", "storage", "target");
+        private static final PveOperation GET_NODES_NODE_STORAGE_STORAGE = new PveOperation(MethodType.GET, "/nodes/{node}/storage/{storage}");
+        private static final PveOperation CREATE_NODES_NODE_STORAGE_STORAGE_CONTENT = new PveOperation(MethodType.CREATE, "/nodes/{node}/storage/{storage}/content", "filename", "size", "vmid", "format");
+        private static final PveOperation GET_NODES_NODE_STORAGE_STORAGE_CONTENT = new PveOperation(MethodType.GET, "/nodes/{node}/storage/{storage}/content", "content", "vmid");
+        private static final PveOperation CREATE_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME = new PveOperation(MethodType.CREATE, "/nodes/{node}/storage/{storage}/content/{volume}", "target", "target_node");
+        private static final PveOperation DELETE_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME = new PveOperation(MethodType.DELETE, "/nodes/{node}/storage/{storage}/content/{volume}", "delay");
+        private static final PveOperation GET_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME = new PveOperation(MethodType.GET, "/nodes/{node}/storage/{storage}/content/{volume}");
+        private static final PveOperation SET_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME = new PveOperation(MethodType.SET, "/nodes/{node}/storage/{storage}/content/{volume}", "notes", "protected");
+        private static final PveOperation CREATE_NODES_NODE_STORAGE_STORAGE_DOWNLOAD_URL = new PveOperation(MethodType.CREATE, "/nodes/{node}/storage/{storage}/download-url", "content", "filename", "url", "checksum", "checksum-algorithm", "verify-certificates");
+        private static final PveOperation GET_NODES_NODE_STORAGE_STORAGE_FILE_RESTORE_DOWNLOAD = new PveOperation(MethodType.GET, "/nodes/{node}/storage/{storage}/file-restore/download", "filepath", "volume");
+        private static final PveOperation GET_NODES_NODE_STORAGE_STORAGE_FILE_RESTORE_LIST = new PveOperation(MethodType.GET, "/nodes/{node}/storage/{storage}/file-restore/list", "filepath", "volume");
+        private static final PveOperation DELETE_NODES_NODE_STORAGE_STORAGE_PRUNEBACKUPS = new PveOperation(MethodType.DELETE, "/nodes/{node}/storage/{storage}/prunebackups", "prune-backups", "type", "vmid");
+        private static final PveOperation GET_NODES_NODE_STORAGE_STORAGE_PRUNEBACKUPS = new PveOperation(MethodType.GET, "/nodes/{node}/storage/{storage}/prunebackups", "prune-backups", "type", "vmid");
+        private static final PveOperation GET_NODES_NODE_STORAGE_STORAGE_RRD = new PveOperation(MethodType.GET, "/nodes/{node}/storage/{storage}/rrd", "ds", "timeframe", "cf");
+        private static final PveOperation GET_NODES_NODE_STORAGE_STORAGE_RRDDATA = new PveOperation(MethodType.GET, "/nodes/{node}/storage/{storage}/rrddata", "timeframe", "cf");
+        private static final PveOperation GET_NODES_NODE_STORAGE_STORAGE_STATUS = new PveOperation(MethodType.GET, "/nodes/{node}/storage/{storage}/status");
+        private static final PveOperation CREATE_NODES_NODE_STORAGE_STORAGE_UPLOAD = new PveOperation(MethodType.CREATE, "/nodes/{node}/storage/{storage}/upload", "content", "filename", "checksum", "checksum-algorithm", "tmpfilename");
+        private static final PveOperation CREATE_NODES_NODE_SUBSCRIPTION = new PveOperation(MethodType.CREATE, "/nodes/{node}/subscription", "force");
+        private static final PveOperation DELETE_NODES_NODE_SUBSCRIPTION = new PveOperation(MethodType.DELETE, "/nodes/{node}/subscription");
+        private static final PveOperation GET_NODES_NODE_SUBSCRIPTION = new PveOperation(MethodType.GET, "/nodes/{node}/subscription");
+        private static final PveOperation SET_NODES_NODE_SUBSCRIPTION = new PveOperation(MethodType.SET, "/nodes/{node}/subscription", "key");
+        private static final PveOperation GET_NODES_NODE_SYSLOG = new PveOperation(MethodType.GET, "/nodes/{node}/syslog", "limit", "service", "since", "start", "until");
+        private static final PveOperation GET_NODES_NODE_TASKS = new PveOperation(MethodType.GET, "/nodes/{node}/tasks", "errors", "limit", "since", "source", "start", "statusfilter", "typefilter", "until", "userfilter", "vmid");
+        private static final PveOperation DELETE_NODES_NODE_TASKS_UPID = new PveOperation(MethodType.DELETE, "/nodes/{node}/tasks/{upid}");
+        private static final PveOperation GET_NODES_NODE_TASKS_UPID = new PveOperation(MethodType.GET, "/nodes/{node}/tasks/{upid}");
+        private static final PveOperation GET_NODES_NODE_TASKS_UPID_LOG = new PveOperation(MethodType.GET, "/nodes/{node}/tasks/{upid}/log", "download", "limit", "start");
+        private static final PveOperation GET_NODES_NODE_TASKS_UPID_STATUS = new PveOperation(MethodType.GET, "/nodes/{node}/tasks/{upid}/status");
+        private static final PveOperation CREATE_NODES_NODE_TERMPROXY = new PveOperation(MethodType.CREATE, "/nodes/{node}/termproxy", "cmd", "cmd-opts");
+        private static final PveOperation GET_NODES_NODE_TIME = new PveOperation(MethodType.GET, "/nodes/{node}/time");
+        private static final PveOperation SET_NODES_NODE_TIME = new PveOperation(MethodType.SET, "/nodes/{node}/time", "timezone");
+        private static final PveOperation GET_NODES_NODE_VERSION = new PveOperation(MethodType.GET, "/nodes/{node}/version");
+        private static final PveOperation CREATE_NODES_NODE_VNCSHELL = new PveOperation(MethodType.CREATE, "/nodes/{node}/vncshell", "cmd", "cmd-opts", "height", "websocket", "width");
+        private static final PveOperation GET_NODES_NODE_VNCWEBSOCKET = new PveOperation(MethodType.GET, "/nodes/{node}/vncwebsocket", "port", "vncticket");
+        private static final PveOperation CREATE_NODES_NODE_VZDUMP = new PveOperation(MethodType.CREATE, "/nodes/{node}/vzdump", "all", "bwlimit", "compress", "dumpdir", "exclude", "exclude-path", "ionice", "lockwait", "mailnotification", "mailto", "maxfiles", "mode", "notes-template", "performance", "pigz", "pool", "protected", "prune-backups", "quiet", "remove", "script", "stdexcludes", "stdout", "stop", "stopwait", "storage", "tmpdir", "vmid", "zstd");
+        private static final PveOperation GET_NODES_NODE_VZDUMP_DEFAULTS = new PveOperation(MethodType.GET, "/nodes/{node}/vzdump/defaults", "storage");
+        private static final PveOperation GET_NODES_NODE_VZDUMP_EXTRACTCONFIG = new PveOperation(MethodType.GET, "/nodes/{node}/vzdump/extractconfig", "volume");
+        private static final PveOperation CREATE_NODES_NODE_WAKEONLAN = new PveOperation(MethodType.CREATE, "/nodes/{node}/wakeonlan");
+        private static final PveOperation CREATE_POOLS = new PveOperation(MethodType.CREATE, "/pools", "poolid", "comment");
+        private static final PveOperation GET_POOLS = new PveOperation(MethodType.GET, "/pools");
+        private static final PveOperation DELETE_POOLS_POOLID = new PveOperation(MethodType.DELETE, "/pools/{poolid}");
+        private static final PveOperation GET_POOLS_POOLID = new PveOperation(MethodType.GET, "/pools/{poolid}", "type");
+        private static final PveOperation SET_POOLS_POOLID = new PveOperation(MethodType.SET, "/pools/{poolid}", "comment", "delete", "storage", "vms");
+        private static final PveOperation CREATE_STORAGE = new PveOperation(MethodType.CREATE, "/storage", "storage", "type", "authsupported", "base", "blocksize", "bwlimit", "comstar_hg", "comstar_tg", "content", "content-dirs", "create-base-path", "create-subdirs", "data-pool", "datastore", "disable", "domain", "encryption-key", "export", "fingerprint", "format", "fs-name", "fuse", "is_mountpoint", "iscsiprovider", "keyring", "krbd", "lio_tpg", "master-pubkey", "max-protected-backups", "maxfiles", "mkdir", "monhost", "mountpoint", "namespace", "nocow", "nodes", "nowritecache", "options", "password", "path", "pool", "port", "portal", "preallocation", "prune-backups", "saferemove", "saferemove_throughput", "server", "server2", "share", "shared", "smbversion", "sparse", "subdir", "tagged_only", "target", "thinpool", "transport", "username", "vgname", "volume");
+        private static final PveOperation GET_STORAGE = new PveOperation(MethodType.GET, "/storage", "type");
+        private static final PveOperation DELETE_STORAGE_STORAGE = new PveOperation(MethodType.DELETE, "/storage/{storage}");
+        private static final PveOperation GET_STORAGE_STORAGE = new PveOperation(MethodType.GET, "/storage/{storage}");
+        private static final PveOperation SET_STORAGE_STORAGE = new PveOperation(MethodType.SET, "/storage/{storage}", "blocksize", "bwlimit", "comstar_hg", "comstar_tg", "content", "content-dirs", "create-base-path", "create-subdirs", "data-pool", "delete", "digest", "disable", "domain", "encryption-key", "fingerprint", "format", "fs-name", "fuse", "is_mountpoint", "keyring", "krbd", "lio_tpg", "master-pubkey", "max-protected-backups", "maxfiles", "mkdir", "monhost", "mountpoint", "namespace", "nocow", "nodes", "nowritecache", "options", "password", "pool", "port", "preallocation", "prune-backups", "saferemove", "saferemove_throughput", "server", "server2", "shared", "smbversion", "sparse", "subdir", "tagged_only", "transport", "username");
+        private static final PveOperation GET_VERSION = new PveOperation(MethodType.GET, "/version");
+    }
+
     private final PveClient client;
 
     public PveClient(String hostname, int port) {
@@ -23,32 +587,56 @@ public class PveClient extends PveClientBase {
     private PVECluster cluster;
 
     public PVECluster getCluster() {
-        return cluster == null ? (cluster = new PVECluster(client)) : cluster;
+        PVECluster instance = cluster;
+        if (instance == null) {
+            cluster = instance = new PVECluster(client);
+        }
+        return instance;
     }
     private PVENodes nodes;
 
     public PVENodes getNodes() {
-        return nodes == null ? (nodes = new PVENodes(client)) : nodes;
+        PVENodes instance = nodes;
+        if (instance == null) {
+            nodes = instance = new PVENodes(client);
+        }
+        return instance;
     }
     private PVEStorage storage;
 
     public PVEStorage getStorage() {
-        return storage == null ? (storage = new PVEStorage(client)) : storage;
+        PVEStorage instance = storage;
+        if (instance == null) {
+            storage = instance = new PVEStorage(client);
+        }
+        return instance;
     }
     private PVEAccess access;
 
     public PVEAccess getAccess() {
-        return access == null ? (access = new PVEAccess(client)) : access;
+        PVEAccess instance = access;
+        if (instance == null) {
+            access = instance = new PVEAccess(client);
+        }
+        return instance;
     }
     private PVEPools pools;
 
     public PVEPools getPools() {
-        return pools == null ? (pools = new PVEPools(client)) : pools;
+        PVEPools instance = pools;
+        if (instance == null) {
+            pools = instance = new PVEPools(client);
+        }
+        return instance;
     }
     private PVEVersion version;
 
     public PVEVersion getVersion() {
-        return version == null ? (version = new PVEVersion(client)) : version;
+        PVEVersion instance = version;
+        if (instance == null) {
+            version = instance = new PVEVersion(client);
+        }
+        return instance;
     }
 
     public class PVECluster {
@@ -63,92 +651,164 @@ public class PveClient extends PveClientBase {
         private PVEReplication replication;
 
         public PVEReplication getReplication() {
-            return replication == null ? (replication = new PVEReplication(client)) : replication;
+            PVEReplication instance = replication;
+            if (instance == null) {
+                replication = instance = new PVEReplication(client);
+            }
+            return instance;
         }
         private PVEMetrics metrics;
 
         public PVEMetrics getMetrics() {
-            return metrics == null ? (metrics = new PVEMetrics(client)) : metrics;
+            PVEMetrics instance = metrics;
+            if (instance == null) {
+                metrics = instance = new PVEMetrics(client);
+            }
+            return instance;
         }
         private PVEConfig config;
 
         public PVEConfig getConfig() {
-            return config == null ? (config = new PVEConfig(client)) : config;
+            PVEConfig instance = config;
+            if (instance == null) {
+                config = instance = new PVEConfig(client);
+            }
+            return instance;
         }
         private PVEFirewall firewall;
 
         public PVEFirewall getFirewall() {
-            return firewall == null ? (firewall = new PVEFirewall(client)) : firewall;
+            PVEFirewall instance = firewall;
+            if (instance == null) {
+                firewall = instance = new PVEFirewall(client);
+            }
+            return instance;
         }
         private PVEBackup backup;
 
         public PVEBackup getBackup() {
-            return backup == null ? (backup = new PVEBackup(client)) : backup;
+            PVEBackup instance = backup;
+            if (instance == null) {
+                backup = instance = new PVEBackup(client);
+            }
+            return instance;
         }
         private PVEBackupInfo backupInfo;
 
         public PVEBackupInfo getBackupInfo() {
-            return backupInfo == null ? (backupInfo = new PVEBackupInfo(client)) : backupInfo;
+            PVEBackupInfo instance = backupInfo;
+            if (instance == null) {
+                backupInfo = instance = new PVEBackupInfo(client);
+            }
+            return instance;
         }
         private PVEHa ha;
 
         public PVEHa getHa() {
-            return ha == null ? (ha = new PVEHa(client)) : ha;
+            PVEHa instance = ha;
+            if (instance == null) {
+                ha = instance = new PVEHa(client);
+            }
+            return instance;
         }
         private PVEAcme acme;
 
         public PVEAcme getAcme() {
-            return acme == null ? (acme = new PVEAcme(client)) : acme;
+            PVEAcme instance = acme;
+            if (instance == null) {
+                acme = instance = new PVEAcme(client);
+            }
+            return instance;
         }
         private PVECeph ceph;
 
         public PVECeph getCeph() {
-            return ceph == null ? (ceph = new PVECeph(client)) : ceph;
+            PVECeph instance = ceph;
+            if (instance == null) {
+                ceph = instance = new PVECeph(client);
+            }
+            return instance;
         }
         private PVEJobs jobs;
 
         public PVEJobs getJobs() {
-            return jobs == null ? (jobs = new PVEJobs(client)) : jobs;
+            PVEJobs instance = jobs;
+            if (instance == null) {
+                jobs = instance = new PVEJobs(client);
+            }
+            return instance;
         }
         private PVEMapping mapping;
 
         public PVEMapping getMapping() {
-            return mapping == null ? (mapping = new PVEMapping(client)) : mapping;
+            PVEMapping instance = mapping;
+            if (instance == null) {
+                mapping = instance = new PVEMapping(client);
+            }
+            return instance;
         }
         private PVESdn sdn;
 
         public PVESdn getSdn() {
-            return sdn == null ? (sdn = new PVESdn(client)) : sdn;
+            PVESdn instance = sdn;
+            if (instance == null) {
+                sdn = instance = new PVESdn(client);
+            }
+            return instance;
         }
         private PVELog log;
 
         public PVELog getLog() {
-            return log == null ? (log = new PVELog(client)) : log;
+            PVELog instance = log;
+            if (instance == null) {
+                log = instance = new PVELog(client);
+            }
+            return instance;
         }
         private PVEResources resources;
 
         public PVEResources getResources() {
-            return resources == null ? (resources = new PVEResources(client)) : resources;
+            PVEResources instance = resources;
+            if (instance == null) {
+                resources = instance = new PVEResources(client);
+            }
+            return instance;
         }
         private PVETasks tasks;
 
         public PVETasks getTasks() {
-            return tasks == null ? (tasks = new PVETasks(client)) : tasks;
+            PVETasks instance = tasks;
+            if (instance == null) {
+                tasks = instance = new PVETasks(client);
+            }
+            return instance;
         }
         private PVEOptions options;
 
         public PVEOptions getOptions() {
-            return options == null ? (options = new PVEOptions(client)) : options;
+            PVEOptions instance = options;
+            if (instance == null) {
+                options = instance = new PVEOptions(client);
+            }
+            return instance;
         }
         private PVEStatus status;
 
         public PVEStatus getStatus() {
-            return status == null ? (status = new PVEStatus(client)) : status;
+            PVEStatus instance = status;
+            if (instance == null) {
+                status = instance = new PVEStatus(client);
+            }
+            return instance;
         }
         private PVENextid nextid;
 
         public PVENextid getNextid() {
-            return nextid == null ? (nextid = new PVENextid(client)) : nextid;
+            PVENextid instance = nextid;
+            if (instance == null) {
+                nextid = instance = new PVENextid(client);
+            }
+            return instance;
         }
 
         public class PVEReplication {
@@ -160,8 +820,11 @@ public class PveClient extends PveClientBase {
 
             }
 
+            private final PveHandleCache<PVEIdItem> handles = new PveHandleCache<>();
+
             public PVEIdItem get(Object id) {
-                return new PVEIdItem(client, id);
+                PVEIdItem item = handles.get(id);
+                return item != null ? item : handles.put(id, new PVEIdItem(client, id));
             }
 
             public class PVEIdItem {
@@ -184,10 +847,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result delete(Boolean force, Boolean keep) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("force", force);
-                    parameters.put("keep", keep);
-                    return client.delete("/cluster/replication/" + this.id + "", parameters);
+                    return Operations.DELETE_CLUSTER_REPLICATION_ID.execute(client, Operations.DELETE_CLUSTER_REPLICATION_ID.parameters(force, keep), this.id);
                 }
 
                 /**
@@ -198,7 +858,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result delete() throws JSONException {
-                    return client.delete("/cluster/replication/" + this.id + "", null);
+                    return Operations.DELETE_CLUSTER_REPLICATION_ID.execute(client, null, this.id);
                 }
 
                 /**
@@ -209,7 +869,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result read() throws JSONException {
-                    return client.get("/cluster/replication/" + this.id + "", null);
+                    return Operations.GET_CLUSTER_REPLICATION_ID.execute(client, null, this.id);
                 }
 
                 /**
@@ -237,16 +897,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result update(String comment, String delete, String digest, Boolean disable, Float rate, String remove_job, String schedule, String source) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("comment", comment);
-                    parameters.put("delete", delete);
-                    parameters.put("digest", digest);
-                    parameters.put("disable", disable);
-                    parameters.put("rate", rate);
-                    parameters.put("remove_job", remove_job);
-                    parameters.put("schedule", schedule);
-                    parameters.put("source", source);
-                    return client.set("/cluster/replication/" + this.id + "", parameters);
+                    return Operations.SET_CLUSTER_REPLICATION_ID.execute(client, Operations.SET_CLUSTER_REPLICATION_ID.parameters(comment, delete, digest, disable, rate, remove_job, schedule, source), this.id);
                 }
 
                 /**
@@ -257,7 +908,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result update() throws JSONException {
-                    return client.set("/cluster/replication/" + this.id + "", null);
+                    return Operations.SET_CLUSTER_REPLICATION_ID.execute(client, null, this.id);
                 }
 
             }
@@ -269,7 +920,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/cluster/replication", null);
+                return Operations.GET_CLUSTER_REPLICATION.execute(client, null);
             }
 
             /**
@@ -297,17 +948,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result create(String id, String target, String type, String comment, Boolean disable, Float rate, String remove_job, String schedule, String source) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("id", id);
-                parameters.put("target", target);
-                parameters.put("type", type);
-                parameters.put("comment", comment);
-                parameters.put("disable", disable);
-                parameters.put("rate", rate);
-                parameters.put("remove_job", remove_job);
-                parameters.put("schedule", schedule);
-                parameters.put("source", source);
-                return client.create("/cluster/replication", parameters);
+                return Operations.CREATE_CLUSTER_REPLICATION.execute(client, Operations.CREATE_CLUSTER_REPLICATION.parameters(id, target, type, comment, disable, rate, remove_job, schedule, source));
             }
 
             /**
@@ -323,11 +964,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result create(String id, String target, String type) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("id", id);
-                parameters.put("target", target);
-                parameters.put("type", type);
-                return client.create("/cluster/replication", parameters);
+                return Operations.CREATE_CLUSTER_REPLICATION.execute(client, Operations.CREATE_CLUSTER_REPLICATION.parameters(id, target, type));
             }
 
         }
@@ -344,7 +981,11 @@ public class PveClient extends PveClientBase {
             private PVEServer server;
 
             public PVEServer getServer() {
-                return server == null ? (server = new PVEServer(client)) : server;
+                PVEServer instance = server;
+                if (instance == null) {
+                    server = instance = new PVEServer(client);
+                }
+                return instance;
             }
 
             public class PVEServer {
@@ -356,8 +997,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVEIdItem> handles = new PveHandleCache<>();
+
                 public PVEIdItem get(Object id) {
-                    return new PVEIdItem(client, id);
+                    PVEIdItem item = handles.get(id);
+                    return item != null ? item : handles.put(id, new PVEIdItem(client, id));
                 }
 
                 public class PVEIdItem {
@@ -377,7 +1021,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result delete() throws JSONException {
-                        return client.delete("/cluster/metrics/server/" + this.id + "", null);
+                        return Operations.DELETE_CLUSTER_METRICS_SERVER_ID.execute(client, null, this.id);
                     }
 
                     /**
@@ -388,7 +1032,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result read() throws JSONException {
-                        return client.get("/cluster/metrics/server/" + this.id + "", null);
+                        return Operations.GET_CLUSTER_METRICS_SERVER_ID.execute(client, null, this.id);
                     }
 
                     /**
@@ -426,23 +1070,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result create(int port, String server, String type, String api_path_prefix, String bucket, Boolean disable, String influxdbproto, Integer max_body_size, Integer mtu, String organization, String path, String proto, Integer timeout, String token, Boolean verify_certificate) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("port", port);
-                        parameters.put("server", server);
-                        parameters.put("type", type);
-                        parameters.put("api-path-prefix", api_path_prefix);
-                        parameters.put("bucket", bucket);
-                        parameters.put("disable", disable);
-                        parameters.put("influxdbproto", influxdbproto);
-                        parameters.put("max-body-size", max_body_size);
-                        parameters.put("mtu", mtu);
-                        parameters.put("organization", organization);
-                        parameters.put("path", path);
-                        parameters.put("proto", proto);
-                        parameters.put("timeout", timeout);
-                        parameters.put("token", token);
-                        parameters.put("verify-certificate", verify_certificate);
-                        return client.create("/cluster/metrics/server/" + this.id + "", parameters);
+                        return Operations.CREATE_CLUSTER_METRICS_SERVER_ID.execute(client, Operations.CREATE_CLUSTER_METRICS_SERVER_ID.parameters(port, server, type, api_path_prefix, bucket, disable, influxdbproto, max_body_size, mtu, organization, path, proto, timeout, token, verify_certificate), this.id);
                     }
 
                     /**
@@ -456,11 +1084,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result create(int port, String server, String type) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("port", port);
-                        parameters.put("server", server);
-                        parameters.put("type", type);
-                        return client.create("/cluster/metrics/server/" + this.id + "", parameters);
+                        return Operations.CREATE_CLUSTER_METRICS_SERVER_ID.execute(client, Operations.CREATE_CLUSTER_METRICS_SERVER_ID.parameters(port, server, type), this.id);
                     }
 
                     /**
@@ -501,24 +1125,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update(int port, String server, String api_path_prefix, String bucket, String delete, String digest, Boolean disable, String influxdbproto, Integer max_body_size, Integer mtu, String organization, String path, String proto, Integer timeout, String token, Boolean verify_certificate) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("port", port);
-                        parameters.put("server", server);
-                        parameters.put("api-path-prefix", api_path_prefix);
-                        parameters.put("bucket", bucket);
-                        parameters.put("delete", delete);
-                        parameters.put("digest", digest);
-                        parameters.put("disable", disable);
-                        parameters.put("influxdbproto", influxdbproto);
-                        parameters.put("max-body-size", max_body_size);
-                        parameters.put("mtu", mtu);
-                        parameters.put("organization", organization);
-                        parameters.put("path", path);
-                        parameters.put("proto", proto);
-                        parameters.put("timeout", timeout);
-                        parameters.put("token", token);
-                        parameters.put("verify-certificate", verify_certificate);
-                        return client.set("/cluster/metrics/server/" + this.id + "", parameters);
+                        return Operations.SET_CLUSTER_METRICS_SERVER_ID.execute(client, Operations.SET_CLUSTER_METRICS_SERVER_ID.parameters(port, server, api_path_prefix, bucket, delete, digest, disable, influxdbproto, max_body_size, mtu, organization, path, proto, timeout, token, verify_certificate), this.id);
                     }
 
                     /**
@@ -531,10 +1138,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update(int port, String server) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("port", port);
-                        parameters.put("server", server);
-                        return client.set("/cluster/metrics/server/" + this.id + "", parameters);
+                        return Operations.SET_CLUSTER_METRICS_SERVER_ID.execute(client, Operations.SET_CLUSTER_METRICS_SERVER_ID.parameters(port, server), this.id);
                     }
 
                 }
@@ -546,7 +1150,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result serverIndex() throws JSONException {
-                    return client.get("/cluster/metrics/server", null);
+                    return Operations.GET_CLUSTER_METRICS_SERVER.execute(client, null);
                 }
 
             }
@@ -558,7 +1162,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/cluster/metrics", null);
+                return Operations.GET_CLUSTER_METRICS.execute(client, null);
             }
 
         }
@@ -575,27 +1179,47 @@ public class PveClient extends PveClientBase {
             private PVEApiversion apiversion;
 
             public PVEApiversion getApiversion() {
-                return apiversion == null ? (apiversion = new PVEApiversion(client)) : apiversion;
+                PVEApiversion instance = apiversion;
+                if (instance == null) {
+                    apiversion = instance = new PVEApiversion(client);
+                }
+                return instance;
             }
             private PVENodes nodes;
 
             public PVENodes getNodes() {
-                return nodes == null ? (nodes = new PVENodes(client)) : nodes;
+                PVENodes instance = nodes;
+                if (instance == null) {
+                    nodes = instance = new PVENodes(client);
+                }
+                return instance;
             }
             private PVEJoin join;
 
             public PVEJoin getJoin() {
-                return join == null ? (join = new PVEJoin(client)) : join;
+                PVEJoin instance = join;
+                if (instance == null) {
+                    join = instance = new PVEJoin(client);
+                }
+                return instance;
             }
             private PVETotem totem;
 
             public PVETotem getTotem() {
-                return totem == null ? (totem = new PVETotem(client)) : totem;
+                PVETotem instance = totem;
+                if (instance == null) {
+                    totem = instance = new PVETotem(client);
+                }
+                return instance;
             }
             private PVEQdevice qdevice;
 
             public PVEQdevice getQdevice() {
-                return qdevice == null ? (qdevice = new PVEQdevice(client)) : qdevice;
+                PVEQdevice instance = qdevice;
+                if (instance == null) {
+                    qdevice = instance = new PVEQdevice(client);
+                }
+                return instance;
             }
 
             public class PVEApiversion {
@@ -615,7 +1239,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result joinApiVersion() throws JSONException {
-                    return client.get("/cluster/config/apiversion", null);
+                    return Operations.GET_CLUSTER_CONFIG_APIVERSION.execute(client, null);
                 }
 
             }
@@ -629,8 +1253,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVENodeItem> handles = new PveHandleCache<>();
+
                 public PVENodeItem get(Object node) {
-                    return new PVENodeItem(client, node);
+                    PVENodeItem item = handles.get(node);
+                    return item != null ? item : handles.put(node, new PVENodeItem(client, node));
                 }
 
                 public class PVENodeItem {
@@ -650,7 +1277,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result delnode() throws JSONException {
-                        return client.delete("/cluster/config/nodes/" + this.node + "", null);
+                        return Operations.DELETE_CLUSTER_CONFIG_NODES_NODE.execute(client, null, this.node);
                     }
 
                     /**
@@ -677,7 +1304,7 @@ public class PveClient extends PveClientBase {
                         parameters.put("nodeid", nodeid);
                         parameters.put("votes", votes);
                         addIndexedParameter(parameters, "link", linkN);
-                        return client.create("/cluster/config/nodes/" + this.node + "", parameters);
+                        return Operations.CREATE_CLUSTER_CONFIG_NODES_NODE.execute(client, parameters, this.node);
                     }
 
                     /**
@@ -689,7 +1316,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result addnode() throws JSONException {
-                        return client.create("/cluster/config/nodes/" + this.node + "", null);
+                        return Operations.CREATE_CLUSTER_CONFIG_NODES_NODE.execute(client, null, this.node);
                     }
 
                 }
@@ -701,7 +1328,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result nodes() throws JSONException {
-                    return client.get("/cluster/config/nodes", null);
+                    return Operations.GET_CLUSTER_CONFIG_NODES.execute(client, null);
                 }
 
             }
@@ -724,9 +1351,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result joinInfo(String node) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("node", node);
-                    return client.get("/cluster/config/join", parameters);
+                    return Operations.GET_CLUSTER_CONFIG_JOIN.execute(client, Operations.GET_CLUSTER_CONFIG_JOIN.parameters(node));
                 }
 
                 /**
@@ -738,7 +1363,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result joinInfo() throws JSONException {
-                    return client.get("/cluster/config/join", null);
+                    return Operations.GET_CLUSTER_CONFIG_JOIN.execute(client, null);
                 }
 
                 /**
@@ -768,7 +1393,7 @@ public class PveClient extends PveClientBase {
                     parameters.put("nodeid", nodeid);
                     parameters.put("votes", votes);
                     addIndexedParameter(parameters, "link", linkN);
-                    return client.create("/cluster/config/join", parameters);
+                    return Operations.CREATE_CLUSTER_CONFIG_JOIN.execute(client, parameters);
                 }
 
                 /**
@@ -785,11 +1410,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result join(String fingerprint, String hostname, String password) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("fingerprint", fingerprint);
-                    parameters.put("hostname", hostname);
-                    parameters.put("password", password);
-                    return client.create("/cluster/config/join", parameters);
+                    return Operations.CREATE_CLUSTER_CONFIG_JOIN.execute(client, Operations.CREATE_CLUSTER_CONFIG_JOIN.parameters(fingerprint, hostname, password));
                 }
 
             }
@@ -810,7 +1431,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result totem() throws JSONException {
-                    return client.get("/cluster/config/totem", null);
+                    return Operations.GET_CLUSTER_CONFIG_TOTEM.execute(client, null);
                 }
 
             }
@@ -831,7 +1452,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result status() throws JSONException {
-                    return client.get("/cluster/config/qdevice", null);
+                    return Operations.GET_CLUSTER_CONFIG_QDEVICE.execute(client, null);
                 }
 
             }
@@ -843,7 +1464,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/cluster/config", null);
+                return Operations.GET_CLUSTER_CONFIG.execute(client, null);
             }
 
             /**
@@ -865,7 +1486,7 @@ public class PveClient extends PveClientBase {
                 parameters.put("nodeid", nodeid);
                 parameters.put("votes", votes);
                 addIndexedParameter(parameters, "link", linkN);
-                return client.create("/cluster/config", parameters);
+                return Operations.CREATE_CLUSTER_CONFIG.execute(client, parameters);
             }
 
             /**
@@ -878,9 +1499,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result create(String clustername) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("clustername", clustername);
-                return client.create("/cluster/config", parameters);
+                return Operations.CREATE_CLUSTER_CONFIG.execute(client, Operations.CREATE_CLUSTER_CONFIG.parameters(clustername));
             }
 
         }
@@ -897,37 +1516,65 @@ public class PveClient extends PveClientBase {
             private PVEGroups groups;
 
             public PVEGroups getGroups() {
-                return groups == null ? (groups = new PVEGroups(client)) : groups;
+                PVEGroups instance = groups;
+                if (instance == null) {
+                    groups = instance = new PVEGroups(client);
+                }
+                return instance;
             }
             private PVERules rules;
 
             public PVERules getRules() {
-                return rules == null ? (rules = new PVERules(client)) : rules;
+                PVERules instance = rules;
+                if (instance == null) {
+                    rules = instance = new PVERules(client);
+                }
+                return instance;
             }
             private PVEIpset ipset;
 
             public PVEIpset getIpset() {
-                return ipset == null ? (ipset = new PVEIpset(client)) : ipset;
+                PVEIpset instance = ipset;
+                if (instance == null) {
+                    ipset = instance = new PVEIpset(client);
+                }
+                return instance;
             }
             private PVEAliases aliases;
 
             public PVEAliases getAliases() {
-                return aliases == null ? (aliases = new PVEAliases(client)) : aliases;
+                PVEAliases instance = aliases;
+                if (instance == null) {
+                    aliases = instance = new PVEAliases(client);
+                }
+                return instance;
             }
             private PVEOptions options;
 
             public PVEOptions getOptions() {
-                return options == null ? (options = new PVEOptions(client)) : options;
+                PVEOptions instance = options;
+                if (instance == null) {
+                    options = instance = new PVEOptions(client);
+                }
+                return instance;
             }
             private PVEMacros macros;
 
             public PVEMacros getMacros() {
-                return macros == null ? (macros = new PVEMacros(client)) : macros;
+                PVEMacros instance = macros;
+                if (instance == null) {
+                    macros = instance = new PVEMacros(client);
+                }
+                return instance;
             }
             private PVERefs refs;
 
             public PVERefs getRefs() {
-                return refs == null ? (refs = new PVERefs(client)) : refs;
+                PVERefs instance = refs;
+                if (instance == null) {
+                    refs = instance = new PVERefs(client);
+                }
+                return instance;
             }
 
             public class PVEGroups {
@@ -939,8 +1586,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVEGroupItem> handles = new PveHandleCache<>();
+
                 public PVEGroupItem get(Object group) {
-                    return new PVEGroupItem(client, group);
+                    PVEGroupItem item = handles.get(group);
+                    return item != null ? item : handles.put(group, new PVEGroupItem(client, group));
                 }
 
                 public class PVEGroupItem {
@@ -953,8 +1603,11 @@ public class PveClient extends PveClientBase {
                         this.group = group;
                     }
 
+                    private final PveHandleCache<PVEPosItem> handles = new PveHandleCache<>();
+
                     public PVEPosItem get(Object pos) {
-                        return new PVEPosItem(client, this.group, pos);
+                        PVEPosItem item = handles.get(pos);
+                        return item != null ? item : handles.put(pos, new PVEPosItem(client, this.group, pos));
                     }
 
                     public class PVEPosItem {
@@ -979,9 +1632,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result deleteRule(String digest) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("digest", digest);
-                            return client.delete("/cluster/firewall/groups/" + this.group + "/" + this.pos + "", parameters);
+                            return Operations.DELETE_CLUSTER_FIREWALL_GROUPS_GROUP_POS.execute(client, Operations.DELETE_CLUSTER_FIREWALL_GROUPS_GROUP_POS.parameters(digest), this.group, this.pos);
                         }
 
                         /**
@@ -992,7 +1643,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result deleteRule() throws JSONException {
-                            return client.delete("/cluster/firewall/groups/" + this.group + "/" + this.pos + "", null);
+                            return Operations.DELETE_CLUSTER_FIREWALL_GROUPS_GROUP_POS.execute(client, null, this.group, this.pos);
                         }
 
                         /**
@@ -1003,7 +1654,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result getRule() throws JSONException {
-                            return client.get("/cluster/firewall/groups/" + this.group + "/" + this.pos + "", null);
+                            return Operations.GET_CLUSTER_FIREWALL_GROUPS_GROUP_POS.execute(client, null, this.group, this.pos);
                         }
 
                         /**
@@ -1063,24 +1714,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result updateRule(String action, String comment, String delete, String dest, String digest, String dport, Integer enable, String icmp_type, String iface, String log, String macro, Integer moveto, String proto, String source, String sport, String type) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("action", action);
-                            parameters.put("comment", comment);
-                            parameters.put("delete", delete);
-                            parameters.put("dest", dest);
-                            parameters.put("digest", digest);
-                            parameters.put("dport", dport);
-                            parameters.put("enable", enable);
-                            parameters.put("icmp-type", icmp_type);
-                            parameters.put("iface", iface);
-                            parameters.put("log", log);
-                            parameters.put("macro", macro);
-                            parameters.put("moveto", moveto);
-                            parameters.put("proto", proto);
-                            parameters.put("source", source);
-                            parameters.put("sport", sport);
-                            parameters.put("type", type);
-                            return client.set("/cluster/firewall/groups/" + this.group + "/" + this.pos + "", parameters);
+                            return Operations.SET_CLUSTER_FIREWALL_GROUPS_GROUP_POS.execute(client, Operations.SET_CLUSTER_FIREWALL_GROUPS_GROUP_POS.parameters(action, comment, delete, dest, digest, dport, enable, icmp_type, iface, log, macro, moveto, proto, source, sport, type), this.group, this.pos);
                         }
 
                         /**
@@ -1091,7 +1725,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result updateRule() throws JSONException {
-                            return client.set("/cluster/firewall/groups/" + this.group + "/" + this.pos + "", null);
+                            return Operations.SET_CLUSTER_FIREWALL_GROUPS_GROUP_POS.execute(client, null, this.group, this.pos);
                         }
 
                     }
@@ -1103,7 +1737,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result deleteSecurityGroup() throws JSONException {
-                        return client.delete("/cluster/firewall/groups/" + this.group + "", null);
+                        return Operations.DELETE_CLUSTER_FIREWALL_GROUPS_GROUP.execute(client, null, this.group);
                     }
 
                     /**
@@ -1114,7 +1748,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result getRules() throws JSONException {
-                        return client.get("/cluster/firewall/groups/" + this.group + "", null);
+                        return Operations.GET_CLUSTER_FIREWALL_GROUPS_GROUP.execute(client, null, this.group);
                     }
 
                     /**
@@ -1169,23 +1803,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result createRule(String action, String type, String comment, String dest, String digest, String dport, Integer enable, String icmp_type, String iface, String log, String macro, Integer pos, String proto, String source, String sport) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("action", action);
-                        parameters.put("type", type);
-                        parameters.put("comment", comment);
-                        parameters.put("dest", dest);
-                        parameters.put("digest", digest);
-                        parameters.put("dport", dport);
-                        parameters.put("enable", enable);
-                        parameters.put("icmp-type", icmp_type);
-                        parameters.put("iface", iface);
-                        parameters.put("log", log);
-                        parameters.put("macro", macro);
-                        parameters.put("pos", pos);
-                        parameters.put("proto", proto);
-                        parameters.put("source", source);
-                        parameters.put("sport", sport);
-                        return client.create("/cluster/firewall/groups/" + this.group + "", parameters);
+                        return Operations.CREATE_CLUSTER_FIREWALL_GROUPS_GROUP.execute(client, Operations.CREATE_CLUSTER_FIREWALL_GROUPS_GROUP.parameters(action, type, comment, dest, digest, dport, enable, icmp_type, iface, log, macro, pos, proto, source, sport), this.group);
                     }
 
                     /**
@@ -1199,10 +1817,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result createRule(String action, String type) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("action", action);
-                        parameters.put("type", type);
-                        return client.create("/cluster/firewall/groups/" + this.group + "", parameters);
+                        return Operations.CREATE_CLUSTER_FIREWALL_GROUPS_GROUP.execute(client, Operations.CREATE_CLUSTER_FIREWALL_GROUPS_GROUP.parameters(action, type), this.group);
                     }
 
                 }
@@ -1214,7 +1829,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result listSecurityGroups() throws JSONException {
-                    return client.get("/cluster/firewall/groups", null);
+                    return Operations.GET_CLUSTER_FIREWALL_GROUPS.execute(client, null);
                 }
 
                 /**
@@ -1233,12 +1848,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result createSecurityGroup(String group, String comment, String digest, String rename) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("group", group);
-                    parameters.put("comment", comment);
-                    parameters.put("digest", digest);
-                    parameters.put("rename", rename);
-                    return client.create("/cluster/firewall/groups", parameters);
+                    return Operations.CREATE_CLUSTER_FIREWALL_GROUPS.execute(client, Operations.CREATE_CLUSTER_FIREWALL_GROUPS.parameters(group, comment, digest, rename));
                 }
 
                 /**
@@ -1250,9 +1860,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result createSecurityGroup(String group) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("group", group);
-                    return client.create("/cluster/firewall/groups", parameters);
+                    return Operations.CREATE_CLUSTER_FIREWALL_GROUPS.execute(client, Operations.CREATE_CLUSTER_FIREWALL_GROUPS.parameters(group));
                 }
 
             }
@@ -1266,8 +1874,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVEPosItem> handles = new PveHandleCache<>();
+
                 public PVEPosItem get(Object pos) {
-                    return new PVEPosItem(client, pos);
+                    PVEPosItem item = handles.get(pos);
+                    return item != null ? item : handles.put(pos, new PVEPosItem(client, pos));
                 }
 
                 public class PVEPosItem {
@@ -1290,9 +1901,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result deleteRule(String digest) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("digest", digest);
-                        return client.delete("/cluster/firewall/rules/" + this.pos + "", parameters);
+                        return Operations.DELETE_CLUSTER_FIREWALL_RULES_POS.execute(client, Operations.DELETE_CLUSTER_FIREWALL_RULES_POS.parameters(digest), this.pos);
                     }
 
                     /**
@@ -1303,7 +1912,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result deleteRule() throws JSONException {
-                        return client.delete("/cluster/firewall/rules/" + this.pos + "", null);
+                        return Operations.DELETE_CLUSTER_FIREWALL_RULES_POS.execute(client, null, this.pos);
                     }
 
                     /**
@@ -1314,7 +1923,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result getRule() throws JSONException {
-                        return client.get("/cluster/firewall/rules/" + this.pos + "", null);
+                        return Operations.GET_CLUSTER_FIREWALL_RULES_POS.execute(client, null, this.pos);
                     }
 
                     /**
@@ -1371,24 +1980,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateRule(String action, String comment, String delete, String dest, String digest, String dport, Integer enable, String icmp_type, String iface, String log, String macro, Integer moveto, String proto, String source, String sport, String type) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("action", action);
-                        parameters.put("comment", comment);
-                        parameters.put("delete", delete);
-                        parameters.put("dest", dest);
-                        parameters.put("digest", digest);
-                        parameters.put("dport", dport);
-                        parameters.put("enable", enable);
-                        parameters.put("icmp-type", icmp_type);
-                        parameters.put("iface", iface);
-                        parameters.put("log", log);
-                        parameters.put("macro", macro);
-                        parameters.put("moveto", moveto);
-                        parameters.put("proto", proto);
-                        parameters.put("source", source);
-                        parameters.put("sport", sport);
-                        parameters.put("type", type);
-                        return client.set("/cluster/firewall/rules/" + this.pos + "", parameters);
+                        return Operations.SET_CLUSTER_FIREWALL_RULES_POS.execute(client, Operations.SET_CLUSTER_FIREWALL_RULES_POS.parameters(action, comment, delete, dest, digest, dport, enable, icmp_type, iface, log, macro, moveto, proto, source, sport, type), this.pos);
                     }
 
                     /**
@@ -1399,7 +1991,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateRule() throws JSONException {
-                        return client.set("/cluster/firewall/rules/" + this.pos + "", null);
+                        return Operations.SET_CLUSTER_FIREWALL_RULES_POS.execute(client, null, this.pos);
                     }
 
                 }
@@ -1411,7 +2003,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result getRules() throws JSONException {
-                    return client.get("/cluster/firewall/rules", null);
+                    return Operations.GET_CLUSTER_FIREWALL_RULES.execute(client, null);
                 }
 
                 /**
@@ -1464,23 +2056,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result createRule(String action, String type, String comment, String dest, String digest, String dport, Integer enable, String icmp_type, String iface, String log, String macro, Integer pos, String proto, String source, String sport) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("action", action);
-                    parameters.put("type", type);
-                    parameters.put("comment", comment);
-                    parameters.put("dest", dest);
-                    parameters.put("digest", digest);
-                    parameters.put("dport", dport);
-                    parameters.put("enable", enable);
-                    parameters.put("icmp-type", icmp_type);
-                    parameters.put("iface", iface);
-                    parameters.put("log", log);
-                    parameters.put("macro", macro);
-                    parameters.put("pos", pos);
-                    parameters.put("proto", proto);
-                    parameters.put("source", source);
-                    parameters.put("sport", sport);
-                    return client.create("/cluster/firewall/rules", parameters);
+                    return Operations.CREATE_CLUSTER_FIREWALL_RULES.execute(client, Operations.CREATE_CLUSTER_FIREWALL_RULES.parameters(action, type, comment, dest, digest, dport, enable, icmp_type, iface, log, macro, pos, proto, source, sport));
                 }
 
                 /**
@@ -1494,10 +2070,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result createRule(String action, String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("action", action);
-                    parameters.put("type", type);
-                    return client.create("/cluster/firewall/rules", parameters);
+                    return Operations.CREATE_CLUSTER_FIREWALL_RULES.execute(client, Operations.CREATE_CLUSTER_FIREWALL_RULES.parameters(action, type));
                 }
 
             }
@@ -1511,8 +2084,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVENameItem> handles = new PveHandleCache<>();
+
                 public PVENameItem get(Object name) {
-                    return new PVENameItem(client, name);
+                    PVENameItem item = handles.get(name);
+                    return item != null ? item : handles.put(name, new PVENameItem(client, name));
                 }
 
                 public class PVENameItem {
@@ -1525,8 +2101,11 @@ public class PveClient extends PveClientBase {
                         this.name = name;
                     }
 
+                    private final PveHandleCache<PVECidrItem> handles = new PveHandleCache<>();
+
                     public PVECidrItem get(Object cidr) {
-                        return new PVECidrItem(client, this.name, cidr);
+                        PVECidrItem item = handles.get(cidr);
+                        return item != null ? item : handles.put(cidr, new PVECidrItem(client, this.name, cidr));
                     }
 
                     public class PVECidrItem {
@@ -1551,9 +2130,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result removeIp(String digest) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("digest", digest);
-                            return client.delete("/cluster/firewall/ipset/" + this.name + "/" + this.cidr + "", parameters);
+                            return Operations.DELETE_CLUSTER_FIREWALL_IPSET_NAME_CIDR.execute(client, Operations.DELETE_CLUSTER_FIREWALL_IPSET_NAME_CIDR.parameters(digest), this.name, this.cidr);
                         }
 
                         /**
@@ -1564,7 +2141,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result removeIp() throws JSONException {
-                            return client.delete("/cluster/firewall/ipset/" + this.name + "/" + this.cidr + "", null);
+                            return Operations.DELETE_CLUSTER_FIREWALL_IPSET_NAME_CIDR.execute(client, null, this.name, this.cidr);
                         }
 
                         /**
@@ -1575,7 +2152,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result readIp() throws JSONException {
-                            return client.get("/cluster/firewall/ipset/" + this.name + "/" + this.cidr + "", null);
+                            return Operations.GET_CLUSTER_FIREWALL_IPSET_NAME_CIDR.execute(client, null, this.name, this.cidr);
                         }
 
                         /**
@@ -1591,11 +2168,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result updateIp(String comment, String digest, Boolean nomatch) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("comment", comment);
-                            parameters.put("digest", digest);
-                            parameters.put("nomatch", nomatch);
-                            return client.set("/cluster/firewall/ipset/" + this.name + "/" + this.cidr + "", parameters);
+                            return Operations.SET_CLUSTER_FIREWALL_IPSET_NAME_CIDR.execute(client, Operations.SET_CLUSTER_FIREWALL_IPSET_NAME_CIDR.parameters(comment, digest, nomatch), this.name, this.cidr);
                         }
 
                         /**
@@ -1606,7 +2179,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result updateIp() throws JSONException {
-                            return client.set("/cluster/firewall/ipset/" + this.name + "/" + this.cidr + "", null);
+                            return Operations.SET_CLUSTER_FIREWALL_IPSET_NAME_CIDR.execute(client, null, this.name, this.cidr);
                         }
 
                     }
@@ -1620,9 +2193,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result deleteIpset(Boolean force) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("force", force);
-                        return client.delete("/cluster/firewall/ipset/" + this.name + "", parameters);
+                        return Operations.DELETE_CLUSTER_FIREWALL_IPSET_NAME.execute(client, Operations.DELETE_CLUSTER_FIREWALL_IPSET_NAME.parameters(force), this.name);
                     }
 
                     /**
@@ -1633,7 +2204,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result deleteIpset() throws JSONException {
-                        return client.delete("/cluster/firewall/ipset/" + this.name + "", null);
+                        return Operations.DELETE_CLUSTER_FIREWALL_IPSET_NAME.execute(client, null, this.name);
                     }
 
                     /**
@@ -1644,7 +2215,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result getIpset() throws JSONException {
-                        return client.get("/cluster/firewall/ipset/" + this.name + "", null);
+                        return Operations.GET_CLUSTER_FIREWALL_IPSET_NAME.execute(client, null, this.name);
                     }
 
                     /**
@@ -1658,11 +2229,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result createIp(String cidr, String comment, Boolean nomatch) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("cidr", cidr);
-                        parameters.put("comment", comment);
-                        parameters.put("nomatch", nomatch);
-                        return client.create("/cluster/firewall/ipset/" + this.name + "", parameters);
+                        return Operations.CREATE_CLUSTER_FIREWALL_IPSET_NAME.execute(client, Operations.CREATE_CLUSTER_FIREWALL_IPSET_NAME.parameters(cidr, comment, nomatch), this.name);
                     }
 
                     /**
@@ -1674,9 +2241,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result createIp(String cidr) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("cidr", cidr);
-                        return client.create("/cluster/firewall/ipset/" + this.name + "", parameters);
+                        return Operations.CREATE_CLUSTER_FIREWALL_IPSET_NAME.execute(client, Operations.CREATE_CLUSTER_FIREWALL_IPSET_NAME.parameters(cidr), this.name);
                     }
 
                 }
@@ -1688,7 +2253,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result ipsetIndex() throws JSONException {
-                    return client.get("/cluster/firewall/ipset", null);
+                    return Operations.GET_CLUSTER_FIREWALL_IPSET.execute(client, null);
                 }
 
                 /**
@@ -1707,12 +2272,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result createIpset(String name, String comment, String digest, String rename) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("name", name);
-                    parameters.put("comment", comment);
-                    parameters.put("digest", digest);
-                    parameters.put("rename", rename);
-                    return client.create("/cluster/firewall/ipset", parameters);
+                    return Operations.CREATE_CLUSTER_FIREWALL_IPSET.execute(client, Operations.CREATE_CLUSTER_FIREWALL_IPSET.parameters(name, comment, digest, rename));
                 }
 
                 /**
@@ -1724,9 +2284,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result createIpset(String name) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("name", name);
-                    return client.create("/cluster/firewall/ipset", parameters);
+                    return Operations.CREATE_CLUSTER_FIREWALL_IPSET.execute(client, Operations.CREATE_CLUSTER_FIREWALL_IPSET.parameters(name));
                 }
 
             }
@@ -1740,8 +2298,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVENameItem> handles = new PveHandleCache<>();
+
                 public PVENameItem get(Object name) {
-                    return new PVENameItem(client, name);
+                    PVENameItem item = handles.get(name);
+                    return item != null ? item : handles.put(name, new PVENameItem(client, name));
                 }
 
                 public class PVENameItem {
@@ -1764,9 +2325,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result removeAlias(String digest) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("digest", digest);
-                        return client.delete("/cluster/firewall/aliases/" + this.name + "", parameters);
+                        return Operations.DELETE_CLUSTER_FIREWALL_ALIASES_NAME.execute(client, Operations.DELETE_CLUSTER_FIREWALL_ALIASES_NAME.parameters(digest), this.name);
                     }
 
                     /**
@@ -1777,7 +2336,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result removeAlias() throws JSONException {
-                        return client.delete("/cluster/firewall/aliases/" + this.name + "", null);
+                        return Operations.DELETE_CLUSTER_FIREWALL_ALIASES_NAME.execute(client, null, this.name);
                     }
 
                     /**
@@ -1788,7 +2347,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result readAlias() throws JSONException {
-                        return client.get("/cluster/firewall/aliases/" + this.name + "", null);
+                        return Operations.GET_CLUSTER_FIREWALL_ALIASES_NAME.execute(client, null, this.name);
                     }
 
                     /**
@@ -1805,12 +2364,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateAlias(String cidr, String comment, String digest, String rename) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("cidr", cidr);
-                        parameters.put("comment", comment);
-                        parameters.put("digest", digest);
-                        parameters.put("rename", rename);
-                        return client.set("/cluster/firewall/aliases/" + this.name + "", parameters);
+                        return Operations.SET_CLUSTER_FIREWALL_ALIASES_NAME.execute(client, Operations.SET_CLUSTER_FIREWALL_ALIASES_NAME.parameters(cidr, comment, digest, rename), this.name);
                     }
 
                     /**
@@ -1822,9 +2376,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateAlias(String cidr) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("cidr", cidr);
-                        return client.set("/cluster/firewall/aliases/" + this.name + "", parameters);
+                        return Operations.SET_CLUSTER_FIREWALL_ALIASES_NAME.execute(client, Operations.SET_CLUSTER_FIREWALL_ALIASES_NAME.parameters(cidr), this.name);
                     }
 
                 }
@@ -1836,7 +2388,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result getAliases() throws JSONException {
-                    return client.get("/cluster/firewall/aliases", null);
+                    return Operations.GET_CLUSTER_FIREWALL_ALIASES.execute(client, null);
                 }
 
                 /**
@@ -1850,11 +2402,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result createAlias(String cidr, String name, String comment) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("cidr", cidr);
-                    parameters.put("name", name);
-                    parameters.put("comment", comment);
-                    return client.create("/cluster/firewall/aliases", parameters);
+                    return Operations.CREATE_CLUSTER_FIREWALL_ALIASES.execute(client, Operations.CREATE_CLUSTER_FIREWALL_ALIASES.parameters(cidr, name, comment));
                 }
 
                 /**
@@ -1867,10 +2415,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result createAlias(String cidr, String name) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("cidr", cidr);
-                    parameters.put("name", name);
-                    return client.create("/cluster/firewall/aliases", parameters);
+                    return Operations.CREATE_CLUSTER_FIREWALL_ALIASES.execute(client, Operations.CREATE_CLUSTER_FIREWALL_ALIASES.parameters(cidr, name));
                 }
 
             }
@@ -1891,7 +2436,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result getOptions() throws JSONException {
-                    return client.get("/cluster/firewall/options", null);
+                    return Operations.GET_CLUSTER_FIREWALL_OPTIONS.execute(client, null);
                 }
 
                 /**
@@ -1911,15 +2456,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result setOptions(String delete, String digest, Boolean ebtables, Integer enable, String log_ratelimit, String policy_in, String policy_out) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("delete", delete);
-                    parameters.put("digest", digest);
-                    parameters.put("ebtables", ebtables);
-                    parameters.put("enable", enable);
-                    parameters.put("log_ratelimit", log_ratelimit);
-                    parameters.put("policy_in", policy_in);
-                    parameters.put("policy_out", policy_out);
-                    return client.set("/cluster/firewall/options", parameters);
+                    return Operations.SET_CLUSTER_FIREWALL_OPTIONS.execute(client, Operations.SET_CLUSTER_FIREWALL_OPTIONS.parameters(delete, digest, ebtables, enable, log_ratelimit, policy_in, policy_out));
                 }
 
                 /**
@@ -1930,7 +2467,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result setOptions() throws JSONException {
-                    return client.set("/cluster/firewall/options", null);
+                    return Operations.SET_CLUSTER_FIREWALL_OPTIONS.execute(client, null);
                 }
 
             }
@@ -1951,7 +2488,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result getMacros() throws JSONException {
-                    return client.get("/cluster/firewall/macros", null);
+                    return Operations.GET_CLUSTER_FIREWALL_MACROS.execute(client, null);
                 }
 
             }
@@ -1975,9 +2512,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result refs(String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("type", type);
-                    return client.get("/cluster/firewall/refs", parameters);
+                    return Operations.GET_CLUSTER_FIREWALL_REFS.execute(client, Operations.GET_CLUSTER_FIREWALL_REFS.parameters(type));
                 }
 
                 /**
@@ -1989,7 +2524,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result refs() throws JSONException {
-                    return client.get("/cluster/firewall/refs", null);
+                    return Operations.GET_CLUSTER_FIREWALL_REFS.execute(client, null);
                 }
 
             }
@@ -2001,7 +2536,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/cluster/firewall", null);
+                return Operations.GET_CLUSTER_FIREWALL.execute(client, null);
             }
 
         }
@@ -2015,8 +2550,11 @@ public class PveClient extends PveClientBase {
 
             }
 
+            private final PveHandleCache<PVEIdItem> handles = new PveHandleCache<>();
+
             public PVEIdItem get(Object id) {
-                return new PVEIdItem(client, id);
+                PVEIdItem item = handles.get(id);
+                return item != null ? item : handles.put(id, new PVEIdItem(client, id));
             }
 
             public class PVEIdItem {
@@ -2032,7 +2570,11 @@ public class PveClient extends PveClientBase {
                 private PVEIncludedVolumes includedVolumes;
 
                 public PVEIncludedVolumes getIncludedVolumes() {
-                    return includedVolumes == null ? (includedVolumes = new PVEIncludedVolumes(client, this.id)) : includedVolumes;
+                    PVEIncludedVolumes instance = includedVolumes;
+                    if (instance == null) {
+                        includedVolumes = instance = new PVEIncludedVolumes(client, this.id);
+                    }
+                    return instance;
                 }
 
                 public class PVEIncludedVolumes {
@@ -2053,7 +2595,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result getVolumeBackupIncluded() throws JSONException {
-                        return client.get("/cluster/backup/" + this.id + "/included_volumes", null);
+                        return Operations.GET_CLUSTER_BACKUP_ID_INCLUDED_VOLUMES.execute(client, null, this.id);
                     }
 
                 }
@@ -2065,7 +2607,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result deleteJob() throws JSONException {
-                    return client.delete("/cluster/backup/" + this.id + "", null);
+                    return Operations.DELETE_CLUSTER_BACKUP_ID.execute(client, null, this.id);
                 }
 
                 /**
@@ -2076,7 +2618,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result readJob() throws JSONException {
-                    return client.get("/cluster/backup/" + this.id + "", null);
+                    return Operations.GET_CLUSTER_BACKUP_ID.execute(client, null, this.id);
                 }
 
                 /**
@@ -2150,44 +2692,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result updateJob(Boolean all, Integer bwlimit, String comment, String compress, String delete, String dow, String dumpdir, Boolean enabled, String exclude, String exclude_path, Integer ionice, Integer lockwait, String mailnotification, String mailto, Integer maxfiles, String mode, String node, String notes_template, String performance, Integer pigz, String pool, Boolean protected_, String prune_backups, Boolean quiet, Boolean remove, Boolean repeat_missed, String schedule, String script, String starttime, Boolean stdexcludes, Boolean stop, Integer stopwait, String storage, String tmpdir, String vmid, Integer zstd) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("all", all);
-                    parameters.put("bwlimit", bwlimit);
-                    parameters.put("comment", comment);
-                    parameters.put("compress", compress);
-                    parameters.put("delete", delete);
-                    parameters.put("dow", dow);
-                    parameters.put("dumpdir", dumpdir);
-                    parameters.put("enabled", enabled);
-                    parameters.put("exclude", exclude);
-                    parameters.put("exclude-path", exclude_path);
-                    parameters.put("ionice", ionice);
-                    parameters.put("lockwait", lockwait);
-                    parameters.put("mailnotification", mailnotification);
-                    parameters.put("mailto", mailto);
-                    parameters.put("maxfiles", maxfiles);
-                    parameters.put("mode", mode);
-                    parameters.put("node", node);
-                    parameters.put("notes-template", notes_template);
-                    parameters.put("performance", performance);
-                    parameters.put("pigz", pigz);
-                    parameters.put("pool", pool);
-                    parameters.put("protected", protected_);
-                    parameters.put("prune-backups", prune_backups);
-                    parameters.put("quiet", quiet);
-                    parameters.put("remove", remove);
-                    parameters.put("repeat-missed", repeat_missed);
-                    parameters.put("schedule", schedule);
-                    parameters.put("script", script);
-                    parameters.put("starttime", starttime);
-                    parameters.put("stdexcludes", stdexcludes);
-                    parameters.put("stop", stop);
-                    parameters.put("stopwait", stopwait);
-                    parameters.put("storage", storage);
-                    parameters.put("tmpdir", tmpdir);
-                    parameters.put("vmid", vmid);
-                    parameters.put("zstd", zstd);
-                    return client.set("/cluster/backup/" + this.id + "", parameters);
+                    return Operations.SET_CLUSTER_BACKUP_ID.execute(client, Operations.SET_CLUSTER_BACKUP_ID.parameters(all, bwlimit, comment, compress, delete, dow, dumpdir, enabled, exclude, exclude_path, ionice, lockwait, mailnotification, mailto, maxfiles, mode, node, notes_template, performance, pigz, pool, protected_, prune_backups, quiet, remove, repeat_missed, schedule, script, starttime, stdexcludes, stop, stopwait, storage, tmpdir, vmid, zstd), this.id);
                 }
 
                 /**
@@ -2198,7 +2703,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result updateJob() throws JSONException {
-                    return client.set("/cluster/backup/" + this.id + "", null);
+                    return Operations.SET_CLUSTER_BACKUP_ID.execute(client, null, this.id);
                 }
 
             }
@@ -2210,7 +2715,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/cluster/backup", null);
+                return Operations.GET_CLUSTER_BACKUP.execute(client, null);
             }
 
             /**
@@ -2279,44 +2784,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result createJob(Boolean all, Integer bwlimit, String comment, String compress, String dow, String dumpdir, Boolean enabled, String exclude, String exclude_path, String id, Integer ionice, Integer lockwait, String mailnotification, String mailto, Integer maxfiles, String mode, String node, String notes_template, String performance, Integer pigz, String pool, Boolean protected_, String prune_backups, Boolean quiet, Boolean remove, Boolean repeat_missed, String schedule, String script, String starttime, Boolean stdexcludes, Boolean stop, Integer stopwait, String storage, String tmpdir, String vmid, Integer zstd) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("all", all);
-                parameters.put("bwlimit", bwlimit);
-                parameters.put("comment", comment);
-                parameters.put("compress", compress);
-                parameters.put("dow", dow);
-                parameters.put("dumpdir", dumpdir);
-                parameters.put("enabled", enabled);
-                parameters.put("exclude", exclude);
-                parameters.put("exclude-path", exclude_path);
-                parameters.put("id", id);
-                parameters.put("ionice", ionice);
-                parameters.put("lockwait", lockwait);
-                parameters.put("mailnotification", mailnotification);
-                parameters.put("mailto", mailto);
-                parameters.put("maxfiles", maxfiles);
-                parameters.put("mode", mode);
-                parameters.put("node", node);
-                parameters.put("notes-template", notes_template);
-                parameters.put("performance", performance);
-                parameters.put("pigz", pigz);
-                parameters.put("pool", pool);
-                parameters.put("protected", protected_);
-                parameters.put("prune-backups", prune_backups);
-                parameters.put("quiet", quiet);
-                parameters.put("remove", remove);
-                parameters.put("repeat-missed", repeat_missed);
-                parameters.put("schedule", schedule);
-                parameters.put("script", script);
-                parameters.put("starttime", starttime);
-                parameters.put("stdexcludes", stdexcludes);
-                parameters.put("stop", stop);
-                parameters.put("stopwait", stopwait);
-                parameters.put("storage", storage);
-                parameters.put("tmpdir", tmpdir);
-                parameters.put("vmid", vmid);
-                parameters.put("zstd", zstd);
-                return client.create("/cluster/backup", parameters);
+                return Operations.CREATE_CLUSTER_BACKUP.execute(client, Operations.CREATE_CLUSTER_BACKUP.parameters(all, bwlimit, comment, compress, dow, dumpdir, enabled, exclude, exclude_path, id, ionice, lockwait, mailnotification, mailto, maxfiles, mode, node, notes_template, performance, pigz, pool, protected_, prune_backups, quiet, remove, repeat_missed, schedule, script, starttime, stdexcludes, stop, stopwait, storage, tmpdir, vmid, zstd));
             }
 
             /**
@@ -2327,7 +2795,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result createJob() throws JSONException {
-                return client.create("/cluster/backup", null);
+                return Operations.CREATE_CLUSTER_BACKUP.execute(client, null);
             }
 
         }
@@ -2344,7 +2812,11 @@ public class PveClient extends PveClientBase {
             private PVENotBackedUp notBackedUp;
 
             public PVENotBackedUp getNotBackedUp() {
-                return notBackedUp == null ? (notBackedUp = new PVENotBackedUp(client)) : notBackedUp;
+                PVENotBackedUp instance = notBackedUp;
+                if (instance == null) {
+                    notBackedUp = instance = new PVENotBackedUp(client);
+                }
+                return instance;
             }
 
             public class PVENotBackedUp {
@@ -2363,7 +2835,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result getGuestsNotInBackup() throws JSONException {
-                    return client.get("/cluster/backup-info/not-backed-up", null);
+                    return Operations.GET_CLUSTER_BACKUP_INFO_NOT_BACKED_UP.execute(client, null);
                 }
 
             }
@@ -2375,7 +2847,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/cluster/backup-info", null);
+                return Operations.GET_CLUSTER_BACKUP_INFO.execute(client, null);
             }
 
         }
@@ -2392,17 +2864,29 @@ public class PveClient extends PveClientBase {
             private PVEResources resources;
 
             public PVEResources getResources() {
-                return resources == null ? (resources = new PVEResources(client)) : resources;
+                PVEResources instance = resources;
+                if (instance == null) {
+                    resources = instance = new PVEResources(client);
+                }
+                return instance;
             }
             private PVEGroups groups;
 
             public PVEGroups getGroups() {
-                return groups == null ? (groups = new PVEGroups(client)) : groups;
+                PVEGroups instance = groups;
+                if (instance == null) {
+                    groups = instance = new PVEGroups(client);
+                }
+                return instance;
             }
             private PVEStatus status;
 
             public PVEStatus getStatus() {
-                return status == null ? (status = new PVEStatus(client)) : status;
+                PVEStatus instance = status;
+                if (instance == null) {
+                    status = instance = new PVEStatus(client);
+                }
+                return instance;
             }
 
             public class PVEResources {
@@ -2414,8 +2898,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVESidItem> handles = new PveHandleCache<>();
+
                 public PVESidItem get(Object sid) {
-                    return new PVESidItem(client, sid);
+                    PVESidItem item = handles.get(sid);
+                    return item != null ? item : handles.put(sid, new PVESidItem(client, sid));
                 }
 
                 public class PVESidItem {
@@ -2431,12 +2918,20 @@ public class PveClient extends PveClientBase {
                     private PVEMigrate migrate;
 
                     public PVEMigrate getMigrate() {
-                        return migrate == null ? (migrate = new PVEMigrate(client, this.sid)) : migrate;
+                        PVEMigrate instance = migrate;
+                        if (instance == null) {
+                            migrate = instance = new PVEMigrate(client, this.sid);
+                        }
+                        return instance;
                     }
                     private PVERelocate relocate;
 
                     public PVERelocate getRelocate() {
-                        return relocate == null ? (relocate = new PVERelocate(client, this.sid)) : relocate;
+                        PVERelocate instance = relocate;
+                        if (instance == null) {
+                            relocate = instance = new PVERelocate(client, this.sid);
+                        }
+                        return instance;
                     }
 
                     public class PVEMigrate {
@@ -2457,9 +2952,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result migrate(String node) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("node", node);
-                            return client.create("/cluster/ha/resources/" + this.sid + "/migrate", parameters);
+                            return Operations.CREATE_CLUSTER_HA_RESOURCES_SID_MIGRATE.execute(client, Operations.CREATE_CLUSTER_HA_RESOURCES_SID_MIGRATE.parameters(node), this.sid);
                         }
 
                     }
@@ -2484,9 +2977,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result relocate(String node) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("node", node);
-                            return client.create("/cluster/ha/resources/" + this.sid + "/relocate", parameters);
+                            return Operations.CREATE_CLUSTER_HA_RESOURCES_SID_RELOCATE.execute(client, Operations.CREATE_CLUSTER_HA_RESOURCES_SID_RELOCATE.parameters(node), this.sid);
                         }
 
                     }
@@ -2498,7 +2989,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result delete() throws JSONException {
-                        return client.delete("/cluster/ha/resources/" + this.sid + "", null);
+                        return Operations.DELETE_CLUSTER_HA_RESOURCES_SID.execute(client, null, this.sid);
                     }
 
                     /**
@@ -2509,7 +3000,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result read() throws JSONException {
-                        return client.get("/cluster/ha/resources/" + this.sid + "", null);
+                        return Operations.GET_CLUSTER_HA_RESOURCES_SID.execute(client, null, this.sid);
                     }
 
                     /**
@@ -2532,15 +3023,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update(String comment, String delete, String digest, String group, Integer max_relocate, Integer max_restart, String state) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("comment", comment);
-                        parameters.put("delete", delete);
-                        parameters.put("digest", digest);
-                        parameters.put("group", group);
-                        parameters.put("max_relocate", max_relocate);
-                        parameters.put("max_restart", max_restart);
-                        parameters.put("state", state);
-                        return client.set("/cluster/ha/resources/" + this.sid + "", parameters);
+                        return Operations.SET_CLUSTER_HA_RESOURCES_SID.execute(client, Operations.SET_CLUSTER_HA_RESOURCES_SID.parameters(comment, delete, digest, group, max_relocate, max_restart, state), this.sid);
                     }
 
                     /**
@@ -2551,7 +3034,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update() throws JSONException {
-                        return client.set("/cluster/ha/resources/" + this.sid + "", null);
+                        return Operations.SET_CLUSTER_HA_RESOURCES_SID.execute(client, null, this.sid);
                     }
 
                 }
@@ -2564,9 +3047,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index(String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("type", type);
-                    return client.get("/cluster/ha/resources", parameters);
+                    return Operations.GET_CLUSTER_HA_RESOURCES.execute(client, Operations.GET_CLUSTER_HA_RESOURCES.parameters(type));
                 }
 
                 /**
@@ -2577,7 +3058,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result index() throws JSONException {
-                    return client.get("/cluster/ha/resources", null);
+                    return Operations.GET_CLUSTER_HA_RESOURCES.execute(client, null);
                 }
 
                 /**
@@ -2602,15 +3083,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String sid, String comment, String group, Integer max_relocate, Integer max_restart, String state, String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("sid", sid);
-                    parameters.put("comment", comment);
-                    parameters.put("group", group);
-                    parameters.put("max_relocate", max_relocate);
-                    parameters.put("max_restart", max_restart);
-                    parameters.put("state", state);
-                    parameters.put("type", type);
-                    return client.create("/cluster/ha/resources", parameters);
+                    return Operations.CREATE_CLUSTER_HA_RESOURCES.execute(client, Operations.CREATE_CLUSTER_HA_RESOURCES.parameters(sid, comment, group, max_relocate, max_restart, state, type));
                 }
 
                 /**
@@ -2626,9 +3099,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String sid) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("sid", sid);
-                    return client.create("/cluster/ha/resources", parameters);
+                    return Operations.CREATE_CLUSTER_HA_RESOURCES.execute(client, Operations.CREATE_CLUSTER_HA_RESOURCES.parameters(sid));
                 }
 
             }
@@ -2642,8 +3113,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVEGroupItem> handles = new PveHandleCache<>();
+
                 public PVEGroupItem get(Object group) {
-                    return new PVEGroupItem(client, group);
+                    PVEGroupItem item = handles.get(group);
+                    return item != null ? item : handles.put(group, new PVEGroupItem(client, group));
                 }
 
                 public class PVEGroupItem {
@@ -2663,7 +3137,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result delete() throws JSONException {
-                        return client.delete("/cluster/ha/groups/" + this.group + "", null);
+                        return Operations.DELETE_CLUSTER_HA_GROUPS_GROUP.execute(client, null, this.group);
                     }
 
                     /**
@@ -2674,7 +3148,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result read() throws JSONException {
-                        return client.get("/cluster/ha/groups/" + this.group + "", null);
+                        return Operations.GET_CLUSTER_HA_GROUPS_GROUP.execute(client, null, this.group);
                     }
 
                     /**
@@ -2698,14 +3172,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update(String comment, String delete, String digest, String nodes, Boolean nofailback, Boolean restricted) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("comment", comment);
-                        parameters.put("delete", delete);
-                        parameters.put("digest", digest);
-                        parameters.put("nodes", nodes);
-                        parameters.put("nofailback", nofailback);
-                        parameters.put("restricted", restricted);
-                        return client.set("/cluster/ha/groups/" + this.group + "", parameters);
+                        return Operations.SET_CLUSTER_HA_GROUPS_GROUP.execute(client, Operations.SET_CLUSTER_HA_GROUPS_GROUP.parameters(comment, delete, digest, nodes, nofailback, restricted), this.group);
                     }
 
                     /**
@@ -2716,7 +3183,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update() throws JSONException {
-                        return client.set("/cluster/ha/groups/" + this.group + "", null);
+                        return Operations.SET_CLUSTER_HA_GROUPS_GROUP.execute(client, null, this.group);
                     }
 
                 }
@@ -2728,7 +3195,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index() throws JSONException {
-                    return client.get("/cluster/ha/groups", null);
+                    return Operations.GET_CLUSTER_HA_GROUPS.execute(client, null);
                 }
 
                 /**
@@ -2750,14 +3217,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String group, String nodes, String comment, Boolean nofailback, Boolean restricted, String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("group", group);
-                    parameters.put("nodes", nodes);
-                    parameters.put("comment", comment);
-                    parameters.put("nofailback", nofailback);
-                    parameters.put("restricted", restricted);
-                    parameters.put("type", type);
-                    return client.create("/cluster/ha/groups", parameters);
+                    return Operations.CREATE_CLUSTER_HA_GROUPS.execute(client, Operations.CREATE_CLUSTER_HA_GROUPS.parameters(group, nodes, comment, nofailback, restricted, type));
                 }
 
                 /**
@@ -2771,10 +3231,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String group, String nodes) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("group", group);
-                    parameters.put("nodes", nodes);
-                    return client.create("/cluster/ha/groups", parameters);
+                    return Operations.CREATE_CLUSTER_HA_GROUPS.execute(client, Operations.CREATE_CLUSTER_HA_GROUPS.parameters(group, nodes));
                 }
 
             }
@@ -2791,12 +3248,20 @@ public class PveClient extends PveClientBase {
                 private PVECurrent current;
 
                 public PVECurrent getCurrent() {
-                    return current == null ? (current = new PVECurrent(client)) : current;
+                    PVECurrent instance = current;
+                    if (instance == null) {
+                        current = instance = new PVECurrent(client);
+                    }
+                    return instance;
                 }
                 private PVEManagerStatus managerStatus;
 
                 public PVEManagerStatus getManagerStatus() {
-                    return managerStatus == null ? (managerStatus = new PVEManagerStatus(client)) : managerStatus;
+                    PVEManagerStatus instance = managerStatus;
+                    if (instance == null) {
+                        managerStatus = instance = new PVEManagerStatus(client);
+                    }
+                    return instance;
                 }
 
                 public class PVECurrent {
@@ -2815,7 +3280,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result status() throws JSONException {
-                        return client.get("/cluster/ha/status/current", null);
+                        return Operations.GET_CLUSTER_HA_STATUS_CURRENT.execute(client, null);
                     }
 
                 }
@@ -2836,7 +3301,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result managerStatus() throws JSONException {
-                        return client.get("/cluster/ha/status/manager_status", null);
+                        return Operations.GET_CLUSTER_HA_STATUS_MANAGER_STATUS.execute(client, null);
                     }
 
                 }
@@ -2848,7 +3313,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index() throws JSONException {
-                    return client.get("/cluster/ha/status", null);
+                    return Operations.GET_CLUSTER_HA_STATUS.execute(client, null);
                 }
 
             }
@@ -2860,7 +3325,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/cluster/ha", null);
+                return Operations.GET_CLUSTER_HA.execute(client, null);
             }
 
         }
@@ -2877,27 +3342,47 @@ public class PveClient extends PveClientBase {
             private PVEPlugins plugins;
 
             public PVEPlugins getPlugins() {
-                return plugins == null ? (plugins = new PVEPlugins(client)) : plugins;
+                PVEPlugins instance = plugins;
+                if (instance == null) {
+                    plugins = instance = new PVEPlugins(client);
+                }
+                return instance;
             }
             private PVEAccount account;
 
             public PVEAccount getAccount() {
-                return account == null ? (account = new PVEAccount(client)) : account;
+                PVEAccount instance = account;
+                if (instance == null) {
+                    account = instance = new PVEAccount(client);
+                }
+                return instance;
             }
             private PVETos tos;
 
             public PVETos getTos() {
-                return tos == null ? (tos = new PVETos(client)) : tos;
+                PVETos instance = tos;
+                if (instance == null) {
+                    tos = instance = new PVETos(client);
+                }
+                return instance;
             }
             private PVEDirectories directories;
 
             public PVEDirectories getDirectories() {
-                return directories == null ? (directories = new PVEDirectories(client)) : directories;
+                PVEDirectories instance = directories;
+                if (instance == null) {
+                    directories = instance = new PVEDirectories(client);
+                }
+                return instance;
             }
             private PVEChallengeSchema challengeSchema;
 
             public PVEChallengeSchema getChallengeSchema() {
-                return challengeSchema == null ? (challengeSchema = new PVEChallengeSchema(client)) : challengeSchema;
+                PVEChallengeSchema instance = challengeSchema;
+                if (instance == null) {
+                    challengeSchema = instance = new PVEChallengeSchema(client);
+                }
+                return instance;
             }
 
             public class PVEPlugins {
@@ -2909,8 +3394,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVEIdItem> handles = new PveHandleCache<>();
+
                 public PVEIdItem get(Object id) {
-                    return new PVEIdItem(client, id);
+                    PVEIdItem item = handles.get(id);
+                    return item != null ? item : handles.put(id, new PVEIdItem(client, id));
                 }
 
                 public class PVEIdItem {
@@ -2930,7 +3418,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result deletePlugin() throws JSONException {
-                        return client.delete("/cluster/acme/plugins/" + this.id + "", null);
+                        return Operations.DELETE_CLUSTER_ACME_PLUGINS_ID.execute(client, null, this.id);
                     }
 
                     /**
@@ -2941,7 +3429,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result getPluginConfig() throws JSONException {
-                        return client.get("/cluster/acme/plugins/" + this.id + "", null);
+                        return Operations.GET_CLUSTER_ACME_PLUGINS_ID.execute(client, null, this.id);
                     }
 
                     /**
@@ -2964,15 +3452,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updatePlugin(String api, String data, String delete, String digest, Boolean disable, String nodes, Integer validation_delay) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("api", api);
-                        parameters.put("data", data);
-                        parameters.put("delete", delete);
-                        parameters.put("digest", digest);
-                        parameters.put("disable", disable);
-                        parameters.put("nodes", nodes);
-                        parameters.put("validation-delay", validation_delay);
-                        return client.set("/cluster/acme/plugins/" + this.id + "", parameters);
+                        return Operations.SET_CLUSTER_ACME_PLUGINS_ID.execute(client, Operations.SET_CLUSTER_ACME_PLUGINS_ID.parameters(api, data, delete, digest, disable, nodes, validation_delay), this.id);
                     }
 
                     /**
@@ -2983,7 +3463,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updatePlugin() throws JSONException {
-                        return client.set("/cluster/acme/plugins/" + this.id + "", null);
+                        return Operations.SET_CLUSTER_ACME_PLUGINS_ID.execute(client, null, this.id);
                     }
 
                 }
@@ -2997,9 +3477,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index(String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("type", type);
-                    return client.get("/cluster/acme/plugins", parameters);
+                    return Operations.GET_CLUSTER_ACME_PLUGINS.execute(client, Operations.GET_CLUSTER_ACME_PLUGINS.parameters(type));
                 }
 
                 /**
@@ -3010,7 +3488,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result index() throws JSONException {
-                    return client.get("/cluster/acme/plugins", null);
+                    return Operations.GET_CLUSTER_ACME_PLUGINS.execute(client, null);
                 }
 
                 /**
@@ -3031,15 +3509,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result addPlugin(String id, String type, String api, String data, Boolean disable, String nodes, Integer validation_delay) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("id", id);
-                    parameters.put("type", type);
-                    parameters.put("api", api);
-                    parameters.put("data", data);
-                    parameters.put("disable", disable);
-                    parameters.put("nodes", nodes);
-                    parameters.put("validation-delay", validation_delay);
-                    return client.create("/cluster/acme/plugins", parameters);
+                    return Operations.CREATE_CLUSTER_ACME_PLUGINS.execute(client, Operations.CREATE_CLUSTER_ACME_PLUGINS.parameters(id, type, api, data, disable, nodes, validation_delay));
                 }
 
                 /**
@@ -3052,10 +3522,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result addPlugin(String id, String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("id", id);
-                    parameters.put("type", type);
-                    return client.create("/cluster/acme/plugins", parameters);
+                    return Operations.CREATE_CLUSTER_ACME_PLUGINS.execute(client, Operations.CREATE_CLUSTER_ACME_PLUGINS.parameters(id, type));
                 }
 
             }
@@ -3069,8 +3536,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVENameItem> handles = new PveHandleCache<>();
+
                 public PVENameItem get(Object name) {
-                    return new PVENameItem(client, name);
+                    PVENameItem item = handles.get(name);
+                    return item != null ? item : handles.put(name, new PVENameItem(client, name));
                 }
 
                 public class PVENameItem {
@@ -3090,7 +3560,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result deactivateAccount() throws JSONException {
-                        return client.delete("/cluster/acme/account/" + this.name + "", null);
+                        return Operations.DELETE_CLUSTER_ACME_ACCOUNT_NAME.execute(client, null, this.name);
                     }
 
                     /**
@@ -3101,7 +3571,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result getAccount() throws JSONException {
-                        return client.get("/cluster/acme/account/" + this.name + "", null);
+                        return Operations.GET_CLUSTER_ACME_ACCOUNT_NAME.execute(client, null, this.name);
                     }
 
                     /**
@@ -3115,9 +3585,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateAccount(String contact) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("contact", contact);
-                        return client.set("/cluster/acme/account/" + this.name + "", parameters);
+                        return Operations.SET_CLUSTER_ACME_ACCOUNT_NAME.execute(client, Operations.SET_CLUSTER_ACME_ACCOUNT_NAME.parameters(contact), this.name);
                     }
 
                     /**
@@ -3130,7 +3598,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateAccount() throws JSONException {
-                        return client.set("/cluster/acme/account/" + this.name + "", null);
+                        return Operations.SET_CLUSTER_ACME_ACCOUNT_NAME.execute(client, null, this.name);
                     }
 
                 }
@@ -3142,7 +3610,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result accountIndex() throws JSONException {
-                    return client.get("/cluster/acme/account", null);
+                    return Operations.GET_CLUSTER_ACME_ACCOUNT.execute(client, null);
                 }
 
                 /**
@@ -3158,12 +3626,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result registerAccount(String contact, String directory, String name, String tos_url) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("contact", contact);
-                    parameters.put("directory", directory);
-                    parameters.put("name", name);
-                    parameters.put("tos_url", tos_url);
-                    return client.create("/cluster/acme/account", parameters);
+                    return Operations.CREATE_CLUSTER_ACME_ACCOUNT.execute(client, Operations.CREATE_CLUSTER_ACME_ACCOUNT.parameters(contact, directory, name, tos_url));
                 }
 
                 /**
@@ -3175,9 +3638,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result registerAccount(String contact) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("contact", contact);
-                    return client.create("/cluster/acme/account", parameters);
+                    return Operations.CREATE_CLUSTER_ACME_ACCOUNT.execute(client, Operations.CREATE_CLUSTER_ACME_ACCOUNT.parameters(contact));
                 }
 
             }
@@ -3199,9 +3660,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result getTos(String directory) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("directory", directory);
-                    return client.get("/cluster/acme/tos", parameters);
+                    return Operations.GET_CLUSTER_ACME_TOS.execute(client, Operations.GET_CLUSTER_ACME_TOS.parameters(directory));
                 }
 
                 /**
@@ -3212,7 +3671,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result getTos() throws JSONException {
-                    return client.get("/cluster/acme/tos", null);
+                    return Operations.GET_CLUSTER_ACME_TOS.execute(client, null);
                 }
 
             }
@@ -3233,7 +3692,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result getDirectories() throws JSONException {
-                    return client.get("/cluster/acme/directories", null);
+                    return Operations.GET_CLUSTER_ACME_DIRECTORIES.execute(client, null);
                 }
 
             }
@@ -3254,7 +3713,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result challengeschema() throws JSONException {
-                    return client.get("/cluster/acme/challenge-schema", null);
+                    return Operations.GET_CLUSTER_ACME_CHALLENGE_SCHEMA.execute(client, null);
                 }
 
             }
@@ -3266,7 +3725,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/cluster/acme", null);
+                return Operations.GET_CLUSTER_ACME.execute(client, null);
             }
 
         }
@@ -3283,17 +3742,29 @@ public class PveClient extends PveClientBase {
             private PVEMetadata metadata;
 
             public PVEMetadata getMetadata() {
-                return metadata == null ? (metadata = new PVEMetadata(client)) : metadata;
+                PVEMetadata instance = metadata;
+                if (instance == null) {
+                    metadata = instance = new PVEMetadata(client);
+                }
+                return instance;
             }
             private PVEStatus status;
 
             public PVEStatus getStatus() {
-                return status == null ? (status = new PVEStatus(client)) : status;
+                PVEStatus instance = status;
+                if (instance == null) {
+                    status = instance = new PVEStatus(client);
+                }
+                return instance;
             }
             private PVEFlags flags;
 
             public PVEFlags getFlags() {
-                return flags == null ? (flags = new PVEFlags(client)) : flags;
+                PVEFlags instance = flags;
+                if (instance == null) {
+                    flags = instance = new PVEFlags(client);
+                }
+                return instance;
             }
 
             public class PVEMetadata {
@@ -3313,9 +3784,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result metadata(String scope) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("scope", scope);
-                    return client.get("/cluster/ceph/metadata", parameters);
+                    return Operations.GET_CLUSTER_CEPH_METADATA.execute(client, Operations.GET_CLUSTER_CEPH_METADATA.parameters(scope));
                 }
 
                 /**
@@ -3326,7 +3795,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result metadata() throws JSONException {
-                    return client.get("/cluster/ceph/metadata", null);
+                    return Operations.GET_CLUSTER_CEPH_METADATA.execute(client, null);
                 }
 
             }
@@ -3347,7 +3816,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result status() throws JSONException {
-                    return client.get("/cluster/ceph/status", null);
+                    return Operations.GET_CLUSTER_CEPH_STATUS.execute(client, null);
                 }
 
             }
@@ -3361,8 +3830,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVEFlagItem> handles = new PveHandleCache<>();
+
                 public PVEFlagItem get(Object flag) {
-                    return new PVEFlagItem(client, flag);
+                    PVEFlagItem item = handles.get(flag);
+                    return item != null ? item : handles.put(flag, new PVEFlagItem(client, flag));
                 }
 
                 public class PVEFlagItem {
@@ -3382,7 +3854,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result getFlag() throws JSONException {
-                        return client.get("/cluster/ceph/flags/" + this.flag + "", null);
+                        return Operations.GET_CLUSTER_CEPH_FLAGS_FLAG.execute(client, null, this.flag);
                     }
 
                     /**
@@ -3394,9 +3866,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateFlag(boolean value) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("value", value);
-                        return client.set("/cluster/ceph/flags/" + this.flag + "", parameters);
+                        return Operations.SET_CLUSTER_CEPH_FLAGS_FLAG.execute(client, Operations.SET_CLUSTER_CEPH_FLAGS_FLAG.parameters(value), this.flag);
                     }
 
                 }
@@ -3408,7 +3878,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result getAllFlags() throws JSONException {
-                    return client.get("/cluster/ceph/flags", null);
+                    return Operations.GET_CLUSTER_CEPH_FLAGS.execute(client, null);
                 }
 
                 /**
@@ -3433,19 +3903,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result setFlags(Boolean nobackfill, Boolean nodeep_scrub, Boolean nodown, Boolean noin, Boolean noout, Boolean norebalance, Boolean norecover, Boolean noscrub, Boolean notieragent, Boolean noup, Boolean pause) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("nobackfill", nobackfill);
-                    parameters.put("nodeep-scrub", nodeep_scrub);
-                    parameters.put("nodown", nodown);
-                    parameters.put("noin", noin);
-                    parameters.put("noout", noout);
-                    parameters.put("norebalance", norebalance);
-                    parameters.put("norecover", norecover);
-                    parameters.put("noscrub", noscrub);
-                    parameters.put("notieragent", notieragent);
-                    parameters.put("noup", noup);
-                    parameters.put("pause", pause);
-                    return client.set("/cluster/ceph/flags", parameters);
+                    return Operations.SET_CLUSTER_CEPH_FLAGS.execute(client, Operations.SET_CLUSTER_CEPH_FLAGS.parameters(nobackfill, nodeep_scrub, nodown, noin, noout, norebalance, norecover, noscrub, notieragent, noup, pause));
                 }
 
                 /**
@@ -3456,7 +3914,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result setFlags() throws JSONException {
-                    return client.set("/cluster/ceph/flags", null);
+                    return Operations.SET_CLUSTER_CEPH_FLAGS.execute(client, null);
                 }
 
             }
@@ -3468,7 +3926,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result cephindex() throws JSONException {
-                return client.get("/cluster/ceph", null);
+                return Operations.GET_CLUSTER_CEPH.execute(client, null);
             }
 
         }
@@ -3485,12 +3943,20 @@ public class PveClient extends PveClientBase {
             private PVERealmSync realmSync;
 
             public PVERealmSync getRealmSync() {
-                return realmSync == null ? (realmSync = new PVERealmSync(client)) : realmSync;
+                PVERealmSync instance = realmSync;
+                if (instance == null) {
+                    realmSync = instance = new PVERealmSync(client);
+                }
+                return instance;
             }
             private PVEScheduleAnalyze scheduleAnalyze;
 
             public PVEScheduleAnalyze getScheduleAnalyze() {
-                return scheduleAnalyze == null ? (scheduleAnalyze = new PVEScheduleAnalyze(client)) : scheduleAnalyze;
+                PVEScheduleAnalyze instance = scheduleAnalyze;
+                if (instance == null) {
+                    scheduleAnalyze = instance = new PVEScheduleAnalyze(client);
+                }
+                return instance;
             }
 
             public class PVERealmSync {
@@ -3502,8 +3968,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVEIdItem> handles = new PveHandleCache<>();
+
                 public PVEIdItem get(Object id) {
-                    return new PVEIdItem(client, id);
+                    PVEIdItem item = handles.get(id);
+                    return item != null ? item : handles.put(id, new PVEIdItem(client, id));
                 }
 
                 public class PVEIdItem {
@@ -3523,7 +3992,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result deleteJob() throws JSONException {
-                        return client.delete("/cluster/jobs/realm-sync/" + this.id + "", null);
+                        return Operations.DELETE_CLUSTER_JOBS_REALM_SYNC_ID.execute(client, null, this.id);
                     }
 
                     /**
@@ -3534,7 +4003,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result readJob() throws JSONException {
-                        return client.get("/cluster/jobs/realm-sync/" + this.id + "", null);
+                        return Operations.GET_CLUSTER_JOBS_REALM_SYNC_ID.execute(client, null, this.id);
                     }
 
                     /**
@@ -3561,15 +4030,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result createJob(String schedule, String comment, Boolean enable_new, Boolean enabled, String realm, String remove_vanished, String scope) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("schedule", schedule);
-                        parameters.put("comment", comment);
-                        parameters.put("enable-new", enable_new);
-                        parameters.put("enabled", enabled);
-                        parameters.put("realm", realm);
-                        parameters.put("remove-vanished", remove_vanished);
-                        parameters.put("scope", scope);
-                        return client.create("/cluster/jobs/realm-sync/" + this.id + "", parameters);
+                        return Operations.CREATE_CLUSTER_JOBS_REALM_SYNC_ID.execute(client, Operations.CREATE_CLUSTER_JOBS_REALM_SYNC_ID.parameters(schedule, comment, enable_new, enabled, realm, remove_vanished, scope), this.id);
                     }
 
                     /**
@@ -3582,9 +4043,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result createJob(String schedule) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("schedule", schedule);
-                        return client.create("/cluster/jobs/realm-sync/" + this.id + "", parameters);
+                        return Operations.CREATE_CLUSTER_JOBS_REALM_SYNC_ID.execute(client, Operations.CREATE_CLUSTER_JOBS_REALM_SYNC_ID.parameters(schedule), this.id);
                     }
 
                     /**
@@ -3611,15 +4070,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateJob(String schedule, String comment, String delete, Boolean enable_new, Boolean enabled, String remove_vanished, String scope) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("schedule", schedule);
-                        parameters.put("comment", comment);
-                        parameters.put("delete", delete);
-                        parameters.put("enable-new", enable_new);
-                        parameters.put("enabled", enabled);
-                        parameters.put("remove-vanished", remove_vanished);
-                        parameters.put("scope", scope);
-                        return client.set("/cluster/jobs/realm-sync/" + this.id + "", parameters);
+                        return Operations.SET_CLUSTER_JOBS_REALM_SYNC_ID.execute(client, Operations.SET_CLUSTER_JOBS_REALM_SYNC_ID.parameters(schedule, comment, delete, enable_new, enabled, remove_vanished, scope), this.id);
                     }
 
                     /**
@@ -3632,9 +4083,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateJob(String schedule) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("schedule", schedule);
-                        return client.set("/cluster/jobs/realm-sync/" + this.id + "", parameters);
+                        return Operations.SET_CLUSTER_JOBS_REALM_SYNC_ID.execute(client, Operations.SET_CLUSTER_JOBS_REALM_SYNC_ID.parameters(schedule), this.id);
                     }
 
                 }
@@ -3646,7 +4095,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result syncjobIndex() throws JSONException {
-                    return client.get("/cluster/jobs/realm-sync", null);
+                    return Operations.GET_CLUSTER_JOBS_REALM_SYNC.execute(client, null);
                 }
 
             }
@@ -3673,11 +4122,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result scheduleAnalyze(String schedule, Integer iterations, Integer starttime) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("schedule", schedule);
-                    parameters.put("iterations", iterations);
-                    parameters.put("starttime", starttime);
-                    return client.get("/cluster/jobs/schedule-analyze", parameters);
+                    return Operations.GET_CLUSTER_JOBS_SCHEDULE_ANALYZE.execute(client, Operations.GET_CLUSTER_JOBS_SCHEDULE_ANALYZE.parameters(schedule, iterations, starttime));
                 }
 
                 /**
@@ -3690,9 +4135,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result scheduleAnalyze(String schedule) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("schedule", schedule);
-                    return client.get("/cluster/jobs/schedule-analyze", parameters);
+                    return Operations.GET_CLUSTER_JOBS_SCHEDULE_ANALYZE.execute(client, Operations.GET_CLUSTER_JOBS_SCHEDULE_ANALYZE.parameters(schedule));
                 }
 
             }
@@ -3704,7 +4147,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/cluster/jobs", null);
+                return Operations.GET_CLUSTER_JOBS.execute(client, null);
             }
 
         }
@@ -3721,12 +4164,20 @@ public class PveClient extends PveClientBase {
             private PVEPci pci;
 
             public PVEPci getPci() {
-                return pci == null ? (pci = new PVEPci(client)) : pci;
+                PVEPci instance = pci;
+                if (instance == null) {
+                    pci = instance = new PVEPci(client);
+                }
+                return instance;
             }
             private PVEUsb usb;
 
             public PVEUsb getUsb() {
-                return usb == null ? (usb = new PVEUsb(client)) : usb;
+                PVEUsb instance = usb;
+                if (instance == null) {
+                    usb = instance = new PVEUsb(client);
+                }
+                return instance;
             }
 
             public class PVEPci {
@@ -3738,8 +4189,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVEIdItem> handles = new PveHandleCache<>();
+
                 public PVEIdItem get(Object id) {
-                    return new PVEIdItem(client, id);
+                    PVEIdItem item = handles.get(id);
+                    return item != null ? item : handles.put(id, new PVEIdItem(client, id));
                 }
 
                 public class PVEIdItem {
@@ -3759,7 +4213,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result delete() throws JSONException {
-                        return client.delete("/cluster/mapping/pci/" + this.id + "", null);
+                        return Operations.DELETE_CLUSTER_MAPPING_PCI_ID.execute(client, null, this.id);
                     }
 
                     /**
@@ -3770,7 +4224,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result get() throws JSONException {
-                        return client.get("/cluster/mapping/pci/" + this.id + "", null);
+                        return Operations.GET_CLUSTER_MAPPING_PCI_ID.execute(client, null, this.id);
                     }
 
                     /**
@@ -3788,13 +4242,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update(String delete, String description, String digest, String map, Boolean mdev) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("delete", delete);
-                        parameters.put("description", description);
-                        parameters.put("digest", digest);
-                        parameters.put("map", map);
-                        parameters.put("mdev", mdev);
-                        return client.set("/cluster/mapping/pci/" + this.id + "", parameters);
+                        return Operations.SET_CLUSTER_MAPPING_PCI_ID.execute(client, Operations.SET_CLUSTER_MAPPING_PCI_ID.parameters(delete, description, digest, map, mdev), this.id);
                     }
 
                     /**
@@ -3805,7 +4253,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update() throws JSONException {
-                        return client.set("/cluster/mapping/pci/" + this.id + "", null);
+                        return Operations.SET_CLUSTER_MAPPING_PCI_ID.execute(client, null, this.id);
                     }
 
                 }
@@ -3820,9 +4268,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index(String check_node) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("check-node", check_node);
-                    return client.get("/cluster/mapping/pci", parameters);
+                    return Operations.GET_CLUSTER_MAPPING_PCI.execute(client, Operations.GET_CLUSTER_MAPPING_PCI.parameters(check_node));
                 }
 
                 /**
@@ -3833,7 +4279,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result index() throws JSONException {
-                    return client.get("/cluster/mapping/pci", null);
+                    return Operations.GET_CLUSTER_MAPPING_PCI.execute(client, null);
                 }
 
                 /**
@@ -3848,12 +4294,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String id, String map, String description, Boolean mdev) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("id", id);
-                    parameters.put("map", map);
-                    parameters.put("description", description);
-                    parameters.put("mdev", mdev);
-                    return client.create("/cluster/mapping/pci", parameters);
+                    return Operations.CREATE_CLUSTER_MAPPING_PCI.execute(client, Operations.CREATE_CLUSTER_MAPPING_PCI.parameters(id, map, description, mdev));
                 }
 
                 /**
@@ -3866,10 +4307,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String id, String map) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("id", id);
-                    parameters.put("map", map);
-                    return client.create("/cluster/mapping/pci", parameters);
+                    return Operations.CREATE_CLUSTER_MAPPING_PCI.execute(client, Operations.CREATE_CLUSTER_MAPPING_PCI.parameters(id, map));
                 }
 
             }
@@ -3883,8 +4321,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVEIdItem> handles = new PveHandleCache<>();
+
                 public PVEIdItem get(Object id) {
-                    return new PVEIdItem(client, id);
+                    PVEIdItem item = handles.get(id);
+                    return item != null ? item : handles.put(id, new PVEIdItem(client, id));
                 }
 
                 public class PVEIdItem {
@@ -3904,7 +4345,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result delete() throws JSONException {
-                        return client.delete("/cluster/mapping/usb/" + this.id + "", null);
+                        return Operations.DELETE_CLUSTER_MAPPING_USB_ID.execute(client, null, this.id);
                     }
 
                     /**
@@ -3915,7 +4356,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result get() throws JSONException {
-                        return client.get("/cluster/mapping/usb/" + this.id + "", null);
+                        return Operations.GET_CLUSTER_MAPPING_USB_ID.execute(client, null, this.id);
                     }
 
                     /**
@@ -3932,12 +4373,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update(String map, String delete, String description, String digest) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("map", map);
-                        parameters.put("delete", delete);
-                        parameters.put("description", description);
-                        parameters.put("digest", digest);
-                        return client.set("/cluster/mapping/usb/" + this.id + "", parameters);
+                        return Operations.SET_CLUSTER_MAPPING_USB_ID.execute(client, Operations.SET_CLUSTER_MAPPING_USB_ID.parameters(map, delete, description, digest), this.id);
                     }
 
                     /**
@@ -3949,9 +4385,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update(String map) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("map", map);
-                        return client.set("/cluster/mapping/usb/" + this.id + "", parameters);
+                        return Operations.SET_CLUSTER_MAPPING_USB_ID.execute(client, Operations.SET_CLUSTER_MAPPING_USB_ID.parameters(map), this.id);
                     }
 
                 }
@@ -3966,9 +4400,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index(String check_node) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("check-node", check_node);
-                    return client.get("/cluster/mapping/usb", parameters);
+                    return Operations.GET_CLUSTER_MAPPING_USB.execute(client, Operations.GET_CLUSTER_MAPPING_USB.parameters(check_node));
                 }
 
                 /**
@@ -3979,7 +4411,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result index() throws JSONException {
-                    return client.get("/cluster/mapping/usb", null);
+                    return Operations.GET_CLUSTER_MAPPING_USB.execute(client, null);
                 }
 
                 /**
@@ -3993,11 +4425,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String id, String map, String description) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("id", id);
-                    parameters.put("map", map);
-                    parameters.put("description", description);
-                    return client.create("/cluster/mapping/usb", parameters);
+                    return Operations.CREATE_CLUSTER_MAPPING_USB.execute(client, Operations.CREATE_CLUSTER_MAPPING_USB.parameters(id, map, description));
                 }
 
                 /**
@@ -4010,10 +4438,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String id, String map) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("id", id);
-                    parameters.put("map", map);
-                    return client.create("/cluster/mapping/usb", parameters);
+                    return Operations.CREATE_CLUSTER_MAPPING_USB.execute(client, Operations.CREATE_CLUSTER_MAPPING_USB.parameters(id, map));
                 }
 
             }
@@ -4025,7 +4450,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/cluster/mapping", null);
+                return Operations.GET_CLUSTER_MAPPING.execute(client, null);
             }
 
         }
@@ -4042,27 +4467,47 @@ public class PveClient extends PveClientBase {
             private PVEVnets vnets;
 
             public PVEVnets getVnets() {
-                return vnets == null ? (vnets = new PVEVnets(client)) : vnets;
+                PVEVnets instance = vnets;
+                if (instance == null) {
+                    vnets = instance = new PVEVnets(client);
+                }
+                return instance;
             }
             private PVEZones zones;
 
             public PVEZones getZones() {
-                return zones == null ? (zones = new PVEZones(client)) : zones;
+                PVEZones instance = zones;
+                if (instance == null) {
+                    zones = instance = new PVEZones(client);
+                }
+                return instance;
             }
             private PVEControllers controllers;
 
             public PVEControllers getControllers() {
-                return controllers == null ? (controllers = new PVEControllers(client)) : controllers;
+                PVEControllers instance = controllers;
+                if (instance == null) {
+                    controllers = instance = new PVEControllers(client);
+                }
+                return instance;
             }
             private PVEIpams ipams;
 
             public PVEIpams getIpams() {
-                return ipams == null ? (ipams = new PVEIpams(client)) : ipams;
+                PVEIpams instance = ipams;
+                if (instance == null) {
+                    ipams = instance = new PVEIpams(client);
+                }
+                return instance;
             }
             private PVEDns dns;
 
             public PVEDns getDns() {
-                return dns == null ? (dns = new PVEDns(client)) : dns;
+                PVEDns instance = dns;
+                if (instance == null) {
+                    dns = instance = new PVEDns(client);
+                }
+                return instance;
             }
 
             public class PVEVnets {
@@ -4074,8 +4519,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVEVnetItem> handles = new PveHandleCache<>();
+
                 public PVEVnetItem get(Object vnet) {
-                    return new PVEVnetItem(client, vnet);
+                    PVEVnetItem item = handles.get(vnet);
+                    return item != null ? item : handles.put(vnet, new PVEVnetItem(client, vnet));
                 }
 
                 public class PVEVnetItem {
@@ -4091,7 +4539,11 @@ public class PveClient extends PveClientBase {
                     private PVESubnets subnets;
 
                     public PVESubnets getSubnets() {
-                        return subnets == null ? (subnets = new PVESubnets(client, this.vnet)) : subnets;
+                        PVESubnets instance = subnets;
+                        if (instance == null) {
+                            subnets = instance = new PVESubnets(client, this.vnet);
+                        }
+                        return instance;
                     }
 
                     public class PVESubnets {
@@ -4104,8 +4556,11 @@ public class PveClient extends PveClientBase {
                             this.vnet = vnet;
                         }
 
+                        private final PveHandleCache<PVESubnetItem> handles = new PveHandleCache<>();
+
                         public PVESubnetItem get(Object subnet) {
-                            return new PVESubnetItem(client, this.vnet, subnet);
+                            PVESubnetItem item = handles.get(subnet);
+                            return item != null ? item : handles.put(subnet, new PVESubnetItem(client, this.vnet, subnet));
                         }
 
                         public class PVESubnetItem {
@@ -4127,7 +4582,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result delete() throws JSONException {
-                                return client.delete("/cluster/sdn/vnets/" + this.vnet + "/subnets/" + this.subnet + "", null);
+                                return Operations.DELETE_CLUSTER_SDN_VNETS_VNET_SUBNETS_SUBNET.execute(client, null, this.vnet, this.subnet);
                             }
 
                             /**
@@ -4140,10 +4595,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result read(Boolean pending, Boolean running) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("pending", pending);
-                                parameters.put("running", running);
-                                return client.get("/cluster/sdn/vnets/" + this.vnet + "/subnets/" + this.subnet + "", parameters);
+                                return Operations.GET_CLUSTER_SDN_VNETS_VNET_SUBNETS_SUBNET.execute(client, Operations.GET_CLUSTER_SDN_VNETS_VNET_SUBNETS_SUBNET.parameters(pending, running), this.vnet, this.subnet);
                             }
 
                             /**
@@ -4154,7 +4606,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result read() throws JSONException {
-                                return client.get("/cluster/sdn/vnets/" + this.vnet + "/subnets/" + this.subnet + "", null);
+                                return Operations.GET_CLUSTER_SDN_VNETS_VNET_SUBNETS_SUBNET.execute(client, null, this.vnet, this.subnet);
                             }
 
                             /**
@@ -4178,13 +4630,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result update(String delete, String digest, String dnszoneprefix, String gateway, Boolean snat) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("delete", delete);
-                                parameters.put("digest", digest);
-                                parameters.put("dnszoneprefix", dnszoneprefix);
-                                parameters.put("gateway", gateway);
-                                parameters.put("snat", snat);
-                                return client.set("/cluster/sdn/vnets/" + this.vnet + "/subnets/" + this.subnet + "", parameters);
+                                return Operations.SET_CLUSTER_SDN_VNETS_VNET_SUBNETS_SUBNET.execute(client, Operations.SET_CLUSTER_SDN_VNETS_VNET_SUBNETS_SUBNET.parameters(delete, digest, dnszoneprefix, gateway, snat), this.vnet, this.subnet);
                             }
 
                             /**
@@ -4195,7 +4641,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result update() throws JSONException {
-                                return client.set("/cluster/sdn/vnets/" + this.vnet + "/subnets/" + this.subnet + "", null);
+                                return Operations.SET_CLUSTER_SDN_VNETS_VNET_SUBNETS_SUBNET.execute(client, null, this.vnet, this.subnet);
                             }
 
                         }
@@ -4209,10 +4655,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result index(Boolean pending, Boolean running) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("pending", pending);
-                            parameters.put("running", running);
-                            return client.get("/cluster/sdn/vnets/" + this.vnet + "/subnets", parameters);
+                            return Operations.GET_CLUSTER_SDN_VNETS_VNET_SUBNETS.execute(client, Operations.GET_CLUSTER_SDN_VNETS_VNET_SUBNETS.parameters(pending, running), this.vnet);
                         }
 
                         /**
@@ -4223,7 +4666,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result index() throws JSONException {
-                            return client.get("/cluster/sdn/vnets/" + this.vnet + "/subnets", null);
+                            return Operations.GET_CLUSTER_SDN_VNETS_VNET_SUBNETS.execute(client, null, this.vnet);
                         }
 
                         /**
@@ -4242,13 +4685,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result create(String subnet, String type, String dnszoneprefix, String gateway, Boolean snat) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("subnet", subnet);
-                            parameters.put("type", type);
-                            parameters.put("dnszoneprefix", dnszoneprefix);
-                            parameters.put("gateway", gateway);
-                            parameters.put("snat", snat);
-                            return client.create("/cluster/sdn/vnets/" + this.vnet + "/subnets", parameters);
+                            return Operations.CREATE_CLUSTER_SDN_VNETS_VNET_SUBNETS.execute(client, Operations.CREATE_CLUSTER_SDN_VNETS_VNET_SUBNETS.parameters(subnet, type, dnszoneprefix, gateway, snat), this.vnet);
                         }
 
                         /**
@@ -4261,10 +4698,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result create(String subnet, String type) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("subnet", subnet);
-                            parameters.put("type", type);
-                            return client.create("/cluster/sdn/vnets/" + this.vnet + "/subnets", parameters);
+                            return Operations.CREATE_CLUSTER_SDN_VNETS_VNET_SUBNETS.execute(client, Operations.CREATE_CLUSTER_SDN_VNETS_VNET_SUBNETS.parameters(subnet, type), this.vnet);
                         }
 
                     }
@@ -4276,7 +4710,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result delete() throws JSONException {
-                        return client.delete("/cluster/sdn/vnets/" + this.vnet + "", null);
+                        return Operations.DELETE_CLUSTER_SDN_VNETS_VNET.execute(client, null, this.vnet);
                     }
 
                     /**
@@ -4289,10 +4723,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result read(Boolean pending, Boolean running) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("pending", pending);
-                        parameters.put("running", running);
-                        return client.get("/cluster/sdn/vnets/" + this.vnet + "", parameters);
+                        return Operations.GET_CLUSTER_SDN_VNETS_VNET.execute(client, Operations.GET_CLUSTER_SDN_VNETS_VNET.parameters(pending, running), this.vnet);
                     }
 
                     /**
@@ -4303,7 +4734,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result read() throws JSONException {
-                        return client.get("/cluster/sdn/vnets/" + this.vnet + "", null);
+                        return Operations.GET_CLUSTER_SDN_VNETS_VNET.execute(client, null, this.vnet);
                     }
 
                     /**
@@ -4323,14 +4754,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update(String alias, String delete, String digest, Integer tag, Boolean vlanaware, String zone) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("alias", alias);
-                        parameters.put("delete", delete);
-                        parameters.put("digest", digest);
-                        parameters.put("tag", tag);
-                        parameters.put("vlanaware", vlanaware);
-                        parameters.put("zone", zone);
-                        return client.set("/cluster/sdn/vnets/" + this.vnet + "", parameters);
+                        return Operations.SET_CLUSTER_SDN_VNETS_VNET.execute(client, Operations.SET_CLUSTER_SDN_VNETS_VNET.parameters(alias, delete, digest, tag, vlanaware, zone), this.vnet);
                     }
 
                     /**
@@ -4341,7 +4765,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update() throws JSONException {
-                        return client.set("/cluster/sdn/vnets/" + this.vnet + "", null);
+                        return Operations.SET_CLUSTER_SDN_VNETS_VNET.execute(client, null, this.vnet);
                     }
 
                 }
@@ -4355,10 +4779,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index(Boolean pending, Boolean running) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("pending", pending);
-                    parameters.put("running", running);
-                    return client.get("/cluster/sdn/vnets", parameters);
+                    return Operations.GET_CLUSTER_SDN_VNETS.execute(client, Operations.GET_CLUSTER_SDN_VNETS.parameters(pending, running));
                 }
 
                 /**
@@ -4369,7 +4790,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result index() throws JSONException {
-                    return client.get("/cluster/sdn/vnets", null);
+                    return Operations.GET_CLUSTER_SDN_VNETS.execute(client, null);
                 }
 
                 /**
@@ -4386,14 +4807,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String vnet, String zone, String alias, Integer tag, String type, Boolean vlanaware) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("vnet", vnet);
-                    parameters.put("zone", zone);
-                    parameters.put("alias", alias);
-                    parameters.put("tag", tag);
-                    parameters.put("type", type);
-                    parameters.put("vlanaware", vlanaware);
-                    return client.create("/cluster/sdn/vnets", parameters);
+                    return Operations.CREATE_CLUSTER_SDN_VNETS.execute(client, Operations.CREATE_CLUSTER_SDN_VNETS.parameters(vnet, zone, alias, tag, type, vlanaware));
                 }
 
                 /**
@@ -4406,10 +4820,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String vnet, String zone) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("vnet", vnet);
-                    parameters.put("zone", zone);
-                    return client.create("/cluster/sdn/vnets", parameters);
+                    return Operations.CREATE_CLUSTER_SDN_VNETS.execute(client, Operations.CREATE_CLUSTER_SDN_VNETS.parameters(vnet, zone));
                 }
 
             }
@@ -4423,8 +4834,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVEZoneItem> handles = new PveHandleCache<>();
+
                 public PVEZoneItem get(Object zone) {
-                    return new PVEZoneItem(client, zone);
+                    PVEZoneItem item = handles.get(zone);
+                    return item != null ? item : handles.put(zone, new PVEZoneItem(client, zone));
                 }
 
                 public class PVEZoneItem {
@@ -4444,7 +4858,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result delete() throws JSONException {
-                        return client.delete("/cluster/sdn/zones/" + this.zone + "", null);
+                        return Operations.DELETE_CLUSTER_SDN_ZONES_ZONE.execute(client, null, this.zone);
                     }
 
                     /**
@@ -4457,10 +4871,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result read(Boolean pending, Boolean running) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("pending", pending);
-                        parameters.put("running", running);
-                        return client.get("/cluster/sdn/zones/" + this.zone + "", parameters);
+                        return Operations.GET_CLUSTER_SDN_ZONES_ZONE.execute(client, Operations.GET_CLUSTER_SDN_ZONES_ZONE.parameters(pending, running), this.zone);
                     }
 
                     /**
@@ -4471,7 +4882,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result read() throws JSONException {
-                        return client.get("/cluster/sdn/zones/" + this.zone + "", null);
+                        return Operations.GET_CLUSTER_SDN_ZONES_ZONE.execute(client, null, this.zone);
                     }
 
                     /**
@@ -4513,32 +4924,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update(Boolean advertise_subnets, String bridge, Boolean bridge_disable_mac_learning, String controller, String delete, String digest, Boolean disable_arp_nd_suppression, String dns, String dnszone, Integer dp_id, String exitnodes, Boolean exitnodes_local_routing, String exitnodes_primary, String ipam, String mac, Integer mtu, String nodes, String peers, String reversedns, String rt_import, Integer tag, String vlan_protocol, Integer vrf_vxlan, Integer vxlan_port) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("advertise-subnets", advertise_subnets);
-                        parameters.put("bridge", bridge);
-                        parameters.put("bridge-disable-mac-learning", bridge_disable_mac_learning);
-                        parameters.put("controller", controller);
-                        parameters.put("delete", delete);
-                        parameters.put("digest", digest);
-                        parameters.put("disable-arp-nd-suppression", disable_arp_nd_suppression);
-                        parameters.put("dns", dns);
-                        parameters.put("dnszone", dnszone);
-                        parameters.put("dp-id", dp_id);
-                        parameters.put("exitnodes", exitnodes);
-                        parameters.put("exitnodes-local-routing", exitnodes_local_routing);
-                        parameters.put("exitnodes-primary", exitnodes_primary);
-                        parameters.put("ipam", ipam);
-                        parameters.put("mac", mac);
-                        parameters.put("mtu", mtu);
-                        parameters.put("nodes", nodes);
-                        parameters.put("peers", peers);
-                        parameters.put("reversedns", reversedns);
-                        parameters.put("rt-import", rt_import);
-                        parameters.put("tag", tag);
-                        parameters.put("vlan-protocol", vlan_protocol);
-                        parameters.put("vrf-vxlan", vrf_vxlan);
-                        parameters.put("vxlan-port", vxlan_port);
-                        return client.set("/cluster/sdn/zones/" + this.zone + "", parameters);
+                        return Operations.SET_CLUSTER_SDN_ZONES_ZONE.execute(client, Operations.SET_CLUSTER_SDN_ZONES_ZONE.parameters(advertise_subnets, bridge, bridge_disable_mac_learning, controller, delete, digest, disable_arp_nd_suppression, dns, dnszone, dp_id, exitnodes, exitnodes_local_routing, exitnodes_primary, ipam, mac, mtu, nodes, peers, reversedns, rt_import, tag, vlan_protocol, vrf_vxlan, vxlan_port), this.zone);
                     }
 
                     /**
@@ -4549,7 +4935,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update() throws JSONException {
-                        return client.set("/cluster/sdn/zones/" + this.zone + "", null);
+                        return Operations.SET_CLUSTER_SDN_ZONES_ZONE.execute(client, null, this.zone);
                     }
 
                 }
@@ -4565,11 +4951,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index(Boolean pending, Boolean running, String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("pending", pending);
-                    parameters.put("running", running);
-                    parameters.put("type", type);
-                    return client.get("/cluster/sdn/zones", parameters);
+                    return Operations.GET_CLUSTER_SDN_ZONES.execute(client, Operations.GET_CLUSTER_SDN_ZONES.parameters(pending, running, type));
                 }
 
                 /**
@@ -4580,7 +4962,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result index() throws JSONException {
-                    return client.get("/cluster/sdn/zones", null);
+                    return Operations.GET_CLUSTER_SDN_ZONES.execute(client, null);
                 }
 
                 /**
@@ -4620,32 +5002,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String type, String zone, Boolean advertise_subnets, String bridge, Boolean bridge_disable_mac_learning, String controller, Boolean disable_arp_nd_suppression, String dns, String dnszone, Integer dp_id, String exitnodes, Boolean exitnodes_local_routing, String exitnodes_primary, String ipam, String mac, Integer mtu, String nodes, String peers, String reversedns, String rt_import, Integer tag, String vlan_protocol, Integer vrf_vxlan, Integer vxlan_port) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("type", type);
-                    parameters.put("zone", zone);
-                    parameters.put("advertise-subnets", advertise_subnets);
-                    parameters.put("bridge", bridge);
-                    parameters.put("bridge-disable-mac-learning", bridge_disable_mac_learning);
-                    parameters.put("controller", controller);
-                    parameters.put("disable-arp-nd-suppression", disable_arp_nd_suppression);
-                    parameters.put("dns", dns);
-                    parameters.put("dnszone", dnszone);
-                    parameters.put("dp-id", dp_id);
-                    parameters.put("exitnodes", exitnodes);
-                    parameters.put("exitnodes-local-routing", exitnodes_local_routing);
-                    parameters.put("exitnodes-primary", exitnodes_primary);
-                    parameters.put("ipam", ipam);
-                    parameters.put("mac", mac);
-                    parameters.put("mtu", mtu);
-                    parameters.put("nodes", nodes);
-                    parameters.put("peers", peers);
-                    parameters.put("reversedns", reversedns);
-                    parameters.put("rt-import", rt_import);
-                    parameters.put("tag", tag);
-                    parameters.put("vlan-protocol", vlan_protocol);
-                    parameters.put("vrf-vxlan", vrf_vxlan);
-                    parameters.put("vxlan-port", vxlan_port);
-                    return client.create("/cluster/sdn/zones", parameters);
+                    return Operations.CREATE_CLUSTER_SDN_ZONES.execute(client, Operations.CREATE_CLUSTER_SDN_ZONES.parameters(type, zone, advertise_subnets, bridge, bridge_disable_mac_learning, controller, disable_arp_nd_suppression, dns, dnszone, dp_id, exitnodes, exitnodes_local_routing, exitnodes_primary, ipam, mac, mtu, nodes, peers, reversedns, rt_import, tag, vlan_protocol, vrf_vxlan, vxlan_port));
                 }
 
                 /**
@@ -4659,10 +5016,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String type, String zone) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("type", type);
-                    parameters.put("zone", zone);
-                    return client.create("/cluster/sdn/zones", parameters);
+                    return Operations.CREATE_CLUSTER_SDN_ZONES.execute(client, Operations.CREATE_CLUSTER_SDN_ZONES.parameters(type, zone));
                 }
 
             }
@@ -4676,8 +5030,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVEControllerItem> handles = new PveHandleCache<>();
+
                 public PVEControllerItem get(Object controller) {
-                    return new PVEControllerItem(client, controller);
+                    PVEControllerItem item = handles.get(controller);
+                    return item != null ? item : handles.put(controller, new PVEControllerItem(client, controller));
                 }
 
                 public class PVEControllerItem {
@@ -4697,7 +5054,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result delete() throws JSONException {
-                        return client.delete("/cluster/sdn/controllers/" + this.controller + "", null);
+                        return Operations.DELETE_CLUSTER_SDN_CONTROLLERS_CONTROLLER.execute(client, null, this.controller);
                     }
 
                     /**
@@ -4710,10 +5067,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result read(Boolean pending, Boolean running) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("pending", pending);
-                        parameters.put("running", running);
-                        return client.get("/cluster/sdn/controllers/" + this.controller + "", parameters);
+                        return Operations.GET_CLUSTER_SDN_CONTROLLERS_CONTROLLER.execute(client, Operations.GET_CLUSTER_SDN_CONTROLLERS_CONTROLLER.parameters(pending, running), this.controller);
                     }
 
                     /**
@@ -4724,7 +5078,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result read() throws JSONException {
-                        return client.get("/cluster/sdn/controllers/" + this.controller + "", null);
+                        return Operations.GET_CLUSTER_SDN_CONTROLLERS_CONTROLLER.execute(client, null, this.controller);
                     }
 
                     /**
@@ -4746,17 +5100,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update(Integer asn, Boolean bgp_multipath_as_path_relax, String delete, String digest, Boolean ebgp, Integer ebgp_multihop, String loopback, String node, String peers) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("asn", asn);
-                        parameters.put("bgp-multipath-as-path-relax", bgp_multipath_as_path_relax);
-                        parameters.put("delete", delete);
-                        parameters.put("digest", digest);
-                        parameters.put("ebgp", ebgp);
-                        parameters.put("ebgp-multihop", ebgp_multihop);
-                        parameters.put("loopback", loopback);
-                        parameters.put("node", node);
-                        parameters.put("peers", peers);
-                        return client.set("/cluster/sdn/controllers/" + this.controller + "", parameters);
+                        return Operations.SET_CLUSTER_SDN_CONTROLLERS_CONTROLLER.execute(client, Operations.SET_CLUSTER_SDN_CONTROLLERS_CONTROLLER.parameters(asn, bgp_multipath_as_path_relax, delete, digest, ebgp, ebgp_multihop, loopback, node, peers), this.controller);
                     }
 
                     /**
@@ -4767,7 +5111,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update() throws JSONException {
-                        return client.set("/cluster/sdn/controllers/" + this.controller + "", null);
+                        return Operations.SET_CLUSTER_SDN_CONTROLLERS_CONTROLLER.execute(client, null, this.controller);
                     }
 
                 }
@@ -4783,11 +5127,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index(Boolean pending, Boolean running, String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("pending", pending);
-                    parameters.put("running", running);
-                    parameters.put("type", type);
-                    return client.get("/cluster/sdn/controllers", parameters);
+                    return Operations.GET_CLUSTER_SDN_CONTROLLERS.execute(client, Operations.GET_CLUSTER_SDN_CONTROLLERS.parameters(pending, running, type));
                 }
 
                 /**
@@ -4798,7 +5138,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result index() throws JSONException {
-                    return client.get("/cluster/sdn/controllers", null);
+                    return Operations.GET_CLUSTER_SDN_CONTROLLERS.execute(client, null);
                 }
 
                 /**
@@ -4818,17 +5158,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String controller, String type, Integer asn, Boolean bgp_multipath_as_path_relax, Boolean ebgp, Integer ebgp_multihop, String loopback, String node, String peers) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("controller", controller);
-                    parameters.put("type", type);
-                    parameters.put("asn", asn);
-                    parameters.put("bgp-multipath-as-path-relax", bgp_multipath_as_path_relax);
-                    parameters.put("ebgp", ebgp);
-                    parameters.put("ebgp-multihop", ebgp_multihop);
-                    parameters.put("loopback", loopback);
-                    parameters.put("node", node);
-                    parameters.put("peers", peers);
-                    return client.create("/cluster/sdn/controllers", parameters);
+                    return Operations.CREATE_CLUSTER_SDN_CONTROLLERS.execute(client, Operations.CREATE_CLUSTER_SDN_CONTROLLERS.parameters(controller, type, asn, bgp_multipath_as_path_relax, ebgp, ebgp_multihop, loopback, node, peers));
                 }
 
                 /**
@@ -4841,10 +5171,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String controller, String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("controller", controller);
-                    parameters.put("type", type);
-                    return client.create("/cluster/sdn/controllers", parameters);
+                    return Operations.CREATE_CLUSTER_SDN_CONTROLLERS.execute(client, Operations.CREATE_CLUSTER_SDN_CONTROLLERS.parameters(controller, type));
                 }
 
             }
@@ -4858,8 +5185,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVEIpamItem> handles = new PveHandleCache<>();
+
                 public PVEIpamItem get(Object ipam) {
-                    return new PVEIpamItem(client, ipam);
+                    PVEIpamItem item = handles.get(ipam);
+                    return item != null ? item : handles.put(ipam, new PVEIpamItem(client, ipam));
                 }
 
                 public class PVEIpamItem {
@@ -4879,7 +5209,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result delete() throws JSONException {
-                        return client.delete("/cluster/sdn/ipams/" + this.ipam + "", null);
+                        return Operations.DELETE_CLUSTER_SDN_IPAMS_IPAM.execute(client, null, this.ipam);
                     }
 
                     /**
@@ -4890,7 +5220,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result read() throws JSONException {
-                        return client.get("/cluster/sdn/ipams/" + this.ipam + "", null);
+                        return Operations.GET_CLUSTER_SDN_IPAMS_IPAM.execute(client, null, this.ipam);
                     }
 
                     /**
@@ -4908,13 +5238,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update(String delete, String digest, Integer section, String token, String url) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("delete", delete);
-                        parameters.put("digest", digest);
-                        parameters.put("section", section);
-                        parameters.put("token", token);
-                        parameters.put("url", url);
-                        return client.set("/cluster/sdn/ipams/" + this.ipam + "", parameters);
+                        return Operations.SET_CLUSTER_SDN_IPAMS_IPAM.execute(client, Operations.SET_CLUSTER_SDN_IPAMS_IPAM.parameters(delete, digest, section, token, url), this.ipam);
                     }
 
                     /**
@@ -4925,7 +5249,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update() throws JSONException {
-                        return client.set("/cluster/sdn/ipams/" + this.ipam + "", null);
+                        return Operations.SET_CLUSTER_SDN_IPAMS_IPAM.execute(client, null, this.ipam);
                     }
 
                 }
@@ -4939,9 +5263,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index(String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("type", type);
-                    return client.get("/cluster/sdn/ipams", parameters);
+                    return Operations.GET_CLUSTER_SDN_IPAMS.execute(client, Operations.GET_CLUSTER_SDN_IPAMS.parameters(type));
                 }
 
                 /**
@@ -4952,7 +5274,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result index() throws JSONException {
-                    return client.get("/cluster/sdn/ipams", null);
+                    return Operations.GET_CLUSTER_SDN_IPAMS.execute(client, null);
                 }
 
                 /**
@@ -4968,13 +5290,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String ipam, String type, Integer section, String token, String url) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("ipam", ipam);
-                    parameters.put("type", type);
-                    parameters.put("section", section);
-                    parameters.put("token", token);
-                    parameters.put("url", url);
-                    return client.create("/cluster/sdn/ipams", parameters);
+                    return Operations.CREATE_CLUSTER_SDN_IPAMS.execute(client, Operations.CREATE_CLUSTER_SDN_IPAMS.parameters(ipam, type, section, token, url));
                 }
 
                 /**
@@ -4987,10 +5303,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String ipam, String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("ipam", ipam);
-                    parameters.put("type", type);
-                    return client.create("/cluster/sdn/ipams", parameters);
+                    return Operations.CREATE_CLUSTER_SDN_IPAMS.execute(client, Operations.CREATE_CLUSTER_SDN_IPAMS.parameters(ipam, type));
                 }
 
             }
@@ -5004,8 +5317,11 @@ public class PveClient extends PveClientBase {
 
                 }
 
+                private final PveHandleCache<PVEDnsItem> handles = new PveHandleCache<>();
+
                 public PVEDnsItem get(Object dns) {
-                    return new PVEDnsItem(client, dns);
+                    PVEDnsItem item = handles.get(dns);
+                    return item != null ? item : handles.put(dns, new PVEDnsItem(client, dns));
                 }
 
                 public class PVEDnsItem {
@@ -5025,7 +5341,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result delete() throws JSONException {
-                        return client.delete("/cluster/sdn/dns/" + this.dns + "", null);
+                        return Operations.DELETE_CLUSTER_SDN_DNS_DNS.execute(client, null, this.dns);
                     }
 
                     /**
@@ -5036,7 +5352,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result read() throws JSONException {
-                        return client.get("/cluster/sdn/dns/" + this.dns + "", null);
+                        return Operations.GET_CLUSTER_SDN_DNS_DNS.execute(client, null, this.dns);
                     }
 
                     /**
@@ -5055,14 +5371,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update(String delete, String digest, String key, Integer reversemaskv6, Integer ttl, String url) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("delete", delete);
-                        parameters.put("digest", digest);
-                        parameters.put("key", key);
-                        parameters.put("reversemaskv6", reversemaskv6);
-                        parameters.put("ttl", ttl);
-                        parameters.put("url", url);
-                        return client.set("/cluster/sdn/dns/" + this.dns + "", parameters);
+                        return Operations.SET_CLUSTER_SDN_DNS_DNS.execute(client, Operations.SET_CLUSTER_SDN_DNS_DNS.parameters(delete, digest, key, reversemaskv6, ttl, url), this.dns);
                     }
 
                     /**
@@ -5073,7 +5382,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result update() throws JSONException {
-                        return client.set("/cluster/sdn/dns/" + this.dns + "", null);
+                        return Operations.SET_CLUSTER_SDN_DNS_DNS.execute(client, null, this.dns);
                     }
 
                 }
@@ -5086,9 +5395,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index(String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("type", type);
-                    return client.get("/cluster/sdn/dns", parameters);
+                    return Operations.GET_CLUSTER_SDN_DNS.execute(client, Operations.GET_CLUSTER_SDN_DNS.parameters(type));
                 }
 
                 /**
@@ -5099,7 +5406,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result index() throws JSONException {
-                    return client.get("/cluster/sdn/dns", null);
+                    return Operations.GET_CLUSTER_SDN_DNS.execute(client, null);
                 }
 
                 /**
@@ -5117,15 +5424,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String dns, String key, String type, String url, Integer reversemaskv6, Integer reversev6mask, Integer ttl) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("dns", dns);
-                    parameters.put("key", key);
-                    parameters.put("type", type);
-                    parameters.put("url", url);
-                    parameters.put("reversemaskv6", reversemaskv6);
-                    parameters.put("reversev6mask", reversev6mask);
-                    parameters.put("ttl", ttl);
-                    return client.create("/cluster/sdn/dns", parameters);
+                    return Operations.CREATE_CLUSTER_SDN_DNS.execute(client, Operations.CREATE_CLUSTER_SDN_DNS.parameters(dns, key, type, url, reversemaskv6, reversev6mask, ttl));
                 }
 
                 /**
@@ -5140,12 +5439,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result create(String dns, String key, String type, String url) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("dns", dns);
-                    parameters.put("key", key);
-                    parameters.put("type", type);
-                    parameters.put("url", url);
-                    return client.create("/cluster/sdn/dns", parameters);
+                    return Operations.CREATE_CLUSTER_SDN_DNS.execute(client, Operations.CREATE_CLUSTER_SDN_DNS.parameters(dns, key, type, url));
                 }
 
             }
@@ -5157,7 +5451,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/cluster/sdn", null);
+                return Operations.GET_CLUSTER_SDN.execute(client, null);
             }
 
             /**
@@ -5168,7 +5462,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result reload() throws JSONException {
-                return client.set("/cluster/sdn", null);
+                return Operations.SET_CLUSTER_SDN.execute(client, null);
             }
 
         }
@@ -5190,9 +5484,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result log(Integer max) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("max", max);
-                return client.get("/cluster/log", parameters);
+                return Operations.GET_CLUSTER_LOG.execute(client, Operations.GET_CLUSTER_LOG.parameters(max));
             }
 
             /**
@@ -5203,7 +5495,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result log() throws JSONException {
-                return client.get("/cluster/log", null);
+                return Operations.GET_CLUSTER_LOG.execute(client, null);
             }
 
         }
@@ -5225,9 +5517,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result resources(String type) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("type", type);
-                return client.get("/cluster/resources", parameters);
+                return Operations.GET_CLUSTER_RESOURCES.execute(client, Operations.GET_CLUSTER_RESOURCES.parameters(type));
             }
 
             /**
@@ -5238,7 +5528,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result resources() throws JSONException {
-                return client.get("/cluster/resources", null);
+                return Operations.GET_CLUSTER_RESOURCES.execute(client, null);
             }
 
         }
@@ -5259,7 +5549,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result tasks() throws JSONException {
-                return client.get("/cluster/tasks", null);
+                return Operations.GET_CLUSTER_TASKS.execute(client, null);
             }
 
         }
@@ -5281,7 +5571,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result getOptions() throws JSONException {
-                return client.get("/cluster/options", null);
+                return Operations.GET_CLUSTER_OPTIONS.execute(client, null);
             }
 
             /**
@@ -5338,30 +5628,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result setOptions(String bwlimit, String console, String crs, String delete, String description, String email_from, String fencing, String ha, String http_proxy, String keyboard, String language, String mac_prefix, Integer max_workers, String migration, Boolean migration_unsecure, String next_id, String notify, String registered_tags, String tag_style, String u2f, String user_tag_access, String webauthn) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("bwlimit", bwlimit);
-                parameters.put("console", console);
-                parameters.put("crs", crs);
-                parameters.put("delete", delete);
-                parameters.put("description", description);
-                parameters.put("email_from", email_from);
-                parameters.put("fencing", fencing);
-                parameters.put("ha", ha);
-                parameters.put("http_proxy", http_proxy);
-                parameters.put("keyboard", keyboard);
-                parameters.put("language", language);
-                parameters.put("mac_prefix", mac_prefix);
-                parameters.put("max_workers", max_workers);
-                parameters.put("migration", migration);
-                parameters.put("migration_unsecure", migration_unsecure);
-                parameters.put("next-id", next_id);
-                parameters.put("notify", notify);
-                parameters.put("registered-tags", registered_tags);
-                parameters.put("tag-style", tag_style);
-                parameters.put("u2f", u2f);
-                parameters.put("user-tag-access", user_tag_access);
-                parameters.put("webauthn", webauthn);
-                return client.set("/cluster/options", parameters);
+                return Operations.SET_CLUSTER_OPTIONS.execute(client, Operations.SET_CLUSTER_OPTIONS.parameters(bwlimit, console, crs, delete, description, email_from, fencing, ha, http_proxy, keyboard, language, mac_prefix, max_workers, migration, migration_unsecure, next_id, notify, registered_tags, tag_style, u2f, user_tag_access, webauthn));
             }
 
             /**
@@ -5372,7 +5639,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result setOptions() throws JSONException {
-                return client.set("/cluster/options", null);
+                return Operations.SET_CLUSTER_OPTIONS.execute(client, null);
             }
 
         }
@@ -5393,7 +5660,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result getStatus() throws JSONException {
-                return client.get("/cluster/status", null);
+                return Operations.GET_CLUSTER_STATUS.execute(client, null);
             }
 
         }
@@ -5416,9 +5683,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result nextid(Integer vmid) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("vmid", vmid);
-                return client.get("/cluster/nextid", parameters);
+                return Operations.GET_CLUSTER_NEXTID.execute(client, Operations.GET_CLUSTER_NEXTID.parameters(vmid));
             }
 
             /**
@@ -5430,7 +5695,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result nextid() throws JSONException {
-                return client.get("/cluster/nextid", null);
+                return Operations.GET_CLUSTER_NEXTID.execute(client, null);
             }
 
         }
@@ -5442,7 +5707,7 @@ public class PveClient extends PveClientBase {
          * @throws JSONException
          */
         public Result index() throws JSONException {
-            return client.get("/cluster", null);
+            return Operations.GET_CLUSTER.execute(client, null);
         }
 
     }
@@ -5456,8 +5721,11 @@ public class PveClient extends PveClientBase {
 
         }
 
+        private final PveHandleCache<PVENodeItem> handles = new PveHandleCache<>();
+
         public PVENodeItem get(Object node) {
-            return new PVENodeItem(client, node);
+            PVENodeItem item = handles.get(node);
+            return item != null ? item : handles.put(node, new PVENodeItem(client, node));
         }
 
         public class PVENodeItem {
@@ -5473,207 +5741,371 @@ public class PveClient extends PveClientBase {
             private PVEQemu qemu;
 
             public PVEQemu getQemu() {
-                return qemu == null ? (qemu = new PVEQemu(client, this.node)) : qemu;
+                PVEQemu instance = qemu;
+                if (instance == null) {
+                    qemu = instance = new PVEQemu(client, this.node);
+                }
+                return instance;
             }
             private PVELxc lxc;
 
             public PVELxc getLxc() {
-                return lxc == null ? (lxc = new PVELxc(client, this.node)) : lxc;
+                PVELxc instance = lxc;
+                if (instance == null) {
+                    lxc = instance = new PVELxc(client, this.node);
+                }
+                return instance;
             }
             private PVECeph ceph;
 
             public PVECeph getCeph() {
-                return ceph == null ? (ceph = new PVECeph(client, this.node)) : ceph;
+                PVECeph instance = ceph;
+                if (instance == null) {
+                    ceph = instance = new PVECeph(client, this.node);
+                }
+                return instance;
             }
             private PVEVzdump vzdump;
 
             public PVEVzdump getVzdump() {
-                return vzdump == null ? (vzdump = new PVEVzdump(client, this.node)) : vzdump;
+                PVEVzdump instance = vzdump;
+                if (instance == null) {
+                    vzdump = instance = new PVEVzdump(client, this.node);
+                }
+                return instance;
             }
             private PVEServices services;
 
             public PVEServices getServices() {
-                return services == null ? (services = new PVEServices(client, this.node)) : services;
+                PVEServices instance = services;
+                if (instance == null) {
+                    services = instance = new PVEServices(client, this.node);
+                }
+                return instance;
             }
             private PVESubscription subscription;
 
             public PVESubscription getSubscription() {
-                return subscription == null ? (subscription = new PVESubscription(client, this.node)) : subscription;
+                PVESubscription instance = subscription;
+                if (instance == null) {
+                    subscription = instance = new PVESubscription(client, this.node);
+                }
+                return instance;
             }
             private PVENetwork network;
 
             public PVENetwork getNetwork() {
-                return network == null ? (network = new PVENetwork(client, this.node)) : network;
+                PVENetwork instance = network;
+                if (instance == null) {
+                    network = instance = new PVENetwork(client, this.node);
+                }
+                return instance;
             }
             private PVETasks tasks;
 
             public PVETasks getTasks() {
-                return tasks == null ? (tasks = new PVETasks(client, this.node)) : tasks;
+                PVETasks instance = tasks;
+                if (instance == null) {
+                    tasks = instance = new PVETasks(client, this.node);
+                }
+                return instance;
             }
             private PVEScan scan;
 
             public PVEScan getScan() {
-                return scan == null ? (scan = new PVEScan(client, this.node)) : scan;
+                PVEScan instance = scan;
+                if (instance == null) {
+                    scan = instance = new PVEScan(client, this.node);
+                }
+                return instance;
             }
             private PVEHardware hardware;
 
             public PVEHardware getHardware() {
-                return hardware == null ? (hardware = new PVEHardware(client, this.node)) : hardware;
+                PVEHardware instance = hardware;
+                if (instance == null) {
+                    hardware = instance = new PVEHardware(client, this.node);
+                }
+                return instance;
             }
             private PVECapabilities capabilities;
 
             public PVECapabilities getCapabilities() {
-                return capabilities == null ? (capabilities = new PVECapabilities(client, this.node)) : capabilities;
+                PVECapabilities instance = capabilities;
+                if (instance == null) {
+                    capabilities = instance = new PVECapabilities(client, this.node);
+                }
+                return instance;
             }
             private PVEStorage storage;
 
             public PVEStorage getStorage() {
-                return storage == null ? (storage = new PVEStorage(client, this.node)) : storage;
+                PVEStorage instance = storage;
+                if (instance == null) {
+                    storage = instance = new PVEStorage(client, this.node);
+                }
+                return instance;
             }
             private PVEDisks disks;
 
             public PVEDisks getDisks() {
-                return disks == null ? (disks = new PVEDisks(client, this.node)) : disks;
+                PVEDisks instance = disks;
+                if (instance == null) {
+                    disks = instance = new PVEDisks(client, this.node);
+                }
+                return instance;
             }
             private PVEApt apt;
 
             public PVEApt getApt() {
-                return apt == null ? (apt = new PVEApt(client, this.node)) : apt;
+                PVEApt instance = apt;
+                if (instance == null) {
+                    apt = instance = new PVEApt(client, this.node);
+                }
+                return instance;
             }
             private PVEFirewall firewall;
 
             public PVEFirewall getFirewall() {
-                return firewall == null ? (firewall = new PVEFirewall(client, this.node)) : firewall;
+                PVEFirewall instance = firewall;
+                if (instance == null) {
+                    firewall = instance = new PVEFirewall(client, this.node);
+                }
+                return instance;
             }
             private PVEReplication replication;
 
             public PVEReplication getReplication() {
-                return replication == null ? (replication = new PVEReplication(client, this.node)) : replication;
+                PVEReplication instance = replication;
+                if (instance == null) {
+                    replication = instance = new PVEReplication(client, this.node);
+                }
+                return instance;
             }
             private PVECertificates certificates;
 
             public PVECertificates getCertificates() {
-                return certificates == null ? (certificates = new PVECertificates(client, this.node)) : certificates;
+                PVECertificates instance = certificates;
+                if (instance == null) {
+                    certificates = instance = new PVECertificates(client, this.node);
+                }
+                return instance;
             }
             private PVEConfig config;
 
             public PVEConfig getConfig() {
-                return config == null ? (config = new PVEConfig(client, this.node)) : config;
+                PVEConfig instance = config;
+                if (instance == null) {
+                    config = instance = new PVEConfig(client, this.node);
+                }
+                return instance;
             }
             private PVESdn sdn;
 
             public PVESdn getSdn() {
-                return sdn == null ? (sdn = new PVESdn(client, this.node)) : sdn;
+                PVESdn instance = sdn;
+                if (instance == null) {
+                    sdn = instance = new PVESdn(client, this.node);
+                }
+                return instance;
             }
             private PVEVersion version;
 
             public PVEVersion getVersion() {
-                return version == null ? (version = new PVEVersion(client, this.node)) : version;
+                PVEVersion instance = version;
+                if (instance == null) {
+                    version = instance = new PVEVersion(client, this.node);
+                }
+                return instance;
             }
             private PVEStatus status;
 
             public PVEStatus getStatus() {
-                return status == null ? (status = new PVEStatus(client, this.node)) : status;
+                PVEStatus instance = status;
+                if (instance == null) {
+                    status = instance = new PVEStatus(client, this.node);
+                }
+                return instance;
             }
             private PVENetstat netstat;
 
             public PVENetstat getNetstat() {
-                return netstat == null ? (netstat = new PVENetstat(client, this.node)) : netstat;
+                PVENetstat instance = netstat;
+                if (instance == null) {
+                    netstat = instance = new PVENetstat(client, this.node);
+                }
+                return instance;
             }
             private PVEExecute execute;
 
             public PVEExecute getExecute() {
-                return execute == null ? (execute = new PVEExecute(client, this.node)) : execute;
+                PVEExecute instance = execute;
+                if (instance == null) {
+                    execute = instance = new PVEExecute(client, this.node);
+                }
+                return instance;
             }
             private PVEWakeonlan wakeonlan;
 
             public PVEWakeonlan getWakeonlan() {
-                return wakeonlan == null ? (wakeonlan = new PVEWakeonlan(client, this.node)) : wakeonlan;
+                PVEWakeonlan instance = wakeonlan;
+                if (instance == null) {
+                    wakeonlan = instance = new PVEWakeonlan(client, this.node);
+                }
+                return instance;
             }
             private PVERrd rrd;
 
             public PVERrd getRrd() {
-                return rrd == null ? (rrd = new PVERrd(client, this.node)) : rrd;
+                PVERrd instance = rrd;
+                if (instance == null) {
+                    rrd = instance = new PVERrd(client, this.node);
+                }
+                return instance;
             }
             private PVERrddata rrddata;
 
             public PVERrddata getRrddata() {
-                return rrddata == null ? (rrddata = new PVERrddata(client, this.node)) : rrddata;
+                PVERrddata instance = rrddata;
+                if (instance == null) {
+                    rrddata = instance = new PVERrddata(client, this.node);
+                }
+                return instance;
             }
             private PVESyslog syslog;
 
             public PVESyslog getSyslog() {
-                return syslog == null ? (syslog = new PVESyslog(client, this.node)) : syslog;
+                PVESyslog instance = syslog;
+                if (instance == null) {
+                    syslog = instance = new PVESyslog(client, this.node);
+                }
+                return instance;
             }
             private PVEJournal journal;
 
             public PVEJournal getJournal() {
-                return journal == null ? (journal = new PVEJournal(client, this.node)) : journal;
+                PVEJournal instance = journal;
+                if (instance == null) {
+                    journal = instance = new PVEJournal(client, this.node);
+                }
+                return instance;
             }
             private PVEVncshell vncshell;
 
             public PVEVncshell getVncshell() {
-                return vncshell == null ? (vncshell = new PVEVncshell(client, this.node)) : vncshell;
+                PVEVncshell instance = vncshell;
+                if (instance == null) {
+                    vncshell = instance = new PVEVncshell(client, this.node);
+                }
+                return instance;
             }
             private PVETermproxy termproxy;
 
             public PVETermproxy getTermproxy() {
-                return termproxy == null ? (termproxy = new PVETermproxy(client, this.node)) : termproxy;
+                PVETermproxy instance = termproxy;
+                if (instance == null) {
+                    termproxy = instance = new PVETermproxy(client, this.node);
+                }
+                return instance;
             }
             private PVEVncwebsocket vncwebsocket;
 
             public PVEVncwebsocket getVncwebsocket() {
-                return vncwebsocket == null ? (vncwebsocket = new PVEVncwebsocket(client, this.node)) : vncwebsocket;
+                PVEVncwebsocket instance = vncwebsocket;
+                if (instance == null) {
+                    vncwebsocket = instance = new PVEVncwebsocket(client, this.node);
+                }
+                return instance;
             }
             private PVESpiceshell spiceshell;
 
             public PVESpiceshell getSpiceshell() {
-                return spiceshell == null ? (spiceshell = new PVESpiceshell(client, this.node)) : spiceshell;
+                PVESpiceshell instance = spiceshell;
+                if (instance == null) {
+                    spiceshell = instance = new PVESpiceshell(client, this.node);
+                }
+                return instance;
             }
             private PVEDns dns;
 
             public PVEDns getDns() {
-                return dns == null ? (dns = new PVEDns(client, this.node)) : dns;
+                PVEDns instance = dns;
+                if (instance == null) {
+                    dns = instance = new PVEDns(client, this.node);
+                }
+                return instance;
             }
             private PVETime time;
 
             public PVETime getTime() {
-                return time == null ? (time = new PVETime(client, this.node)) : time;
+                PVETime instance = time;
+                if (instance == null) {
+                    time = instance = new PVETime(client, this.node);
+                }
+                return instance;
             }
             private PVEAplinfo aplinfo;
 
             public PVEAplinfo getAplinfo() {
-                return aplinfo == null ? (aplinfo = new PVEAplinfo(client, this.node)) : aplinfo;
+                PVEAplinfo instance = aplinfo;
+                if (instance == null) {
+                    aplinfo = instance = new PVEAplinfo(client, this.node);
+                }
+                return instance;
             }
             private PVEQueryUrlMetadata queryUrlMetadata;
 
             public PVEQueryUrlMetadata getQueryUrlMetadata() {
-                return queryUrlMetadata == null ? (queryUrlMetadata = new PVEQueryUrlMetadata(client, this.node)) : queryUrlMetadata;
+                PVEQueryUrlMetadata instance = queryUrlMetadata;
+                if (instance == null) {
+                    queryUrlMetadata = instance = new PVEQueryUrlMetadata(client, this.node);
+                }
+                return instance;
             }
             private PVEReport report;
 
             public PVEReport getReport() {
-                return report == null ? (report = new PVEReport(client, this.node)) : report;
+                PVEReport instance = report;
+                if (instance == null) {
+                    report = instance = new PVEReport(client, this.node);
+                }
+                return instance;
             }
             private PVEStartall startall;
 
             public PVEStartall getStartall() {
-                return startall == null ? (startall = new PVEStartall(client, this.node)) : startall;
+                PVEStartall instance = startall;
+                if (instance == null) {
+                    startall = instance = new PVEStartall(client, this.node);
+                }
+                return instance;
             }
             private PVEStopall stopall;
 
             public PVEStopall getStopall() {
-                return stopall == null ? (stopall = new PVEStopall(client, this.node)) : stopall;
+                PVEStopall instance = stopall;
+                if (instance == null) {
+                    stopall = instance = new PVEStopall(client, this.node);
+                }
+                return instance;
             }
             private PVEMigrateall migrateall;
 
             public PVEMigrateall getMigrateall() {
-                return migrateall == null ? (migrateall = new PVEMigrateall(client, this.node)) : migrateall;
+                PVEMigrateall instance = migrateall;
+                if (instance == null) {
+                    migrateall = instance = new PVEMigrateall(client, this.node);
+                }
+                return instance;
             }
             private PVEHosts hosts;
 
             public PVEHosts getHosts() {
-                return hosts == null ? (hosts = new PVEHosts(client, this.node)) : hosts;
+                PVEHosts instance = hosts;
+                if (instance == null) {
+                    hosts = instance = new PVEHosts(client, this.node);
+                }
+                return instance;
             }
 
             public class PVEQemu {
@@ -5686,8 +6118,11 @@ public class PveClient extends PveClientBase {
                     this.node = node;
                 }
 
+                private final PveHandleCache<PVEVmidItem> handles = new PveHandleCache<>();
+
                 public PVEVmidItem get(Object vmid) {
-                    return new PVEVmidItem(client, this.node, vmid);
+                    PVEVmidItem item = handles.get(vmid);
+                    return item != null ? item : handles.put(vmid, new PVEVmidItem(client, this.node, vmid));
                 }
 
                 public class PVEVmidItem {
@@ -5705,127 +6140,227 @@ public class PveClient extends PveClientBase {
                     private PVEFirewall firewall;
 
                     public PVEFirewall getFirewall() {
-                        return firewall == null ? (firewall = new PVEFirewall(client, this.node, this.vmid)) : firewall;
+                        PVEFirewall instance = firewall;
+                        if (instance == null) {
+                            firewall = instance = new PVEFirewall(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEAgent agent;
 
                     public PVEAgent getAgent() {
-                        return agent == null ? (agent = new PVEAgent(client, this.node, this.vmid)) : agent;
+                        PVEAgent instance = agent;
+                        if (instance == null) {
+                            agent = instance = new PVEAgent(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVERrd rrd;
 
                     public PVERrd getRrd() {
-                        return rrd == null ? (rrd = new PVERrd(client, this.node, this.vmid)) : rrd;
+                        PVERrd instance = rrd;
+                        if (instance == null) {
+                            rrd = instance = new PVERrd(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVERrddata rrddata;
 
                     public PVERrddata getRrddata() {
-                        return rrddata == null ? (rrddata = new PVERrddata(client, this.node, this.vmid)) : rrddata;
+                        PVERrddata instance = rrddata;
+                        if (instance == null) {
+                            rrddata = instance = new PVERrddata(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEConfig config;
 
                     public PVEConfig getConfig() {
-                        return config == null ? (config = new PVEConfig(client, this.node, this.vmid)) : config;
+                        PVEConfig instance = config;
+                        if (instance == null) {
+                            config = instance = new PVEConfig(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEPending pending;
 
                     public PVEPending getPending() {
-                        return pending == null ? (pending = new PVEPending(client, this.node, this.vmid)) : pending;
+                        PVEPending instance = pending;
+                        if (instance == null) {
+                            pending = instance = new PVEPending(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVECloudinit cloudinit;
 
                     public PVECloudinit getCloudinit() {
-                        return cloudinit == null ? (cloudinit = new PVECloudinit(client, this.node, this.vmid)) : cloudinit;
+                        PVECloudinit instance = cloudinit;
+                        if (instance == null) {
+                            cloudinit = instance = new PVECloudinit(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEUnlink unlink;
 
                     public PVEUnlink getUnlink() {
-                        return unlink == null ? (unlink = new PVEUnlink(client, this.node, this.vmid)) : unlink;
+                        PVEUnlink instance = unlink;
+                        if (instance == null) {
+                            unlink = instance = new PVEUnlink(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEVncproxy vncproxy;
 
                     public PVEVncproxy getVncproxy() {
-                        return vncproxy == null ? (vncproxy = new PVEVncproxy(client, this.node, this.vmid)) : vncproxy;
+                        PVEVncproxy instance = vncproxy;
+                        if (instance == null) {
+                            vncproxy = instance = new PVEVncproxy(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVETermproxy termproxy;
 
                     public PVETermproxy getTermproxy() {
-                        return termproxy == null ? (termproxy = new PVETermproxy(client, this.node, this.vmid)) : termproxy;
+                        PVETermproxy instance = termproxy;
+                        if (instance == null) {
+                            termproxy = instance = new PVETermproxy(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEVncwebsocket vncwebsocket;
 
                     public PVEVncwebsocket getVncwebsocket() {
-                        return vncwebsocket == null ? (vncwebsocket = new PVEVncwebsocket(client, this.node, this.vmid)) : vncwebsocket;
+                        PVEVncwebsocket instance = vncwebsocket;
+                        if (instance == null) {
+                            vncwebsocket = instance = new PVEVncwebsocket(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVESpiceproxy spiceproxy;
 
                     public PVESpiceproxy getSpiceproxy() {
-                        return spiceproxy == null ? (spiceproxy = new PVESpiceproxy(client, this.node, this.vmid)) : spiceproxy;
+                        PVESpiceproxy instance = spiceproxy;
+                        if (instance == null) {
+                            spiceproxy = instance = new PVESpiceproxy(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEStatus status;
 
                     public PVEStatus getStatus() {
-                        return status == null ? (status = new PVEStatus(client, this.node, this.vmid)) : status;
+                        PVEStatus instance = status;
+                        if (instance == null) {
+                            status = instance = new PVEStatus(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVESendkey sendkey;
 
                     public PVESendkey getSendkey() {
-                        return sendkey == null ? (sendkey = new PVESendkey(client, this.node, this.vmid)) : sendkey;
+                        PVESendkey instance = sendkey;
+                        if (instance == null) {
+                            sendkey = instance = new PVESendkey(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEFeature feature;
 
                     public PVEFeature getFeature() {
-                        return feature == null ? (feature = new PVEFeature(client, this.node, this.vmid)) : feature;
+                        PVEFeature instance = feature;
+                        if (instance == null) {
+                            feature = instance = new PVEFeature(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEClone clone;
 
                     public PVEClone getClone() {
-                        return clone == null ? (clone = new PVEClone(client, this.node, this.vmid)) : clone;
+                        PVEClone instance = clone;
+                        if (instance == null) {
+                            clone = instance = new PVEClone(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEMoveDisk moveDisk;
 
                     public PVEMoveDisk getMoveDisk() {
-                        return moveDisk == null ? (moveDisk = new PVEMoveDisk(client, this.node, this.vmid)) : moveDisk;
+                        PVEMoveDisk instance = moveDisk;
+                        if (instance == null) {
+                            moveDisk = instance = new PVEMoveDisk(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEMigrate migrate;
 
                     public PVEMigrate getMigrate() {
-                        return migrate == null ? (migrate = new PVEMigrate(client, this.node, this.vmid)) : migrate;
+                        PVEMigrate instance = migrate;
+                        if (instance == null) {
+                            migrate = instance = new PVEMigrate(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVERemoteMigrate remoteMigrate;
 
                     public PVERemoteMigrate getRemoteMigrate() {
-                        return remoteMigrate == null ? (remoteMigrate = new PVERemoteMigrate(client, this.node, this.vmid)) : remoteMigrate;
+                        PVERemoteMigrate instance = remoteMigrate;
+                        if (instance == null) {
+                            remoteMigrate = instance = new PVERemoteMigrate(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEMonitor monitor;
 
                     public PVEMonitor getMonitor() {
-                        return monitor == null ? (monitor = new PVEMonitor(client, this.node, this.vmid)) : monitor;
+                        PVEMonitor instance = monitor;
+                        if (instance == null) {
+                            monitor = instance = new PVEMonitor(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEResize resize;
 
                     public PVEResize getResize() {
-                        return resize == null ? (resize = new PVEResize(client, this.node, this.vmid)) : resize;
+                        PVEResize instance = resize;
+                        if (instance == null) {
+                            resize = instance = new PVEResize(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVESnapshot snapshot;
 
                     public PVESnapshot getSnapshot() {
-                        return snapshot == null ? (snapshot = new PVESnapshot(client, this.node, this.vmid)) : snapshot;
+                        PVESnapshot instance = snapshot;
+                        if (instance == null) {
+                            snapshot = instance = new PVESnapshot(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVETemplate template;
 
                     public PVETemplate getTemplate() {
-                        return template == null ? (template = new PVETemplate(client, this.node, this.vmid)) : template;
+                        PVETemplate instance = template;
+                        if (instance == null) {
+                            template = instance = new PVETemplate(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEMtunnel mtunnel;
 
                     public PVEMtunnel getMtunnel() {
-                        return mtunnel == null ? (mtunnel = new PVEMtunnel(client, this.node, this.vmid)) : mtunnel;
+                        PVEMtunnel instance = mtunnel;
+                        if (instance == null) {
+                            mtunnel = instance = new PVEMtunnel(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEMtunnelwebsocket mtunnelwebsocket;
 
                     public PVEMtunnelwebsocket getMtunnelwebsocket() {
-                        return mtunnelwebsocket == null ? (mtunnelwebsocket = new PVEMtunnelwebsocket(client, this.node, this.vmid)) : mtunnelwebsocket;
+                        PVEMtunnelwebsocket instance = mtunnelwebsocket;
+                        if (instance == null) {
+                            mtunnelwebsocket = instance = new PVEMtunnelwebsocket(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
 
                     public class PVEFirewall {
@@ -5843,32 +6378,56 @@ public class PveClient extends PveClientBase {
                         private PVERules rules;
 
                         public PVERules getRules() {
-                            return rules == null ? (rules = new PVERules(client, this.node, this.vmid)) : rules;
+                            PVERules instance = rules;
+                            if (instance == null) {
+                                rules = instance = new PVERules(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEAliases aliases;
 
                         public PVEAliases getAliases() {
-                            return aliases == null ? (aliases = new PVEAliases(client, this.node, this.vmid)) : aliases;
+                            PVEAliases instance = aliases;
+                            if (instance == null) {
+                                aliases = instance = new PVEAliases(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEIpset ipset;
 
                         public PVEIpset getIpset() {
-                            return ipset == null ? (ipset = new PVEIpset(client, this.node, this.vmid)) : ipset;
+                            PVEIpset instance = ipset;
+                            if (instance == null) {
+                                ipset = instance = new PVEIpset(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEOptions options;
 
                         public PVEOptions getOptions() {
-                            return options == null ? (options = new PVEOptions(client, this.node, this.vmid)) : options;
+                            PVEOptions instance = options;
+                            if (instance == null) {
+                                options = instance = new PVEOptions(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVELog log;
 
                         public PVELog getLog() {
-                            return log == null ? (log = new PVELog(client, this.node, this.vmid)) : log;
+                            PVELog instance = log;
+                            if (instance == null) {
+                                log = instance = new PVELog(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVERefs refs;
 
                         public PVERefs getRefs() {
-                            return refs == null ? (refs = new PVERefs(client, this.node, this.vmid)) : refs;
+                            PVERefs instance = refs;
+                            if (instance == null) {
+                                refs = instance = new PVERefs(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
 
                         public class PVERules {
@@ -5883,8 +6442,11 @@ public class PveClient extends PveClientBase {
                                 this.vmid = vmid;
                             }
 
+                            private final PveHandleCache<PVEPosItem> handles = new PveHandleCache<>();
+
                             public PVEPosItem get(Object pos) {
-                                return new PVEPosItem(client, this.node, this.vmid, pos);
+                                PVEPosItem item = handles.get(pos);
+                                return item != null ? item : handles.put(pos, new PVEPosItem(client, this.node, this.vmid, pos));
                             }
 
                             public class PVEPosItem {
@@ -5912,9 +6474,7 @@ public class PveClient extends PveClientBase {
                                  * @throws JSONException
                                  */
                                 public Result deleteRule(String digest) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("digest", digest);
-                                    return client.delete("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/rules/" + this.pos + "", parameters);
+                                    return Operations.DELETE_NODES_NODE_QEMU_VMID_FIREWALL_RULES_POS.execute(client, Operations.DELETE_NODES_NODE_QEMU_VMID_FIREWALL_RULES_POS.parameters(digest), this.node, this.vmid, this.pos);
                                 }
 
                                 /**
@@ -5925,7 +6485,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result deleteRule() throws JSONException {
-                                    return client.delete("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/rules/" + this.pos + "", null);
+                                    return Operations.DELETE_NODES_NODE_QEMU_VMID_FIREWALL_RULES_POS.execute(client, null, this.node, this.vmid, this.pos);
                                 }
 
                                 /**
@@ -5936,7 +6496,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result getRule() throws JSONException {
-                                    return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/rules/" + this.pos + "", null);
+                                    return Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL_RULES_POS.execute(client, null, this.node, this.vmid, this.pos);
                                 }
 
                                 /**
@@ -6005,24 +6565,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result updateRule(String action, String comment, String delete, String dest, String digest, String dport, Integer enable, String icmp_type, String iface, String log, String macro, Integer moveto, String proto, String source, String sport, String type) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("action", action);
-                                    parameters.put("comment", comment);
-                                    parameters.put("delete", delete);
-                                    parameters.put("dest", dest);
-                                    parameters.put("digest", digest);
-                                    parameters.put("dport", dport);
-                                    parameters.put("enable", enable);
-                                    parameters.put("icmp-type", icmp_type);
-                                    parameters.put("iface", iface);
-                                    parameters.put("log", log);
-                                    parameters.put("macro", macro);
-                                    parameters.put("moveto", moveto);
-                                    parameters.put("proto", proto);
-                                    parameters.put("source", source);
-                                    parameters.put("sport", sport);
-                                    parameters.put("type", type);
-                                    return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/rules/" + this.pos + "", parameters);
+                                    return Operations.SET_NODES_NODE_QEMU_VMID_FIREWALL_RULES_POS.execute(client, Operations.SET_NODES_NODE_QEMU_VMID_FIREWALL_RULES_POS.parameters(action, comment, delete, dest, digest, dport, enable, icmp_type, iface, log, macro, moveto, proto, source, sport, type), this.node, this.vmid, this.pos);
                                 }
 
                                 /**
@@ -6033,7 +6576,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result updateRule() throws JSONException {
-                                    return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/rules/" + this.pos + "", null);
+                                    return Operations.SET_NODES_NODE_QEMU_VMID_FIREWALL_RULES_POS.execute(client, null, this.node, this.vmid, this.pos);
                                 }
 
                             }
@@ -6045,7 +6588,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getRules() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/rules", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL_RULES.execute(client, null, this.node, this.vmid);
                             }
 
                             /**
@@ -6107,23 +6650,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result createRule(String action, String type, String comment, String dest, String digest, String dport, Integer enable, String icmp_type, String iface, String log, String macro, Integer pos, String proto, String source, String sport) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("action", action);
-                                parameters.put("type", type);
-                                parameters.put("comment", comment);
-                                parameters.put("dest", dest);
-                                parameters.put("digest", digest);
-                                parameters.put("dport", dport);
-                                parameters.put("enable", enable);
-                                parameters.put("icmp-type", icmp_type);
-                                parameters.put("iface", iface);
-                                parameters.put("log", log);
-                                parameters.put("macro", macro);
-                                parameters.put("pos", pos);
-                                parameters.put("proto", proto);
-                                parameters.put("source", source);
-                                parameters.put("sport", sport);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/rules", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_RULES.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_RULES.parameters(action, type, comment, dest, digest, dport, enable, icmp_type, iface, log, macro, pos, proto, source, sport), this.node, this.vmid);
                             }
 
                             /**
@@ -6137,10 +6664,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result createRule(String action, String type) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("action", action);
-                                parameters.put("type", type);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/rules", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_RULES.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_RULES.parameters(action, type), this.node, this.vmid);
                             }
 
                         }
@@ -6157,8 +6681,11 @@ public class PveClient extends PveClientBase {
                                 this.vmid = vmid;
                             }
 
+                            private final PveHandleCache<PVENameItem> handles = new PveHandleCache<>();
+
                             public PVENameItem get(Object name) {
-                                return new PVENameItem(client, this.node, this.vmid, name);
+                                PVENameItem item = handles.get(name);
+                                return item != null ? item : handles.put(name, new PVENameItem(client, this.node, this.vmid, name));
                             }
 
                             public class PVENameItem {
@@ -6186,9 +6713,7 @@ public class PveClient extends PveClientBase {
                                  * @throws JSONException
                                  */
                                 public Result removeAlias(String digest) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("digest", digest);
-                                    return client.delete("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/aliases/" + this.name + "", parameters);
+                                    return Operations.DELETE_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES_NAME.execute(client, Operations.DELETE_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES_NAME.parameters(digest), this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -6199,7 +6724,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result removeAlias() throws JSONException {
-                                    return client.delete("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/aliases/" + this.name + "", null);
+                                    return Operations.DELETE_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES_NAME.execute(client, null, this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -6210,7 +6735,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result readAlias() throws JSONException {
-                                    return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/aliases/" + this.name + "", null);
+                                    return Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES_NAME.execute(client, null, this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -6229,12 +6754,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result updateAlias(String cidr, String comment, String digest, String rename) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("cidr", cidr);
-                                    parameters.put("comment", comment);
-                                    parameters.put("digest", digest);
-                                    parameters.put("rename", rename);
-                                    return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/aliases/" + this.name + "", parameters);
+                                    return Operations.SET_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES_NAME.execute(client, Operations.SET_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES_NAME.parameters(cidr, comment, digest, rename), this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -6247,9 +6767,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result updateAlias(String cidr) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("cidr", cidr);
-                                    return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/aliases/" + this.name + "", parameters);
+                                    return Operations.SET_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES_NAME.execute(client, Operations.SET_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES_NAME.parameters(cidr), this.node, this.vmid, this.name);
                                 }
 
                             }
@@ -6261,7 +6779,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getAliases() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/aliases", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES.execute(client, null, this.node, this.vmid);
                             }
 
                             /**
@@ -6276,11 +6794,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result createAlias(String cidr, String name, String comment) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("cidr", cidr);
-                                parameters.put("name", name);
-                                parameters.put("comment", comment);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/aliases", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES.parameters(cidr, name, comment), this.node, this.vmid);
                             }
 
                             /**
@@ -6294,10 +6808,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result createAlias(String cidr, String name) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("cidr", cidr);
-                                parameters.put("name", name);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/aliases", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_ALIASES.parameters(cidr, name), this.node, this.vmid);
                             }
 
                         }
@@ -6314,8 +6825,11 @@ public class PveClient extends PveClientBase {
                                 this.vmid = vmid;
                             }
 
+                            private final PveHandleCache<PVENameItem> handles = new PveHandleCache<>();
+
                             public PVENameItem get(Object name) {
-                                return new PVENameItem(client, this.node, this.vmid, name);
+                                PVENameItem item = handles.get(name);
+                                return item != null ? item : handles.put(name, new PVENameItem(client, this.node, this.vmid, name));
                             }
 
                             public class PVENameItem {
@@ -6332,8 +6846,11 @@ public class PveClient extends PveClientBase {
                                     this.name = name;
                                 }
 
+                                private final PveHandleCache<PVECidrItem> handles = new PveHandleCache<>();
+
                                 public PVECidrItem get(Object cidr) {
-                                    return new PVECidrItem(client, this.node, this.vmid, this.name, cidr);
+                                    PVECidrItem item = handles.get(cidr);
+                                    return item != null ? item : handles.put(cidr, new PVECidrItem(client, this.node, this.vmid, this.name, cidr));
                                 }
 
                                 public class PVECidrItem {
@@ -6363,9 +6880,7 @@ public class PveClient extends PveClientBase {
                                      * @throws JSONException
                                      */
                                     public Result removeIp(String digest) throws JSONException {
-                                        Map<String, Object> parameters = new HashMap<>();
-                                        parameters.put("digest", digest);
-                                        return client.delete("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/ipset/" + this.name + "/" + this.cidr + "", parameters);
+                                        return Operations.DELETE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME_CIDR.execute(client, Operations.DELETE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME_CIDR.parameters(digest), this.node, this.vmid, this.name, this.cidr);
                                     }
 
                                     /**
@@ -6376,7 +6891,7 @@ public class PveClient extends PveClientBase {
                                      */
 
                                     public Result removeIp() throws JSONException {
-                                        return client.delete("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/ipset/" + this.name + "/" + this.cidr + "", null);
+                                        return Operations.DELETE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME_CIDR.execute(client, null, this.node, this.vmid, this.name, this.cidr);
                                     }
 
                                     /**
@@ -6387,7 +6902,7 @@ public class PveClient extends PveClientBase {
                                      */
 
                                     public Result readIp() throws JSONException {
-                                        return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/ipset/" + this.name + "/" + this.cidr + "", null);
+                                        return Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME_CIDR.execute(client, null, this.node, this.vmid, this.name, this.cidr);
                                     }
 
                                     /**
@@ -6404,11 +6919,7 @@ public class PveClient extends PveClientBase {
                                      */
 
                                     public Result updateIp(String comment, String digest, Boolean nomatch) throws JSONException {
-                                        Map<String, Object> parameters = new HashMap<>();
-                                        parameters.put("comment", comment);
-                                        parameters.put("digest", digest);
-                                        parameters.put("nomatch", nomatch);
-                                        return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/ipset/" + this.name + "/" + this.cidr + "", parameters);
+                                        return Operations.SET_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME_CIDR.execute(client, Operations.SET_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME_CIDR.parameters(comment, digest, nomatch), this.node, this.vmid, this.name, this.cidr);
                                     }
 
                                     /**
@@ -6419,7 +6930,7 @@ public class PveClient extends PveClientBase {
                                      */
 
                                     public Result updateIp() throws JSONException {
-                                        return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/ipset/" + this.name + "/" + this.cidr + "", null);
+                                        return Operations.SET_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME_CIDR.execute(client, null, this.node, this.vmid, this.name, this.cidr);
                                     }
 
                                 }
@@ -6433,9 +6944,7 @@ public class PveClient extends PveClientBase {
                                  * @throws JSONException
                                  */
                                 public Result deleteIpset(Boolean force) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("force", force);
-                                    return client.delete("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/ipset/" + this.name + "", parameters);
+                                    return Operations.DELETE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME.execute(client, Operations.DELETE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME.parameters(force), this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -6446,7 +6955,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result deleteIpset() throws JSONException {
-                                    return client.delete("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/ipset/" + this.name + "", null);
+                                    return Operations.DELETE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME.execute(client, null, this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -6457,7 +6966,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result getIpset() throws JSONException {
-                                    return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/ipset/" + this.name + "", null);
+                                    return Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME.execute(client, null, this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -6472,11 +6981,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result createIp(String cidr, String comment, Boolean nomatch) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("cidr", cidr);
-                                    parameters.put("comment", comment);
-                                    parameters.put("nomatch", nomatch);
-                                    return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/ipset/" + this.name + "", parameters);
+                                    return Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME.parameters(cidr, comment, nomatch), this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -6489,9 +6994,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result createIp(String cidr) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("cidr", cidr);
-                                    return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/ipset/" + this.name + "", parameters);
+                                    return Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET_NAME.parameters(cidr), this.node, this.vmid, this.name);
                                 }
 
                             }
@@ -6503,7 +7006,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result ipsetIndex() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/ipset", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL_IPSET.execute(client, null, this.node, this.vmid);
                             }
 
                             /**
@@ -6523,12 +7026,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result createIpset(String name, String comment, String digest, String rename) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("name", name);
-                                parameters.put("comment", comment);
-                                parameters.put("digest", digest);
-                                parameters.put("rename", rename);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/ipset", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET.parameters(name, comment, digest, rename), this.node, this.vmid);
                             }
 
                             /**
@@ -6540,9 +7038,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result createIpset(String name) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("name", name);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/ipset", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_FIREWALL_IPSET.parameters(name), this.node, this.vmid);
                             }
 
                         }
@@ -6566,7 +7062,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getOptions() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/options", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL_OPTIONS.execute(client, null, this.node, this.vmid);
                             }
 
                             /**
@@ -6608,20 +7104,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result setOptions(String delete, Boolean dhcp, String digest, Boolean enable, Boolean ipfilter, String log_level_in, String log_level_out, Boolean macfilter, Boolean ndp, String policy_in, String policy_out, Boolean radv) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("delete", delete);
-                                parameters.put("dhcp", dhcp);
-                                parameters.put("digest", digest);
-                                parameters.put("enable", enable);
-                                parameters.put("ipfilter", ipfilter);
-                                parameters.put("log_level_in", log_level_in);
-                                parameters.put("log_level_out", log_level_out);
-                                parameters.put("macfilter", macfilter);
-                                parameters.put("ndp", ndp);
-                                parameters.put("policy_in", policy_in);
-                                parameters.put("policy_out", policy_out);
-                                parameters.put("radv", radv);
-                                return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/options", parameters);
+                                return Operations.SET_NODES_NODE_QEMU_VMID_FIREWALL_OPTIONS.execute(client, Operations.SET_NODES_NODE_QEMU_VMID_FIREWALL_OPTIONS.parameters(delete, dhcp, digest, enable, ipfilter, log_level_in, log_level_out, macfilter, ndp, policy_in, policy_out, radv), this.node, this.vmid);
                             }
 
                             /**
@@ -6632,7 +7115,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result setOptions() throws JSONException {
-                                return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/options", null);
+                                return Operations.SET_NODES_NODE_QEMU_VMID_FIREWALL_OPTIONS.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -6660,12 +7143,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result log(Integer limit, Integer since, Integer start, Integer until) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("limit", limit);
-                                parameters.put("since", since);
-                                parameters.put("start", start);
-                                parameters.put("until", until);
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/log", parameters);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL_LOG.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL_LOG.parameters(limit, since, start, until), this.node, this.vmid);
                             }
 
                             /**
@@ -6676,7 +7154,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result log() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/log", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL_LOG.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -6703,9 +7181,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result refs(String type) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("type", type);
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/refs", parameters);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL_REFS.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL_REFS.parameters(type), this.node, this.vmid);
                             }
 
                             /**
@@ -6717,7 +7193,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result refs() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall/refs", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL_REFS.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -6729,7 +7205,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result index() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/firewall", null);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_FIREWALL.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -6749,127 +7225,227 @@ public class PveClient extends PveClientBase {
                         private PVEFsfreezeFreeze fsfreezeFreeze;
 
                         public PVEFsfreezeFreeze getFsfreezeFreeze() {
-                            return fsfreezeFreeze == null ? (fsfreezeFreeze = new PVEFsfreezeFreeze(client, this.node, this.vmid)) : fsfreezeFreeze;
+                            PVEFsfreezeFreeze instance = fsfreezeFreeze;
+                            if (instance == null) {
+                                fsfreezeFreeze = instance = new PVEFsfreezeFreeze(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEFsfreezeStatus fsfreezeStatus;
 
                         public PVEFsfreezeStatus getFsfreezeStatus() {
-                            return fsfreezeStatus == null ? (fsfreezeStatus = new PVEFsfreezeStatus(client, this.node, this.vmid)) : fsfreezeStatus;
+                            PVEFsfreezeStatus instance = fsfreezeStatus;
+                            if (instance == null) {
+                                fsfreezeStatus = instance = new PVEFsfreezeStatus(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEFsfreezeThaw fsfreezeThaw;
 
                         public PVEFsfreezeThaw getFsfreezeThaw() {
-                            return fsfreezeThaw == null ? (fsfreezeThaw = new PVEFsfreezeThaw(client, this.node, this.vmid)) : fsfreezeThaw;
+                            PVEFsfreezeThaw instance = fsfreezeThaw;
+                            if (instance == null) {
+                                fsfreezeThaw = instance = new PVEFsfreezeThaw(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEFstrim fstrim;
 
                         public PVEFstrim getFstrim() {
-                            return fstrim == null ? (fstrim = new PVEFstrim(client, this.node, this.vmid)) : fstrim;
+                            PVEFstrim instance = fstrim;
+                            if (instance == null) {
+                                fstrim = instance = new PVEFstrim(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEGetFsinfo getFsinfo;
 
                         public PVEGetFsinfo getGetFsinfo() {
-                            return getFsinfo == null ? (getFsinfo = new PVEGetFsinfo(client, this.node, this.vmid)) : getFsinfo;
+                            PVEGetFsinfo instance = getFsinfo;
+                            if (instance == null) {
+                                getFsinfo = instance = new PVEGetFsinfo(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEGetHostName getHostName;
 
                         public PVEGetHostName getGetHostName() {
-                            return getHostName == null ? (getHostName = new PVEGetHostName(client, this.node, this.vmid)) : getHostName;
+                            PVEGetHostName instance = getHostName;
+                            if (instance == null) {
+                                getHostName = instance = new PVEGetHostName(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEGetMemoryBlockInfo getMemoryBlockInfo;
 
                         public PVEGetMemoryBlockInfo getGetMemoryBlockInfo() {
-                            return getMemoryBlockInfo == null ? (getMemoryBlockInfo = new PVEGetMemoryBlockInfo(client, this.node, this.vmid)) : getMemoryBlockInfo;
+                            PVEGetMemoryBlockInfo instance = getMemoryBlockInfo;
+                            if (instance == null) {
+                                getMemoryBlockInfo = instance = new PVEGetMemoryBlockInfo(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEGetMemoryBlocks getMemoryBlocks;
 
                         public PVEGetMemoryBlocks getGetMemoryBlocks() {
-                            return getMemoryBlocks == null ? (getMemoryBlocks = new PVEGetMemoryBlocks(client, this.node, this.vmid)) : getMemoryBlocks;
+                            PVEGetMemoryBlocks instance = getMemoryBlocks;
+                            if (instance == null) {
+                                getMemoryBlocks = instance = new PVEGetMemoryBlocks(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEGetOsinfo getOsinfo;
 
                         public PVEGetOsinfo getGetOsinfo() {
-                            return getOsinfo == null ? (getOsinfo = new PVEGetOsinfo(client, this.node, this.vmid)) : getOsinfo;
+                            PVEGetOsinfo instance = getOsinfo;
+                            if (instance == null) {
+                                getOsinfo = instance = new PVEGetOsinfo(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEGetTime getTime;
 
                         public PVEGetTime getGetTime() {
-                            return getTime == null ? (getTime = new PVEGetTime(client, this.node, this.vmid)) : getTime;
+                            PVEGetTime instance = getTime;
+                            if (instance == null) {
+                                getTime = instance = new PVEGetTime(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEGetTimezone getTimezone;
 
                         public PVEGetTimezone getGetTimezone() {
-                            return getTimezone == null ? (getTimezone = new PVEGetTimezone(client, this.node, this.vmid)) : getTimezone;
+                            PVEGetTimezone instance = getTimezone;
+                            if (instance == null) {
+                                getTimezone = instance = new PVEGetTimezone(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEGetUsers getUsers;
 
                         public PVEGetUsers getGetUsers() {
-                            return getUsers == null ? (getUsers = new PVEGetUsers(client, this.node, this.vmid)) : getUsers;
+                            PVEGetUsers instance = getUsers;
+                            if (instance == null) {
+                                getUsers = instance = new PVEGetUsers(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEGetVcpus getVcpus;
 
                         public PVEGetVcpus getGetVcpus() {
-                            return getVcpus == null ? (getVcpus = new PVEGetVcpus(client, this.node, this.vmid)) : getVcpus;
+                            PVEGetVcpus instance = getVcpus;
+                            if (instance == null) {
+                                getVcpus = instance = new PVEGetVcpus(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEInfo info;
 
                         public PVEInfo getInfo() {
-                            return info == null ? (info = new PVEInfo(client, this.node, this.vmid)) : info;
+                            PVEInfo instance = info;
+                            if (instance == null) {
+                                info = instance = new PVEInfo(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVENetworkGetInterfaces networkGetInterfaces;
 
                         public PVENetworkGetInterfaces getNetworkGetInterfaces() {
-                            return networkGetInterfaces == null ? (networkGetInterfaces = new PVENetworkGetInterfaces(client, this.node, this.vmid)) : networkGetInterfaces;
+                            PVENetworkGetInterfaces instance = networkGetInterfaces;
+                            if (instance == null) {
+                                networkGetInterfaces = instance = new PVENetworkGetInterfaces(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEPing ping;
 
                         public PVEPing getPing() {
-                            return ping == null ? (ping = new PVEPing(client, this.node, this.vmid)) : ping;
+                            PVEPing instance = ping;
+                            if (instance == null) {
+                                ping = instance = new PVEPing(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEShutdown shutdown;
 
                         public PVEShutdown getShutdown() {
-                            return shutdown == null ? (shutdown = new PVEShutdown(client, this.node, this.vmid)) : shutdown;
+                            PVEShutdown instance = shutdown;
+                            if (instance == null) {
+                                shutdown = instance = new PVEShutdown(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVESuspendDisk suspendDisk;
 
                         public PVESuspendDisk getSuspendDisk() {
-                            return suspendDisk == null ? (suspendDisk = new PVESuspendDisk(client, this.node, this.vmid)) : suspendDisk;
+                            PVESuspendDisk instance = suspendDisk;
+                            if (instance == null) {
+                                suspendDisk = instance = new PVESuspendDisk(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVESuspendHybrid suspendHybrid;
 
                         public PVESuspendHybrid getSuspendHybrid() {
-                            return suspendHybrid == null ? (suspendHybrid = new PVESuspendHybrid(client, this.node, this.vmid)) : suspendHybrid;
+                            PVESuspendHybrid instance = suspendHybrid;
+                            if (instance == null) {
+                                suspendHybrid = instance = new PVESuspendHybrid(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVESuspendRam suspendRam;
 
                         public PVESuspendRam getSuspendRam() {
-                            return suspendRam == null ? (suspendRam = new PVESuspendRam(client, this.node, this.vmid)) : suspendRam;
+                            PVESuspendRam instance = suspendRam;
+                            if (instance == null) {
+                                suspendRam = instance = new PVESuspendRam(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVESetUserPassword setUserPassword;
 
                         public PVESetUserPassword getSetUserPassword() {
-                            return setUserPassword == null ? (setUserPassword = new PVESetUserPassword(client, this.node, this.vmid)) : setUserPassword;
+                            PVESetUserPassword instance = setUserPassword;
+                            if (instance == null) {
+                                setUserPassword = instance = new PVESetUserPassword(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEExec exec;
 
                         public PVEExec getExec() {
-                            return exec == null ? (exec = new PVEExec(client, this.node, this.vmid)) : exec;
+                            PVEExec instance = exec;
+                            if (instance == null) {
+                                exec = instance = new PVEExec(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEExecStatus execStatus;
 
                         public PVEExecStatus getExecStatus() {
-                            return execStatus == null ? (execStatus = new PVEExecStatus(client, this.node, this.vmid)) : execStatus;
+                            PVEExecStatus instance = execStatus;
+                            if (instance == null) {
+                                execStatus = instance = new PVEExecStatus(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEFileRead fileRead;
 
                         public PVEFileRead getFileRead() {
-                            return fileRead == null ? (fileRead = new PVEFileRead(client, this.node, this.vmid)) : fileRead;
+                            PVEFileRead instance = fileRead;
+                            if (instance == null) {
+                                fileRead = instance = new PVEFileRead(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEFileWrite fileWrite;
 
                         public PVEFileWrite getFileWrite() {
-                            return fileWrite == null ? (fileWrite = new PVEFileWrite(client, this.node, this.vmid)) : fileWrite;
+                            PVEFileWrite instance = fileWrite;
+                            if (instance == null) {
+                                fileWrite = instance = new PVEFileWrite(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
 
                         public class PVEFsfreezeFreeze {
@@ -6891,7 +7467,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result fsfreezeFreeze() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/fsfreeze-freeze", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_FSFREEZE_FREEZE.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -6915,7 +7491,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result fsfreezeStatus() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/fsfreeze-status", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_FSFREEZE_STATUS.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -6939,7 +7515,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result fsfreezeThaw() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/fsfreeze-thaw", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_FSFREEZE_THAW.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -6963,7 +7539,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result fstrim() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/fstrim", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_FSTRIM.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -6987,7 +7563,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getFsinfo() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/get-fsinfo", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_AGENT_GET_FSINFO.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7011,7 +7587,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getHostName() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/get-host-name", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_AGENT_GET_HOST_NAME.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7035,7 +7611,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getMemoryBlockInfo() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/get-memory-block-info", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_AGENT_GET_MEMORY_BLOCK_INFO.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7059,7 +7635,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getMemoryBlocks() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/get-memory-blocks", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_AGENT_GET_MEMORY_BLOCKS.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7083,7 +7659,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getOsinfo() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/get-osinfo", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_AGENT_GET_OSINFO.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7107,7 +7683,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getTime() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/get-time", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_AGENT_GET_TIME.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7131,7 +7707,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getTimezone() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/get-timezone", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_AGENT_GET_TIMEZONE.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7155,7 +7731,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getUsers() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/get-users", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_AGENT_GET_USERS.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7179,7 +7755,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getVcpus() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/get-vcpus", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_AGENT_GET_VCPUS.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7203,7 +7779,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result info() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/info", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_AGENT_INFO.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7227,7 +7803,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result networkGetInterfaces() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/network-get-interfaces", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_AGENT_NETWORK_GET_INTERFACES.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7251,7 +7827,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result ping() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/ping", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_PING.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7275,7 +7851,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result shutdown() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/shutdown", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_SHUTDOWN.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7299,7 +7875,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result suspendDisk() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/suspend-disk", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_SUSPEND_DISK.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7323,7 +7899,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result suspendHybrid() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/suspend-hybrid", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_SUSPEND_HYBRID.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7347,7 +7923,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result suspendRam() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/suspend-ram", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_SUSPEND_RAM.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -7376,11 +7952,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result setUserPassword(String password, String username, Boolean crypted) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("password", password);
-                                parameters.put("username", username);
-                                parameters.put("crypted", crypted);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/set-user-password", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_SET_USER_PASSWORD.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_SET_USER_PASSWORD.parameters(password, username, crypted), this.node, this.vmid);
                             }
 
                             /**
@@ -7394,10 +7966,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result setUserPassword(String password, String username) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("password", password);
-                                parameters.put("username", username);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/set-user-password", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_SET_USER_PASSWORD.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_SET_USER_PASSWORD.parameters(password, username), this.node, this.vmid);
                             }
 
                         }
@@ -7426,10 +7995,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result exec(String command, String input_data) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("command", command);
-                                parameters.put("input-data", input_data);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/exec", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_EXEC.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_EXEC.parameters(command, input_data), this.node, this.vmid);
                             }
 
                             /**
@@ -7443,9 +8009,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result exec(String command) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("command", command);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/exec", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_EXEC.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_EXEC.parameters(command), this.node, this.vmid);
                             }
 
                         }
@@ -7471,9 +8035,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result execStatus(int pid) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("pid", pid);
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/exec-status", parameters);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_AGENT_EXEC_STATUS.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_AGENT_EXEC_STATUS.parameters(pid), this.node, this.vmid);
                             }
 
                         }
@@ -7499,9 +8061,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result fileRead(String file) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("file", file);
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/file-read", parameters);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_AGENT_FILE_READ.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_AGENT_FILE_READ.parameters(file), this.node, this.vmid);
                             }
 
                         }
@@ -7532,11 +8092,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result fileWrite(String content, String file, Boolean encode) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("content", content);
-                                parameters.put("file", file);
-                                parameters.put("encode", encode);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/file-write", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_FILE_WRITE.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_FILE_WRITE.parameters(content, file, encode), this.node, this.vmid);
                             }
 
                             /**
@@ -7550,10 +8106,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result fileWrite(String content, String file) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("content", content);
-                                parameters.put("file", file);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent/file-write", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_FILE_WRITE.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT_FILE_WRITE.parameters(content, file), this.node, this.vmid);
                             }
 
                         }
@@ -7565,7 +8118,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result index() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent", null);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_AGENT.execute(client, null, this.node, this.vmid);
                         }
 
                         /**
@@ -7578,9 +8131,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result agent(String command) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("command", command);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/agent", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_AGENT.parameters(command), this.node, this.vmid);
                         }
 
                     }
@@ -7610,11 +8161,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result rrd(String ds, String timeframe, String cf) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("ds", ds);
-                            parameters.put("timeframe", timeframe);
-                            parameters.put("cf", cf);
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/rrd", parameters);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_RRD.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_RRD.parameters(ds, timeframe, cf), this.node, this.vmid);
                         }
 
                         /**
@@ -7629,10 +8176,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result rrd(String ds, String timeframe) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("ds", ds);
-                            parameters.put("timeframe", timeframe);
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/rrd", parameters);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_RRD.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_RRD.parameters(ds, timeframe), this.node, this.vmid);
                         }
 
                     }
@@ -7660,10 +8204,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result rrddata(String timeframe, String cf) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("timeframe", timeframe);
-                            parameters.put("cf", cf);
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/rrddata", parameters);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_RRDDATA.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_RRDDATA.parameters(timeframe, cf), this.node, this.vmid);
                         }
 
                         /**
@@ -7676,9 +8217,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result rrddata(String timeframe) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("timeframe", timeframe);
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/rrddata", parameters);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_RRDDATA.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_RRDDATA.parameters(timeframe), this.node, this.vmid);
                         }
 
                     }
@@ -7708,10 +8247,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result vmConfig(Boolean current, String snapshot) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("current", current);
-                            parameters.put("snapshot", snapshot);
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/config", parameters);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_CONFIG.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_CONFIG.parameters(current, snapshot), this.node, this.vmid);
                         }
 
                         /**
@@ -7724,7 +8260,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result vmConfig() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/config", null);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_CONFIG.execute(client, null, this.node, this.vmid);
                         }
 
                         /**
@@ -8035,7 +8571,7 @@ public class PveClient extends PveClientBase {
                             addIndexedParameter(parameters, "unused", unusedN);
                             addIndexedParameter(parameters, "usb", usbN);
                             addIndexedParameter(parameters, "virtio", virtioN);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/config", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_CONFIG.execute(client, parameters, this.node, this.vmid);
                         }
 
                         /**
@@ -8046,7 +8582,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result updateVmAsync() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/config", null);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_CONFIG.execute(client, null, this.node, this.vmid);
                         }
 
                         /**
@@ -8355,7 +8891,7 @@ public class PveClient extends PveClientBase {
                             addIndexedParameter(parameters, "unused", unusedN);
                             addIndexedParameter(parameters, "usb", usbN);
                             addIndexedParameter(parameters, "virtio", virtioN);
-                            return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/config", parameters);
+                            return Operations.SET_NODES_NODE_QEMU_VMID_CONFIG.execute(client, parameters, this.node, this.vmid);
                         }
 
                         /**
@@ -8368,7 +8904,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result updateVm() throws JSONException {
-                            return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/config", null);
+                            return Operations.SET_NODES_NODE_QEMU_VMID_CONFIG.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -8393,7 +8929,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result vmPending() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/pending", null);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_PENDING.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -8413,7 +8949,11 @@ public class PveClient extends PveClientBase {
                         private PVEDump dump;
 
                         public PVEDump getDump() {
-                            return dump == null ? (dump = new PVEDump(client, this.node, this.vmid)) : dump;
+                            PVEDump instance = dump;
+                            if (instance == null) {
+                                dump = instance = new PVEDump(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
 
                         public class PVEDump {
@@ -8436,9 +8976,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result cloudinitGeneratedConfigDump(String type) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("type", type);
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/cloudinit/dump", parameters);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_CLOUDINIT_DUMP.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_CLOUDINIT_DUMP.parameters(type), this.node, this.vmid);
                             }
 
                         }
@@ -8451,7 +8989,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result cloudinitPending() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/cloudinit", null);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_CLOUDINIT.execute(client, null, this.node, this.vmid);
                         }
 
                         /**
@@ -8462,7 +9000,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result cloudinitUpdate() throws JSONException {
-                            return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/cloudinit", null);
+                            return Operations.SET_NODES_NODE_QEMU_VMID_CLOUDINIT.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -8492,10 +9030,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result unlink(String idlist, Boolean force) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("idlist", idlist);
-                            parameters.put("force", force);
-                            return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/unlink", parameters);
+                            return Operations.SET_NODES_NODE_QEMU_VMID_UNLINK.execute(client, Operations.SET_NODES_NODE_QEMU_VMID_UNLINK.parameters(idlist, force), this.node, this.vmid);
                         }
 
                         /**
@@ -8507,9 +9042,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result unlink(String idlist) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("idlist", idlist);
-                            return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/unlink", parameters);
+                            return Operations.SET_NODES_NODE_QEMU_VMID_UNLINK.execute(client, Operations.SET_NODES_NODE_QEMU_VMID_UNLINK.parameters(idlist), this.node, this.vmid);
                         }
 
                     }
@@ -8537,10 +9070,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result vncproxy(Boolean generate_password, Boolean websocket) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("generate-password", generate_password);
-                            parameters.put("websocket", websocket);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/vncproxy", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_VNCPROXY.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_VNCPROXY.parameters(generate_password, websocket), this.node, this.vmid);
                         }
 
                         /**
@@ -8551,7 +9081,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result vncproxy() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/vncproxy", null);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_VNCPROXY.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -8577,9 +9107,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result termproxy(String serial) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("serial", serial);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/termproxy", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_TERMPROXY.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_TERMPROXY.parameters(serial), this.node, this.vmid);
                         }
 
                         /**
@@ -8590,7 +9118,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result termproxy() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/termproxy", null);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_TERMPROXY.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -8618,10 +9146,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result vncwebsocket(int port, String vncticket) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("port", port);
-                            parameters.put("vncticket", vncticket);
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/vncwebsocket", parameters);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_VNCWEBSOCKET.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_VNCWEBSOCKET.parameters(port, vncticket), this.node, this.vmid);
                         }
 
                     }
@@ -8653,9 +9178,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result spiceproxy(String proxy) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("proxy", proxy);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/spiceproxy", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_SPICEPROXY.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_SPICEPROXY.parameters(proxy), this.node, this.vmid);
                         }
 
                         /**
@@ -8666,7 +9189,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result spiceproxy() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/spiceproxy", null);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_SPICEPROXY.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -8686,42 +9209,74 @@ public class PveClient extends PveClientBase {
                         private PVECurrent current;
 
                         public PVECurrent getCurrent() {
-                            return current == null ? (current = new PVECurrent(client, this.node, this.vmid)) : current;
+                            PVECurrent instance = current;
+                            if (instance == null) {
+                                current = instance = new PVECurrent(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEStart start;
 
                         public PVEStart getStart() {
-                            return start == null ? (start = new PVEStart(client, this.node, this.vmid)) : start;
+                            PVEStart instance = start;
+                            if (instance == null) {
+                                start = instance = new PVEStart(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEStop stop;
 
                         public PVEStop getStop() {
-                            return stop == null ? (stop = new PVEStop(client, this.node, this.vmid)) : stop;
+                            PVEStop instance = stop;
+                            if (instance == null) {
+                                stop = instance = new PVEStop(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEReset reset;
 
                         public PVEReset getReset() {
-                            return reset == null ? (reset = new PVEReset(client, this.node, this.vmid)) : reset;
+                            PVEReset instance = reset;
+                            if (instance == null) {
+                                reset = instance = new PVEReset(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEShutdown shutdown;
 
                         public PVEShutdown getShutdown() {
-                            return shutdown == null ? (shutdown = new PVEShutdown(client, this.node, this.vmid)) : shutdown;
+                            PVEShutdown instance = shutdown;
+                            if (instance == null) {
+                                shutdown = instance = new PVEShutdown(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEReboot reboot;
 
                         public PVEReboot getReboot() {
-                            return reboot == null ? (reboot = new PVEReboot(client, this.node, this.vmid)) : reboot;
+                            PVEReboot instance = reboot;
+                            if (instance == null) {
+                                reboot = instance = new PVEReboot(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVESuspend suspend;
 
                         public PVESuspend getSuspend() {
-                            return suspend == null ? (suspend = new PVESuspend(client, this.node, this.vmid)) : suspend;
+                            PVESuspend instance = suspend;
+                            if (instance == null) {
+                                suspend = instance = new PVESuspend(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEResume resume;
 
                         public PVEResume getResume() {
-                            return resume == null ? (resume = new PVEResume(client, this.node, this.vmid)) : resume;
+                            PVEResume instance = resume;
+                            if (instance == null) {
+                                resume = instance = new PVEResume(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
 
                         public class PVECurrent {
@@ -8743,7 +9298,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmStatus() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/current", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_STATUS_CURRENT.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -8788,17 +9343,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmStart(String force_cpu, String machine, String migratedfrom, String migration_network, String migration_type, Boolean skiplock, String stateuri, String targetstorage, Integer timeout) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("force-cpu", force_cpu);
-                                parameters.put("machine", machine);
-                                parameters.put("migratedfrom", migratedfrom);
-                                parameters.put("migration_network", migration_network);
-                                parameters.put("migration_type", migration_type);
-                                parameters.put("skiplock", skiplock);
-                                parameters.put("stateuri", stateuri);
-                                parameters.put("targetstorage", targetstorage);
-                                parameters.put("timeout", timeout);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/start", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_START.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_START.parameters(force_cpu, machine, migratedfrom, migration_network, migration_type, skiplock, stateuri, targetstorage, timeout), this.node, this.vmid);
                             }
 
                             /**
@@ -8809,7 +9354,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result vmStart() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/start", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_START.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -8842,12 +9387,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmStop(Boolean keepActive, String migratedfrom, Boolean skiplock, Integer timeout) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("keepActive", keepActive);
-                                parameters.put("migratedfrom", migratedfrom);
-                                parameters.put("skiplock", skiplock);
-                                parameters.put("timeout", timeout);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/stop", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_STOP.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_STOP.parameters(keepActive, migratedfrom, skiplock, timeout), this.node, this.vmid);
                             }
 
                             /**
@@ -8861,7 +9401,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result vmStop() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/stop", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_STOP.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -8887,9 +9427,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmReset(Boolean skiplock) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("skiplock", skiplock);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/reset", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_RESET.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_RESET.parameters(skiplock), this.node, this.vmid);
                             }
 
                             /**
@@ -8900,7 +9438,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result vmReset() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/reset", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_RESET.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -8934,12 +9472,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmShutdown(Boolean forceStop, Boolean keepActive, Boolean skiplock, Integer timeout) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("forceStop", forceStop);
-                                parameters.put("keepActive", keepActive);
-                                parameters.put("skiplock", skiplock);
-                                parameters.put("timeout", timeout);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/shutdown", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_SHUTDOWN.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_SHUTDOWN.parameters(forceStop, keepActive, skiplock, timeout), this.node, this.vmid);
                             }
 
                             /**
@@ -8954,7 +9487,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result vmShutdown() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/shutdown", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_SHUTDOWN.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -8981,9 +9514,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmReboot(Integer timeout) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("timeout", timeout);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/reboot", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_REBOOT.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_REBOOT.parameters(timeout), this.node, this.vmid);
                             }
 
                             /**
@@ -8995,7 +9526,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result vmReboot() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/reboot", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_REBOOT.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -9024,11 +9555,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmSuspend(Boolean skiplock, String statestorage, Boolean todisk) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("skiplock", skiplock);
-                                parameters.put("statestorage", statestorage);
-                                parameters.put("todisk", todisk);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/suspend", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_SUSPEND.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_SUSPEND.parameters(skiplock, statestorage, todisk), this.node, this.vmid);
                             }
 
                             /**
@@ -9039,7 +9566,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result vmSuspend() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/suspend", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_SUSPEND.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -9066,10 +9593,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmResume(Boolean nocheck, Boolean skiplock) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("nocheck", nocheck);
-                                parameters.put("skiplock", skiplock);
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/resume", parameters);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_RESUME.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_RESUME.parameters(nocheck, skiplock), this.node, this.vmid);
                             }
 
                             /**
@@ -9080,7 +9604,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result vmResume() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/status/resume", null);
+                                return Operations.CREATE_NODES_NODE_QEMU_VMID_STATUS_RESUME.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -9092,7 +9616,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result vmcmdidx() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/status", null);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_STATUS.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -9119,10 +9643,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result vmSendkey(String key, Boolean skiplock) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("key", key);
-                            parameters.put("skiplock", skiplock);
-                            return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/sendkey", parameters);
+                            return Operations.SET_NODES_NODE_QEMU_VMID_SENDKEY.execute(client, Operations.SET_NODES_NODE_QEMU_VMID_SENDKEY.parameters(key, skiplock), this.node, this.vmid);
                         }
 
                         /**
@@ -9134,9 +9655,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result vmSendkey(String key) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("key", key);
-                            return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/sendkey", parameters);
+                            return Operations.SET_NODES_NODE_QEMU_VMID_SENDKEY.execute(client, Operations.SET_NODES_NODE_QEMU_VMID_SENDKEY.parameters(key), this.node, this.vmid);
                         }
 
                     }
@@ -9163,10 +9682,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result vmFeature(String feature, String snapname) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("feature", feature);
-                            parameters.put("snapname", snapname);
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/feature", parameters);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_FEATURE.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_FEATURE.parameters(feature, snapname), this.node, this.vmid);
                         }
 
                         /**
@@ -9179,9 +9695,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result vmFeature(String feature) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("feature", feature);
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/feature", parameters);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_FEATURE.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_FEATURE.parameters(feature), this.node, this.vmid);
                         }
 
                     }
@@ -9221,18 +9735,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result cloneVm(int newid, Integer bwlimit, String description, String format, Boolean full, String name, String pool, String snapname, String storage, String target) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("newid", newid);
-                            parameters.put("bwlimit", bwlimit);
-                            parameters.put("description", description);
-                            parameters.put("format", format);
-                            parameters.put("full", full);
-                            parameters.put("name", name);
-                            parameters.put("pool", pool);
-                            parameters.put("snapname", snapname);
-                            parameters.put("storage", storage);
-                            parameters.put("target", target);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/clone", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_CLONE.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_CLONE.parameters(newid, bwlimit, description, format, full, name, pool, snapname, storage, target), this.node, this.vmid);
                         }
 
                         /**
@@ -9244,9 +9747,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result cloneVm(int newid) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("newid", newid);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/clone", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_CLONE.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_CLONE.parameters(newid), this.node, this.vmid);
                         }
 
                     }
@@ -9292,17 +9793,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result moveVmDisk(String disk, Integer bwlimit, Boolean delete, String digest, String format, String storage, String target_digest, String target_disk, Integer target_vmid) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("disk", disk);
-                            parameters.put("bwlimit", bwlimit);
-                            parameters.put("delete", delete);
-                            parameters.put("digest", digest);
-                            parameters.put("format", format);
-                            parameters.put("storage", storage);
-                            parameters.put("target-digest", target_digest);
-                            parameters.put("target-disk", target_disk);
-                            parameters.put("target-vmid", target_vmid);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/move_disk", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_MOVE_DISK.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_MOVE_DISK.parameters(disk, bwlimit, delete, digest, format, storage, target_digest, target_disk, target_vmid), this.node, this.vmid);
                         }
 
                         /**
@@ -9316,9 +9807,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result moveVmDisk(String disk) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("disk", disk);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/move_disk", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_MOVE_DISK.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_MOVE_DISK.parameters(disk), this.node, this.vmid);
                         }
 
                     }
@@ -9343,9 +9832,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result migrateVmPrecondition(String target) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("target", target);
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/migrate", parameters);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_MIGRATE.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_MIGRATE.parameters(target), this.node, this.vmid);
                         }
 
                         /**
@@ -9356,7 +9843,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result migrateVmPrecondition() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/migrate", null);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_MIGRATE.execute(client, null, this.node, this.vmid);
                         }
 
                         /**
@@ -9388,16 +9875,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result migrateVm(String target, Integer bwlimit, Boolean force, String migration_network, String migration_type, Boolean online, String targetstorage, Boolean with_local_disks) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("target", target);
-                            parameters.put("bwlimit", bwlimit);
-                            parameters.put("force", force);
-                            parameters.put("migration_network", migration_network);
-                            parameters.put("migration_type", migration_type);
-                            parameters.put("online", online);
-                            parameters.put("targetstorage", targetstorage);
-                            parameters.put("with-local-disks", with_local_disks);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/migrate", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_MIGRATE.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_MIGRATE.parameters(target, bwlimit, force, migration_network, migration_type, online, targetstorage, with_local_disks), this.node, this.vmid);
                         }
 
                         /**
@@ -9410,9 +9888,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result migrateVm(String target) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("target", target);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/migrate", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_MIGRATE.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_MIGRATE.parameters(target), this.node, this.vmid);
                         }
 
                     }
@@ -9455,15 +9931,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result remoteMigrateVm(String target_bridge, String target_endpoint, String target_storage, Integer bwlimit, Boolean delete, Boolean online, Integer target_vmid) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("target-bridge", target_bridge);
-                            parameters.put("target-endpoint", target_endpoint);
-                            parameters.put("target-storage", target_storage);
-                            parameters.put("bwlimit", bwlimit);
-                            parameters.put("delete", delete);
-                            parameters.put("online", online);
-                            parameters.put("target-vmid", target_vmid);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/remote_migrate", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_REMOTE_MIGRATE.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_REMOTE_MIGRATE.parameters(target_bridge, target_endpoint, target_storage, bwlimit, delete, online, target_vmid), this.node, this.vmid);
                         }
 
                         /**
@@ -9485,11 +9953,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result remoteMigrateVm(String target_bridge, String target_endpoint, String target_storage) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("target-bridge", target_bridge);
-                            parameters.put("target-endpoint", target_endpoint);
-                            parameters.put("target-storage", target_storage);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/remote_migrate", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_REMOTE_MIGRATE.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_REMOTE_MIGRATE.parameters(target_bridge, target_endpoint, target_storage), this.node, this.vmid);
                         }
 
                     }
@@ -9514,9 +9978,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result monitor(String command) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("command", command);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/monitor", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_MONITOR.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_MONITOR.parameters(command), this.node, this.vmid);
                         }
 
                     }
@@ -9551,12 +10013,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result resizeVm(String disk, String size, String digest, Boolean skiplock) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("disk", disk);
-                            parameters.put("size", size);
-                            parameters.put("digest", digest);
-                            parameters.put("skiplock", skiplock);
-                            return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/resize", parameters);
+                            return Operations.SET_NODES_NODE_QEMU_VMID_RESIZE.execute(client, Operations.SET_NODES_NODE_QEMU_VMID_RESIZE.parameters(disk, size, digest, skiplock), this.node, this.vmid);
                         }
 
                         /**
@@ -9573,10 +10030,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result resizeVm(String disk, String size) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("disk", disk);
-                            parameters.put("size", size);
-                            return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/resize", parameters);
+                            return Operations.SET_NODES_NODE_QEMU_VMID_RESIZE.execute(client, Operations.SET_NODES_NODE_QEMU_VMID_RESIZE.parameters(disk, size), this.node, this.vmid);
                         }
 
                     }
@@ -9593,8 +10047,11 @@ public class PveClient extends PveClientBase {
                             this.vmid = vmid;
                         }
 
+                        private final PveHandleCache<PVESnapnameItem> handles = new PveHandleCache<>();
+
                         public PVESnapnameItem get(Object snapname) {
-                            return new PVESnapnameItem(client, this.node, this.vmid, snapname);
+                            PVESnapnameItem item = handles.get(snapname);
+                            return item != null ? item : handles.put(snapname, new PVESnapnameItem(client, this.node, this.vmid, snapname));
                         }
 
                         public class PVESnapnameItem {
@@ -9614,12 +10071,20 @@ public class PveClient extends PveClientBase {
                             private PVEConfig config;
 
                             public PVEConfig getConfig() {
-                                return config == null ? (config = new PVEConfig(client, this.node, this.vmid, this.snapname)) : config;
+                                PVEConfig instance = config;
+                                if (instance == null) {
+                                    config = instance = new PVEConfig(client, this.node, this.vmid, this.snapname);
+                                }
+                                return instance;
                             }
                             private PVERollback rollback;
 
                             public PVERollback getRollback() {
-                                return rollback == null ? (rollback = new PVERollback(client, this.node, this.vmid, this.snapname)) : rollback;
+                                PVERollback instance = rollback;
+                                if (instance == null) {
+                                    rollback = instance = new PVERollback(client, this.node, this.vmid, this.snapname);
+                                }
+                                return instance;
                             }
 
                             public class PVEConfig {
@@ -9643,7 +10108,7 @@ public class PveClient extends PveClientBase {
                                  * @throws JSONException
                                  */
                                 public Result getSnapshotConfig() throws JSONException {
-                                    return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/snapshot/" + this.snapname + "/config", null);
+                                    return Operations.GET_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME_CONFIG.execute(client, null, this.node, this.vmid, this.snapname);
                                 }
 
                                 /**
@@ -9656,9 +10121,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result updateSnapshotConfig(String description) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("description", description);
-                                    return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/snapshot/" + this.snapname + "/config", parameters);
+                                    return Operations.SET_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME_CONFIG.execute(client, Operations.SET_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME_CONFIG.parameters(description), this.node, this.vmid, this.snapname);
                                 }
 
                                 /**
@@ -9669,7 +10132,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result updateSnapshotConfig() throws JSONException {
-                                    return client.set("/nodes/" + this.node + "/qemu/" + this.vmid + "/snapshot/" + this.snapname + "/config", null);
+                                    return Operations.SET_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME_CONFIG.execute(client, null, this.node, this.vmid, this.snapname);
                                 }
 
                             }
@@ -9699,9 +10162,7 @@ public class PveClient extends PveClientBase {
                                  * @throws JSONException
                                  */
                                 public Result rollback(Boolean start) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("start", start);
-                                    return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/snapshot/" + this.snapname + "/rollback", parameters);
+                                    return Operations.CREATE_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME_ROLLBACK.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME_ROLLBACK.parameters(start), this.node, this.vmid, this.snapname);
                                 }
 
                                 /**
@@ -9712,7 +10173,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result rollback() throws JSONException {
-                                    return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/snapshot/" + this.snapname + "/rollback", null);
+                                    return Operations.CREATE_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME_ROLLBACK.execute(client, null, this.node, this.vmid, this.snapname);
                                 }
 
                             }
@@ -9726,9 +10187,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result delsnapshot(Boolean force) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("force", force);
-                                return client.delete("/nodes/" + this.node + "/qemu/" + this.vmid + "/snapshot/" + this.snapname + "", parameters);
+                                return Operations.DELETE_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME.execute(client, Operations.DELETE_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME.parameters(force), this.node, this.vmid, this.snapname);
                             }
 
                             /**
@@ -9739,7 +10198,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result delsnapshot() throws JSONException {
-                                return client.delete("/nodes/" + this.node + "/qemu/" + this.vmid + "/snapshot/" + this.snapname + "", null);
+                                return Operations.DELETE_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME.execute(client, null, this.node, this.vmid, this.snapname);
                             }
 
                             /**
@@ -9749,7 +10208,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result snapshotCmdIdx() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/snapshot/" + this.snapname + "", null);
+                                return Operations.GET_NODES_NODE_QEMU_VMID_SNAPSHOT_SNAPNAME.execute(client, null, this.node, this.vmid, this.snapname);
                             }
 
                         }
@@ -9761,7 +10220,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result snapshotList() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/snapshot", null);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_SNAPSHOT.execute(client, null, this.node, this.vmid);
                         }
 
                         /**
@@ -9775,11 +10234,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result snapshot(String snapname, String description, Boolean vmstate) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("snapname", snapname);
-                            parameters.put("description", description);
-                            parameters.put("vmstate", vmstate);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/snapshot", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_SNAPSHOT.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_SNAPSHOT.parameters(snapname, description, vmstate), this.node, this.vmid);
                         }
 
                         /**
@@ -9791,9 +10246,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result snapshot(String snapname) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("snapname", snapname);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/snapshot", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_SNAPSHOT.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_SNAPSHOT.parameters(snapname), this.node, this.vmid);
                         }
 
                     }
@@ -9820,9 +10273,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result template(String disk) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("disk", disk);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/template", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_TEMPLATE.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_TEMPLATE.parameters(disk), this.node, this.vmid);
                         }
 
                         /**
@@ -9833,7 +10284,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result template() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/template", null);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_TEMPLATE.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -9864,10 +10315,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result mtunnel(String bridges, String storages) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("bridges", bridges);
-                            parameters.put("storages", storages);
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/mtunnel", parameters);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_MTUNNEL.execute(client, Operations.CREATE_NODES_NODE_QEMU_VMID_MTUNNEL.parameters(bridges, storages), this.node, this.vmid);
                         }
 
                         /**
@@ -9879,7 +10327,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result mtunnel() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/qemu/" + this.vmid + "/mtunnel", null);
+                            return Operations.CREATE_NODES_NODE_QEMU_VMID_MTUNNEL.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -9907,10 +10355,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result mtunnelwebsocket(String socket, String ticket) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("socket", socket);
-                            parameters.put("ticket", ticket);
-                            return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "/mtunnelwebsocket", parameters);
+                            return Operations.GET_NODES_NODE_QEMU_VMID_MTUNNELWEBSOCKET.execute(client, Operations.GET_NODES_NODE_QEMU_VMID_MTUNNELWEBSOCKET.parameters(socket, ticket), this.node, this.vmid);
                         }
 
                     }
@@ -9930,11 +10375,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result destroyVm(Boolean destroy_unreferenced_disks, Boolean purge, Boolean skiplock) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("destroy-unreferenced-disks", destroy_unreferenced_disks);
-                        parameters.put("purge", purge);
-                        parameters.put("skiplock", skiplock);
-                        return client.delete("/nodes/" + this.node + "/qemu/" + this.vmid + "", parameters);
+                        return Operations.DELETE_NODES_NODE_QEMU_VMID.execute(client, Operations.DELETE_NODES_NODE_QEMU_VMID.parameters(destroy_unreferenced_disks, purge, skiplock), this.node, this.vmid);
                     }
 
                     /**
@@ -9946,7 +10387,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result destroyVm() throws JSONException {
-                        return client.delete("/nodes/" + this.node + "/qemu/" + this.vmid + "", null);
+                        return Operations.DELETE_NODES_NODE_QEMU_VMID.execute(client, null, this.node, this.vmid);
                     }
 
                     /**
@@ -9957,7 +10398,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result vmdiridx() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/qemu/" + this.vmid + "", null);
+                        return Operations.GET_NODES_NODE_QEMU_VMID.execute(client, null, this.node, this.vmid);
                     }
 
                 }
@@ -9970,9 +10411,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result vmlist(Boolean full) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("full", full);
-                    return client.get("/nodes/" + this.node + "/qemu", parameters);
+                    return Operations.GET_NODES_NODE_QEMU.execute(client, Operations.GET_NODES_NODE_QEMU.parameters(full), this.node);
                 }
 
                 /**
@@ -9983,7 +10422,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result vmlist() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/qemu", null);
+                    return Operations.GET_NODES_NODE_QEMU.execute(client, null, this.node);
                 }
 
                 /**
@@ -10272,7 +10711,7 @@ public class PveClient extends PveClientBase {
                     addIndexedParameter(parameters, "unused", unusedN);
                     addIndexedParameter(parameters, "usb", usbN);
                     addIndexedParameter(parameters, "virtio", virtioN);
-                    return client.create("/nodes/" + this.node + "/qemu", parameters);
+                    return Operations.CREATE_NODES_NODE_QEMU.execute(client, parameters, this.node);
                 }
 
                 /**
@@ -10284,9 +10723,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result createVm(int vmid) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("vmid", vmid);
-                    return client.create("/nodes/" + this.node + "/qemu", parameters);
+                    return Operations.CREATE_NODES_NODE_QEMU.execute(client, Operations.CREATE_NODES_NODE_QEMU.parameters(vmid), this.node);
                 }
 
             }
@@ -10301,8 +10738,11 @@ public class PveClient extends PveClientBase {
                     this.node = node;
                 }
 
+                private final PveHandleCache<PVEVmidItem> handles = new PveHandleCache<>();
+
                 public PVEVmidItem get(Object vmid) {
-                    return new PVEVmidItem(client, this.node, vmid);
+                    PVEVmidItem item = handles.get(vmid);
+                    return item != null ? item : handles.put(vmid, new PVEVmidItem(client, this.node, vmid));
                 }
 
                 public class PVEVmidItem {
@@ -10320,102 +10760,182 @@ public class PveClient extends PveClientBase {
                     private PVEConfig config;
 
                     public PVEConfig getConfig() {
-                        return config == null ? (config = new PVEConfig(client, this.node, this.vmid)) : config;
+                        PVEConfig instance = config;
+                        if (instance == null) {
+                            config = instance = new PVEConfig(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEStatus status;
 
                     public PVEStatus getStatus() {
-                        return status == null ? (status = new PVEStatus(client, this.node, this.vmid)) : status;
+                        PVEStatus instance = status;
+                        if (instance == null) {
+                            status = instance = new PVEStatus(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVESnapshot snapshot;
 
                     public PVESnapshot getSnapshot() {
-                        return snapshot == null ? (snapshot = new PVESnapshot(client, this.node, this.vmid)) : snapshot;
+                        PVESnapshot instance = snapshot;
+                        if (instance == null) {
+                            snapshot = instance = new PVESnapshot(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEFirewall firewall;
 
                     public PVEFirewall getFirewall() {
-                        return firewall == null ? (firewall = new PVEFirewall(client, this.node, this.vmid)) : firewall;
+                        PVEFirewall instance = firewall;
+                        if (instance == null) {
+                            firewall = instance = new PVEFirewall(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVERrd rrd;
 
                     public PVERrd getRrd() {
-                        return rrd == null ? (rrd = new PVERrd(client, this.node, this.vmid)) : rrd;
+                        PVERrd instance = rrd;
+                        if (instance == null) {
+                            rrd = instance = new PVERrd(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVERrddata rrddata;
 
                     public PVERrddata getRrddata() {
-                        return rrddata == null ? (rrddata = new PVERrddata(client, this.node, this.vmid)) : rrddata;
+                        PVERrddata instance = rrddata;
+                        if (instance == null) {
+                            rrddata = instance = new PVERrddata(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEVncproxy vncproxy;
 
                     public PVEVncproxy getVncproxy() {
-                        return vncproxy == null ? (vncproxy = new PVEVncproxy(client, this.node, this.vmid)) : vncproxy;
+                        PVEVncproxy instance = vncproxy;
+                        if (instance == null) {
+                            vncproxy = instance = new PVEVncproxy(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVETermproxy termproxy;
 
                     public PVETermproxy getTermproxy() {
-                        return termproxy == null ? (termproxy = new PVETermproxy(client, this.node, this.vmid)) : termproxy;
+                        PVETermproxy instance = termproxy;
+                        if (instance == null) {
+                            termproxy = instance = new PVETermproxy(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEVncwebsocket vncwebsocket;
 
                     public PVEVncwebsocket getVncwebsocket() {
-                        return vncwebsocket == null ? (vncwebsocket = new PVEVncwebsocket(client, this.node, this.vmid)) : vncwebsocket;
+                        PVEVncwebsocket instance = vncwebsocket;
+                        if (instance == null) {
+                            vncwebsocket = instance = new PVEVncwebsocket(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVESpiceproxy spiceproxy;
 
                     public PVESpiceproxy getSpiceproxy() {
-                        return spiceproxy == null ? (spiceproxy = new PVESpiceproxy(client, this.node, this.vmid)) : spiceproxy;
+                        PVESpiceproxy instance = spiceproxy;
+                        if (instance == null) {
+                            spiceproxy = instance = new PVESpiceproxy(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVERemoteMigrate remoteMigrate;
 
                     public PVERemoteMigrate getRemoteMigrate() {
-                        return remoteMigrate == null ? (remoteMigrate = new PVERemoteMigrate(client, this.node, this.vmid)) : remoteMigrate;
+                        PVERemoteMigrate instance = remoteMigrate;
+                        if (instance == null) {
+                            remoteMigrate = instance = new PVERemoteMigrate(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEMigrate migrate;
 
                     public PVEMigrate getMigrate() {
-                        return migrate == null ? (migrate = new PVEMigrate(client, this.node, this.vmid)) : migrate;
+                        PVEMigrate instance = migrate;
+                        if (instance == null) {
+                            migrate = instance = new PVEMigrate(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEFeature feature;
 
                     public PVEFeature getFeature() {
-                        return feature == null ? (feature = new PVEFeature(client, this.node, this.vmid)) : feature;
+                        PVEFeature instance = feature;
+                        if (instance == null) {
+                            feature = instance = new PVEFeature(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVETemplate template;
 
                     public PVETemplate getTemplate() {
-                        return template == null ? (template = new PVETemplate(client, this.node, this.vmid)) : template;
+                        PVETemplate instance = template;
+                        if (instance == null) {
+                            template = instance = new PVETemplate(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEClone clone;
 
                     public PVEClone getClone() {
-                        return clone == null ? (clone = new PVEClone(client, this.node, this.vmid)) : clone;
+                        PVEClone instance = clone;
+                        if (instance == null) {
+                            clone = instance = new PVEClone(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEResize resize;
 
                     public PVEResize getResize() {
-                        return resize == null ? (resize = new PVEResize(client, this.node, this.vmid)) : resize;
+                        PVEResize instance = resize;
+                        if (instance == null) {
+                            resize = instance = new PVEResize(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEMoveVolume moveVolume;
 
                     public PVEMoveVolume getMoveVolume() {
-                        return moveVolume == null ? (moveVolume = new PVEMoveVolume(client, this.node, this.vmid)) : moveVolume;
+                        PVEMoveVolume instance = moveVolume;
+                        if (instance == null) {
+                            moveVolume = instance = new PVEMoveVolume(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEPending pending;
 
                     public PVEPending getPending() {
-                        return pending == null ? (pending = new PVEPending(client, this.node, this.vmid)) : pending;
+                        PVEPending instance = pending;
+                        if (instance == null) {
+                            pending = instance = new PVEPending(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEMtunnel mtunnel;
 
                     public PVEMtunnel getMtunnel() {
-                        return mtunnel == null ? (mtunnel = new PVEMtunnel(client, this.node, this.vmid)) : mtunnel;
+                        PVEMtunnel instance = mtunnel;
+                        if (instance == null) {
+                            mtunnel = instance = new PVEMtunnel(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
                     private PVEMtunnelwebsocket mtunnelwebsocket;
 
                     public PVEMtunnelwebsocket getMtunnelwebsocket() {
-                        return mtunnelwebsocket == null ? (mtunnelwebsocket = new PVEMtunnelwebsocket(client, this.node, this.vmid)) : mtunnelwebsocket;
+                        PVEMtunnelwebsocket instance = mtunnelwebsocket;
+                        if (instance == null) {
+                            mtunnelwebsocket = instance = new PVEMtunnelwebsocket(client, this.node, this.vmid);
+                        }
+                        return instance;
                     }
 
                     public class PVEConfig {
@@ -10441,10 +10961,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result vmConfig(Boolean current, String snapshot) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("current", current);
-                            parameters.put("snapshot", snapshot);
-                            return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/config", parameters);
+                            return Operations.GET_NODES_NODE_LXC_VMID_CONFIG.execute(client, Operations.GET_NODES_NODE_LXC_VMID_CONFIG.parameters(current, snapshot), this.node, this.vmid);
                         }
 
                         /**
@@ -10455,7 +10972,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result vmConfig() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/config", null);
+                            return Operations.GET_NODES_NODE_LXC_VMID_CONFIG.execute(client, null, this.node, this.vmid);
                         }
 
                         /**
@@ -10583,7 +11100,7 @@ public class PveClient extends PveClientBase {
                             addIndexedParameter(parameters, "mp", mpN);
                             addIndexedParameter(parameters, "net", netN);
                             addIndexedParameter(parameters, "unused", unusedN);
-                            return client.set("/nodes/" + this.node + "/lxc/" + this.vmid + "/config", parameters);
+                            return Operations.SET_NODES_NODE_LXC_VMID_CONFIG.execute(client, parameters, this.node, this.vmid);
                         }
 
                         /**
@@ -10594,7 +11111,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result updateVm() throws JSONException {
-                            return client.set("/nodes/" + this.node + "/lxc/" + this.vmid + "/config", null);
+                            return Operations.SET_NODES_NODE_LXC_VMID_CONFIG.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -10614,37 +11131,65 @@ public class PveClient extends PveClientBase {
                         private PVECurrent current;
 
                         public PVECurrent getCurrent() {
-                            return current == null ? (current = new PVECurrent(client, this.node, this.vmid)) : current;
+                            PVECurrent instance = current;
+                            if (instance == null) {
+                                current = instance = new PVECurrent(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEStart start;
 
                         public PVEStart getStart() {
-                            return start == null ? (start = new PVEStart(client, this.node, this.vmid)) : start;
+                            PVEStart instance = start;
+                            if (instance == null) {
+                                start = instance = new PVEStart(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEStop stop;
 
                         public PVEStop getStop() {
-                            return stop == null ? (stop = new PVEStop(client, this.node, this.vmid)) : stop;
+                            PVEStop instance = stop;
+                            if (instance == null) {
+                                stop = instance = new PVEStop(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEShutdown shutdown;
 
                         public PVEShutdown getShutdown() {
-                            return shutdown == null ? (shutdown = new PVEShutdown(client, this.node, this.vmid)) : shutdown;
+                            PVEShutdown instance = shutdown;
+                            if (instance == null) {
+                                shutdown = instance = new PVEShutdown(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVESuspend suspend;
 
                         public PVESuspend getSuspend() {
-                            return suspend == null ? (suspend = new PVESuspend(client, this.node, this.vmid)) : suspend;
+                            PVESuspend instance = suspend;
+                            if (instance == null) {
+                                suspend = instance = new PVESuspend(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEResume resume;
 
                         public PVEResume getResume() {
-                            return resume == null ? (resume = new PVEResume(client, this.node, this.vmid)) : resume;
+                            PVEResume instance = resume;
+                            if (instance == null) {
+                                resume = instance = new PVEResume(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEReboot reboot;
 
                         public PVEReboot getReboot() {
-                            return reboot == null ? (reboot = new PVEReboot(client, this.node, this.vmid)) : reboot;
+                            PVEReboot instance = reboot;
+                            if (instance == null) {
+                                reboot = instance = new PVEReboot(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
 
                         public class PVECurrent {
@@ -10666,7 +11211,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmStatus() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/status/current", null);
+                                return Operations.GET_NODES_NODE_LXC_VMID_STATUS_CURRENT.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -10694,10 +11239,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmStart(Boolean debug, Boolean skiplock) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("debug", debug);
-                                parameters.put("skiplock", skiplock);
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/status/start", parameters);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_STATUS_START.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_STATUS_START.parameters(debug, skiplock), this.node, this.vmid);
                             }
 
                             /**
@@ -10708,7 +11250,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result vmStart() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/status/start", null);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_STATUS_START.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -10735,9 +11277,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmStop(Boolean skiplock) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("skiplock", skiplock);
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/status/stop", parameters);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_STATUS_STOP.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_STATUS_STOP.parameters(skiplock), this.node, this.vmid);
                             }
 
                             /**
@@ -10749,7 +11289,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result vmStop() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/status/stop", null);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_STATUS_STOP.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -10777,10 +11317,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmShutdown(Boolean forceStop, Integer timeout) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("forceStop", forceStop);
-                                parameters.put("timeout", timeout);
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/status/shutdown", parameters);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_STATUS_SHUTDOWN.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_STATUS_SHUTDOWN.parameters(forceStop, timeout), this.node, this.vmid);
                             }
 
                             /**
@@ -10793,7 +11330,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result vmShutdown() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/status/shutdown", null);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_STATUS_SHUTDOWN.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -10817,7 +11354,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmSuspend() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/status/suspend", null);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_STATUS_SUSPEND.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -10841,7 +11378,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmResume() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/status/resume", null);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_STATUS_RESUME.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -10868,9 +11405,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result vmReboot(Integer timeout) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("timeout", timeout);
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/status/reboot", parameters);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_STATUS_REBOOT.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_STATUS_REBOOT.parameters(timeout), this.node, this.vmid);
                             }
 
                             /**
@@ -10882,7 +11417,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result vmReboot() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/status/reboot", null);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_STATUS_REBOOT.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -10894,7 +11429,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result vmcmdidx() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/status", null);
+                            return Operations.GET_NODES_NODE_LXC_VMID_STATUS.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -10911,8 +11446,11 @@ public class PveClient extends PveClientBase {
                             this.vmid = vmid;
                         }
 
+                        private final PveHandleCache<PVESnapnameItem> handles = new PveHandleCache<>();
+
                         public PVESnapnameItem get(Object snapname) {
-                            return new PVESnapnameItem(client, this.node, this.vmid, snapname);
+                            PVESnapnameItem item = handles.get(snapname);
+                            return item != null ? item : handles.put(snapname, new PVESnapnameItem(client, this.node, this.vmid, snapname));
                         }
 
                         public class PVESnapnameItem {
@@ -10932,12 +11470,20 @@ public class PveClient extends PveClientBase {
                             private PVERollback rollback;
 
                             public PVERollback getRollback() {
-                                return rollback == null ? (rollback = new PVERollback(client, this.node, this.vmid, this.snapname)) : rollback;
+                                PVERollback instance = rollback;
+                                if (instance == null) {
+                                    rollback = instance = new PVERollback(client, this.node, this.vmid, this.snapname);
+                                }
+                                return instance;
                             }
                             private PVEConfig config;
 
                             public PVEConfig getConfig() {
-                                return config == null ? (config = new PVEConfig(client, this.node, this.vmid, this.snapname)) : config;
+                                PVEConfig instance = config;
+                                if (instance == null) {
+                                    config = instance = new PVEConfig(client, this.node, this.vmid, this.snapname);
+                                }
+                                return instance;
                             }
 
                             public class PVERollback {
@@ -10963,9 +11509,7 @@ public class PveClient extends PveClientBase {
                                  * @throws JSONException
                                  */
                                 public Result rollback(Boolean start) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("start", start);
-                                    return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/snapshot/" + this.snapname + "/rollback", parameters);
+                                    return Operations.CREATE_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME_ROLLBACK.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME_ROLLBACK.parameters(start), this.node, this.vmid, this.snapname);
                                 }
 
                                 /**
@@ -10976,7 +11520,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result rollback() throws JSONException {
-                                    return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/snapshot/" + this.snapname + "/rollback", null);
+                                    return Operations.CREATE_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME_ROLLBACK.execute(client, null, this.node, this.vmid, this.snapname);
                                 }
 
                             }
@@ -11002,7 +11546,7 @@ public class PveClient extends PveClientBase {
                                  * @throws JSONException
                                  */
                                 public Result getSnapshotConfig() throws JSONException {
-                                    return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/snapshot/" + this.snapname + "/config", null);
+                                    return Operations.GET_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME_CONFIG.execute(client, null, this.node, this.vmid, this.snapname);
                                 }
 
                                 /**
@@ -11015,9 +11559,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result updateSnapshotConfig(String description) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("description", description);
-                                    return client.set("/nodes/" + this.node + "/lxc/" + this.vmid + "/snapshot/" + this.snapname + "/config", parameters);
+                                    return Operations.SET_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME_CONFIG.execute(client, Operations.SET_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME_CONFIG.parameters(description), this.node, this.vmid, this.snapname);
                                 }
 
                                 /**
@@ -11028,7 +11570,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result updateSnapshotConfig() throws JSONException {
-                                    return client.set("/nodes/" + this.node + "/lxc/" + this.vmid + "/snapshot/" + this.snapname + "/config", null);
+                                    return Operations.SET_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME_CONFIG.execute(client, null, this.node, this.vmid, this.snapname);
                                 }
 
                             }
@@ -11042,9 +11584,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result delsnapshot(Boolean force) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("force", force);
-                                return client.delete("/nodes/" + this.node + "/lxc/" + this.vmid + "/snapshot/" + this.snapname + "", parameters);
+                                return Operations.DELETE_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME.execute(client, Operations.DELETE_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME.parameters(force), this.node, this.vmid, this.snapname);
                             }
 
                             /**
@@ -11055,7 +11595,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result delsnapshot() throws JSONException {
-                                return client.delete("/nodes/" + this.node + "/lxc/" + this.vmid + "/snapshot/" + this.snapname + "", null);
+                                return Operations.DELETE_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME.execute(client, null, this.node, this.vmid, this.snapname);
                             }
 
                             /**
@@ -11065,7 +11605,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result snapshotCmdIdx() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/snapshot/" + this.snapname + "", null);
+                                return Operations.GET_NODES_NODE_LXC_VMID_SNAPSHOT_SNAPNAME.execute(client, null, this.node, this.vmid, this.snapname);
                             }
 
                         }
@@ -11077,7 +11617,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result list() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/snapshot", null);
+                            return Operations.GET_NODES_NODE_LXC_VMID_SNAPSHOT.execute(client, null, this.node, this.vmid);
                         }
 
                         /**
@@ -11090,10 +11630,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result snapshot(String snapname, String description) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("snapname", snapname);
-                            parameters.put("description", description);
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/snapshot", parameters);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_SNAPSHOT.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_SNAPSHOT.parameters(snapname, description), this.node, this.vmid);
                         }
 
                         /**
@@ -11105,9 +11642,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result snapshot(String snapname) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("snapname", snapname);
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/snapshot", parameters);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_SNAPSHOT.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_SNAPSHOT.parameters(snapname), this.node, this.vmid);
                         }
 
                     }
@@ -11127,32 +11662,56 @@ public class PveClient extends PveClientBase {
                         private PVERules rules;
 
                         public PVERules getRules() {
-                            return rules == null ? (rules = new PVERules(client, this.node, this.vmid)) : rules;
+                            PVERules instance = rules;
+                            if (instance == null) {
+                                rules = instance = new PVERules(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEAliases aliases;
 
                         public PVEAliases getAliases() {
-                            return aliases == null ? (aliases = new PVEAliases(client, this.node, this.vmid)) : aliases;
+                            PVEAliases instance = aliases;
+                            if (instance == null) {
+                                aliases = instance = new PVEAliases(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEIpset ipset;
 
                         public PVEIpset getIpset() {
-                            return ipset == null ? (ipset = new PVEIpset(client, this.node, this.vmid)) : ipset;
+                            PVEIpset instance = ipset;
+                            if (instance == null) {
+                                ipset = instance = new PVEIpset(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVEOptions options;
 
                         public PVEOptions getOptions() {
-                            return options == null ? (options = new PVEOptions(client, this.node, this.vmid)) : options;
+                            PVEOptions instance = options;
+                            if (instance == null) {
+                                options = instance = new PVEOptions(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVELog log;
 
                         public PVELog getLog() {
-                            return log == null ? (log = new PVELog(client, this.node, this.vmid)) : log;
+                            PVELog instance = log;
+                            if (instance == null) {
+                                log = instance = new PVELog(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
                         private PVERefs refs;
 
                         public PVERefs getRefs() {
-                            return refs == null ? (refs = new PVERefs(client, this.node, this.vmid)) : refs;
+                            PVERefs instance = refs;
+                            if (instance == null) {
+                                refs = instance = new PVERefs(client, this.node, this.vmid);
+                            }
+                            return instance;
                         }
 
                         public class PVERules {
@@ -11167,8 +11726,11 @@ public class PveClient extends PveClientBase {
                                 this.vmid = vmid;
                             }
 
+                            private final PveHandleCache<PVEPosItem> handles = new PveHandleCache<>();
+
                             public PVEPosItem get(Object pos) {
-                                return new PVEPosItem(client, this.node, this.vmid, pos);
+                                PVEPosItem item = handles.get(pos);
+                                return item != null ? item : handles.put(pos, new PVEPosItem(client, this.node, this.vmid, pos));
                             }
 
                             public class PVEPosItem {
@@ -11196,9 +11758,7 @@ public class PveClient extends PveClientBase {
                                  * @throws JSONException
                                  */
                                 public Result deleteRule(String digest) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("digest", digest);
-                                    return client.delete("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/rules/" + this.pos + "", parameters);
+                                    return Operations.DELETE_NODES_NODE_LXC_VMID_FIREWALL_RULES_POS.execute(client, Operations.DELETE_NODES_NODE_LXC_VMID_FIREWALL_RULES_POS.parameters(digest), this.node, this.vmid, this.pos);
                                 }
 
                                 /**
@@ -11209,7 +11769,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result deleteRule() throws JSONException {
-                                    return client.delete("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/rules/" + this.pos + "", null);
+                                    return Operations.DELETE_NODES_NODE_LXC_VMID_FIREWALL_RULES_POS.execute(client, null, this.node, this.vmid, this.pos);
                                 }
 
                                 /**
@@ -11220,7 +11780,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result getRule() throws JSONException {
-                                    return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/rules/" + this.pos + "", null);
+                                    return Operations.GET_NODES_NODE_LXC_VMID_FIREWALL_RULES_POS.execute(client, null, this.node, this.vmid, this.pos);
                                 }
 
                                 /**
@@ -11289,24 +11849,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result updateRule(String action, String comment, String delete, String dest, String digest, String dport, Integer enable, String icmp_type, String iface, String log, String macro, Integer moveto, String proto, String source, String sport, String type) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("action", action);
-                                    parameters.put("comment", comment);
-                                    parameters.put("delete", delete);
-                                    parameters.put("dest", dest);
-                                    parameters.put("digest", digest);
-                                    parameters.put("dport", dport);
-                                    parameters.put("enable", enable);
-                                    parameters.put("icmp-type", icmp_type);
-                                    parameters.put("iface", iface);
-                                    parameters.put("log", log);
-                                    parameters.put("macro", macro);
-                                    parameters.put("moveto", moveto);
-                                    parameters.put("proto", proto);
-                                    parameters.put("source", source);
-                                    parameters.put("sport", sport);
-                                    parameters.put("type", type);
-                                    return client.set("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/rules/" + this.pos + "", parameters);
+                                    return Operations.SET_NODES_NODE_LXC_VMID_FIREWALL_RULES_POS.execute(client, Operations.SET_NODES_NODE_LXC_VMID_FIREWALL_RULES_POS.parameters(action, comment, delete, dest, digest, dport, enable, icmp_type, iface, log, macro, moveto, proto, source, sport, type), this.node, this.vmid, this.pos);
                                 }
 
                                 /**
@@ -11317,7 +11860,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result updateRule() throws JSONException {
-                                    return client.set("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/rules/" + this.pos + "", null);
+                                    return Operations.SET_NODES_NODE_LXC_VMID_FIREWALL_RULES_POS.execute(client, null, this.node, this.vmid, this.pos);
                                 }
 
                             }
@@ -11329,7 +11872,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getRules() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/rules", null);
+                                return Operations.GET_NODES_NODE_LXC_VMID_FIREWALL_RULES.execute(client, null, this.node, this.vmid);
                             }
 
                             /**
@@ -11391,23 +11934,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result createRule(String action, String type, String comment, String dest, String digest, String dport, Integer enable, String icmp_type, String iface, String log, String macro, Integer pos, String proto, String source, String sport) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("action", action);
-                                parameters.put("type", type);
-                                parameters.put("comment", comment);
-                                parameters.put("dest", dest);
-                                parameters.put("digest", digest);
-                                parameters.put("dport", dport);
-                                parameters.put("enable", enable);
-                                parameters.put("icmp-type", icmp_type);
-                                parameters.put("iface", iface);
-                                parameters.put("log", log);
-                                parameters.put("macro", macro);
-                                parameters.put("pos", pos);
-                                parameters.put("proto", proto);
-                                parameters.put("source", source);
-                                parameters.put("sport", sport);
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/rules", parameters);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_RULES.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_RULES.parameters(action, type, comment, dest, digest, dport, enable, icmp_type, iface, log, macro, pos, proto, source, sport), this.node, this.vmid);
                             }
 
                             /**
@@ -11421,10 +11948,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result createRule(String action, String type) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("action", action);
-                                parameters.put("type", type);
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/rules", parameters);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_RULES.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_RULES.parameters(action, type), this.node, this.vmid);
                             }
 
                         }
@@ -11441,8 +11965,11 @@ public class PveClient extends PveClientBase {
                                 this.vmid = vmid;
                             }
 
+                            private final PveHandleCache<PVENameItem> handles = new PveHandleCache<>();
+
                             public PVENameItem get(Object name) {
-                                return new PVENameItem(client, this.node, this.vmid, name);
+                                PVENameItem item = handles.get(name);
+                                return item != null ? item : handles.put(name, new PVENameItem(client, this.node, this.vmid, name));
                             }
 
                             public class PVENameItem {
@@ -11470,9 +11997,7 @@ public class PveClient extends PveClientBase {
                                  * @throws JSONException
                                  */
                                 public Result removeAlias(String digest) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("digest", digest);
-                                    return client.delete("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/aliases/" + this.name + "", parameters);
+                                    return Operations.DELETE_NODES_NODE_LXC_VMID_FIREWALL_ALIASES_NAME.execute(client, Operations.DELETE_NODES_NODE_LXC_VMID_FIREWALL_ALIASES_NAME.parameters(digest), this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -11483,7 +12008,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result removeAlias() throws JSONException {
-                                    return client.delete("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/aliases/" + this.name + "", null);
+                                    return Operations.DELETE_NODES_NODE_LXC_VMID_FIREWALL_ALIASES_NAME.execute(client, null, this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -11494,7 +12019,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result readAlias() throws JSONException {
-                                    return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/aliases/" + this.name + "", null);
+                                    return Operations.GET_NODES_NODE_LXC_VMID_FIREWALL_ALIASES_NAME.execute(client, null, this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -11513,12 +12038,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result updateAlias(String cidr, String comment, String digest, String rename) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("cidr", cidr);
-                                    parameters.put("comment", comment);
-                                    parameters.put("digest", digest);
-                                    parameters.put("rename", rename);
-                                    return client.set("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/aliases/" + this.name + "", parameters);
+                                    return Operations.SET_NODES_NODE_LXC_VMID_FIREWALL_ALIASES_NAME.execute(client, Operations.SET_NODES_NODE_LXC_VMID_FIREWALL_ALIASES_NAME.parameters(cidr, comment, digest, rename), this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -11531,9 +12051,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result updateAlias(String cidr) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("cidr", cidr);
-                                    return client.set("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/aliases/" + this.name + "", parameters);
+                                    return Operations.SET_NODES_NODE_LXC_VMID_FIREWALL_ALIASES_NAME.execute(client, Operations.SET_NODES_NODE_LXC_VMID_FIREWALL_ALIASES_NAME.parameters(cidr), this.node, this.vmid, this.name);
                                 }
 
                             }
@@ -11545,7 +12063,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getAliases() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/aliases", null);
+                                return Operations.GET_NODES_NODE_LXC_VMID_FIREWALL_ALIASES.execute(client, null, this.node, this.vmid);
                             }
 
                             /**
@@ -11560,11 +12078,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result createAlias(String cidr, String name, String comment) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("cidr", cidr);
-                                parameters.put("name", name);
-                                parameters.put("comment", comment);
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/aliases", parameters);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_ALIASES.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_ALIASES.parameters(cidr, name, comment), this.node, this.vmid);
                             }
 
                             /**
@@ -11578,10 +12092,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result createAlias(String cidr, String name) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("cidr", cidr);
-                                parameters.put("name", name);
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/aliases", parameters);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_ALIASES.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_ALIASES.parameters(cidr, name), this.node, this.vmid);
                             }
 
                         }
@@ -11598,8 +12109,11 @@ public class PveClient extends PveClientBase {
                                 this.vmid = vmid;
                             }
 
+                            private final PveHandleCache<PVENameItem> handles = new PveHandleCache<>();
+
                             public PVENameItem get(Object name) {
-                                return new PVENameItem(client, this.node, this.vmid, name);
+                                PVENameItem item = handles.get(name);
+                                return item != null ? item : handles.put(name, new PVENameItem(client, this.node, this.vmid, name));
                             }
 
                             public class PVENameItem {
@@ -11616,8 +12130,11 @@ public class PveClient extends PveClientBase {
                                     this.name = name;
                                 }
 
+                                private final PveHandleCache<PVECidrItem> handles = new PveHandleCache<>();
+
                                 public PVECidrItem get(Object cidr) {
-                                    return new PVECidrItem(client, this.node, this.vmid, this.name, cidr);
+                                    PVECidrItem item = handles.get(cidr);
+                                    return item != null ? item : handles.put(cidr, new PVECidrItem(client, this.node, this.vmid, this.name, cidr));
                                 }
 
                                 public class PVECidrItem {
@@ -11647,9 +12164,7 @@ public class PveClient extends PveClientBase {
                                      * @throws JSONException
                                      */
                                     public Result removeIp(String digest) throws JSONException {
-                                        Map<String, Object> parameters = new HashMap<>();
-                                        parameters.put("digest", digest);
-                                        return client.delete("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/ipset/" + this.name + "/" + this.cidr + "", parameters);
+                                        return Operations.DELETE_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME_CIDR.execute(client, Operations.DELETE_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME_CIDR.parameters(digest), this.node, this.vmid, this.name, this.cidr);
                                     }
 
                                     /**
@@ -11660,7 +12175,7 @@ public class PveClient extends PveClientBase {
                                      */
 
                                     public Result removeIp() throws JSONException {
-                                        return client.delete("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/ipset/" + this.name + "/" + this.cidr + "", null);
+                                        return Operations.DELETE_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME_CIDR.execute(client, null, this.node, this.vmid, this.name, this.cidr);
                                     }
 
                                     /**
@@ -11671,7 +12186,7 @@ public class PveClient extends PveClientBase {
                                      */
 
                                     public Result readIp() throws JSONException {
-                                        return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/ipset/" + this.name + "/" + this.cidr + "", null);
+                                        return Operations.GET_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME_CIDR.execute(client, null, this.node, this.vmid, this.name, this.cidr);
                                     }
 
                                     /**
@@ -11688,11 +12203,7 @@ public class PveClient extends PveClientBase {
                                      */
 
                                     public Result updateIp(String comment, String digest, Boolean nomatch) throws JSONException {
-                                        Map<String, Object> parameters = new HashMap<>();
-                                        parameters.put("comment", comment);
-                                        parameters.put("digest", digest);
-                                        parameters.put("nomatch", nomatch);
-                                        return client.set("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/ipset/" + this.name + "/" + this.cidr + "", parameters);
+                                        return Operations.SET_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME_CIDR.execute(client, Operations.SET_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME_CIDR.parameters(comment, digest, nomatch), this.node, this.vmid, this.name, this.cidr);
                                     }
 
                                     /**
@@ -11703,7 +12214,7 @@ public class PveClient extends PveClientBase {
                                      */
 
                                     public Result updateIp() throws JSONException {
-                                        return client.set("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/ipset/" + this.name + "/" + this.cidr + "", null);
+                                        return Operations.SET_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME_CIDR.execute(client, null, this.node, this.vmid, this.name, this.cidr);
                                     }
 
                                 }
@@ -11717,9 +12228,7 @@ public class PveClient extends PveClientBase {
                                  * @throws JSONException
                                  */
                                 public Result deleteIpset(Boolean force) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("force", force);
-                                    return client.delete("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/ipset/" + this.name + "", parameters);
+                                    return Operations.DELETE_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME.execute(client, Operations.DELETE_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME.parameters(force), this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -11730,7 +12239,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result deleteIpset() throws JSONException {
-                                    return client.delete("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/ipset/" + this.name + "", null);
+                                    return Operations.DELETE_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME.execute(client, null, this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -11741,7 +12250,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result getIpset() throws JSONException {
-                                    return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/ipset/" + this.name + "", null);
+                                    return Operations.GET_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME.execute(client, null, this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -11756,11 +12265,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result createIp(String cidr, String comment, Boolean nomatch) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("cidr", cidr);
-                                    parameters.put("comment", comment);
-                                    parameters.put("nomatch", nomatch);
-                                    return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/ipset/" + this.name + "", parameters);
+                                    return Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME.parameters(cidr, comment, nomatch), this.node, this.vmid, this.name);
                                 }
 
                                 /**
@@ -11773,9 +12278,7 @@ public class PveClient extends PveClientBase {
                                  */
 
                                 public Result createIp(String cidr) throws JSONException {
-                                    Map<String, Object> parameters = new HashMap<>();
-                                    parameters.put("cidr", cidr);
-                                    return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/ipset/" + this.name + "", parameters);
+                                    return Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_IPSET_NAME.parameters(cidr), this.node, this.vmid, this.name);
                                 }
 
                             }
@@ -11787,7 +12290,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result ipsetIndex() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/ipset", null);
+                                return Operations.GET_NODES_NODE_LXC_VMID_FIREWALL_IPSET.execute(client, null, this.node, this.vmid);
                             }
 
                             /**
@@ -11807,12 +12310,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result createIpset(String name, String comment, String digest, String rename) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("name", name);
-                                parameters.put("comment", comment);
-                                parameters.put("digest", digest);
-                                parameters.put("rename", rename);
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/ipset", parameters);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_IPSET.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_IPSET.parameters(name, comment, digest, rename), this.node, this.vmid);
                             }
 
                             /**
@@ -11824,9 +12322,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result createIpset(String name) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("name", name);
-                                return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/ipset", parameters);
+                                return Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_IPSET.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_FIREWALL_IPSET.parameters(name), this.node, this.vmid);
                             }
 
                         }
@@ -11850,7 +12346,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getOptions() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/options", null);
+                                return Operations.GET_NODES_NODE_LXC_VMID_FIREWALL_OPTIONS.execute(client, null, this.node, this.vmid);
                             }
 
                             /**
@@ -11892,20 +12388,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result setOptions(String delete, Boolean dhcp, String digest, Boolean enable, Boolean ipfilter, String log_level_in, String log_level_out, Boolean macfilter, Boolean ndp, String policy_in, String policy_out, Boolean radv) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("delete", delete);
-                                parameters.put("dhcp", dhcp);
-                                parameters.put("digest", digest);
-                                parameters.put("enable", enable);
-                                parameters.put("ipfilter", ipfilter);
-                                parameters.put("log_level_in", log_level_in);
-                                parameters.put("log_level_out", log_level_out);
-                                parameters.put("macfilter", macfilter);
-                                parameters.put("ndp", ndp);
-                                parameters.put("policy_in", policy_in);
-                                parameters.put("policy_out", policy_out);
-                                parameters.put("radv", radv);
-                                return client.set("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/options", parameters);
+                                return Operations.SET_NODES_NODE_LXC_VMID_FIREWALL_OPTIONS.execute(client, Operations.SET_NODES_NODE_LXC_VMID_FIREWALL_OPTIONS.parameters(delete, dhcp, digest, enable, ipfilter, log_level_in, log_level_out, macfilter, ndp, policy_in, policy_out, radv), this.node, this.vmid);
                             }
 
                             /**
@@ -11916,7 +12399,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result setOptions() throws JSONException {
-                                return client.set("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/options", null);
+                                return Operations.SET_NODES_NODE_LXC_VMID_FIREWALL_OPTIONS.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -11944,12 +12427,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result log(Integer limit, Integer since, Integer start, Integer until) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("limit", limit);
-                                parameters.put("since", since);
-                                parameters.put("start", start);
-                                parameters.put("until", until);
-                                return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/log", parameters);
+                                return Operations.GET_NODES_NODE_LXC_VMID_FIREWALL_LOG.execute(client, Operations.GET_NODES_NODE_LXC_VMID_FIREWALL_LOG.parameters(limit, since, start, until), this.node, this.vmid);
                             }
 
                             /**
@@ -11960,7 +12438,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result log() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/log", null);
+                                return Operations.GET_NODES_NODE_LXC_VMID_FIREWALL_LOG.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -11987,9 +12465,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result refs(String type) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("type", type);
-                                return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/refs", parameters);
+                                return Operations.GET_NODES_NODE_LXC_VMID_FIREWALL_REFS.execute(client, Operations.GET_NODES_NODE_LXC_VMID_FIREWALL_REFS.parameters(type), this.node, this.vmid);
                             }
 
                             /**
@@ -12001,7 +12477,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result refs() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall/refs", null);
+                                return Operations.GET_NODES_NODE_LXC_VMID_FIREWALL_REFS.execute(client, null, this.node, this.vmid);
                             }
 
                         }
@@ -12013,7 +12489,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result index() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/firewall", null);
+                            return Operations.GET_NODES_NODE_LXC_VMID_FIREWALL.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -12043,11 +12519,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result rrd(String ds, String timeframe, String cf) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("ds", ds);
-                            parameters.put("timeframe", timeframe);
-                            parameters.put("cf", cf);
-                            return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/rrd", parameters);
+                            return Operations.GET_NODES_NODE_LXC_VMID_RRD.execute(client, Operations.GET_NODES_NODE_LXC_VMID_RRD.parameters(ds, timeframe, cf), this.node, this.vmid);
                         }
 
                         /**
@@ -12062,10 +12534,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result rrd(String ds, String timeframe) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("ds", ds);
-                            parameters.put("timeframe", timeframe);
-                            return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/rrd", parameters);
+                            return Operations.GET_NODES_NODE_LXC_VMID_RRD.execute(client, Operations.GET_NODES_NODE_LXC_VMID_RRD.parameters(ds, timeframe), this.node, this.vmid);
                         }
 
                     }
@@ -12093,10 +12562,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result rrddata(String timeframe, String cf) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("timeframe", timeframe);
-                            parameters.put("cf", cf);
-                            return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/rrddata", parameters);
+                            return Operations.GET_NODES_NODE_LXC_VMID_RRDDATA.execute(client, Operations.GET_NODES_NODE_LXC_VMID_RRDDATA.parameters(timeframe, cf), this.node, this.vmid);
                         }
 
                         /**
@@ -12109,9 +12575,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result rrddata(String timeframe) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("timeframe", timeframe);
-                            return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/rrddata", parameters);
+                            return Operations.GET_NODES_NODE_LXC_VMID_RRDDATA.execute(client, Operations.GET_NODES_NODE_LXC_VMID_RRDDATA.parameters(timeframe), this.node, this.vmid);
                         }
 
                     }
@@ -12140,11 +12604,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result vncproxy(Integer height, Boolean websocket, Integer width) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("height", height);
-                            parameters.put("websocket", websocket);
-                            parameters.put("width", width);
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/vncproxy", parameters);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_VNCPROXY.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_VNCPROXY.parameters(height, websocket, width), this.node, this.vmid);
                         }
 
                         /**
@@ -12155,7 +12615,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result vncproxy() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/vncproxy", null);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_VNCPROXY.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -12179,7 +12639,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result termproxy() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/termproxy", null);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_TERMPROXY.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -12207,10 +12667,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result vncwebsocket(int port, String vncticket) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("port", port);
-                            parameters.put("vncticket", vncticket);
-                            return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/vncwebsocket", parameters);
+                            return Operations.GET_NODES_NODE_LXC_VMID_VNCWEBSOCKET.execute(client, Operations.GET_NODES_NODE_LXC_VMID_VNCWEBSOCKET.parameters(port, vncticket), this.node, this.vmid);
                         }
 
                     }
@@ -12242,9 +12699,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result spiceproxy(String proxy) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("proxy", proxy);
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/spiceproxy", parameters);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_SPICEPROXY.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_SPICEPROXY.parameters(proxy), this.node, this.vmid);
                         }
 
                         /**
@@ -12255,7 +12710,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result spiceproxy() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/spiceproxy", null);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_SPICEPROXY.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -12300,17 +12755,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result remoteMigrateVm(String target_bridge, String target_endpoint, String target_storage, Float bwlimit, Boolean delete, Boolean online, Boolean restart, Integer target_vmid, Integer timeout) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("target-bridge", target_bridge);
-                            parameters.put("target-endpoint", target_endpoint);
-                            parameters.put("target-storage", target_storage);
-                            parameters.put("bwlimit", bwlimit);
-                            parameters.put("delete", delete);
-                            parameters.put("online", online);
-                            parameters.put("restart", restart);
-                            parameters.put("target-vmid", target_vmid);
-                            parameters.put("timeout", timeout);
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/remote_migrate", parameters);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_REMOTE_MIGRATE.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_REMOTE_MIGRATE.parameters(target_bridge, target_endpoint, target_storage, bwlimit, delete, online, restart, target_vmid, timeout), this.node, this.vmid);
                         }
 
                         /**
@@ -12332,11 +12777,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result remoteMigrateVm(String target_bridge, String target_endpoint, String target_storage) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("target-bridge", target_bridge);
-                            parameters.put("target-endpoint", target_endpoint);
-                            parameters.put("target-storage", target_storage);
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/remote_migrate", parameters);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_REMOTE_MIGRATE.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_REMOTE_MIGRATE.parameters(target_bridge, target_endpoint, target_storage), this.node, this.vmid);
                         }
 
                     }
@@ -12373,14 +12814,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result migrateVm(String target, Float bwlimit, Boolean online, Boolean restart, String target_storage, Integer timeout) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("target", target);
-                            parameters.put("bwlimit", bwlimit);
-                            parameters.put("online", online);
-                            parameters.put("restart", restart);
-                            parameters.put("target-storage", target_storage);
-                            parameters.put("timeout", timeout);
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/migrate", parameters);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_MIGRATE.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_MIGRATE.parameters(target, bwlimit, online, restart, target_storage, timeout), this.node, this.vmid);
                         }
 
                         /**
@@ -12393,9 +12827,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result migrateVm(String target) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("target", target);
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/migrate", parameters);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_MIGRATE.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_MIGRATE.parameters(target), this.node, this.vmid);
                         }
 
                     }
@@ -12422,10 +12854,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result vmFeature(String feature, String snapname) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("feature", feature);
-                            parameters.put("snapname", snapname);
-                            return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/feature", parameters);
+                            return Operations.GET_NODES_NODE_LXC_VMID_FEATURE.execute(client, Operations.GET_NODES_NODE_LXC_VMID_FEATURE.parameters(feature, snapname), this.node, this.vmid);
                         }
 
                         /**
@@ -12438,9 +12867,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result vmFeature(String feature) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("feature", feature);
-                            return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/feature", parameters);
+                            return Operations.GET_NODES_NODE_LXC_VMID_FEATURE.execute(client, Operations.GET_NODES_NODE_LXC_VMID_FEATURE.parameters(feature), this.node, this.vmid);
                         }
 
                     }
@@ -12464,7 +12891,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result template() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/template", null);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_TEMPLATE.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -12502,17 +12929,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result cloneVm(int newid, Float bwlimit, String description, Boolean full, String hostname, String pool, String snapname, String storage, String target) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("newid", newid);
-                            parameters.put("bwlimit", bwlimit);
-                            parameters.put("description", description);
-                            parameters.put("full", full);
-                            parameters.put("hostname", hostname);
-                            parameters.put("pool", pool);
-                            parameters.put("snapname", snapname);
-                            parameters.put("storage", storage);
-                            parameters.put("target", target);
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/clone", parameters);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_CLONE.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_CLONE.parameters(newid, bwlimit, description, full, hostname, pool, snapname, storage, target), this.node, this.vmid);
                         }
 
                         /**
@@ -12524,9 +12941,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result cloneVm(int newid) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("newid", newid);
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/clone", parameters);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_CLONE.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_CLONE.parameters(newid), this.node, this.vmid);
                         }
 
                     }
@@ -12559,11 +12974,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result resizeVm(String disk, String size, String digest) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("disk", disk);
-                            parameters.put("size", size);
-                            parameters.put("digest", digest);
-                            return client.set("/nodes/" + this.node + "/lxc/" + this.vmid + "/resize", parameters);
+                            return Operations.SET_NODES_NODE_LXC_VMID_RESIZE.execute(client, Operations.SET_NODES_NODE_LXC_VMID_RESIZE.parameters(disk, size, digest), this.node, this.vmid);
                         }
 
                         /**
@@ -12580,10 +12991,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result resizeVm(String disk, String size) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("disk", disk);
-                            parameters.put("size", size);
-                            return client.set("/nodes/" + this.node + "/lxc/" + this.vmid + "/resize", parameters);
+                            return Operations.SET_NODES_NODE_LXC_VMID_RESIZE.execute(client, Operations.SET_NODES_NODE_LXC_VMID_RESIZE.parameters(disk, size), this.node, this.vmid);
                         }
 
                     }
@@ -12627,16 +13035,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result moveVolume(String volume, Float bwlimit, Boolean delete, String digest, String storage, String target_digest, Integer target_vmid, String target_volume) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("volume", volume);
-                            parameters.put("bwlimit", bwlimit);
-                            parameters.put("delete", delete);
-                            parameters.put("digest", digest);
-                            parameters.put("storage", storage);
-                            parameters.put("target-digest", target_digest);
-                            parameters.put("target-vmid", target_vmid);
-                            parameters.put("target-volume", target_volume);
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/move_volume", parameters);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_MOVE_VOLUME.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_MOVE_VOLUME.parameters(volume, bwlimit, delete, digest, storage, target_digest, target_vmid, target_volume), this.node, this.vmid);
                         }
 
                         /**
@@ -12650,9 +13049,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result moveVolume(String volume) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("volume", volume);
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/move_volume", parameters);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_MOVE_VOLUME.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_MOVE_VOLUME.parameters(volume), this.node, this.vmid);
                         }
 
                     }
@@ -12677,7 +13074,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result vmPending() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/pending", null);
+                            return Operations.GET_NODES_NODE_LXC_VMID_PENDING.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -12708,10 +13105,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result mtunnel(String bridges, String storages) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("bridges", bridges);
-                            parameters.put("storages", storages);
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/mtunnel", parameters);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_MTUNNEL.execute(client, Operations.CREATE_NODES_NODE_LXC_VMID_MTUNNEL.parameters(bridges, storages), this.node, this.vmid);
                         }
 
                         /**
@@ -12723,7 +13117,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result mtunnel() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/lxc/" + this.vmid + "/mtunnel", null);
+                            return Operations.CREATE_NODES_NODE_LXC_VMID_MTUNNEL.execute(client, null, this.node, this.vmid);
                         }
 
                     }
@@ -12751,10 +13145,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result mtunnelwebsocket(String socket, String ticket) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("socket", socket);
-                            parameters.put("ticket", ticket);
-                            return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "/mtunnelwebsocket", parameters);
+                            return Operations.GET_NODES_NODE_LXC_VMID_MTUNNELWEBSOCKET.execute(client, Operations.GET_NODES_NODE_LXC_VMID_MTUNNELWEBSOCKET.parameters(socket, ticket), this.node, this.vmid);
                         }
 
                     }
@@ -12774,11 +13165,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result destroyVm(Boolean destroy_unreferenced_disks, Boolean force, Boolean purge) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("destroy-unreferenced-disks", destroy_unreferenced_disks);
-                        parameters.put("force", force);
-                        parameters.put("purge", purge);
-                        return client.delete("/nodes/" + this.node + "/lxc/" + this.vmid + "", parameters);
+                        return Operations.DELETE_NODES_NODE_LXC_VMID.execute(client, Operations.DELETE_NODES_NODE_LXC_VMID.parameters(destroy_unreferenced_disks, force, purge), this.node, this.vmid);
                     }
 
                     /**
@@ -12789,7 +13176,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result destroyVm() throws JSONException {
-                        return client.delete("/nodes/" + this.node + "/lxc/" + this.vmid + "", null);
+                        return Operations.DELETE_NODES_NODE_LXC_VMID.execute(client, null, this.node, this.vmid);
                     }
 
                     /**
@@ -12800,7 +13187,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result vmdiridx() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/lxc/" + this.vmid + "", null);
+                        return Operations.GET_NODES_NODE_LXC_VMID.execute(client, null, this.node, this.vmid);
                     }
 
                 }
@@ -12812,7 +13199,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result vmlist() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/lxc", null);
+                    return Operations.GET_NODES_NODE_LXC.execute(client, null, this.node);
                 }
 
                 /**
@@ -12950,7 +13337,7 @@ public class PveClient extends PveClientBase {
                     addIndexedParameter(parameters, "mp", mpN);
                     addIndexedParameter(parameters, "net", netN);
                     addIndexedParameter(parameters, "unused", unusedN);
-                    return client.create("/nodes/" + this.node + "/lxc", parameters);
+                    return Operations.CREATE_NODES_NODE_LXC.execute(client, parameters, this.node);
                 }
 
                 /**
@@ -12963,10 +13350,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result createVm(String ostemplate, int vmid) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("ostemplate", ostemplate);
-                    parameters.put("vmid", vmid);
-                    return client.create("/nodes/" + this.node + "/lxc", parameters);
+                    return Operations.CREATE_NODES_NODE_LXC.execute(client, Operations.CREATE_NODES_NODE_LXC.parameters(ostemplate, vmid), this.node);
                 }
 
             }
@@ -12984,82 +13368,146 @@ public class PveClient extends PveClientBase {
                 private PVECfg cfg;
 
                 public PVECfg getCfg() {
-                    return cfg == null ? (cfg = new PVECfg(client, this.node)) : cfg;
+                    PVECfg instance = cfg;
+                    if (instance == null) {
+                        cfg = instance = new PVECfg(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEOsd osd;
 
                 public PVEOsd getOsd() {
-                    return osd == null ? (osd = new PVEOsd(client, this.node)) : osd;
+                    PVEOsd instance = osd;
+                    if (instance == null) {
+                        osd = instance = new PVEOsd(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEMds mds;
 
                 public PVEMds getMds() {
-                    return mds == null ? (mds = new PVEMds(client, this.node)) : mds;
+                    PVEMds instance = mds;
+                    if (instance == null) {
+                        mds = instance = new PVEMds(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEMgr mgr;
 
                 public PVEMgr getMgr() {
-                    return mgr == null ? (mgr = new PVEMgr(client, this.node)) : mgr;
+                    PVEMgr instance = mgr;
+                    if (instance == null) {
+                        mgr = instance = new PVEMgr(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEMon mon;
 
                 public PVEMon getMon() {
-                    return mon == null ? (mon = new PVEMon(client, this.node)) : mon;
+                    PVEMon instance = mon;
+                    if (instance == null) {
+                        mon = instance = new PVEMon(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEFs fs;
 
                 public PVEFs getFs() {
-                    return fs == null ? (fs = new PVEFs(client, this.node)) : fs;
+                    PVEFs instance = fs;
+                    if (instance == null) {
+                        fs = instance = new PVEFs(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEPool pool;
 
                 public PVEPool getPool() {
-                    return pool == null ? (pool = new PVEPool(client, this.node)) : pool;
+                    PVEPool instance = pool;
+                    if (instance == null) {
+                        pool = instance = new PVEPool(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEInit init;
 
                 public PVEInit getInit() {
-                    return init == null ? (init = new PVEInit(client, this.node)) : init;
+                    PVEInit instance = init;
+                    if (instance == null) {
+                        init = instance = new PVEInit(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEStop stop;
 
                 public PVEStop getStop() {
-                    return stop == null ? (stop = new PVEStop(client, this.node)) : stop;
+                    PVEStop instance = stop;
+                    if (instance == null) {
+                        stop = instance = new PVEStop(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEStart start;
 
                 public PVEStart getStart() {
-                    return start == null ? (start = new PVEStart(client, this.node)) : start;
+                    PVEStart instance = start;
+                    if (instance == null) {
+                        start = instance = new PVEStart(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVERestart restart;
 
                 public PVERestart getRestart() {
-                    return restart == null ? (restart = new PVERestart(client, this.node)) : restart;
+                    PVERestart instance = restart;
+                    if (instance == null) {
+                        restart = instance = new PVERestart(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEStatus status;
 
                 public PVEStatus getStatus() {
-                    return status == null ? (status = new PVEStatus(client, this.node)) : status;
+                    PVEStatus instance = status;
+                    if (instance == null) {
+                        status = instance = new PVEStatus(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVECrush crush;
 
                 public PVECrush getCrush() {
-                    return crush == null ? (crush = new PVECrush(client, this.node)) : crush;
+                    PVECrush instance = crush;
+                    if (instance == null) {
+                        crush = instance = new PVECrush(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVELog log;
 
                 public PVELog getLog() {
-                    return log == null ? (log = new PVELog(client, this.node)) : log;
+                    PVELog instance = log;
+                    if (instance == null) {
+                        log = instance = new PVELog(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVERules rules;
 
                 public PVERules getRules() {
-                    return rules == null ? (rules = new PVERules(client, this.node)) : rules;
+                    PVERules instance = rules;
+                    if (instance == null) {
+                        rules = instance = new PVERules(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVECmdSafety cmdSafety;
 
                 public PVECmdSafety getCmdSafety() {
-                    return cmdSafety == null ? (cmdSafety = new PVECmdSafety(client, this.node)) : cmdSafety;
+                    PVECmdSafety instance = cmdSafety;
+                    if (instance == null) {
+                        cmdSafety = instance = new PVECmdSafety(client, this.node);
+                    }
+                    return instance;
                 }
 
                 public class PVECfg {
@@ -13075,12 +13523,20 @@ public class PveClient extends PveClientBase {
                     private PVERaw raw;
 
                     public PVERaw getRaw() {
-                        return raw == null ? (raw = new PVERaw(client, this.node)) : raw;
+                        PVERaw instance = raw;
+                        if (instance == null) {
+                            raw = instance = new PVERaw(client, this.node);
+                        }
+                        return instance;
                     }
                     private PVEDb db;
 
                     public PVEDb getDb() {
-                        return db == null ? (db = new PVEDb(client, this.node)) : db;
+                        PVEDb instance = db;
+                        if (instance == null) {
+                            db = instance = new PVEDb(client, this.node);
+                        }
+                        return instance;
                     }
 
                     public class PVERaw {
@@ -13100,7 +13556,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result raw() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/ceph/cfg/raw", null);
+                            return Operations.GET_NODES_NODE_CEPH_CFG_RAW.execute(client, null, this.node);
                         }
 
                     }
@@ -13122,7 +13578,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result db() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/ceph/cfg/db", null);
+                            return Operations.GET_NODES_NODE_CEPH_CFG_DB.execute(client, null, this.node);
                         }
 
                     }
@@ -13134,7 +13590,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result index() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/ceph/cfg", null);
+                        return Operations.GET_NODES_NODE_CEPH_CFG.execute(client, null, this.node);
                     }
 
                 }
@@ -13149,8 +13605,11 @@ public class PveClient extends PveClientBase {
                         this.node = node;
                     }
 
+                    private final PveHandleCache<PVEOsdidItem> handles = new PveHandleCache<>();
+
                     public PVEOsdidItem get(Object osdid) {
-                        return new PVEOsdidItem(client, this.node, osdid);
+                        PVEOsdidItem item = handles.get(osdid);
+                        return item != null ? item : handles.put(osdid, new PVEOsdidItem(client, this.node, osdid));
                     }
 
                     public class PVEOsdidItem {
@@ -13168,27 +13627,47 @@ public class PveClient extends PveClientBase {
                         private PVEMetadata metadata;
 
                         public PVEMetadata getMetadata() {
-                            return metadata == null ? (metadata = new PVEMetadata(client, this.node, this.osdid)) : metadata;
+                            PVEMetadata instance = metadata;
+                            if (instance == null) {
+                                metadata = instance = new PVEMetadata(client, this.node, this.osdid);
+                            }
+                            return instance;
                         }
                         private PVELvInfo lvInfo;
 
                         public PVELvInfo getLvInfo() {
-                            return lvInfo == null ? (lvInfo = new PVELvInfo(client, this.node, this.osdid)) : lvInfo;
+                            PVELvInfo instance = lvInfo;
+                            if (instance == null) {
+                                lvInfo = instance = new PVELvInfo(client, this.node, this.osdid);
+                            }
+                            return instance;
                         }
                         private PVEIn in;
 
                         public PVEIn getIn() {
-                            return in == null ? (in = new PVEIn(client, this.node, this.osdid)) : in;
+                            PVEIn instance = in;
+                            if (instance == null) {
+                                in = instance = new PVEIn(client, this.node, this.osdid);
+                            }
+                            return instance;
                         }
                         private PVEOut out;
 
                         public PVEOut getOut() {
-                            return out == null ? (out = new PVEOut(client, this.node, this.osdid)) : out;
+                            PVEOut instance = out;
+                            if (instance == null) {
+                                out = instance = new PVEOut(client, this.node, this.osdid);
+                            }
+                            return instance;
                         }
                         private PVEScrub scrub;
 
                         public PVEScrub getScrub() {
-                            return scrub == null ? (scrub = new PVEScrub(client, this.node, this.osdid)) : scrub;
+                            PVEScrub instance = scrub;
+                            if (instance == null) {
+                                scrub = instance = new PVEScrub(client, this.node, this.osdid);
+                            }
+                            return instance;
                         }
 
                         public class PVEMetadata {
@@ -13210,7 +13689,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result osddetails() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/ceph/osd/" + this.osdid + "/metadata", null);
+                                return Operations.GET_NODES_NODE_CEPH_OSD_OSDID_METADATA.execute(client, null, this.node, this.osdid);
                             }
 
                         }
@@ -13235,9 +13714,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result osdvolume(String type) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("type", type);
-                                return client.get("/nodes/" + this.node + "/ceph/osd/" + this.osdid + "/lv-info", parameters);
+                                return Operations.GET_NODES_NODE_CEPH_OSD_OSDID_LV_INFO.execute(client, Operations.GET_NODES_NODE_CEPH_OSD_OSDID_LV_INFO.parameters(type), this.node, this.osdid);
                             }
 
                             /**
@@ -13248,7 +13725,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result osdvolume() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/ceph/osd/" + this.osdid + "/lv-info", null);
+                                return Operations.GET_NODES_NODE_CEPH_OSD_OSDID_LV_INFO.execute(client, null, this.node, this.osdid);
                             }
 
                         }
@@ -13272,7 +13749,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result in() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/ceph/osd/" + this.osdid + "/in", null);
+                                return Operations.CREATE_NODES_NODE_CEPH_OSD_OSDID_IN.execute(client, null, this.node, this.osdid);
                             }
 
                         }
@@ -13296,7 +13773,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result out() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/ceph/osd/" + this.osdid + "/out", null);
+                                return Operations.CREATE_NODES_NODE_CEPH_OSD_OSDID_OUT.execute(client, null, this.node, this.osdid);
                             }
 
                         }
@@ -13322,9 +13799,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result scrub(Boolean deep) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("deep", deep);
-                                return client.create("/nodes/" + this.node + "/ceph/osd/" + this.osdid + "/scrub", parameters);
+                                return Operations.CREATE_NODES_NODE_CEPH_OSD_OSDID_SCRUB.execute(client, Operations.CREATE_NODES_NODE_CEPH_OSD_OSDID_SCRUB.parameters(deep), this.node, this.osdid);
                             }
 
                             /**
@@ -13335,7 +13810,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result scrub() throws JSONException {
-                                return client.create("/nodes/" + this.node + "/ceph/osd/" + this.osdid + "/scrub", null);
+                                return Operations.CREATE_NODES_NODE_CEPH_OSD_OSDID_SCRUB.execute(client, null, this.node, this.osdid);
                             }
 
                         }
@@ -13349,9 +13824,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result destroyosd(Boolean cleanup) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("cleanup", cleanup);
-                            return client.delete("/nodes/" + this.node + "/ceph/osd/" + this.osdid + "", parameters);
+                            return Operations.DELETE_NODES_NODE_CEPH_OSD_OSDID.execute(client, Operations.DELETE_NODES_NODE_CEPH_OSD_OSDID.parameters(cleanup), this.node, this.osdid);
                         }
 
                         /**
@@ -13362,7 +13835,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result destroyosd() throws JSONException {
-                            return client.delete("/nodes/" + this.node + "/ceph/osd/" + this.osdid + "", null);
+                            return Operations.DELETE_NODES_NODE_CEPH_OSD_OSDID.execute(client, null, this.node, this.osdid);
                         }
 
                         /**
@@ -13373,7 +13846,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result osdindex() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/ceph/osd/" + this.osdid + "", null);
+                            return Operations.GET_NODES_NODE_CEPH_OSD_OSDID.execute(client, null, this.node, this.osdid);
                         }
 
                     }
@@ -13385,7 +13858,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result index() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/ceph/osd", null);
+                        return Operations.GET_NODES_NODE_CEPH_OSD.execute(client, null, this.node);
                     }
 
                     /**
@@ -13404,15 +13877,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result createosd(String dev, String crush_device_class, String db_dev, Float db_dev_size, Boolean encrypted, String wal_dev, Float wal_dev_size) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("dev", dev);
-                        parameters.put("crush-device-class", crush_device_class);
-                        parameters.put("db_dev", db_dev);
-                        parameters.put("db_dev_size", db_dev_size);
-                        parameters.put("encrypted", encrypted);
-                        parameters.put("wal_dev", wal_dev);
-                        parameters.put("wal_dev_size", wal_dev_size);
-                        return client.create("/nodes/" + this.node + "/ceph/osd", parameters);
+                        return Operations.CREATE_NODES_NODE_CEPH_OSD.execute(client, Operations.CREATE_NODES_NODE_CEPH_OSD.parameters(dev, crush_device_class, db_dev, db_dev_size, encrypted, wal_dev, wal_dev_size), this.node);
                     }
 
                     /**
@@ -13424,9 +13889,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result createosd(String dev) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("dev", dev);
-                        return client.create("/nodes/" + this.node + "/ceph/osd", parameters);
+                        return Operations.CREATE_NODES_NODE_CEPH_OSD.execute(client, Operations.CREATE_NODES_NODE_CEPH_OSD.parameters(dev), this.node);
                     }
 
                 }
@@ -13441,8 +13904,11 @@ public class PveClient extends PveClientBase {
                         this.node = node;
                     }
 
+                    private final PveHandleCache<PVENameItem> handles = new PveHandleCache<>();
+
                     public PVENameItem get(Object name) {
-                        return new PVENameItem(client, this.node, name);
+                        PVENameItem item = handles.get(name);
+                        return item != null ? item : handles.put(name, new PVENameItem(client, this.node, name));
                     }
 
                     public class PVENameItem {
@@ -13464,7 +13930,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result destroymds() throws JSONException {
-                            return client.delete("/nodes/" + this.node + "/ceph/mds/" + this.name + "", null);
+                            return Operations.DELETE_NODES_NODE_CEPH_MDS_NAME.execute(client, null, this.node, this.name);
                         }
 
                         /**
@@ -13479,9 +13945,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result createmds(Boolean hotstandby) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("hotstandby", hotstandby);
-                            return client.create("/nodes/" + this.node + "/ceph/mds/" + this.name + "", parameters);
+                            return Operations.CREATE_NODES_NODE_CEPH_MDS_NAME.execute(client, Operations.CREATE_NODES_NODE_CEPH_MDS_NAME.parameters(hotstandby), this.node, this.name);
                         }
 
                         /**
@@ -13492,7 +13956,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result createmds() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/ceph/mds/" + this.name + "", null);
+                            return Operations.CREATE_NODES_NODE_CEPH_MDS_NAME.execute(client, null, this.node, this.name);
                         }
 
                     }
@@ -13504,7 +13968,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result index() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/ceph/mds", null);
+                        return Operations.GET_NODES_NODE_CEPH_MDS.execute(client, null, this.node);
                     }
 
                 }
@@ -13519,8 +13983,11 @@ public class PveClient extends PveClientBase {
                         this.node = node;
                     }
 
+                    private final PveHandleCache<PVEIdItem> handles = new PveHandleCache<>();
+
                     public PVEIdItem get(Object id) {
-                        return new PVEIdItem(client, this.node, id);
+                        PVEIdItem item = handles.get(id);
+                        return item != null ? item : handles.put(id, new PVEIdItem(client, this.node, id));
                     }
 
                     public class PVEIdItem {
@@ -13542,7 +14009,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result destroymgr() throws JSONException {
-                            return client.delete("/nodes/" + this.node + "/ceph/mgr/" + this.id + "", null);
+                            return Operations.DELETE_NODES_NODE_CEPH_MGR_ID.execute(client, null, this.node, this.id);
                         }
 
                         /**
@@ -13553,7 +14020,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result createmgr() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/ceph/mgr/" + this.id + "", null);
+                            return Operations.CREATE_NODES_NODE_CEPH_MGR_ID.execute(client, null, this.node, this.id);
                         }
 
                     }
@@ -13565,7 +14032,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result index() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/ceph/mgr", null);
+                        return Operations.GET_NODES_NODE_CEPH_MGR.execute(client, null, this.node);
                     }
 
                 }
@@ -13580,8 +14047,11 @@ public class PveClient extends PveClientBase {
                         this.node = node;
                     }
 
+                    private final PveHandleCache<PVEMonidItem> handles = new PveHandleCache<>();
+
                     public PVEMonidItem get(Object monid) {
-                        return new PVEMonidItem(client, this.node, monid);
+                        PVEMonidItem item = handles.get(monid);
+                        return item != null ? item : handles.put(monid, new PVEMonidItem(client, this.node, monid));
                     }
 
                     public class PVEMonidItem {
@@ -13603,7 +14073,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result destroymon() throws JSONException {
-                            return client.delete("/nodes/" + this.node + "/ceph/mon/" + this.monid + "", null);
+                            return Operations.DELETE_NODES_NODE_CEPH_MON_MONID.execute(client, null, this.node, this.monid);
                         }
 
                         /**
@@ -13617,9 +14087,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result createmon(String mon_address) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("mon-address", mon_address);
-                            return client.create("/nodes/" + this.node + "/ceph/mon/" + this.monid + "", parameters);
+                            return Operations.CREATE_NODES_NODE_CEPH_MON_MONID.execute(client, Operations.CREATE_NODES_NODE_CEPH_MON_MONID.parameters(mon_address), this.node, this.monid);
                         }
 
                         /**
@@ -13630,7 +14098,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result createmon() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/ceph/mon/" + this.monid + "", null);
+                            return Operations.CREATE_NODES_NODE_CEPH_MON_MONID.execute(client, null, this.node, this.monid);
                         }
 
                     }
@@ -13642,7 +14110,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result listmon() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/ceph/mon", null);
+                        return Operations.GET_NODES_NODE_CEPH_MON.execute(client, null, this.node);
                     }
 
                 }
@@ -13657,8 +14125,11 @@ public class PveClient extends PveClientBase {
                         this.node = node;
                     }
 
+                    private final PveHandleCache<PVENameItem> handles = new PveHandleCache<>();
+
                     public PVENameItem get(Object name) {
-                        return new PVENameItem(client, this.node, name);
+                        PVENameItem item = handles.get(name);
+                        return item != null ? item : handles.put(name, new PVENameItem(client, this.node, name));
                     }
 
                     public class PVENameItem {
@@ -13685,10 +14156,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result createfs(Boolean add_storage, Integer pg_num) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("add-storage", add_storage);
-                            parameters.put("pg_num", pg_num);
-                            return client.create("/nodes/" + this.node + "/ceph/fs/" + this.name + "", parameters);
+                            return Operations.CREATE_NODES_NODE_CEPH_FS_NAME.execute(client, Operations.CREATE_NODES_NODE_CEPH_FS_NAME.parameters(add_storage, pg_num), this.node, this.name);
                         }
 
                         /**
@@ -13699,7 +14167,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result createfs() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/ceph/fs/" + this.name + "", null);
+                            return Operations.CREATE_NODES_NODE_CEPH_FS_NAME.execute(client, null, this.node, this.name);
                         }
 
                     }
@@ -13711,7 +14179,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result index() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/ceph/fs", null);
+                        return Operations.GET_NODES_NODE_CEPH_FS.execute(client, null, this.node);
                     }
 
                 }
@@ -13726,8 +14194,11 @@ public class PveClient extends PveClientBase {
                         this.node = node;
                     }
 
+                    private final PveHandleCache<PVENameItem> handles = new PveHandleCache<>();
+
                     public PVENameItem get(Object name) {
-                        return new PVENameItem(client, this.node, name);
+                        PVENameItem item = handles.get(name);
+                        return item != null ? item : handles.put(name, new PVENameItem(client, this.node, name));
                     }
 
                     public class PVENameItem {
@@ -13745,7 +14216,11 @@ public class PveClient extends PveClientBase {
                         private PVEStatus status;
 
                         public PVEStatus getStatus() {
-                            return status == null ? (status = new PVEStatus(client, this.node, this.name)) : status;
+                            PVEStatus instance = status;
+                            if (instance == null) {
+                                status = instance = new PVEStatus(client, this.node, this.name);
+                            }
+                            return instance;
                         }
 
                         public class PVEStatus {
@@ -13769,9 +14244,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result getpool(Boolean verbose) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("verbose", verbose);
-                                return client.get("/nodes/" + this.node + "/ceph/pool/" + this.name + "/status", parameters);
+                                return Operations.GET_NODES_NODE_CEPH_POOL_NAME_STATUS.execute(client, Operations.GET_NODES_NODE_CEPH_POOL_NAME_STATUS.parameters(verbose), this.node, this.name);
                             }
 
                             /**
@@ -13782,7 +14255,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result getpool() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/ceph/pool/" + this.name + "/status", null);
+                                return Operations.GET_NODES_NODE_CEPH_POOL_NAME_STATUS.execute(client, null, this.node, this.name);
                             }
 
                         }
@@ -13799,11 +14272,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result destroypool(Boolean force, Boolean remove_ecprofile, Boolean remove_storages) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("force", force);
-                            parameters.put("remove_ecprofile", remove_ecprofile);
-                            parameters.put("remove_storages", remove_storages);
-                            return client.delete("/nodes/" + this.node + "/ceph/pool/" + this.name + "", parameters);
+                            return Operations.DELETE_NODES_NODE_CEPH_POOL_NAME.execute(client, Operations.DELETE_NODES_NODE_CEPH_POOL_NAME.parameters(force, remove_ecprofile, remove_storages), this.node, this.name);
                         }
 
                         /**
@@ -13814,7 +14283,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result destroypool() throws JSONException {
-                            return client.delete("/nodes/" + this.node + "/ceph/pool/" + this.name + "", null);
+                            return Operations.DELETE_NODES_NODE_CEPH_POOL_NAME.execute(client, null, this.node, this.name);
                         }
 
                         /**
@@ -13825,7 +14294,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result poolindex() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/ceph/pool/" + this.name + "", null);
+                            return Operations.GET_NODES_NODE_CEPH_POOL_NAME.execute(client, null, this.node, this.name);
                         }
 
                         /**
@@ -13850,17 +14319,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result setpool(String application, String crush_rule, Integer min_size, String pg_autoscale_mode, Integer pg_num, Integer pg_num_min, Integer size, String target_size, Float target_size_ratio) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("application", application);
-                            parameters.put("crush_rule", crush_rule);
-                            parameters.put("min_size", min_size);
-                            parameters.put("pg_autoscale_mode", pg_autoscale_mode);
-                            parameters.put("pg_num", pg_num);
-                            parameters.put("pg_num_min", pg_num_min);
-                            parameters.put("size", size);
-                            parameters.put("target_size", target_size);
-                            parameters.put("target_size_ratio", target_size_ratio);
-                            return client.set("/nodes/" + this.node + "/ceph/pool/" + this.name + "", parameters);
+                            return Operations.SET_NODES_NODE_CEPH_POOL_NAME.execute(client, Operations.SET_NODES_NODE_CEPH_POOL_NAME.parameters(application, crush_rule, min_size, pg_autoscale_mode, pg_num, pg_num_min, size, target_size, target_size_ratio), this.node, this.name);
                         }
 
                         /**
@@ -13871,7 +14330,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result setpool() throws JSONException {
-                            return client.set("/nodes/" + this.node + "/ceph/pool/" + this.name + "", null);
+                            return Operations.SET_NODES_NODE_CEPH_POOL_NAME.execute(client, null, this.node, this.name);
                         }
 
                     }
@@ -13884,7 +14343,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result lspools() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/ceph/pool", null);
+                        return Operations.GET_NODES_NODE_CEPH_POOL.execute(client, null, this.node);
                     }
 
                     /**
@@ -13917,20 +14376,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result createpool(String name, Boolean add_storages, String application, String crush_rule, String erasure_coding, Integer min_size, String pg_autoscale_mode, Integer pg_num, Integer pg_num_min, Integer size, String target_size, Float target_size_ratio) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("name", name);
-                        parameters.put("add_storages", add_storages);
-                        parameters.put("application", application);
-                        parameters.put("crush_rule", crush_rule);
-                        parameters.put("erasure-coding", erasure_coding);
-                        parameters.put("min_size", min_size);
-                        parameters.put("pg_autoscale_mode", pg_autoscale_mode);
-                        parameters.put("pg_num", pg_num);
-                        parameters.put("pg_num_min", pg_num_min);
-                        parameters.put("size", size);
-                        parameters.put("target_size", target_size);
-                        parameters.put("target_size_ratio", target_size_ratio);
-                        return client.create("/nodes/" + this.node + "/ceph/pool", parameters);
+                        return Operations.CREATE_NODES_NODE_CEPH_POOL.execute(client, Operations.CREATE_NODES_NODE_CEPH_POOL.parameters(name, add_storages, application, crush_rule, erasure_coding, min_size, pg_autoscale_mode, pg_num, pg_num_min, size, target_size, target_size_ratio), this.node);
                     }
 
                     /**
@@ -13942,9 +14388,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result createpool(String name) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("name", name);
-                        return client.create("/nodes/" + this.node + "/ceph/pool", parameters);
+                        return Operations.CREATE_NODES_NODE_CEPH_POOL.execute(client, Operations.CREATE_NODES_NODE_CEPH_POOL.parameters(name), this.node);
                     }
 
                 }
@@ -13982,14 +14426,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result init(String cluster_network, Boolean disable_cephx, Integer min_size, String network, Integer pg_bits, Integer size) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("cluster-network", cluster_network);
-                        parameters.put("disable_cephx", disable_cephx);
-                        parameters.put("min_size", min_size);
-                        parameters.put("network", network);
-                        parameters.put("pg_bits", pg_bits);
-                        parameters.put("size", size);
-                        return client.create("/nodes/" + this.node + "/ceph/init", parameters);
+                        return Operations.CREATE_NODES_NODE_CEPH_INIT.execute(client, Operations.CREATE_NODES_NODE_CEPH_INIT.parameters(cluster_network, disable_cephx, min_size, network, pg_bits, size), this.node);
                     }
 
                     /**
@@ -14001,7 +14438,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result init() throws JSONException {
-                        return client.create("/nodes/" + this.node + "/ceph/init", null);
+                        return Operations.CREATE_NODES_NODE_CEPH_INIT.execute(client, null, this.node);
                     }
 
                 }
@@ -14024,9 +14461,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result stop(String service) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("service", service);
-                        return client.create("/nodes/" + this.node + "/ceph/stop", parameters);
+                        return Operations.CREATE_NODES_NODE_CEPH_STOP.execute(client, Operations.CREATE_NODES_NODE_CEPH_STOP.parameters(service), this.node);
                     }
 
                     /**
@@ -14037,7 +14472,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result stop() throws JSONException {
-                        return client.create("/nodes/" + this.node + "/ceph/stop", null);
+                        return Operations.CREATE_NODES_NODE_CEPH_STOP.execute(client, null, this.node);
                     }
 
                 }
@@ -14060,9 +14495,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result start(String service) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("service", service);
-                        return client.create("/nodes/" + this.node + "/ceph/start", parameters);
+                        return Operations.CREATE_NODES_NODE_CEPH_START.execute(client, Operations.CREATE_NODES_NODE_CEPH_START.parameters(service), this.node);
                     }
 
                     /**
@@ -14073,7 +14506,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result start() throws JSONException {
-                        return client.create("/nodes/" + this.node + "/ceph/start", null);
+                        return Operations.CREATE_NODES_NODE_CEPH_START.execute(client, null, this.node);
                     }
 
                 }
@@ -14096,9 +14529,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result restart(String service) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("service", service);
-                        return client.create("/nodes/" + this.node + "/ceph/restart", parameters);
+                        return Operations.CREATE_NODES_NODE_CEPH_RESTART.execute(client, Operations.CREATE_NODES_NODE_CEPH_RESTART.parameters(service), this.node);
                     }
 
                     /**
@@ -14109,7 +14540,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result restart() throws JSONException {
-                        return client.create("/nodes/" + this.node + "/ceph/restart", null);
+                        return Operations.CREATE_NODES_NODE_CEPH_RESTART.execute(client, null, this.node);
                     }
 
                 }
@@ -14131,7 +14562,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result status() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/ceph/status", null);
+                        return Operations.GET_NODES_NODE_CEPH_STATUS.execute(client, null, this.node);
                     }
 
                 }
@@ -14153,7 +14584,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result crush() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/ceph/crush", null);
+                        return Operations.GET_NODES_NODE_CEPH_CRUSH.execute(client, null, this.node);
                     }
 
                 }
@@ -14177,10 +14608,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result log(Integer limit, Integer start) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("limit", limit);
-                        parameters.put("start", start);
-                        return client.get("/nodes/" + this.node + "/ceph/log", parameters);
+                        return Operations.GET_NODES_NODE_CEPH_LOG.execute(client, Operations.GET_NODES_NODE_CEPH_LOG.parameters(limit, start), this.node);
                     }
 
                     /**
@@ -14191,7 +14619,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result log() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/ceph/log", null);
+                        return Operations.GET_NODES_NODE_CEPH_LOG.execute(client, null, this.node);
                     }
 
                 }
@@ -14213,7 +14641,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result rules() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/ceph/rules", null);
+                        return Operations.GET_NODES_NODE_CEPH_RULES.execute(client, null, this.node);
                     }
 
                 }
@@ -14238,11 +14666,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result cmdSafety(String action, String id, String service) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("action", action);
-                        parameters.put("id", id);
-                        parameters.put("service", service);
-                        return client.get("/nodes/" + this.node + "/ceph/cmd-safety", parameters);
+                        return Operations.GET_NODES_NODE_CEPH_CMD_SAFETY.execute(client, Operations.GET_NODES_NODE_CEPH_CMD_SAFETY.parameters(action, id, service), this.node);
                     }
 
                 }
@@ -14254,7 +14678,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/ceph", null);
+                    return Operations.GET_NODES_NODE_CEPH.execute(client, null, this.node);
                 }
 
             }
@@ -14272,12 +14696,20 @@ public class PveClient extends PveClientBase {
                 private PVEDefaults defaults;
 
                 public PVEDefaults getDefaults() {
-                    return defaults == null ? (defaults = new PVEDefaults(client, this.node)) : defaults;
+                    PVEDefaults instance = defaults;
+                    if (instance == null) {
+                        defaults = instance = new PVEDefaults(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEExtractconfig extractconfig;
 
                 public PVEExtractconfig getExtractconfig() {
-                    return extractconfig == null ? (extractconfig = new PVEExtractconfig(client, this.node)) : extractconfig;
+                    PVEExtractconfig instance = extractconfig;
+                    if (instance == null) {
+                        extractconfig = instance = new PVEExtractconfig(client, this.node);
+                    }
+                    return instance;
                 }
 
                 public class PVEDefaults {
@@ -14298,9 +14730,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result defaults(String storage) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("storage", storage);
-                        return client.get("/nodes/" + this.node + "/vzdump/defaults", parameters);
+                        return Operations.GET_NODES_NODE_VZDUMP_DEFAULTS.execute(client, Operations.GET_NODES_NODE_VZDUMP_DEFAULTS.parameters(storage), this.node);
                     }
 
                     /**
@@ -14311,7 +14741,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result defaults() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/vzdump/defaults", null);
+                        return Operations.GET_NODES_NODE_VZDUMP_DEFAULTS.execute(client, null, this.node);
                     }
 
                 }
@@ -14334,9 +14764,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result extractconfig(String volume) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("volume", volume);
-                        return client.get("/nodes/" + this.node + "/vzdump/extractconfig", parameters);
+                        return Operations.GET_NODES_NODE_VZDUMP_EXTRACTCONFIG.execute(client, Operations.GET_NODES_NODE_VZDUMP_EXTRACTCONFIG.parameters(volume), this.node);
                     }
 
                 }
@@ -14401,37 +14829,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result vzdump(Boolean all, Integer bwlimit, String compress, String dumpdir, String exclude, String exclude_path, Integer ionice, Integer lockwait, String mailnotification, String mailto, Integer maxfiles, String mode, String notes_template, String performance, Integer pigz, String pool, Boolean protected_, String prune_backups, Boolean quiet, Boolean remove, String script, Boolean stdexcludes, Boolean stdout, Boolean stop, Integer stopwait, String storage, String tmpdir, String vmid, Integer zstd) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("all", all);
-                    parameters.put("bwlimit", bwlimit);
-                    parameters.put("compress", compress);
-                    parameters.put("dumpdir", dumpdir);
-                    parameters.put("exclude", exclude);
-                    parameters.put("exclude-path", exclude_path);
-                    parameters.put("ionice", ionice);
-                    parameters.put("lockwait", lockwait);
-                    parameters.put("mailnotification", mailnotification);
-                    parameters.put("mailto", mailto);
-                    parameters.put("maxfiles", maxfiles);
-                    parameters.put("mode", mode);
-                    parameters.put("notes-template", notes_template);
-                    parameters.put("performance", performance);
-                    parameters.put("pigz", pigz);
-                    parameters.put("pool", pool);
-                    parameters.put("protected", protected_);
-                    parameters.put("prune-backups", prune_backups);
-                    parameters.put("quiet", quiet);
-                    parameters.put("remove", remove);
-                    parameters.put("script", script);
-                    parameters.put("stdexcludes", stdexcludes);
-                    parameters.put("stdout", stdout);
-                    parameters.put("stop", stop);
-                    parameters.put("stopwait", stopwait);
-                    parameters.put("storage", storage);
-                    parameters.put("tmpdir", tmpdir);
-                    parameters.put("vmid", vmid);
-                    parameters.put("zstd", zstd);
-                    return client.create("/nodes/" + this.node + "/vzdump", parameters);
+                    return Operations.CREATE_NODES_NODE_VZDUMP.execute(client, Operations.CREATE_NODES_NODE_VZDUMP.parameters(all, bwlimit, compress, dumpdir, exclude, exclude_path, ionice, lockwait, mailnotification, mailto, maxfiles, mode, notes_template, performance, pigz, pool, protected_, prune_backups, quiet, remove, script, stdexcludes, stdout, stop, stopwait, storage, tmpdir, vmid, zstd), this.node);
                 }
 
                 /**
@@ -14442,7 +14840,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result vzdump() throws JSONException {
-                    return client.create("/nodes/" + this.node + "/vzdump", null);
+                    return Operations.CREATE_NODES_NODE_VZDUMP.execute(client, null, this.node);
                 }
 
             }
@@ -14457,8 +14855,11 @@ public class PveClient extends PveClientBase {
                     this.node = node;
                 }
 
+                private final PveHandleCache<PVEServiceItem> handles = new PveHandleCache<>();
+
                 public PVEServiceItem get(Object service) {
-                    return new PVEServiceItem(client, this.node, service);
+                    PVEServiceItem item = handles.get(service);
+                    return item != null ? item : handles.put(service, new PVEServiceItem(client, this.node, service));
                 }
 
                 public class PVEServiceItem {
@@ -14476,27 +14877,47 @@ public class PveClient extends PveClientBase {
                     private PVEState state;
 
                     public PVEState getState() {
-                        return state == null ? (state = new PVEState(client, this.node, this.service)) : state;
+                        PVEState instance = state;
+                        if (instance == null) {
+                            state = instance = new PVEState(client, this.node, this.service);
+                        }
+                        return instance;
                     }
                     private PVEStart start;
 
                     public PVEStart getStart() {
-                        return start == null ? (start = new PVEStart(client, this.node, this.service)) : start;
+                        PVEStart instance = start;
+                        if (instance == null) {
+                            start = instance = new PVEStart(client, this.node, this.service);
+                        }
+                        return instance;
                     }
                     private PVEStop stop;
 
                     public PVEStop getStop() {
-                        return stop == null ? (stop = new PVEStop(client, this.node, this.service)) : stop;
+                        PVEStop instance = stop;
+                        if (instance == null) {
+                            stop = instance = new PVEStop(client, this.node, this.service);
+                        }
+                        return instance;
                     }
                     private PVERestart restart;
 
                     public PVERestart getRestart() {
-                        return restart == null ? (restart = new PVERestart(client, this.node, this.service)) : restart;
+                        PVERestart instance = restart;
+                        if (instance == null) {
+                            restart = instance = new PVERestart(client, this.node, this.service);
+                        }
+                        return instance;
                     }
                     private PVEReload reload;
 
                     public PVEReload getReload() {
-                        return reload == null ? (reload = new PVEReload(client, this.node, this.service)) : reload;
+                        PVEReload instance = reload;
+                        if (instance == null) {
+                            reload = instance = new PVEReload(client, this.node, this.service);
+                        }
+                        return instance;
                     }
 
                     public class PVEState {
@@ -14518,7 +14939,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result serviceState() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/services/" + this.service + "/state", null);
+                            return Operations.GET_NODES_NODE_SERVICES_SERVICE_STATE.execute(client, null, this.node, this.service);
                         }
 
                     }
@@ -14542,7 +14963,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result serviceStart() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/services/" + this.service + "/start", null);
+                            return Operations.CREATE_NODES_NODE_SERVICES_SERVICE_START.execute(client, null, this.node, this.service);
                         }
 
                     }
@@ -14566,7 +14987,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result serviceStop() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/services/" + this.service + "/stop", null);
+                            return Operations.CREATE_NODES_NODE_SERVICES_SERVICE_STOP.execute(client, null, this.node, this.service);
                         }
 
                     }
@@ -14591,7 +15012,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result serviceRestart() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/services/" + this.service + "/restart", null);
+                            return Operations.CREATE_NODES_NODE_SERVICES_SERVICE_RESTART.execute(client, null, this.node, this.service);
                         }
 
                     }
@@ -14616,7 +15037,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result serviceReload() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/services/" + this.service + "/reload", null);
+                            return Operations.CREATE_NODES_NODE_SERVICES_SERVICE_RELOAD.execute(client, null, this.node, this.service);
                         }
 
                     }
@@ -14628,7 +15049,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result srvcmdidx() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/services/" + this.service + "", null);
+                        return Operations.GET_NODES_NODE_SERVICES_SERVICE.execute(client, null, this.node, this.service);
                     }
 
                 }
@@ -14640,7 +15061,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/services", null);
+                    return Operations.GET_NODES_NODE_SERVICES.execute(client, null, this.node);
                 }
 
             }
@@ -14662,7 +15083,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result delete() throws JSONException {
-                    return client.delete("/nodes/" + this.node + "/subscription", null);
+                    return Operations.DELETE_NODES_NODE_SUBSCRIPTION.execute(client, null, this.node);
                 }
 
                 /**
@@ -14673,7 +15094,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result get() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/subscription", null);
+                    return Operations.GET_NODES_NODE_SUBSCRIPTION.execute(client, null, this.node);
                 }
 
                 /**
@@ -14686,9 +15107,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result update(Boolean force) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("force", force);
-                    return client.create("/nodes/" + this.node + "/subscription", parameters);
+                    return Operations.CREATE_NODES_NODE_SUBSCRIPTION.execute(client, Operations.CREATE_NODES_NODE_SUBSCRIPTION.parameters(force), this.node);
                 }
 
                 /**
@@ -14699,7 +15118,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result update() throws JSONException {
-                    return client.create("/nodes/" + this.node + "/subscription", null);
+                    return Operations.CREATE_NODES_NODE_SUBSCRIPTION.execute(client, null, this.node);
                 }
 
                 /**
@@ -14711,9 +15130,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result set(String key) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("key", key);
-                    return client.set("/nodes/" + this.node + "/subscription", parameters);
+                    return Operations.SET_NODES_NODE_SUBSCRIPTION.execute(client, Operations.SET_NODES_NODE_SUBSCRIPTION.parameters(key), this.node);
                 }
 
             }
@@ -14728,8 +15145,11 @@ public class PveClient extends PveClientBase {
                     this.node = node;
                 }
 
+                private final PveHandleCache<PVEIfaceItem> handles = new PveHandleCache<>();
+
                 public PVEIfaceItem get(Object iface) {
-                    return new PVEIfaceItem(client, this.node, iface);
+                    PVEIfaceItem item = handles.get(iface);
+                    return item != null ? item : handles.put(iface, new PVEIfaceItem(client, this.node, iface));
                 }
 
                 public class PVEIfaceItem {
@@ -14751,7 +15171,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result deleteNetwork() throws JSONException {
-                        return client.delete("/nodes/" + this.node + "/network/" + this.iface + "", null);
+                        return Operations.DELETE_NODES_NODE_NETWORK_IFACE.execute(client, null, this.node, this.iface);
                     }
 
                     /**
@@ -14762,7 +15182,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result networkConfig() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/network/" + this.iface + "", null);
+                        return Operations.GET_NODES_NODE_NETWORK_IFACE.execute(client, null, this.node, this.iface);
                     }
 
                     /**
@@ -14813,35 +15233,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateNetwork(String type, String address, String address6, Boolean autostart, String bond_primary, String bond_mode, String bond_xmit_hash_policy, String bridge_ports, Boolean bridge_vlan_aware, String cidr, String cidr6, String comments, String comments6, String delete, String gateway, String gateway6, Integer mtu, String netmask, Integer netmask6, String ovs_bonds, String ovs_bridge, String ovs_options, String ovs_ports, Integer ovs_tag, String slaves, Integer vlan_id, String vlan_raw_device) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("type", type);
-                        parameters.put("address", address);
-                        parameters.put("address6", address6);
-                        parameters.put("autostart", autostart);
-                        parameters.put("bond-primary", bond_primary);
-                        parameters.put("bond_mode", bond_mode);
-                        parameters.put("bond_xmit_hash_policy", bond_xmit_hash_policy);
-                        parameters.put("bridge_ports", bridge_ports);
-                        parameters.put("bridge_vlan_aware", bridge_vlan_aware);
-                        parameters.put("cidr", cidr);
-                        parameters.put("cidr6", cidr6);
-                        parameters.put("comments", comments);
-                        parameters.put("comments6", comments6);
-                        parameters.put("delete", delete);
-                        parameters.put("gateway", gateway);
-                        parameters.put("gateway6", gateway6);
-                        parameters.put("mtu", mtu);
-                        parameters.put("netmask", netmask);
-                        parameters.put("netmask6", netmask6);
-                        parameters.put("ovs_bonds", ovs_bonds);
-                        parameters.put("ovs_bridge", ovs_bridge);
-                        parameters.put("ovs_options", ovs_options);
-                        parameters.put("ovs_ports", ovs_ports);
-                        parameters.put("ovs_tag", ovs_tag);
-                        parameters.put("slaves", slaves);
-                        parameters.put("vlan-id", vlan_id);
-                        parameters.put("vlan-raw-device", vlan_raw_device);
-                        return client.set("/nodes/" + this.node + "/network/" + this.iface + "", parameters);
+                        return Operations.SET_NODES_NODE_NETWORK_IFACE.execute(client, Operations.SET_NODES_NODE_NETWORK_IFACE.parameters(type, address, address6, autostart, bond_primary, bond_mode, bond_xmit_hash_policy, bridge_ports, bridge_vlan_aware, cidr, cidr6, comments, comments6, delete, gateway, gateway6, mtu, netmask, netmask6, ovs_bonds, ovs_bridge, ovs_options, ovs_ports, ovs_tag, slaves, vlan_id, vlan_raw_device), this.node, this.iface);
                     }
 
                     /**
@@ -14854,9 +15246,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateNetwork(String type) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("type", type);
-                        return client.set("/nodes/" + this.node + "/network/" + this.iface + "", parameters);
+                        return Operations.SET_NODES_NODE_NETWORK_IFACE.execute(client, Operations.SET_NODES_NODE_NETWORK_IFACE.parameters(type), this.node, this.iface);
                     }
 
                 }
@@ -14868,7 +15258,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result revertNetworkChanges() throws JSONException {
-                    return client.delete("/nodes/" + this.node + "/network", null);
+                    return Operations.DELETE_NODES_NODE_NETWORK.execute(client, null, this.node);
                 }
 
                 /**
@@ -14881,9 +15271,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result index(String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("type", type);
-                    return client.get("/nodes/" + this.node + "/network", parameters);
+                    return Operations.GET_NODES_NODE_NETWORK.execute(client, Operations.GET_NODES_NODE_NETWORK.parameters(type), this.node);
                 }
 
                 /**
@@ -14894,7 +15282,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result index() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/network", null);
+                    return Operations.GET_NODES_NODE_NETWORK.execute(client, null, this.node);
                 }
 
                 /**
@@ -14945,35 +15333,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result createNetwork(String iface, String type, String address, String address6, Boolean autostart, String bond_primary, String bond_mode, String bond_xmit_hash_policy, String bridge_ports, Boolean bridge_vlan_aware, String cidr, String cidr6, String comments, String comments6, String gateway, String gateway6, Integer mtu, String netmask, Integer netmask6, String ovs_bonds, String ovs_bridge, String ovs_options, String ovs_ports, Integer ovs_tag, String slaves, Integer vlan_id, String vlan_raw_device) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("iface", iface);
-                    parameters.put("type", type);
-                    parameters.put("address", address);
-                    parameters.put("address6", address6);
-                    parameters.put("autostart", autostart);
-                    parameters.put("bond-primary", bond_primary);
-                    parameters.put("bond_mode", bond_mode);
-                    parameters.put("bond_xmit_hash_policy", bond_xmit_hash_policy);
-                    parameters.put("bridge_ports", bridge_ports);
-                    parameters.put("bridge_vlan_aware", bridge_vlan_aware);
-                    parameters.put("cidr", cidr);
-                    parameters.put("cidr6", cidr6);
-                    parameters.put("comments", comments);
-                    parameters.put("comments6", comments6);
-                    parameters.put("gateway", gateway);
-                    parameters.put("gateway6", gateway6);
-                    parameters.put("mtu", mtu);
-                    parameters.put("netmask", netmask);
-                    parameters.put("netmask6", netmask6);
-                    parameters.put("ovs_bonds", ovs_bonds);
-                    parameters.put("ovs_bridge", ovs_bridge);
-                    parameters.put("ovs_options", ovs_options);
-                    parameters.put("ovs_ports", ovs_ports);
-                    parameters.put("ovs_tag", ovs_tag);
-                    parameters.put("slaves", slaves);
-                    parameters.put("vlan-id", vlan_id);
-                    parameters.put("vlan-raw-device", vlan_raw_device);
-                    return client.create("/nodes/" + this.node + "/network", parameters);
+                    return Operations.CREATE_NODES_NODE_NETWORK.execute(client, Operations.CREATE_NODES_NODE_NETWORK.parameters(iface, type, address, address6, autostart, bond_primary, bond_mode, bond_xmit_hash_policy, bridge_ports, bridge_vlan_aware, cidr, cidr6, comments, comments6, gateway, gateway6, mtu, netmask, netmask6, ovs_bonds, ovs_bridge, ovs_options, ovs_ports, ovs_tag, slaves, vlan_id, vlan_raw_device), this.node);
                 }
 
                 /**
@@ -14987,10 +15347,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result createNetwork(String iface, String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("iface", iface);
-                    parameters.put("type", type);
-                    return client.create("/nodes/" + this.node + "/network", parameters);
+                    return Operations.CREATE_NODES_NODE_NETWORK.execute(client, Operations.CREATE_NODES_NODE_NETWORK.parameters(iface, type), this.node);
                 }
 
                 /**
@@ -15001,7 +15358,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result reloadNetworkConfig() throws JSONException {
-                    return client.set("/nodes/" + this.node + "/network", null);
+                    return Operations.SET_NODES_NODE_NETWORK.execute(client, null, this.node);
                 }
 
             }
@@ -15016,8 +15373,11 @@ public class PveClient extends PveClientBase {
                     this.node = node;
                 }
 
+                private final PveHandleCache<PVEUpidItem> handles = new PveHandleCache<>();
+
                 public PVEUpidItem get(Object upid) {
-                    return new PVEUpidItem(client, this.node, upid);
+                    PVEUpidItem item = handles.get(upid);
+                    return item != null ? item : handles.put(upid, new PVEUpidItem(client, this.node, upid));
                 }
 
                 public class PVEUpidItem {
@@ -15035,12 +15395,20 @@ public class PveClient extends PveClientBase {
                     private PVELog log;
 
                     public PVELog getLog() {
-                        return log == null ? (log = new PVELog(client, this.node, this.upid)) : log;
+                        PVELog instance = log;
+                        if (instance == null) {
+                            log = instance = new PVELog(client, this.node, this.upid);
+                        }
+                        return instance;
                     }
                     private PVEStatus status;
 
                     public PVEStatus getStatus() {
-                        return status == null ? (status = new PVEStatus(client, this.node, this.upid)) : status;
+                        PVEStatus instance = status;
+                        if (instance == null) {
+                            status = instance = new PVEStatus(client, this.node, this.upid);
+                        }
+                        return instance;
                     }
 
                     public class PVELog {
@@ -15069,11 +15437,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result readTaskLog(Boolean download, Integer limit, Integer start) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("download", download);
-                            parameters.put("limit", limit);
-                            parameters.put("start", start);
-                            return client.get("/nodes/" + this.node + "/tasks/" + this.upid + "/log", parameters);
+                            return Operations.GET_NODES_NODE_TASKS_UPID_LOG.execute(client, Operations.GET_NODES_NODE_TASKS_UPID_LOG.parameters(download, limit, start), this.node, this.upid);
                         }
 
                         /**
@@ -15084,7 +15448,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result readTaskLog() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/tasks/" + this.upid + "/log", null);
+                            return Operations.GET_NODES_NODE_TASKS_UPID_LOG.execute(client, null, this.node, this.upid);
                         }
 
                     }
@@ -15108,7 +15472,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result readTaskStatus() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/tasks/" + this.upid + "/status", null);
+                            return Operations.GET_NODES_NODE_TASKS_UPID_STATUS.execute(client, null, this.node, this.upid);
                         }
 
                     }
@@ -15120,7 +15484,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result stopTask() throws JSONException {
-                        return client.delete("/nodes/" + this.node + "/tasks/" + this.upid + "", null);
+                        return Operations.DELETE_NODES_NODE_TASKS_UPID.execute(client, null, this.node, this.upid);
                     }
 
                     /**
@@ -15130,7 +15494,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result upidIndex() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/tasks/" + this.upid + "", null);
+                        return Operations.GET_NODES_NODE_TASKS_UPID.execute(client, null, this.node, this.upid);
                     }
 
                 }
@@ -15155,18 +15519,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result nodeTasks(Boolean errors, Integer limit, Integer since, String source, Integer start, String statusfilter, String typefilter, Integer until, String userfilter, Integer vmid) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("errors", errors);
-                    parameters.put("limit", limit);
-                    parameters.put("since", since);
-                    parameters.put("source", source);
-                    parameters.put("start", start);
-                    parameters.put("statusfilter", statusfilter);
-                    parameters.put("typefilter", typefilter);
-                    parameters.put("until", until);
-                    parameters.put("userfilter", userfilter);
-                    parameters.put("vmid", vmid);
-                    return client.get("/nodes/" + this.node + "/tasks", parameters);
+                    return Operations.GET_NODES_NODE_TASKS.execute(client, Operations.GET_NODES_NODE_TASKS.parameters(errors, limit, since, source, start, statusfilter, typefilter, until, userfilter, vmid), this.node);
                 }
 
                 /**
@@ -15177,7 +15530,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result nodeTasks() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/tasks", null);
+                    return Operations.GET_NODES_NODE_TASKS.execute(client, null, this.node);
                 }
 
             }
@@ -15195,42 +15548,74 @@ public class PveClient extends PveClientBase {
                 private PVENfs nfs;
 
                 public PVENfs getNfs() {
-                    return nfs == null ? (nfs = new PVENfs(client, this.node)) : nfs;
+                    PVENfs instance = nfs;
+                    if (instance == null) {
+                        nfs = instance = new PVENfs(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVECifs cifs;
 
                 public PVECifs getCifs() {
-                    return cifs == null ? (cifs = new PVECifs(client, this.node)) : cifs;
+                    PVECifs instance = cifs;
+                    if (instance == null) {
+                        cifs = instance = new PVECifs(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEPbs pbs;
 
                 public PVEPbs getPbs() {
-                    return pbs == null ? (pbs = new PVEPbs(client, this.node)) : pbs;
+                    PVEPbs instance = pbs;
+                    if (instance == null) {
+                        pbs = instance = new PVEPbs(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEGlusterfs glusterfs;
 
                 public PVEGlusterfs getGlusterfs() {
-                    return glusterfs == null ? (glusterfs = new PVEGlusterfs(client, this.node)) : glusterfs;
+                    PVEGlusterfs instance = glusterfs;
+                    if (instance == null) {
+                        glusterfs = instance = new PVEGlusterfs(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEIscsi iscsi;
 
                 public PVEIscsi getIscsi() {
-                    return iscsi == null ? (iscsi = new PVEIscsi(client, this.node)) : iscsi;
+                    PVEIscsi instance = iscsi;
+                    if (instance == null) {
+                        iscsi = instance = new PVEIscsi(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVELvm lvm;
 
                 public PVELvm getLvm() {
-                    return lvm == null ? (lvm = new PVELvm(client, this.node)) : lvm;
+                    PVELvm instance = lvm;
+                    if (instance == null) {
+                        lvm = instance = new PVELvm(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVELvmthin lvmthin;
 
                 public PVELvmthin getLvmthin() {
-                    return lvmthin == null ? (lvmthin = new PVELvmthin(client, this.node)) : lvmthin;
+                    PVELvmthin instance = lvmthin;
+                    if (instance == null) {
+                        lvmthin = instance = new PVELvmthin(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEZfs zfs;
 
                 public PVEZfs getZfs() {
-                    return zfs == null ? (zfs = new PVEZfs(client, this.node)) : zfs;
+                    PVEZfs instance = zfs;
+                    if (instance == null) {
+                        zfs = instance = new PVEZfs(client, this.node);
+                    }
+                    return instance;
                 }
 
                 public class PVENfs {
@@ -15251,9 +15636,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result nfsscan(String server) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("server", server);
-                        return client.get("/nodes/" + this.node + "/scan/nfs", parameters);
+                        return Operations.GET_NODES_NODE_SCAN_NFS.execute(client, Operations.GET_NODES_NODE_SCAN_NFS.parameters(server), this.node);
                     }
 
                 }
@@ -15279,12 +15662,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result cifsscan(String server, String domain, String password, String username) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("server", server);
-                        parameters.put("domain", domain);
-                        parameters.put("password", password);
-                        parameters.put("username", username);
-                        return client.get("/nodes/" + this.node + "/scan/cifs", parameters);
+                        return Operations.GET_NODES_NODE_SCAN_CIFS.execute(client, Operations.GET_NODES_NODE_SCAN_CIFS.parameters(server, domain, password, username), this.node);
                     }
 
                     /**
@@ -15296,9 +15674,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result cifsscan(String server) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("server", server);
-                        return client.get("/nodes/" + this.node + "/scan/cifs", parameters);
+                        return Operations.GET_NODES_NODE_SCAN_CIFS.execute(client, Operations.GET_NODES_NODE_SCAN_CIFS.parameters(server), this.node);
                     }
 
                 }
@@ -15325,13 +15701,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result pbsscan(String password, String server, String username, String fingerprint, Integer port) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("password", password);
-                        parameters.put("server", server);
-                        parameters.put("username", username);
-                        parameters.put("fingerprint", fingerprint);
-                        parameters.put("port", port);
-                        return client.get("/nodes/" + this.node + "/scan/pbs", parameters);
+                        return Operations.GET_NODES_NODE_SCAN_PBS.execute(client, Operations.GET_NODES_NODE_SCAN_PBS.parameters(password, server, username, fingerprint, port), this.node);
                     }
 
                     /**
@@ -15345,11 +15715,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result pbsscan(String password, String server, String username) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("password", password);
-                        parameters.put("server", server);
-                        parameters.put("username", username);
-                        return client.get("/nodes/" + this.node + "/scan/pbs", parameters);
+                        return Operations.GET_NODES_NODE_SCAN_PBS.execute(client, Operations.GET_NODES_NODE_SCAN_PBS.parameters(password, server, username), this.node);
                     }
 
                 }
@@ -15372,9 +15738,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result glusterfsscan(String server) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("server", server);
-                        return client.get("/nodes/" + this.node + "/scan/glusterfs", parameters);
+                        return Operations.GET_NODES_NODE_SCAN_GLUSTERFS.execute(client, Operations.GET_NODES_NODE_SCAN_GLUSTERFS.parameters(server), this.node);
                     }
 
                 }
@@ -15398,9 +15762,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result iscsiscan(String portal) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("portal", portal);
-                        return client.get("/nodes/" + this.node + "/scan/iscsi", parameters);
+                        return Operations.GET_NODES_NODE_SCAN_ISCSI.execute(client, Operations.GET_NODES_NODE_SCAN_ISCSI.parameters(portal), this.node);
                     }
 
                 }
@@ -15422,7 +15784,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result lvmscan() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/scan/lvm", null);
+                        return Operations.GET_NODES_NODE_SCAN_LVM.execute(client, null, this.node);
                     }
 
                 }
@@ -15445,9 +15807,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result lvmthinscan(String vg) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("vg", vg);
-                        return client.get("/nodes/" + this.node + "/scan/lvmthin", parameters);
+                        return Operations.GET_NODES_NODE_SCAN_LVMTHIN.execute(client, Operations.GET_NODES_NODE_SCAN_LVMTHIN.parameters(vg), this.node);
                     }
 
                 }
@@ -15469,7 +15829,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result zfsscan() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/scan/zfs", null);
+                        return Operations.GET_NODES_NODE_SCAN_ZFS.execute(client, null, this.node);
                     }
 
                 }
@@ -15481,7 +15841,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/scan", null);
+                    return Operations.GET_NODES_NODE_SCAN.execute(client, null, this.node);
                 }
 
             }
@@ -15499,12 +15859,20 @@ public class PveClient extends PveClientBase {
                 private PVEPci pci;
 
                 public PVEPci getPci() {
-                    return pci == null ? (pci = new PVEPci(client, this.node)) : pci;
+                    PVEPci instance = pci;
+                    if (instance == null) {
+                        pci = instance = new PVEPci(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEUsb usb;
 
                 public PVEUsb getUsb() {
-                    return usb == null ? (usb = new PVEUsb(client, this.node)) : usb;
+                    PVEUsb instance = usb;
+                    if (instance == null) {
+                        usb = instance = new PVEUsb(client, this.node);
+                    }
+                    return instance;
                 }
 
                 public class PVEPci {
@@ -15517,8 +15885,11 @@ public class PveClient extends PveClientBase {
                         this.node = node;
                     }
 
+                    private final PveHandleCache<PVEPciidItem> handles = new PveHandleCache<>();
+
                     public PVEPciidItem get(Object pciid) {
-                        return new PVEPciidItem(client, this.node, pciid);
+                        PVEPciidItem item = handles.get(pciid);
+                        return item != null ? item : handles.put(pciid, new PVEPciidItem(client, this.node, pciid));
                     }
 
                     public class PVEPciidItem {
@@ -15536,7 +15907,11 @@ public class PveClient extends PveClientBase {
                         private PVEMdev mdev;
 
                         public PVEMdev getMdev() {
-                            return mdev == null ? (mdev = new PVEMdev(client, this.node, this.pciid)) : mdev;
+                            PVEMdev instance = mdev;
+                            if (instance == null) {
+                                mdev = instance = new PVEMdev(client, this.node, this.pciid);
+                            }
+                            return instance;
                         }
 
                         public class PVEMdev {
@@ -15558,7 +15933,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result mdevscan() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/hardware/pci/" + this.pciid + "/mdev", null);
+                                return Operations.GET_NODES_NODE_HARDWARE_PCI_PCIID_MDEV.execute(client, null, this.node, this.pciid);
                             }
 
                         }
@@ -15570,7 +15945,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result pciindex() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/hardware/pci/" + this.pciid + "", null);
+                            return Operations.GET_NODES_NODE_HARDWARE_PCI_PCIID.execute(client, null, this.node, this.pciid);
                         }
 
                     }
@@ -15589,10 +15964,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result pciscan(String pci_class_blacklist, Boolean verbose) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("pci-class-blacklist", pci_class_blacklist);
-                        parameters.put("verbose", verbose);
-                        return client.get("/nodes/" + this.node + "/hardware/pci", parameters);
+                        return Operations.GET_NODES_NODE_HARDWARE_PCI.execute(client, Operations.GET_NODES_NODE_HARDWARE_PCI.parameters(pci_class_blacklist, verbose), this.node);
                     }
 
                     /**
@@ -15603,7 +15975,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result pciscan() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/hardware/pci", null);
+                        return Operations.GET_NODES_NODE_HARDWARE_PCI.execute(client, null, this.node);
                     }
 
                 }
@@ -15625,7 +15997,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result usbscan() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/hardware/usb", null);
+                        return Operations.GET_NODES_NODE_HARDWARE_USB.execute(client, null, this.node);
                     }
 
                 }
@@ -15637,7 +16009,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/hardware", null);
+                    return Operations.GET_NODES_NODE_HARDWARE.execute(client, null, this.node);
                 }
 
             }
@@ -15655,7 +16027,11 @@ public class PveClient extends PveClientBase {
                 private PVEQemu qemu;
 
                 public PVEQemu getQemu() {
-                    return qemu == null ? (qemu = new PVEQemu(client, this.node)) : qemu;
+                    PVEQemu instance = qemu;
+                    if (instance == null) {
+                        qemu = instance = new PVEQemu(client, this.node);
+                    }
+                    return instance;
                 }
 
                 public class PVEQemu {
@@ -15671,12 +16047,20 @@ public class PveClient extends PveClientBase {
                     private PVECpu cpu;
 
                     public PVECpu getCpu() {
-                        return cpu == null ? (cpu = new PVECpu(client, this.node)) : cpu;
+                        PVECpu instance = cpu;
+                        if (instance == null) {
+                            cpu = instance = new PVECpu(client, this.node);
+                        }
+                        return instance;
                     }
                     private PVEMachines machines;
 
                     public PVEMachines getMachines() {
-                        return machines == null ? (machines = new PVEMachines(client, this.node)) : machines;
+                        PVEMachines instance = machines;
+                        if (instance == null) {
+                            machines = instance = new PVEMachines(client, this.node);
+                        }
+                        return instance;
                     }
 
                     public class PVECpu {
@@ -15696,7 +16080,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result index() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/capabilities/qemu/cpu", null);
+                            return Operations.GET_NODES_NODE_CAPABILITIES_QEMU_CPU.execute(client, null, this.node);
                         }
 
                     }
@@ -15718,7 +16102,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result types() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/capabilities/qemu/machines", null);
+                            return Operations.GET_NODES_NODE_CAPABILITIES_QEMU_MACHINES.execute(client, null, this.node);
                         }
 
                     }
@@ -15730,7 +16114,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result qemuCapsIndex() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/capabilities/qemu", null);
+                        return Operations.GET_NODES_NODE_CAPABILITIES_QEMU.execute(client, null, this.node);
                     }
 
                 }
@@ -15742,7 +16126,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/capabilities", null);
+                    return Operations.GET_NODES_NODE_CAPABILITIES.execute(client, null, this.node);
                 }
 
             }
@@ -15757,8 +16141,11 @@ public class PveClient extends PveClientBase {
                     this.node = node;
                 }
 
+                private final PveHandleCache<PVEStorageItem> handles = new PveHandleCache<>();
+
                 public PVEStorageItem get(Object storage) {
-                    return new PVEStorageItem(client, this.node, storage);
+                    PVEStorageItem item = handles.get(storage);
+                    return item != null ? item : handles.put(storage, new PVEStorageItem(client, this.node, storage));
                 }
 
                 public class PVEStorageItem {
@@ -15776,42 +16163,74 @@ public class PveClient extends PveClientBase {
                     private PVEPrunebackups prunebackups;
 
                     public PVEPrunebackups getPrunebackups() {
-                        return prunebackups == null ? (prunebackups = new PVEPrunebackups(client, this.node, this.storage)) : prunebackups;
+                        PVEPrunebackups instance = prunebackups;
+                        if (instance == null) {
+                            prunebackups = instance = new PVEPrunebackups(client, this.node, this.storage);
+                        }
+                        return instance;
                     }
                     private PVEContent content;
 
                     public PVEContent getContent() {
-                        return content == null ? (content = new PVEContent(client, this.node, this.storage)) : content;
+                        PVEContent instance = content;
+                        if (instance == null) {
+                            content = instance = new PVEContent(client, this.node, this.storage);
+                        }
+                        return instance;
                     }
                     private PVEFileRestore fileRestore;
 
                     public PVEFileRestore getFileRestore() {
-                        return fileRestore == null ? (fileRestore = new PVEFileRestore(client, this.node, this.storage)) : fileRestore;
+                        PVEFileRestore instance = fileRestore;
+                        if (instance == null) {
+                            fileRestore = instance = new PVEFileRestore(client, this.node, this.storage);
+                        }
+                        return instance;
                     }
                     private PVEStatus status;
 
                     public PVEStatus getStatus() {
-                        return status == null ? (status = new PVEStatus(client, this.node, this.storage)) : status;
+                        PVEStatus instance = status;
+                        if (instance == null) {
+                            status = instance = new PVEStatus(client, this.node, this.storage);
+                        }
+                        return instance;
                     }
                     private PVERrd rrd;
 
                     public PVERrd getRrd() {
-                        return rrd == null ? (rrd = new PVERrd(client, this.node, this.storage)) : rrd;
+                        PVERrd instance = rrd;
+                        if (instance == null) {
+                            rrd = instance = new PVERrd(client, this.node, this.storage);
+                        }
+                        return instance;
                     }
                     private PVERrddata rrddata;
 
                     public PVERrddata getRrddata() {
-                        return rrddata == null ? (rrddata = new PVERrddata(client, this.node, this.storage)) : rrddata;
+                        PVERrddata instance = rrddata;
+                        if (instance == null) {
+                            rrddata = instance = new PVERrddata(client, this.node, this.storage);
+                        }
+                        return instance;
                     }
                     private PVEUpload upload;
 
                     public PVEUpload getUpload() {
-                        return upload == null ? (upload = new PVEUpload(client, this.node, this.storage)) : upload;
+                        PVEUpload instance = upload;
+                        if (instance == null) {
+                            upload = instance = new PVEUpload(client, this.node, this.storage);
+                        }
+                        return instance;
                     }
                     private PVEDownloadUrl downloadUrl;
 
                     public PVEDownloadUrl getDownloadUrl() {
-                        return downloadUrl == null ? (downloadUrl = new PVEDownloadUrl(client, this.node, this.storage)) : downloadUrl;
+                        PVEDownloadUrl instance = downloadUrl;
+                        if (instance == null) {
+                            downloadUrl = instance = new PVEDownloadUrl(client, this.node, this.storage);
+                        }
+                        return instance;
                     }
 
                     public class PVEPrunebackups {
@@ -15839,11 +16258,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result delete(String prune_backups, String type, Integer vmid) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("prune-backups", prune_backups);
-                            parameters.put("type", type);
-                            parameters.put("vmid", vmid);
-                            return client.delete("/nodes/" + this.node + "/storage/" + this.storage + "/prunebackups", parameters);
+                            return Operations.DELETE_NODES_NODE_STORAGE_STORAGE_PRUNEBACKUPS.execute(client, Operations.DELETE_NODES_NODE_STORAGE_STORAGE_PRUNEBACKUPS.parameters(prune_backups, type, vmid), this.node, this.storage);
                         }
 
                         /**
@@ -15855,7 +16270,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result delete() throws JSONException {
-                            return client.delete("/nodes/" + this.node + "/storage/" + this.storage + "/prunebackups", null);
+                            return Operations.DELETE_NODES_NODE_STORAGE_STORAGE_PRUNEBACKUPS.execute(client, null, this.node, this.storage);
                         }
 
                         /**
@@ -15874,11 +16289,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result dryrun(String prune_backups, String type, Integer vmid) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("prune-backups", prune_backups);
-                            parameters.put("type", type);
-                            parameters.put("vmid", vmid);
-                            return client.get("/nodes/" + this.node + "/storage/" + this.storage + "/prunebackups", parameters);
+                            return Operations.GET_NODES_NODE_STORAGE_STORAGE_PRUNEBACKUPS.execute(client, Operations.GET_NODES_NODE_STORAGE_STORAGE_PRUNEBACKUPS.parameters(prune_backups, type, vmid), this.node, this.storage);
                         }
 
                         /**
@@ -15892,7 +16303,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result dryrun() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/storage/" + this.storage + "/prunebackups", null);
+                            return Operations.GET_NODES_NODE_STORAGE_STORAGE_PRUNEBACKUPS.execute(client, null, this.node, this.storage);
                         }
 
                     }
@@ -15909,8 +16320,11 @@ public class PveClient extends PveClientBase {
                             this.storage = storage;
                         }
 
+                        private final PveHandleCache<PVEVolumeItem> handles = new PveHandleCache<>();
+
                         public PVEVolumeItem get(Object volume) {
-                            return new PVEVolumeItem(client, this.node, this.storage, volume);
+                            PVEVolumeItem item = handles.get(volume);
+                            return item != null ? item : handles.put(volume, new PVEVolumeItem(client, this.node, this.storage, volume));
                         }
 
                         public class PVEVolumeItem {
@@ -15937,9 +16351,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result delete(Integer delay) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("delay", delay);
-                                return client.delete("/nodes/" + this.node + "/storage/" + this.storage + "/content/" + this.volume + "", parameters);
+                                return Operations.DELETE_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME.execute(client, Operations.DELETE_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME.parameters(delay), this.node, this.storage, this.volume);
                             }
 
                             /**
@@ -15950,7 +16362,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result delete() throws JSONException {
-                                return client.delete("/nodes/" + this.node + "/storage/" + this.storage + "/content/" + this.volume + "", null);
+                                return Operations.DELETE_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME.execute(client, null, this.node, this.storage, this.volume);
                             }
 
                             /**
@@ -15961,7 +16373,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result info() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/storage/" + this.storage + "/content/" + this.volume + "", null);
+                                return Operations.GET_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME.execute(client, null, this.node, this.storage, this.volume);
                             }
 
                             /**
@@ -15976,10 +16388,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result copy(String target, String target_node) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("target", target);
-                                parameters.put("target_node", target_node);
-                                return client.create("/nodes/" + this.node + "/storage/" + this.storage + "/content/" + this.volume + "", parameters);
+                                return Operations.CREATE_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME.execute(client, Operations.CREATE_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME.parameters(target, target_node), this.node, this.storage, this.volume);
                             }
 
                             /**
@@ -15992,9 +16401,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result copy(String target) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("target", target);
-                                return client.create("/nodes/" + this.node + "/storage/" + this.storage + "/content/" + this.volume + "", parameters);
+                                return Operations.CREATE_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME.execute(client, Operations.CREATE_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME.parameters(target), this.node, this.storage, this.volume);
                             }
 
                             /**
@@ -16008,10 +16415,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result updateattributes(String notes, Boolean protected_) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("notes", notes);
-                                parameters.put("protected", protected_);
-                                return client.set("/nodes/" + this.node + "/storage/" + this.storage + "/content/" + this.volume + "", parameters);
+                                return Operations.SET_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME.execute(client, Operations.SET_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME.parameters(notes, protected_), this.node, this.storage, this.volume);
                             }
 
                             /**
@@ -16022,7 +16426,7 @@ public class PveClient extends PveClientBase {
                              */
 
                             public Result updateattributes() throws JSONException {
-                                return client.set("/nodes/" + this.node + "/storage/" + this.storage + "/content/" + this.volume + "", null);
+                                return Operations.SET_NODES_NODE_STORAGE_STORAGE_CONTENT_VOLUME.execute(client, null, this.node, this.storage, this.volume);
                             }
 
                         }
@@ -16036,10 +16440,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result index(String content, Integer vmid) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("content", content);
-                            parameters.put("vmid", vmid);
-                            return client.get("/nodes/" + this.node + "/storage/" + this.storage + "/content", parameters);
+                            return Operations.GET_NODES_NODE_STORAGE_STORAGE_CONTENT.execute(client, Operations.GET_NODES_NODE_STORAGE_STORAGE_CONTENT.parameters(content, vmid), this.node, this.storage);
                         }
 
                         /**
@@ -16050,7 +16451,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result index() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/storage/" + this.storage + "/content", null);
+                            return Operations.GET_NODES_NODE_STORAGE_STORAGE_CONTENT.execute(client, null, this.node, this.storage);
                         }
 
                         /**
@@ -16067,12 +16468,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result create(String filename, String size, int vmid, String format) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("filename", filename);
-                            parameters.put("size", size);
-                            parameters.put("vmid", vmid);
-                            parameters.put("format", format);
-                            return client.create("/nodes/" + this.node + "/storage/" + this.storage + "/content", parameters);
+                            return Operations.CREATE_NODES_NODE_STORAGE_STORAGE_CONTENT.execute(client, Operations.CREATE_NODES_NODE_STORAGE_STORAGE_CONTENT.parameters(filename, size, vmid, format), this.node, this.storage);
                         }
 
                         /**
@@ -16088,11 +16484,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result create(String filename, String size, int vmid) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("filename", filename);
-                            parameters.put("size", size);
-                            parameters.put("vmid", vmid);
-                            return client.create("/nodes/" + this.node + "/storage/" + this.storage + "/content", parameters);
+                            return Operations.CREATE_NODES_NODE_STORAGE_STORAGE_CONTENT.execute(client, Operations.CREATE_NODES_NODE_STORAGE_STORAGE_CONTENT.parameters(filename, size, vmid), this.node, this.storage);
                         }
 
                     }
@@ -16112,12 +16504,20 @@ public class PveClient extends PveClientBase {
                         private PVEList list;
 
                         public PVEList getList() {
-                            return list == null ? (list = new PVEList(client, this.node, this.storage)) : list;
+                            PVEList instance = list;
+                            if (instance == null) {
+                                list = instance = new PVEList(client, this.node, this.storage);
+                            }
+                            return instance;
                         }
                         private PVEDownload download;
 
                         public PVEDownload getDownload() {
-                            return download == null ? (download = new PVEDownload(client, this.node, this.storage)) : download;
+                            PVEDownload instance = download;
+                            if (instance == null) {
+                                download = instance = new PVEDownload(client, this.node, this.storage);
+                            }
+                            return instance;
                         }
 
                         public class PVEList {
@@ -16144,10 +16544,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result list(String filepath, String volume) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("filepath", filepath);
-                                parameters.put("volume", volume);
-                                return client.get("/nodes/" + this.node + "/storage/" + this.storage + "/file-restore/list", parameters);
+                                return Operations.GET_NODES_NODE_STORAGE_STORAGE_FILE_RESTORE_LIST.execute(client, Operations.GET_NODES_NODE_STORAGE_STORAGE_FILE_RESTORE_LIST.parameters(filepath, volume), this.node, this.storage);
                             }
 
                         }
@@ -16176,10 +16573,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result download(String filepath, String volume) throws JSONException {
-                                Map<String, Object> parameters = new HashMap<>();
-                                parameters.put("filepath", filepath);
-                                parameters.put("volume", volume);
-                                return client.get("/nodes/" + this.node + "/storage/" + this.storage + "/file-restore/download", parameters);
+                                return Operations.GET_NODES_NODE_STORAGE_STORAGE_FILE_RESTORE_DOWNLOAD.execute(client, Operations.GET_NODES_NODE_STORAGE_STORAGE_FILE_RESTORE_DOWNLOAD.parameters(filepath, volume), this.node, this.storage);
                             }
 
                         }
@@ -16205,7 +16599,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result readStatus() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/storage/" + this.storage + "/status", null);
+                            return Operations.GET_NODES_NODE_STORAGE_STORAGE_STATUS.execute(client, null, this.node, this.storage);
                         }
 
                     }
@@ -16235,11 +16629,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result rrd(String ds, String timeframe, String cf) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("ds", ds);
-                            parameters.put("timeframe", timeframe);
-                            parameters.put("cf", cf);
-                            return client.get("/nodes/" + this.node + "/storage/" + this.storage + "/rrd", parameters);
+                            return Operations.GET_NODES_NODE_STORAGE_STORAGE_RRD.execute(client, Operations.GET_NODES_NODE_STORAGE_STORAGE_RRD.parameters(ds, timeframe, cf), this.node, this.storage);
                         }
 
                         /**
@@ -16254,10 +16644,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result rrd(String ds, String timeframe) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("ds", ds);
-                            parameters.put("timeframe", timeframe);
-                            return client.get("/nodes/" + this.node + "/storage/" + this.storage + "/rrd", parameters);
+                            return Operations.GET_NODES_NODE_STORAGE_STORAGE_RRD.execute(client, Operations.GET_NODES_NODE_STORAGE_STORAGE_RRD.parameters(ds, timeframe), this.node, this.storage);
                         }
 
                     }
@@ -16285,10 +16672,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result rrddata(String timeframe, String cf) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("timeframe", timeframe);
-                            parameters.put("cf", cf);
-                            return client.get("/nodes/" + this.node + "/storage/" + this.storage + "/rrddata", parameters);
+                            return Operations.GET_NODES_NODE_STORAGE_STORAGE_RRDDATA.execute(client, Operations.GET_NODES_NODE_STORAGE_STORAGE_RRDDATA.parameters(timeframe, cf), this.node, this.storage);
                         }
 
                         /**
@@ -16301,9 +16685,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result rrddata(String timeframe) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("timeframe", timeframe);
-                            return client.get("/nodes/" + this.node + "/storage/" + this.storage + "/rrddata", parameters);
+                            return Operations.GET_NODES_NODE_STORAGE_STORAGE_RRDDATA.execute(client, Operations.GET_NODES_NODE_STORAGE_STORAGE_RRDDATA.parameters(timeframe), this.node, this.storage);
                         }
 
                     }
@@ -16338,13 +16720,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result upload(String content, String filename, String checksum, String checksum_algorithm, String tmpfilename) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("content", content);
-                            parameters.put("filename", filename);
-                            parameters.put("checksum", checksum);
-                            parameters.put("checksum-algorithm", checksum_algorithm);
-                            parameters.put("tmpfilename", tmpfilename);
-                            return client.create("/nodes/" + this.node + "/storage/" + this.storage + "/upload", parameters);
+                            return Operations.CREATE_NODES_NODE_STORAGE_STORAGE_UPLOAD.execute(client, Operations.CREATE_NODES_NODE_STORAGE_STORAGE_UPLOAD.parameters(content, filename, checksum, checksum_algorithm, tmpfilename), this.node, this.storage);
                         }
 
                         /**
@@ -16358,10 +16734,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result upload(String content, String filename) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("content", content);
-                            parameters.put("filename", filename);
-                            return client.create("/nodes/" + this.node + "/storage/" + this.storage + "/upload", parameters);
+                            return Operations.CREATE_NODES_NODE_STORAGE_STORAGE_UPLOAD.execute(client, Operations.CREATE_NODES_NODE_STORAGE_STORAGE_UPLOAD.parameters(content, filename), this.node, this.storage);
                         }
 
                     }
@@ -16395,14 +16768,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result downloadUrl(String content, String filename, String url, String checksum, String checksum_algorithm, Boolean verify_certificates) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("content", content);
-                            parameters.put("filename", filename);
-                            parameters.put("url", url);
-                            parameters.put("checksum", checksum);
-                            parameters.put("checksum-algorithm", checksum_algorithm);
-                            parameters.put("verify-certificates", verify_certificates);
-                            return client.create("/nodes/" + this.node + "/storage/" + this.storage + "/download-url", parameters);
+                            return Operations.CREATE_NODES_NODE_STORAGE_STORAGE_DOWNLOAD_URL.execute(client, Operations.CREATE_NODES_NODE_STORAGE_STORAGE_DOWNLOAD_URL.parameters(content, filename, url, checksum, checksum_algorithm, verify_certificates), this.node, this.storage);
                         }
 
                         /**
@@ -16417,11 +16783,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result downloadUrl(String content, String filename, String url) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("content", content);
-                            parameters.put("filename", filename);
-                            parameters.put("url", url);
-                            return client.create("/nodes/" + this.node + "/storage/" + this.storage + "/download-url", parameters);
+                            return Operations.CREATE_NODES_NODE_STORAGE_STORAGE_DOWNLOAD_URL.execute(client, Operations.CREATE_NODES_NODE_STORAGE_STORAGE_DOWNLOAD_URL.parameters(content, filename, url), this.node, this.storage);
                         }
 
                     }
@@ -16432,7 +16794,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result diridx() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/storage/" + this.storage + "", null);
+                        return Operations.GET_NODES_NODE_STORAGE_STORAGE.execute(client, null, this.node, this.storage);
                     }
 
                 }
@@ -16453,13 +16815,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index(String content, Boolean enabled, Boolean format, String storage, String target) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("content", content);
-                    parameters.put("enabled", enabled);
-                    parameters.put("format", format);
-                    parameters.put("storage", storage);
-                    parameters.put("target", target);
-                    return client.get("/nodes/" + this.node + "/storage", parameters);
+                    return Operations.GET_NODES_NODE_STORAGE.execute(client, Operations.GET_NODES_NODE_STORAGE.parameters(content, enabled, format, storage, target), this.node);
                 }
 
                 /**
@@ -16470,7 +16826,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result index() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/storage", null);
+                    return Operations.GET_NODES_NODE_STORAGE.execute(client, null, this.node);
                 }
 
             }
@@ -16488,42 +16844,74 @@ public class PveClient extends PveClientBase {
                 private PVELvm lvm;
 
                 public PVELvm getLvm() {
-                    return lvm == null ? (lvm = new PVELvm(client, this.node)) : lvm;
+                    PVELvm instance = lvm;
+                    if (instance == null) {
+                        lvm = instance = new PVELvm(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVELvmthin lvmthin;
 
                 public PVELvmthin getLvmthin() {
-                    return lvmthin == null ? (lvmthin = new PVELvmthin(client, this.node)) : lvmthin;
+                    PVELvmthin instance = lvmthin;
+                    if (instance == null) {
+                        lvmthin = instance = new PVELvmthin(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEDirectory directory;
 
                 public PVEDirectory getDirectory() {
-                    return directory == null ? (directory = new PVEDirectory(client, this.node)) : directory;
+                    PVEDirectory instance = directory;
+                    if (instance == null) {
+                        directory = instance = new PVEDirectory(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEZfs zfs;
 
                 public PVEZfs getZfs() {
-                    return zfs == null ? (zfs = new PVEZfs(client, this.node)) : zfs;
+                    PVEZfs instance = zfs;
+                    if (instance == null) {
+                        zfs = instance = new PVEZfs(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEList list;
 
                 public PVEList getList() {
-                    return list == null ? (list = new PVEList(client, this.node)) : list;
+                    PVEList instance = list;
+                    if (instance == null) {
+                        list = instance = new PVEList(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVESmart smart;
 
                 public PVESmart getSmart() {
-                    return smart == null ? (smart = new PVESmart(client, this.node)) : smart;
+                    PVESmart instance = smart;
+                    if (instance == null) {
+                        smart = instance = new PVESmart(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEInitgpt initgpt;
 
                 public PVEInitgpt getInitgpt() {
-                    return initgpt == null ? (initgpt = new PVEInitgpt(client, this.node)) : initgpt;
+                    PVEInitgpt instance = initgpt;
+                    if (instance == null) {
+                        initgpt = instance = new PVEInitgpt(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEWipedisk wipedisk;
 
                 public PVEWipedisk getWipedisk() {
-                    return wipedisk == null ? (wipedisk = new PVEWipedisk(client, this.node)) : wipedisk;
+                    PVEWipedisk instance = wipedisk;
+                    if (instance == null) {
+                        wipedisk = instance = new PVEWipedisk(client, this.node);
+                    }
+                    return instance;
                 }
 
                 public class PVELvm {
@@ -16536,8 +16924,11 @@ public class PveClient extends PveClientBase {
                         this.node = node;
                     }
 
+                    private final PveHandleCache<PVENameItem> handles = new PveHandleCache<>();
+
                     public PVENameItem get(Object name) {
-                        return new PVENameItem(client, this.node, name);
+                        PVENameItem item = handles.get(name);
+                        return item != null ? item : handles.put(name, new PVENameItem(client, this.node, name));
                     }
 
                     public class PVENameItem {
@@ -16565,10 +16956,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result delete(Boolean cleanup_config, Boolean cleanup_disks) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("cleanup-config", cleanup_config);
-                            parameters.put("cleanup-disks", cleanup_disks);
-                            return client.delete("/nodes/" + this.node + "/disks/lvm/" + this.name + "", parameters);
+                            return Operations.DELETE_NODES_NODE_DISKS_LVM_NAME.execute(client, Operations.DELETE_NODES_NODE_DISKS_LVM_NAME.parameters(cleanup_config, cleanup_disks), this.node, this.name);
                         }
 
                         /**
@@ -16579,7 +16967,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result delete() throws JSONException {
-                            return client.delete("/nodes/" + this.node + "/disks/lvm/" + this.name + "", null);
+                            return Operations.DELETE_NODES_NODE_DISKS_LVM_NAME.execute(client, null, this.node, this.name);
                         }
 
                     }
@@ -16591,7 +16979,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result index() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/disks/lvm", null);
+                        return Operations.GET_NODES_NODE_DISKS_LVM.execute(client, null, this.node);
                     }
 
                     /**
@@ -16607,11 +16995,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result create(String device, String name, Boolean add_storage) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("device", device);
-                        parameters.put("name", name);
-                        parameters.put("add_storage", add_storage);
-                        return client.create("/nodes/" + this.node + "/disks/lvm", parameters);
+                        return Operations.CREATE_NODES_NODE_DISKS_LVM.execute(client, Operations.CREATE_NODES_NODE_DISKS_LVM.parameters(device, name, add_storage), this.node);
                     }
 
                     /**
@@ -16625,10 +17009,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result create(String device, String name) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("device", device);
-                        parameters.put("name", name);
-                        return client.create("/nodes/" + this.node + "/disks/lvm", parameters);
+                        return Operations.CREATE_NODES_NODE_DISKS_LVM.execute(client, Operations.CREATE_NODES_NODE_DISKS_LVM.parameters(device, name), this.node);
                     }
 
                 }
@@ -16643,8 +17024,11 @@ public class PveClient extends PveClientBase {
                         this.node = node;
                     }
 
+                    private final PveHandleCache<PVENameItem> handles = new PveHandleCache<>();
+
                     public PVENameItem get(Object name) {
-                        return new PVENameItem(client, this.node, name);
+                        PVENameItem item = handles.get(name);
+                        return item != null ? item : handles.put(name, new PVENameItem(client, this.node, name));
                     }
 
                     public class PVENameItem {
@@ -16673,11 +17057,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result delete(String volume_group, Boolean cleanup_config, Boolean cleanup_disks) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("volume-group", volume_group);
-                            parameters.put("cleanup-config", cleanup_config);
-                            parameters.put("cleanup-disks", cleanup_disks);
-                            return client.delete("/nodes/" + this.node + "/disks/lvmthin/" + this.name + "", parameters);
+                            return Operations.DELETE_NODES_NODE_DISKS_LVMTHIN_NAME.execute(client, Operations.DELETE_NODES_NODE_DISKS_LVMTHIN_NAME.parameters(volume_group, cleanup_config, cleanup_disks), this.node, this.name);
                         }
 
                         /**
@@ -16689,9 +17069,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result delete(String volume_group) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("volume-group", volume_group);
-                            return client.delete("/nodes/" + this.node + "/disks/lvmthin/" + this.name + "", parameters);
+                            return Operations.DELETE_NODES_NODE_DISKS_LVMTHIN_NAME.execute(client, Operations.DELETE_NODES_NODE_DISKS_LVMTHIN_NAME.parameters(volume_group), this.node, this.name);
                         }
 
                     }
@@ -16703,7 +17081,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result index() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/disks/lvmthin", null);
+                        return Operations.GET_NODES_NODE_DISKS_LVMTHIN.execute(client, null, this.node);
                     }
 
                     /**
@@ -16718,11 +17096,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result create(String device, String name, Boolean add_storage) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("device", device);
-                        parameters.put("name", name);
-                        parameters.put("add_storage", add_storage);
-                        return client.create("/nodes/" + this.node + "/disks/lvmthin", parameters);
+                        return Operations.CREATE_NODES_NODE_DISKS_LVMTHIN.execute(client, Operations.CREATE_NODES_NODE_DISKS_LVMTHIN.parameters(device, name, add_storage), this.node);
                     }
 
                     /**
@@ -16736,10 +17110,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result create(String device, String name) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("device", device);
-                        parameters.put("name", name);
-                        return client.create("/nodes/" + this.node + "/disks/lvmthin", parameters);
+                        return Operations.CREATE_NODES_NODE_DISKS_LVMTHIN.execute(client, Operations.CREATE_NODES_NODE_DISKS_LVMTHIN.parameters(device, name), this.node);
                     }
 
                 }
@@ -16754,8 +17125,11 @@ public class PveClient extends PveClientBase {
                         this.node = node;
                     }
 
+                    private final PveHandleCache<PVENameItem> handles = new PveHandleCache<>();
+
                     public PVENameItem get(Object name) {
-                        return new PVENameItem(client, this.node, name);
+                        PVENameItem item = handles.get(name);
+                        return item != null ? item : handles.put(name, new PVENameItem(client, this.node, name));
                     }
 
                     public class PVENameItem {
@@ -16783,10 +17157,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result delete(Boolean cleanup_config, Boolean cleanup_disks) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("cleanup-config", cleanup_config);
-                            parameters.put("cleanup-disks", cleanup_disks);
-                            return client.delete("/nodes/" + this.node + "/disks/directory/" + this.name + "", parameters);
+                            return Operations.DELETE_NODES_NODE_DISKS_DIRECTORY_NAME.execute(client, Operations.DELETE_NODES_NODE_DISKS_DIRECTORY_NAME.parameters(cleanup_config, cleanup_disks), this.node, this.name);
                         }
 
                         /**
@@ -16797,7 +17168,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result delete() throws JSONException {
-                            return client.delete("/nodes/" + this.node + "/disks/directory/" + this.name + "", null);
+                            return Operations.DELETE_NODES_NODE_DISKS_DIRECTORY_NAME.execute(client, null, this.node, this.name);
                         }
 
                     }
@@ -16809,7 +17180,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result index() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/disks/directory", null);
+                        return Operations.GET_NODES_NODE_DISKS_DIRECTORY.execute(client, null, this.node);
                     }
 
                     /**
@@ -16826,12 +17197,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result create(String device, String name, Boolean add_storage, String filesystem) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("device", device);
-                        parameters.put("name", name);
-                        parameters.put("add_storage", add_storage);
-                        parameters.put("filesystem", filesystem);
-                        return client.create("/nodes/" + this.node + "/disks/directory", parameters);
+                        return Operations.CREATE_NODES_NODE_DISKS_DIRECTORY.execute(client, Operations.CREATE_NODES_NODE_DISKS_DIRECTORY.parameters(device, name, add_storage, filesystem), this.node);
                     }
 
                     /**
@@ -16846,10 +17212,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result create(String device, String name) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("device", device);
-                        parameters.put("name", name);
-                        return client.create("/nodes/" + this.node + "/disks/directory", parameters);
+                        return Operations.CREATE_NODES_NODE_DISKS_DIRECTORY.execute(client, Operations.CREATE_NODES_NODE_DISKS_DIRECTORY.parameters(device, name), this.node);
                     }
 
                 }
@@ -16864,8 +17227,11 @@ public class PveClient extends PveClientBase {
                         this.node = node;
                     }
 
+                    private final PveHandleCache<PVENameItem> handles = new PveHandleCache<>();
+
                     public PVENameItem get(Object name) {
-                        return new PVENameItem(client, this.node, name);
+                        PVENameItem item = handles.get(name);
+                        return item != null ? item : handles.put(name, new PVENameItem(client, this.node, name));
                     }
 
                     public class PVENameItem {
@@ -16893,10 +17259,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result delete(Boolean cleanup_config, Boolean cleanup_disks) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("cleanup-config", cleanup_config);
-                            parameters.put("cleanup-disks", cleanup_disks);
-                            return client.delete("/nodes/" + this.node + "/disks/zfs/" + this.name + "", parameters);
+                            return Operations.DELETE_NODES_NODE_DISKS_ZFS_NAME.execute(client, Operations.DELETE_NODES_NODE_DISKS_ZFS_NAME.parameters(cleanup_config, cleanup_disks), this.node, this.name);
                         }
 
                         /**
@@ -16907,7 +17270,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result delete() throws JSONException {
-                            return client.delete("/nodes/" + this.node + "/disks/zfs/" + this.name + "", null);
+                            return Operations.DELETE_NODES_NODE_DISKS_ZFS_NAME.execute(client, null, this.node, this.name);
                         }
 
                         /**
@@ -16918,7 +17281,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result detail() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/disks/zfs/" + this.name + "", null);
+                            return Operations.GET_NODES_NODE_DISKS_ZFS_NAME.execute(client, null, this.node, this.name);
                         }
 
                     }
@@ -16930,7 +17293,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result index() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/disks/zfs", null);
+                        return Operations.GET_NODES_NODE_DISKS_ZFS.execute(client, null, this.node);
                     }
 
                     /**
@@ -16951,15 +17314,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result create(String devices, String name, String raidlevel, Boolean add_storage, Integer ashift, String compression, String draid_config) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("devices", devices);
-                        parameters.put("name", name);
-                        parameters.put("raidlevel", raidlevel);
-                        parameters.put("add_storage", add_storage);
-                        parameters.put("ashift", ashift);
-                        parameters.put("compression", compression);
-                        parameters.put("draid-config", draid_config);
-                        return client.create("/nodes/" + this.node + "/disks/zfs", parameters);
+                        return Operations.CREATE_NODES_NODE_DISKS_ZFS.execute(client, Operations.CREATE_NODES_NODE_DISKS_ZFS.parameters(devices, name, raidlevel, add_storage, ashift, compression, draid_config), this.node);
                     }
 
                     /**
@@ -16975,11 +17330,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result create(String devices, String name, String raidlevel) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("devices", devices);
-                        parameters.put("name", name);
-                        parameters.put("raidlevel", raidlevel);
-                        return client.create("/nodes/" + this.node + "/disks/zfs", parameters);
+                        return Operations.CREATE_NODES_NODE_DISKS_ZFS.execute(client, Operations.CREATE_NODES_NODE_DISKS_ZFS.parameters(devices, name, raidlevel), this.node);
                     }
 
                 }
@@ -17005,11 +17356,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result list(Boolean include_partitions, Boolean skipsmart, String type) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("include-partitions", include_partitions);
-                        parameters.put("skipsmart", skipsmart);
-                        parameters.put("type", type);
-                        return client.get("/nodes/" + this.node + "/disks/list", parameters);
+                        return Operations.GET_NODES_NODE_DISKS_LIST.execute(client, Operations.GET_NODES_NODE_DISKS_LIST.parameters(include_partitions, skipsmart, type), this.node);
                     }
 
                     /**
@@ -17020,7 +17367,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result list() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/disks/list", null);
+                        return Operations.GET_NODES_NODE_DISKS_LIST.execute(client, null, this.node);
                     }
 
                 }
@@ -17044,10 +17391,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result smart(String disk, Boolean healthonly) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("disk", disk);
-                        parameters.put("healthonly", healthonly);
-                        return client.get("/nodes/" + this.node + "/disks/smart", parameters);
+                        return Operations.GET_NODES_NODE_DISKS_SMART.execute(client, Operations.GET_NODES_NODE_DISKS_SMART.parameters(disk, healthonly), this.node);
                     }
 
                     /**
@@ -17059,9 +17403,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result smart(String disk) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("disk", disk);
-                        return client.get("/nodes/" + this.node + "/disks/smart", parameters);
+                        return Operations.GET_NODES_NODE_DISKS_SMART.execute(client, Operations.GET_NODES_NODE_DISKS_SMART.parameters(disk), this.node);
                     }
 
                 }
@@ -17085,10 +17427,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result initgpt(String disk, String uuid) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("disk", disk);
-                        parameters.put("uuid", uuid);
-                        return client.create("/nodes/" + this.node + "/disks/initgpt", parameters);
+                        return Operations.CREATE_NODES_NODE_DISKS_INITGPT.execute(client, Operations.CREATE_NODES_NODE_DISKS_INITGPT.parameters(disk, uuid), this.node);
                     }
 
                     /**
@@ -17100,9 +17439,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result initgpt(String disk) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("disk", disk);
-                        return client.create("/nodes/" + this.node + "/disks/initgpt", parameters);
+                        return Operations.CREATE_NODES_NODE_DISKS_INITGPT.execute(client, Operations.CREATE_NODES_NODE_DISKS_INITGPT.parameters(disk), this.node);
                     }
 
                 }
@@ -17125,9 +17462,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result wipeDisk(String disk) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("disk", disk);
-                        return client.set("/nodes/" + this.node + "/disks/wipedisk", parameters);
+                        return Operations.SET_NODES_NODE_DISKS_WIPEDISK.execute(client, Operations.SET_NODES_NODE_DISKS_WIPEDISK.parameters(disk), this.node);
                     }
 
                 }
@@ -17139,7 +17474,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/disks", null);
+                    return Operations.GET_NODES_NODE_DISKS.execute(client, null, this.node);
                 }
 
             }
@@ -17157,22 +17492,38 @@ public class PveClient extends PveClientBase {
                 private PVEUpdate update;
 
                 public PVEUpdate getUpdate() {
-                    return update == null ? (update = new PVEUpdate(client, this.node)) : update;
+                    PVEUpdate instance = update;
+                    if (instance == null) {
+                        update = instance = new PVEUpdate(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEChangelog changelog;
 
                 public PVEChangelog getChangelog() {
-                    return changelog == null ? (changelog = new PVEChangelog(client, this.node)) : changelog;
+                    PVEChangelog instance = changelog;
+                    if (instance == null) {
+                        changelog = instance = new PVEChangelog(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVERepositories repositories;
 
                 public PVERepositories getRepositories() {
-                    return repositories == null ? (repositories = new PVERepositories(client, this.node)) : repositories;
+                    PVERepositories instance = repositories;
+                    if (instance == null) {
+                        repositories = instance = new PVERepositories(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEVersions versions;
 
                 public PVEVersions getVersions() {
-                    return versions == null ? (versions = new PVEVersions(client, this.node)) : versions;
+                    PVEVersions instance = versions;
+                    if (instance == null) {
+                        versions = instance = new PVEVersions(client, this.node);
+                    }
+                    return instance;
                 }
 
                 public class PVEUpdate {
@@ -17192,7 +17543,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result listUpdates() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/apt/update", null);
+                        return Operations.GET_NODES_NODE_APT_UPDATE.execute(client, null, this.node);
                     }
 
                     /**
@@ -17208,10 +17559,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateDatabase(Boolean notify, Boolean quiet) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("notify", notify);
-                        parameters.put("quiet", quiet);
-                        return client.create("/nodes/" + this.node + "/apt/update", parameters);
+                        return Operations.CREATE_NODES_NODE_APT_UPDATE.execute(client, Operations.CREATE_NODES_NODE_APT_UPDATE.parameters(notify, quiet), this.node);
                     }
 
                     /**
@@ -17223,7 +17571,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateDatabase() throws JSONException {
-                        return client.create("/nodes/" + this.node + "/apt/update", null);
+                        return Operations.CREATE_NODES_NODE_APT_UPDATE.execute(client, null, this.node);
                     }
 
                 }
@@ -17247,10 +17595,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result changelog(String name, String version) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("name", name);
-                        parameters.put("version", version);
-                        return client.get("/nodes/" + this.node + "/apt/changelog", parameters);
+                        return Operations.GET_NODES_NODE_APT_CHANGELOG.execute(client, Operations.GET_NODES_NODE_APT_CHANGELOG.parameters(name, version), this.node);
                     }
 
                     /**
@@ -17262,9 +17607,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result changelog(String name) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("name", name);
-                        return client.get("/nodes/" + this.node + "/apt/changelog", parameters);
+                        return Operations.GET_NODES_NODE_APT_CHANGELOG.execute(client, Operations.GET_NODES_NODE_APT_CHANGELOG.parameters(name), this.node);
                     }
 
                 }
@@ -17286,7 +17629,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result repositories() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/apt/repositories", null);
+                        return Operations.GET_NODES_NODE_APT_REPOSITORIES.execute(client, null, this.node);
                     }
 
                     /**
@@ -17303,12 +17646,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result changeRepository(int index, String path, String digest, Boolean enabled) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("index", index);
-                        parameters.put("path", path);
-                        parameters.put("digest", digest);
-                        parameters.put("enabled", enabled);
-                        return client.create("/nodes/" + this.node + "/apt/repositories", parameters);
+                        return Operations.CREATE_NODES_NODE_APT_REPOSITORIES.execute(client, Operations.CREATE_NODES_NODE_APT_REPOSITORIES.parameters(index, path, digest, enabled), this.node);
                     }
 
                     /**
@@ -17322,10 +17660,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result changeRepository(int index, String path) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("index", index);
-                        parameters.put("path", path);
-                        return client.create("/nodes/" + this.node + "/apt/repositories", parameters);
+                        return Operations.CREATE_NODES_NODE_APT_REPOSITORIES.execute(client, Operations.CREATE_NODES_NODE_APT_REPOSITORIES.parameters(index, path), this.node);
                     }
 
                     /**
@@ -17338,10 +17673,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result addRepository(String handle, String digest) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("handle", handle);
-                        parameters.put("digest", digest);
-                        return client.set("/nodes/" + this.node + "/apt/repositories", parameters);
+                        return Operations.SET_NODES_NODE_APT_REPOSITORIES.execute(client, Operations.SET_NODES_NODE_APT_REPOSITORIES.parameters(handle, digest), this.node);
                     }
 
                     /**
@@ -17353,9 +17685,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result addRepository(String handle) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("handle", handle);
-                        return client.set("/nodes/" + this.node + "/apt/repositories", parameters);
+                        return Operations.SET_NODES_NODE_APT_REPOSITORIES.execute(client, Operations.SET_NODES_NODE_APT_REPOSITORIES.parameters(handle), this.node);
                     }
 
                 }
@@ -17377,7 +17707,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result versions() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/apt/versions", null);
+                        return Operations.GET_NODES_NODE_APT_VERSIONS.execute(client, null, this.node);
                     }
 
                 }
@@ -17389,7 +17719,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/apt", null);
+                    return Operations.GET_NODES_NODE_APT.execute(client, null, this.node);
                 }
 
             }
@@ -17407,17 +17737,29 @@ public class PveClient extends PveClientBase {
                 private PVERules rules;
 
                 public PVERules getRules() {
-                    return rules == null ? (rules = new PVERules(client, this.node)) : rules;
+                    PVERules instance = rules;
+                    if (instance == null) {
+                        rules = instance = new PVERules(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEOptions options;
 
                 public PVEOptions getOptions() {
-                    return options == null ? (options = new PVEOptions(client, this.node)) : options;
+                    PVEOptions instance = options;
+                    if (instance == null) {
+                        options = instance = new PVEOptions(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVELog log;
 
                 public PVELog getLog() {
-                    return log == null ? (log = new PVELog(client, this.node)) : log;
+                    PVELog instance = log;
+                    if (instance == null) {
+                        log = instance = new PVELog(client, this.node);
+                    }
+                    return instance;
                 }
 
                 public class PVERules {
@@ -17430,8 +17772,11 @@ public class PveClient extends PveClientBase {
                         this.node = node;
                     }
 
+                    private final PveHandleCache<PVEPosItem> handles = new PveHandleCache<>();
+
                     public PVEPosItem get(Object pos) {
-                        return new PVEPosItem(client, this.node, pos);
+                        PVEPosItem item = handles.get(pos);
+                        return item != null ? item : handles.put(pos, new PVEPosItem(client, this.node, pos));
                     }
 
                     public class PVEPosItem {
@@ -17456,9 +17801,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result deleteRule(String digest) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("digest", digest);
-                            return client.delete("/nodes/" + this.node + "/firewall/rules/" + this.pos + "", parameters);
+                            return Operations.DELETE_NODES_NODE_FIREWALL_RULES_POS.execute(client, Operations.DELETE_NODES_NODE_FIREWALL_RULES_POS.parameters(digest), this.node, this.pos);
                         }
 
                         /**
@@ -17469,7 +17812,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result deleteRule() throws JSONException {
-                            return client.delete("/nodes/" + this.node + "/firewall/rules/" + this.pos + "", null);
+                            return Operations.DELETE_NODES_NODE_FIREWALL_RULES_POS.execute(client, null, this.node, this.pos);
                         }
 
                         /**
@@ -17480,7 +17823,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result getRule() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/firewall/rules/" + this.pos + "", null);
+                            return Operations.GET_NODES_NODE_FIREWALL_RULES_POS.execute(client, null, this.node, this.pos);
                         }
 
                         /**
@@ -17540,24 +17883,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result updateRule(String action, String comment, String delete, String dest, String digest, String dport, Integer enable, String icmp_type, String iface, String log, String macro, Integer moveto, String proto, String source, String sport, String type) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("action", action);
-                            parameters.put("comment", comment);
-                            parameters.put("delete", delete);
-                            parameters.put("dest", dest);
-                            parameters.put("digest", digest);
-                            parameters.put("dport", dport);
-                            parameters.put("enable", enable);
-                            parameters.put("icmp-type", icmp_type);
-                            parameters.put("iface", iface);
-                            parameters.put("log", log);
-                            parameters.put("macro", macro);
-                            parameters.put("moveto", moveto);
-                            parameters.put("proto", proto);
-                            parameters.put("source", source);
-                            parameters.put("sport", sport);
-                            parameters.put("type", type);
-                            return client.set("/nodes/" + this.node + "/firewall/rules/" + this.pos + "", parameters);
+                            return Operations.SET_NODES_NODE_FIREWALL_RULES_POS.execute(client, Operations.SET_NODES_NODE_FIREWALL_RULES_POS.parameters(action, comment, delete, dest, digest, dport, enable, icmp_type, iface, log, macro, moveto, proto, source, sport, type), this.node, this.pos);
                         }
 
                         /**
@@ -17568,7 +17894,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result updateRule() throws JSONException {
-                            return client.set("/nodes/" + this.node + "/firewall/rules/" + this.pos + "", null);
+                            return Operations.SET_NODES_NODE_FIREWALL_RULES_POS.execute(client, null, this.node, this.pos);
                         }
 
                     }
@@ -17580,7 +17906,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result getRules() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/firewall/rules", null);
+                        return Operations.GET_NODES_NODE_FIREWALL_RULES.execute(client, null, this.node);
                     }
 
                     /**
@@ -17635,23 +17961,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result createRule(String action, String type, String comment, String dest, String digest, String dport, Integer enable, String icmp_type, String iface, String log, String macro, Integer pos, String proto, String source, String sport) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("action", action);
-                        parameters.put("type", type);
-                        parameters.put("comment", comment);
-                        parameters.put("dest", dest);
-                        parameters.put("digest", digest);
-                        parameters.put("dport", dport);
-                        parameters.put("enable", enable);
-                        parameters.put("icmp-type", icmp_type);
-                        parameters.put("iface", iface);
-                        parameters.put("log", log);
-                        parameters.put("macro", macro);
-                        parameters.put("pos", pos);
-                        parameters.put("proto", proto);
-                        parameters.put("source", source);
-                        parameters.put("sport", sport);
-                        return client.create("/nodes/" + this.node + "/firewall/rules", parameters);
+                        return Operations.CREATE_NODES_NODE_FIREWALL_RULES.execute(client, Operations.CREATE_NODES_NODE_FIREWALL_RULES.parameters(action, type, comment, dest, digest, dport, enable, icmp_type, iface, log, macro, pos, proto, source, sport), this.node);
                     }
 
                     /**
@@ -17665,10 +17975,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result createRule(String action, String type) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("action", action);
-                        parameters.put("type", type);
-                        return client.create("/nodes/" + this.node + "/firewall/rules", parameters);
+                        return Operations.CREATE_NODES_NODE_FIREWALL_RULES.execute(client, Operations.CREATE_NODES_NODE_FIREWALL_RULES.parameters(action, type), this.node);
                     }
 
                 }
@@ -17690,7 +17997,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result getOptions() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/firewall/options", null);
+                        return Operations.GET_NODES_NODE_FIREWALL_OPTIONS.execute(client, null, this.node);
                     }
 
                     /**
@@ -17737,27 +18044,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result setOptions(String delete, String digest, Boolean enable, String log_level_in, String log_level_out, Boolean log_nf_conntrack, Boolean ndp, Boolean nf_conntrack_allow_invalid, String nf_conntrack_helpers, Integer nf_conntrack_max, Integer nf_conntrack_tcp_timeout_established, Integer nf_conntrack_tcp_timeout_syn_recv, Boolean nosmurfs, Boolean protection_synflood, Integer protection_synflood_burst, Integer protection_synflood_rate, String smurf_log_level, String tcp_flags_log_level, Boolean tcpflags) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("delete", delete);
-                        parameters.put("digest", digest);
-                        parameters.put("enable", enable);
-                        parameters.put("log_level_in", log_level_in);
-                        parameters.put("log_level_out", log_level_out);
-                        parameters.put("log_nf_conntrack", log_nf_conntrack);
-                        parameters.put("ndp", ndp);
-                        parameters.put("nf_conntrack_allow_invalid", nf_conntrack_allow_invalid);
-                        parameters.put("nf_conntrack_helpers", nf_conntrack_helpers);
-                        parameters.put("nf_conntrack_max", nf_conntrack_max);
-                        parameters.put("nf_conntrack_tcp_timeout_established", nf_conntrack_tcp_timeout_established);
-                        parameters.put("nf_conntrack_tcp_timeout_syn_recv", nf_conntrack_tcp_timeout_syn_recv);
-                        parameters.put("nosmurfs", nosmurfs);
-                        parameters.put("protection_synflood", protection_synflood);
-                        parameters.put("protection_synflood_burst", protection_synflood_burst);
-                        parameters.put("protection_synflood_rate", protection_synflood_rate);
-                        parameters.put("smurf_log_level", smurf_log_level);
-                        parameters.put("tcp_flags_log_level", tcp_flags_log_level);
-                        parameters.put("tcpflags", tcpflags);
-                        return client.set("/nodes/" + this.node + "/firewall/options", parameters);
+                        return Operations.SET_NODES_NODE_FIREWALL_OPTIONS.execute(client, Operations.SET_NODES_NODE_FIREWALL_OPTIONS.parameters(delete, digest, enable, log_level_in, log_level_out, log_nf_conntrack, ndp, nf_conntrack_allow_invalid, nf_conntrack_helpers, nf_conntrack_max, nf_conntrack_tcp_timeout_established, nf_conntrack_tcp_timeout_syn_recv, nosmurfs, protection_synflood, protection_synflood_burst, protection_synflood_rate, smurf_log_level, tcp_flags_log_level, tcpflags), this.node);
                     }
 
                     /**
@@ -17768,7 +18055,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result setOptions() throws JSONException {
-                        return client.set("/nodes/" + this.node + "/firewall/options", null);
+                        return Operations.SET_NODES_NODE_FIREWALL_OPTIONS.execute(client, null, this.node);
                     }
 
                 }
@@ -17794,12 +18081,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result log(Integer limit, Integer since, Integer start, Integer until) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("limit", limit);
-                        parameters.put("since", since);
-                        parameters.put("start", start);
-                        parameters.put("until", until);
-                        return client.get("/nodes/" + this.node + "/firewall/log", parameters);
+                        return Operations.GET_NODES_NODE_FIREWALL_LOG.execute(client, Operations.GET_NODES_NODE_FIREWALL_LOG.parameters(limit, since, start, until), this.node);
                     }
 
                     /**
@@ -17810,7 +18092,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result log() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/firewall/log", null);
+                        return Operations.GET_NODES_NODE_FIREWALL_LOG.execute(client, null, this.node);
                     }
 
                 }
@@ -17822,7 +18104,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/firewall", null);
+                    return Operations.GET_NODES_NODE_FIREWALL.execute(client, null, this.node);
                 }
 
             }
@@ -17837,8 +18119,11 @@ public class PveClient extends PveClientBase {
                     this.node = node;
                 }
 
+                private final PveHandleCache<PVEIdItem> handles = new PveHandleCache<>();
+
                 public PVEIdItem get(Object id) {
-                    return new PVEIdItem(client, this.node, id);
+                    PVEIdItem item = handles.get(id);
+                    return item != null ? item : handles.put(id, new PVEIdItem(client, this.node, id));
                 }
 
                 public class PVEIdItem {
@@ -17856,17 +18141,29 @@ public class PveClient extends PveClientBase {
                     private PVEStatus status;
 
                     public PVEStatus getStatus() {
-                        return status == null ? (status = new PVEStatus(client, this.node, this.id)) : status;
+                        PVEStatus instance = status;
+                        if (instance == null) {
+                            status = instance = new PVEStatus(client, this.node, this.id);
+                        }
+                        return instance;
                     }
                     private PVELog log;
 
                     public PVELog getLog() {
-                        return log == null ? (log = new PVELog(client, this.node, this.id)) : log;
+                        PVELog instance = log;
+                        if (instance == null) {
+                            log = instance = new PVELog(client, this.node, this.id);
+                        }
+                        return instance;
                     }
                     private PVEScheduleNow scheduleNow;
 
                     public PVEScheduleNow getScheduleNow() {
-                        return scheduleNow == null ? (scheduleNow = new PVEScheduleNow(client, this.node, this.id)) : scheduleNow;
+                        PVEScheduleNow instance = scheduleNow;
+                        if (instance == null) {
+                            scheduleNow = instance = new PVEScheduleNow(client, this.node, this.id);
+                        }
+                        return instance;
                     }
 
                     public class PVEStatus {
@@ -17888,7 +18185,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result jobStatus() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/replication/" + this.id + "/status", null);
+                            return Operations.GET_NODES_NODE_REPLICATION_ID_STATUS.execute(client, null, this.node, this.id);
                         }
 
                     }
@@ -17914,10 +18211,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result readJobLog(Integer limit, Integer start) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("limit", limit);
-                            parameters.put("start", start);
-                            return client.get("/nodes/" + this.node + "/replication/" + this.id + "/log", parameters);
+                            return Operations.GET_NODES_NODE_REPLICATION_ID_LOG.execute(client, Operations.GET_NODES_NODE_REPLICATION_ID_LOG.parameters(limit, start), this.node, this.id);
                         }
 
                         /**
@@ -17928,7 +18222,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result readJobLog() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/replication/" + this.id + "/log", null);
+                            return Operations.GET_NODES_NODE_REPLICATION_ID_LOG.execute(client, null, this.node, this.id);
                         }
 
                     }
@@ -17953,7 +18247,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result scheduleNow() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/replication/" + this.id + "/schedule_now", null);
+                            return Operations.CREATE_NODES_NODE_REPLICATION_ID_SCHEDULE_NOW.execute(client, null, this.node, this.id);
                         }
 
                     }
@@ -17965,7 +18259,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result index() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/replication/" + this.id + "", null);
+                        return Operations.GET_NODES_NODE_REPLICATION_ID.execute(client, null, this.node, this.id);
                     }
 
                 }
@@ -17978,9 +18272,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result status(Integer guest) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("guest", guest);
-                    return client.get("/nodes/" + this.node + "/replication", parameters);
+                    return Operations.GET_NODES_NODE_REPLICATION.execute(client, Operations.GET_NODES_NODE_REPLICATION.parameters(guest), this.node);
                 }
 
                 /**
@@ -17991,7 +18283,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result status() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/replication", null);
+                    return Operations.GET_NODES_NODE_REPLICATION.execute(client, null, this.node);
                 }
 
             }
@@ -18009,17 +18301,29 @@ public class PveClient extends PveClientBase {
                 private PVEAcme acme;
 
                 public PVEAcme getAcme() {
-                    return acme == null ? (acme = new PVEAcme(client, this.node)) : acme;
+                    PVEAcme instance = acme;
+                    if (instance == null) {
+                        acme = instance = new PVEAcme(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVEInfo info;
 
                 public PVEInfo getInfo() {
-                    return info == null ? (info = new PVEInfo(client, this.node)) : info;
+                    PVEInfo instance = info;
+                    if (instance == null) {
+                        info = instance = new PVEInfo(client, this.node);
+                    }
+                    return instance;
                 }
                 private PVECustom custom;
 
                 public PVECustom getCustom() {
-                    return custom == null ? (custom = new PVECustom(client, this.node)) : custom;
+                    PVECustom instance = custom;
+                    if (instance == null) {
+                        custom = instance = new PVECustom(client, this.node);
+                    }
+                    return instance;
                 }
 
                 public class PVEAcme {
@@ -18035,7 +18339,11 @@ public class PveClient extends PveClientBase {
                     private PVECertificate certificate;
 
                     public PVECertificate getCertificate() {
-                        return certificate == null ? (certificate = new PVECertificate(client, this.node)) : certificate;
+                        PVECertificate instance = certificate;
+                        if (instance == null) {
+                            certificate = instance = new PVECertificate(client, this.node);
+                        }
+                        return instance;
                     }
 
                     public class PVECertificate {
@@ -18055,7 +18363,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result revokeCertificate() throws JSONException {
-                            return client.delete("/nodes/" + this.node + "/certificates/acme/certificate", null);
+                            return Operations.DELETE_NODES_NODE_CERTIFICATES_ACME_CERTIFICATE.execute(client, null, this.node);
                         }
 
                         /**
@@ -18067,9 +18375,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result newCertificate(Boolean force) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("force", force);
-                            return client.create("/nodes/" + this.node + "/certificates/acme/certificate", parameters);
+                            return Operations.CREATE_NODES_NODE_CERTIFICATES_ACME_CERTIFICATE.execute(client, Operations.CREATE_NODES_NODE_CERTIFICATES_ACME_CERTIFICATE.parameters(force), this.node);
                         }
 
                         /**
@@ -18080,7 +18386,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result newCertificate() throws JSONException {
-                            return client.create("/nodes/" + this.node + "/certificates/acme/certificate", null);
+                            return Operations.CREATE_NODES_NODE_CERTIFICATES_ACME_CERTIFICATE.execute(client, null, this.node);
                         }
 
                         /**
@@ -18093,9 +18399,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result renewCertificate(Boolean force) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("force", force);
-                            return client.set("/nodes/" + this.node + "/certificates/acme/certificate", parameters);
+                            return Operations.SET_NODES_NODE_CERTIFICATES_ACME_CERTIFICATE.execute(client, Operations.SET_NODES_NODE_CERTIFICATES_ACME_CERTIFICATE.parameters(force), this.node);
                         }
 
                         /**
@@ -18106,7 +18410,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result renewCertificate() throws JSONException {
-                            return client.set("/nodes/" + this.node + "/certificates/acme/certificate", null);
+                            return Operations.SET_NODES_NODE_CERTIFICATES_ACME_CERTIFICATE.execute(client, null, this.node);
                         }
 
                     }
@@ -18118,7 +18422,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result index() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/certificates/acme", null);
+                        return Operations.GET_NODES_NODE_CERTIFICATES_ACME.execute(client, null, this.node);
                     }
 
                 }
@@ -18140,7 +18444,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result info() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/certificates/info", null);
+                        return Operations.GET_NODES_NODE_CERTIFICATES_INFO.execute(client, null, this.node);
                     }
 
                 }
@@ -18163,9 +18467,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result removeCustomCert(Boolean restart) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("restart", restart);
-                        return client.delete("/nodes/" + this.node + "/certificates/custom", parameters);
+                        return Operations.DELETE_NODES_NODE_CERTIFICATES_CUSTOM.execute(client, Operations.DELETE_NODES_NODE_CERTIFICATES_CUSTOM.parameters(restart), this.node);
                     }
 
                     /**
@@ -18176,7 +18478,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result removeCustomCert() throws JSONException {
-                        return client.delete("/nodes/" + this.node + "/certificates/custom", null);
+                        return Operations.DELETE_NODES_NODE_CERTIFICATES_CUSTOM.execute(client, null, this.node);
                     }
 
                     /**
@@ -18192,12 +18494,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result uploadCustomCert(String certificates, Boolean force, String key, Boolean restart) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("certificates", certificates);
-                        parameters.put("force", force);
-                        parameters.put("key", key);
-                        parameters.put("restart", restart);
-                        return client.create("/nodes/" + this.node + "/certificates/custom", parameters);
+                        return Operations.CREATE_NODES_NODE_CERTIFICATES_CUSTOM.execute(client, Operations.CREATE_NODES_NODE_CERTIFICATES_CUSTOM.parameters(certificates, force, key, restart), this.node);
                     }
 
                     /**
@@ -18209,9 +18506,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result uploadCustomCert(String certificates) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("certificates", certificates);
-                        return client.create("/nodes/" + this.node + "/certificates/custom", parameters);
+                        return Operations.CREATE_NODES_NODE_CERTIFICATES_CUSTOM.execute(client, Operations.CREATE_NODES_NODE_CERTIFICATES_CUSTOM.parameters(certificates), this.node);
                     }
 
                 }
@@ -18223,7 +18518,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result index() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/certificates", null);
+                    return Operations.GET_NODES_NODE_CERTIFICATES.execute(client, null, this.node);
                 }
 
             }
@@ -18248,9 +18543,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result getConfig(String property) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("property", property);
-                    return client.get("/nodes/" + this.node + "/config", parameters);
+                    return Operations.GET_NODES_NODE_CONFIG.execute(client, Operations.GET_NODES_NODE_CONFIG.parameters(property), this.node);
                 }
 
                 /**
@@ -18261,7 +18554,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result getConfig() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/config", null);
+                    return Operations.GET_NODES_NODE_CONFIG.execute(client, null, this.node);
                 }
 
                 /**
@@ -18292,7 +18585,7 @@ public class PveClient extends PveClientBase {
                     parameters.put("startall-onboot-delay", startall_onboot_delay);
                     parameters.put("wakeonlan", wakeonlan);
                     addIndexedParameter(parameters, "acmedomain", acmedomainN);
-                    return client.set("/nodes/" + this.node + "/config", parameters);
+                    return Operations.SET_NODES_NODE_CONFIG.execute(client, parameters, this.node);
                 }
 
                 /**
@@ -18303,7 +18596,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result setOptions() throws JSONException {
-                    return client.set("/nodes/" + this.node + "/config", null);
+                    return Operations.SET_NODES_NODE_CONFIG.execute(client, null, this.node);
                 }
 
             }
@@ -18321,7 +18614,11 @@ public class PveClient extends PveClientBase {
                 private PVEZones zones;
 
                 public PVEZones getZones() {
-                    return zones == null ? (zones = new PVEZones(client, this.node)) : zones;
+                    PVEZones instance = zones;
+                    if (instance == null) {
+                        zones = instance = new PVEZones(client, this.node);
+                    }
+                    return instance;
                 }
 
                 public class PVEZones {
@@ -18334,8 +18631,11 @@ public class PveClient extends PveClientBase {
                         this.node = node;
                     }
 
+                    private final PveHandleCache<PVEZoneItem> handles = new PveHandleCache<>();
+
                     public PVEZoneItem get(Object zone) {
-                        return new PVEZoneItem(client, this.node, zone);
+                        PVEZoneItem item = handles.get(zone);
+                        return item != null ? item : handles.put(zone, new PVEZoneItem(client, this.node, zone));
                     }
 
                     public class PVEZoneItem {
@@ -18353,7 +18653,11 @@ public class PveClient extends PveClientBase {
                         private PVEContent content;
 
                         public PVEContent getContent() {
-                            return content == null ? (content = new PVEContent(client, this.node, this.zone)) : content;
+                            PVEContent instance = content;
+                            if (instance == null) {
+                                content = instance = new PVEContent(client, this.node, this.zone);
+                            }
+                            return instance;
                         }
 
                         public class PVEContent {
@@ -18375,7 +18679,7 @@ public class PveClient extends PveClientBase {
                              * @throws JSONException
                              */
                             public Result index() throws JSONException {
-                                return client.get("/nodes/" + this.node + "/sdn/zones/" + this.zone + "/content", null);
+                                return Operations.GET_NODES_NODE_SDN_ZONES_ZONE_CONTENT.execute(client, null, this.node, this.zone);
                             }
 
                         }
@@ -18386,7 +18690,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result diridx() throws JSONException {
-                            return client.get("/nodes/" + this.node + "/sdn/zones/" + this.zone + "", null);
+                            return Operations.GET_NODES_NODE_SDN_ZONES_ZONE.execute(client, null, this.node, this.zone);
                         }
 
                     }
@@ -18398,7 +18702,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result index() throws JSONException {
-                        return client.get("/nodes/" + this.node + "/sdn/zones", null);
+                        return Operations.GET_NODES_NODE_SDN_ZONES.execute(client, null, this.node);
                     }
 
                 }
@@ -18410,7 +18714,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result sdnindex() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/sdn", null);
+                    return Operations.GET_NODES_NODE_SDN.execute(client, null, this.node);
                 }
 
             }
@@ -18432,7 +18736,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result version() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/version", null);
+                    return Operations.GET_NODES_NODE_VERSION.execute(client, null, this.node);
                 }
 
             }
@@ -18454,7 +18758,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result status() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/status", null);
+                    return Operations.GET_NODES_NODE_STATUS.execute(client, null, this.node);
                 }
 
                 /**
@@ -18466,9 +18770,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result nodeCmd(String command) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("command", command);
-                    return client.create("/nodes/" + this.node + "/status", parameters);
+                    return Operations.CREATE_NODES_NODE_STATUS.execute(client, Operations.CREATE_NODES_NODE_STATUS.parameters(command), this.node);
                 }
 
             }
@@ -18490,7 +18792,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result netstat() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/netstat", null);
+                    return Operations.GET_NODES_NODE_NETSTAT.execute(client, null, this.node);
                 }
 
             }
@@ -18513,9 +18815,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result execute(String commands) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("commands", commands);
-                    return client.create("/nodes/" + this.node + "/execute", parameters);
+                    return Operations.CREATE_NODES_NODE_EXECUTE.execute(client, Operations.CREATE_NODES_NODE_EXECUTE.parameters(commands), this.node);
                 }
 
             }
@@ -18537,7 +18837,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result wakeonlan() throws JSONException {
-                    return client.create("/nodes/" + this.node + "/wakeonlan", null);
+                    return Operations.CREATE_NODES_NODE_WAKEONLAN.execute(client, null, this.node);
                 }
 
             }
@@ -18563,11 +18863,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result rrd(String ds, String timeframe, String cf) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("ds", ds);
-                    parameters.put("timeframe", timeframe);
-                    parameters.put("cf", cf);
-                    return client.get("/nodes/" + this.node + "/rrd", parameters);
+                    return Operations.GET_NODES_NODE_RRD.execute(client, Operations.GET_NODES_NODE_RRD.parameters(ds, timeframe, cf), this.node);
                 }
 
                 /**
@@ -18581,10 +18877,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result rrd(String ds, String timeframe) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("ds", ds);
-                    parameters.put("timeframe", timeframe);
-                    return client.get("/nodes/" + this.node + "/rrd", parameters);
+                    return Operations.GET_NODES_NODE_RRD.execute(client, Operations.GET_NODES_NODE_RRD.parameters(ds, timeframe), this.node);
                 }
 
             }
@@ -18609,10 +18902,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result rrddata(String timeframe, String cf) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("timeframe", timeframe);
-                    parameters.put("cf", cf);
-                    return client.get("/nodes/" + this.node + "/rrddata", parameters);
+                    return Operations.GET_NODES_NODE_RRDDATA.execute(client, Operations.GET_NODES_NODE_RRDDATA.parameters(timeframe, cf), this.node);
                 }
 
                 /**
@@ -18625,9 +18915,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result rrddata(String timeframe) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("timeframe", timeframe);
-                    return client.get("/nodes/" + this.node + "/rrddata", parameters);
+                    return Operations.GET_NODES_NODE_RRDDATA.execute(client, Operations.GET_NODES_NODE_RRDDATA.parameters(timeframe), this.node);
                 }
 
             }
@@ -18654,13 +18942,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result syslog(Integer limit, String service, String since, Integer start, String until) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("limit", limit);
-                    parameters.put("service", service);
-                    parameters.put("since", since);
-                    parameters.put("start", start);
-                    parameters.put("until", until);
-                    return client.get("/nodes/" + this.node + "/syslog", parameters);
+                    return Operations.GET_NODES_NODE_SYSLOG.execute(client, Operations.GET_NODES_NODE_SYSLOG.parameters(limit, service, since, start, until), this.node);
                 }
 
                 /**
@@ -18671,7 +18953,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result syslog() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/syslog", null);
+                    return Operations.GET_NODES_NODE_SYSLOG.execute(client, null, this.node);
                 }
 
             }
@@ -18703,13 +18985,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result journal(String endcursor, Integer lastentries, Integer since, String startcursor, Integer until) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("endcursor", endcursor);
-                    parameters.put("lastentries", lastentries);
-                    parameters.put("since", since);
-                    parameters.put("startcursor", startcursor);
-                    parameters.put("until", until);
-                    return client.get("/nodes/" + this.node + "/journal", parameters);
+                    return Operations.GET_NODES_NODE_JOURNAL.execute(client, Operations.GET_NODES_NODE_JOURNAL.parameters(endcursor, lastentries, since, startcursor, until), this.node);
                 }
 
                 /**
@@ -18720,7 +18996,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result journal() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/journal", null);
+                    return Operations.GET_NODES_NODE_JOURNAL.execute(client, null, this.node);
                 }
 
             }
@@ -18749,13 +19025,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result vncshell(String cmd, String cmd_opts, Integer height, Boolean websocket, Integer width) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("cmd", cmd);
-                    parameters.put("cmd-opts", cmd_opts);
-                    parameters.put("height", height);
-                    parameters.put("websocket", websocket);
-                    parameters.put("width", width);
-                    return client.create("/nodes/" + this.node + "/vncshell", parameters);
+                    return Operations.CREATE_NODES_NODE_VNCSHELL.execute(client, Operations.CREATE_NODES_NODE_VNCSHELL.parameters(cmd, cmd_opts, height, websocket, width), this.node);
                 }
 
                 /**
@@ -18766,7 +19036,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result vncshell() throws JSONException {
-                    return client.create("/nodes/" + this.node + "/vncshell", null);
+                    return Operations.CREATE_NODES_NODE_VNCSHELL.execute(client, null, this.node);
                 }
 
             }
@@ -18792,10 +19062,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result termproxy(String cmd, String cmd_opts) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("cmd", cmd);
-                    parameters.put("cmd-opts", cmd_opts);
-                    return client.create("/nodes/" + this.node + "/termproxy", parameters);
+                    return Operations.CREATE_NODES_NODE_TERMPROXY.execute(client, Operations.CREATE_NODES_NODE_TERMPROXY.parameters(cmd, cmd_opts), this.node);
                 }
 
                 /**
@@ -18806,7 +19073,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result termproxy() throws JSONException {
-                    return client.create("/nodes/" + this.node + "/termproxy", null);
+                    return Operations.CREATE_NODES_NODE_TERMPROXY.execute(client, null, this.node);
                 }
 
             }
@@ -18830,10 +19097,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result vncwebsocket(int port, String vncticket) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("port", port);
-                    parameters.put("vncticket", vncticket);
-                    return client.get("/nodes/" + this.node + "/vncwebsocket", parameters);
+                    return Operations.GET_NODES_NODE_VNCWEBSOCKET.execute(client, Operations.GET_NODES_NODE_VNCWEBSOCKET.parameters(port, vncticket), this.node);
                 }
 
             }
@@ -18866,11 +19130,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result spiceshell(String cmd, String cmd_opts, String proxy) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("cmd", cmd);
-                    parameters.put("cmd-opts", cmd_opts);
-                    parameters.put("proxy", proxy);
-                    return client.create("/nodes/" + this.node + "/spiceshell", parameters);
+                    return Operations.CREATE_NODES_NODE_SPICESHELL.execute(client, Operations.CREATE_NODES_NODE_SPICESHELL.parameters(cmd, cmd_opts, proxy), this.node);
                 }
 
                 /**
@@ -18881,7 +19141,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result spiceshell() throws JSONException {
-                    return client.create("/nodes/" + this.node + "/spiceshell", null);
+                    return Operations.CREATE_NODES_NODE_SPICESHELL.execute(client, null, this.node);
                 }
 
             }
@@ -18903,7 +19163,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result dns() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/dns", null);
+                    return Operations.GET_NODES_NODE_DNS.execute(client, null, this.node);
                 }
 
                 /**
@@ -18918,12 +19178,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result updateDns(String search, String dns1, String dns2, String dns3) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("search", search);
-                    parameters.put("dns1", dns1);
-                    parameters.put("dns2", dns2);
-                    parameters.put("dns3", dns3);
-                    return client.set("/nodes/" + this.node + "/dns", parameters);
+                    return Operations.SET_NODES_NODE_DNS.execute(client, Operations.SET_NODES_NODE_DNS.parameters(search, dns1, dns2, dns3), this.node);
                 }
 
                 /**
@@ -18935,9 +19190,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result updateDns(String search) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("search", search);
-                    return client.set("/nodes/" + this.node + "/dns", parameters);
+                    return Operations.SET_NODES_NODE_DNS.execute(client, Operations.SET_NODES_NODE_DNS.parameters(search), this.node);
                 }
 
             }
@@ -18959,7 +19212,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result time() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/time", null);
+                    return Operations.GET_NODES_NODE_TIME.execute(client, null, this.node);
                 }
 
                 /**
@@ -18973,9 +19226,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result setTimezone(String timezone) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("timezone", timezone);
-                    return client.set("/nodes/" + this.node + "/time", parameters);
+                    return Operations.SET_NODES_NODE_TIME.execute(client, Operations.SET_NODES_NODE_TIME.parameters(timezone), this.node);
                 }
 
             }
@@ -18997,7 +19248,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result aplinfo() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/aplinfo", null);
+                    return Operations.GET_NODES_NODE_APLINFO.execute(client, null, this.node);
                 }
 
                 /**
@@ -19010,10 +19261,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result aplDownload(String storage, String template) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("storage", storage);
-                    parameters.put("template", template);
-                    return client.create("/nodes/" + this.node + "/aplinfo", parameters);
+                    return Operations.CREATE_NODES_NODE_APLINFO.execute(client, Operations.CREATE_NODES_NODE_APLINFO.parameters(storage, template), this.node);
                 }
 
             }
@@ -19038,10 +19286,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result queryUrlMetadata(String url, Boolean verify_certificates) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("url", url);
-                    parameters.put("verify-certificates", verify_certificates);
-                    return client.get("/nodes/" + this.node + "/query-url-metadata", parameters);
+                    return Operations.GET_NODES_NODE_QUERY_URL_METADATA.execute(client, Operations.GET_NODES_NODE_QUERY_URL_METADATA.parameters(url, verify_certificates), this.node);
                 }
 
                 /**
@@ -19053,9 +19298,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result queryUrlMetadata(String url) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("url", url);
-                    return client.get("/nodes/" + this.node + "/query-url-metadata", parameters);
+                    return Operations.GET_NODES_NODE_QUERY_URL_METADATA.execute(client, Operations.GET_NODES_NODE_QUERY_URL_METADATA.parameters(url), this.node);
                 }
 
             }
@@ -19077,7 +19320,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result report() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/report", null);
+                    return Operations.GET_NODES_NODE_REPORT.execute(client, null, this.node);
                 }
 
             }
@@ -19104,10 +19347,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result startall(Boolean force, String vms) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("force", force);
-                    parameters.put("vms", vms);
-                    return client.create("/nodes/" + this.node + "/startall", parameters);
+                    return Operations.CREATE_NODES_NODE_STARTALL.execute(client, Operations.CREATE_NODES_NODE_STARTALL.parameters(force, vms), this.node);
                 }
 
                 /**
@@ -19119,7 +19359,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result startall() throws JSONException {
-                    return client.create("/nodes/" + this.node + "/startall", null);
+                    return Operations.CREATE_NODES_NODE_STARTALL.execute(client, null, this.node);
                 }
 
             }
@@ -19146,11 +19386,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result stopall(Boolean force_stop, Integer timeout, String vms) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("force-stop", force_stop);
-                    parameters.put("timeout", timeout);
-                    parameters.put("vms", vms);
-                    return client.create("/nodes/" + this.node + "/stopall", parameters);
+                    return Operations.CREATE_NODES_NODE_STOPALL.execute(client, Operations.CREATE_NODES_NODE_STOPALL.parameters(force_stop, timeout, vms), this.node);
                 }
 
                 /**
@@ -19161,7 +19397,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result stopall() throws JSONException {
-                    return client.create("/nodes/" + this.node + "/stopall", null);
+                    return Operations.CREATE_NODES_NODE_STOPALL.execute(client, null, this.node);
                 }
 
             }
@@ -19190,12 +19426,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result migrateall(String target, Integer maxworkers, String vms, Boolean with_local_disks) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("target", target);
-                    parameters.put("maxworkers", maxworkers);
-                    parameters.put("vms", vms);
-                    parameters.put("with-local-disks", with_local_disks);
-                    return client.create("/nodes/" + this.node + "/migrateall", parameters);
+                    return Operations.CREATE_NODES_NODE_MIGRATEALL.execute(client, Operations.CREATE_NODES_NODE_MIGRATEALL.parameters(target, maxworkers, vms, with_local_disks), this.node);
                 }
 
                 /**
@@ -19207,9 +19438,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result migrateall(String target) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("target", target);
-                    return client.create("/nodes/" + this.node + "/migrateall", parameters);
+                    return Operations.CREATE_NODES_NODE_MIGRATEALL.execute(client, Operations.CREATE_NODES_NODE_MIGRATEALL.parameters(target), this.node);
                 }
 
             }
@@ -19231,7 +19460,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result getEtcHosts() throws JSONException {
-                    return client.get("/nodes/" + this.node + "/hosts", null);
+                    return Operations.GET_NODES_NODE_HOSTS.execute(client, null, this.node);
                 }
 
                 /**
@@ -19246,10 +19475,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result writeEtcHosts(String data, String digest) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("data", data);
-                    parameters.put("digest", digest);
-                    return client.create("/nodes/" + this.node + "/hosts", parameters);
+                    return Operations.CREATE_NODES_NODE_HOSTS.execute(client, Operations.CREATE_NODES_NODE_HOSTS.parameters(data, digest), this.node);
                 }
 
                 /**
@@ -19261,9 +19487,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result writeEtcHosts(String data) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("data", data);
-                    return client.create("/nodes/" + this.node + "/hosts", parameters);
+                    return Operations.CREATE_NODES_NODE_HOSTS.execute(client, Operations.CREATE_NODES_NODE_HOSTS.parameters(data), this.node);
                 }
 
             }
@@ -19275,7 +19499,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/nodes/" + this.node + "", null);
+                return Operations.GET_NODES_NODE.execute(client, null, this.node);
             }
 
         }
@@ -19287,7 +19511,7 @@ public class PveClient extends PveClientBase {
          * @throws JSONException
          */
         public Result index() throws JSONException {
-            return client.get("/nodes", null);
+            return Operations.GET_NODES.execute(client, null);
         }
 
     }
@@ -19301,8 +19525,11 @@ public class PveClient extends PveClientBase {
 
         }
 
+        private final PveHandleCache<PVEStorageItem> handles = new PveHandleCache<>();
+
         public PVEStorageItem get(Object storage) {
-            return new PVEStorageItem(client, storage);
+            PVEStorageItem item = handles.get(storage);
+            return item != null ? item : handles.put(storage, new PVEStorageItem(client, storage));
         }
 
         public class PVEStorageItem {
@@ -19322,7 +19549,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result delete() throws JSONException {
-                return client.delete("/storage/" + this.storage + "", null);
+                return Operations.DELETE_STORAGE_STORAGE.execute(client, null, this.storage);
             }
 
             /**
@@ -19333,7 +19560,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result read() throws JSONException {
-                return client.get("/storage/" + this.storage + "", null);
+                return Operations.GET_STORAGE_STORAGE.execute(client, null, this.storage);
             }
 
             /**
@@ -19427,57 +19654,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result update(String blocksize, String bwlimit, String comstar_hg, String comstar_tg, String content, String content_dirs, Boolean create_base_path, Boolean create_subdirs, String data_pool, String delete, String digest, Boolean disable, String domain, String encryption_key, String fingerprint, String format, String fs_name, Boolean fuse, String is_mountpoint, String keyring, Boolean krbd, String lio_tpg, String master_pubkey, Integer max_protected_backups, Integer maxfiles, Boolean mkdir, String monhost, String mountpoint, String namespace_, Boolean nocow, String nodes, Boolean nowritecache, String options, String password, String pool, Integer port, String preallocation, String prune_backups, Boolean saferemove, String saferemove_throughput, String server, String server2, Boolean shared, String smbversion, Boolean sparse, String subdir, Boolean tagged_only, String transport, String username) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("blocksize", blocksize);
-                parameters.put("bwlimit", bwlimit);
-                parameters.put("comstar_hg", comstar_hg);
-                parameters.put("comstar_tg", comstar_tg);
-                parameters.put("content", content);
-                parameters.put("content-dirs", content_dirs);
-                parameters.put("create-base-path", create_base_path);
-                parameters.put("create-subdirs", create_subdirs);
-                parameters.put("data-pool", data_pool);
-                parameters.put("delete", delete);
-                parameters.put("digest", digest);
-                parameters.put("disable", disable);
-                parameters.put("domain", domain);
-                parameters.put("encryption-key", encryption_key);
-                parameters.put("fingerprint", fingerprint);
-                parameters.put("format", format);
-                parameters.put("fs-name", fs_name);
-                parameters.put("fuse", fuse);
-                parameters.put("is_mountpoint", is_mountpoint);
-                parameters.put("keyring", keyring);
-                parameters.put("krbd", krbd);
-                parameters.put("lio_tpg", lio_tpg);
-                parameters.put("master-pubkey", master_pubkey);
-                parameters.put("max-protected-backups", max_protected_backups);
-                parameters.put("maxfiles", maxfiles);
-                parameters.put("mkdir", mkdir);
-                parameters.put("monhost", monhost);
-                parameters.put("mountpoint", mountpoint);
-                parameters.put("namespace", namespace_);
-                parameters.put("nocow", nocow);
-                parameters.put("nodes", nodes);
-                parameters.put("nowritecache", nowritecache);
-                parameters.put("options", options);
-                parameters.put("password", password);
-                parameters.put("pool", pool);
-                parameters.put("port", port);
-                parameters.put("preallocation", preallocation);
-                parameters.put("prune-backups", prune_backups);
-                parameters.put("saferemove", saferemove);
-                parameters.put("saferemove_throughput", saferemove_throughput);
-                parameters.put("server", server);
-                parameters.put("server2", server2);
-                parameters.put("shared", shared);
-                parameters.put("smbversion", smbversion);
-                parameters.put("sparse", sparse);
-                parameters.put("subdir", subdir);
-                parameters.put("tagged_only", tagged_only);
-                parameters.put("transport", transport);
-                parameters.put("username", username);
-                return client.set("/storage/" + this.storage + "", parameters);
+                return Operations.SET_STORAGE_STORAGE.execute(client, Operations.SET_STORAGE_STORAGE.parameters(blocksize, bwlimit, comstar_hg, comstar_tg, content, content_dirs, create_base_path, create_subdirs, data_pool, delete, digest, disable, domain, encryption_key, fingerprint, format, fs_name, fuse, is_mountpoint, keyring, krbd, lio_tpg, master_pubkey, max_protected_backups, maxfiles, mkdir, monhost, mountpoint, namespace_, nocow, nodes, nowritecache, options, password, pool, port, preallocation, prune_backups, saferemove, saferemove_throughput, server, server2, shared, smbversion, sparse, subdir, tagged_only, transport, username), this.storage);
             }
 
             /**
@@ -19488,7 +19665,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result update() throws JSONException {
-                return client.set("/storage/" + this.storage + "", null);
+                return Operations.SET_STORAGE_STORAGE.execute(client, null, this.storage);
             }
 
         }
@@ -19502,9 +19679,7 @@ public class PveClient extends PveClientBase {
          * @throws JSONException
          */
         public Result index(String type) throws JSONException {
-            Map<String, Object> parameters = new HashMap<>();
-            parameters.put("type", type);
-            return client.get("/storage", parameters);
+            return Operations.GET_STORAGE.execute(client, Operations.GET_STORAGE.parameters(type));
         }
 
         /**
@@ -19515,7 +19690,7 @@ public class PveClient extends PveClientBase {
          */
 
         public Result index() throws JSONException {
-            return client.get("/storage", null);
+            return Operations.GET_STORAGE.execute(client, null);
         }
 
         /**
@@ -19615,69 +19790,7 @@ public class PveClient extends PveClientBase {
          */
 
         public Result create(String storage, String type, String authsupported, String base_, String blocksize, String bwlimit, String comstar_hg, String comstar_tg, String content, String content_dirs, Boolean create_base_path, Boolean create_subdirs, String data_pool, String datastore, Boolean disable, String domain, String encryption_key, String export, String fingerprint, String format, String fs_name, Boolean fuse, String is_mountpoint, String iscsiprovider, String keyring, Boolean krbd, String lio_tpg, String master_pubkey, Integer max_protected_backups, Integer maxfiles, Boolean mkdir, String monhost, String mountpoint, String namespace_, Boolean nocow, String nodes, Boolean nowritecache, String options, String password, String path, String pool, Integer port, String portal, String preallocation, String prune_backups, Boolean saferemove, String saferemove_throughput, String server, String server2, String share, Boolean shared, String smbversion, Boolean sparse, String subdir, Boolean tagged_only, String target, String thinpool, String transport, String username, String vgname, String volume) throws JSONException {
-            Map<String, Object> parameters = new HashMap<>();
-            parameters.put("storage", storage);
-            parameters.put("type", type);
-            parameters.put("authsupported", authsupported);
-            parameters.put("base", base_);
-            parameters.put("blocksize", blocksize);
-            parameters.put("bwlimit", bwlimit);
-            parameters.put("comstar_hg", comstar_hg);
-            parameters.put("comstar_tg", comstar_tg);
-            parameters.put("content", content);
-            parameters.put("content-dirs", content_dirs);
-            parameters.put("create-base-path", create_base_path);
-            parameters.put("create-subdirs", create_subdirs);
-            parameters.put("data-pool", data_pool);
-            parameters.put("datastore", datastore);
-            parameters.put("disable", disable);
-            parameters.put("domain", domain);
-            parameters.put("encryption-key", encryption_key);
-            parameters.put("export", export);
-            parameters.put("fingerprint", fingerprint);
-            parameters.put("format", format);
-            parameters.put("fs-name", fs_name);
-            parameters.put("fuse", fuse);
-            parameters.put("is_mountpoint", is_mountpoint);
-            parameters.put("iscsiprovider", iscsiprovider);
-            parameters.put("keyring", keyring);
-            parameters.put("krbd", krbd);
-            parameters.put("lio_tpg", lio_tpg);
-            parameters.put("master-pubkey", master_pubkey);
-            parameters.put("max-protected-backups", max_protected_backups);
-            parameters.put("maxfiles", maxfiles);
-            parameters.put("mkdir", mkdir);
-            parameters.put("monhost", monhost);
-            parameters.put("mountpoint", mountpoint);
-            parameters.put("namespace", namespace_);
-            parameters.put("nocow", nocow);
-            parameters.put("nodes", nodes);
-            parameters.put("nowritecache", nowritecache);
-            parameters.put("options", options);
-            parameters.put("password", password);
-            parameters.put("path", path);
-            parameters.put("pool", pool);
-            parameters.put("port", port);
-            parameters.put("portal", portal);
-            parameters.put("preallocation", preallocation);
-            parameters.put("prune-backups", prune_backups);
-            parameters.put("saferemove", saferemove);
-            parameters.put("saferemove_throughput", saferemove_throughput);
-            parameters.put("server", server);
-            parameters.put("server2", server2);
-            parameters.put("share", share);
-            parameters.put("shared", shared);
-            parameters.put("smbversion", smbversion);
-            parameters.put("sparse", sparse);
-            parameters.put("subdir", subdir);
-            parameters.put("tagged_only", tagged_only);
-            parameters.put("target", target);
-            parameters.put("thinpool", thinpool);
-            parameters.put("transport", transport);
-            parameters.put("username", username);
-            parameters.put("vgname", vgname);
-            parameters.put("volume", volume);
-            return client.create("/storage", parameters);
+            return Operations.CREATE_STORAGE.execute(client, Operations.CREATE_STORAGE.parameters(storage, type, authsupported, base_, blocksize, bwlimit, comstar_hg, comstar_tg, content, content_dirs, create_base_path, create_subdirs, data_pool, datastore, disable, domain, encryption_key, export, fingerprint, format, fs_name, fuse, is_mountpoint, iscsiprovider, keyring, krbd, lio_tpg, master_pubkey, max_protected_backups, maxfiles, mkdir, monhost, mountpoint, namespace_, nocow, nodes, nowritecache, options, password, path, pool, port, portal, preallocation, prune_backups, saferemove, saferemove_throughput, server, server2, share, shared, smbversion, sparse, subdir, tagged_only, target, thinpool, transport, username, vgname, volume));
         }
 
         /**
@@ -19691,10 +19804,7 @@ public class PveClient extends PveClientBase {
          */
 
         public Result create(String storage, String type) throws JSONException {
-            Map<String, Object> parameters = new HashMap<>();
-            parameters.put("storage", storage);
-            parameters.put("type", type);
-            return client.create("/storage", parameters);
+            return Operations.CREATE_STORAGE.execute(client, Operations.CREATE_STORAGE.parameters(storage, type));
         }
 
     }
@@ -19711,52 +19821,92 @@ public class PveClient extends PveClientBase {
         private PVEUsers users;
 
         public PVEUsers getUsers() {
-            return users == null ? (users = new PVEUsers(client)) : users;
+            PVEUsers instance = users;
+            if (instance == null) {
+                users = instance = new PVEUsers(client);
+            }
+            return instance;
         }
         private PVEGroups groups;
 
         public PVEGroups getGroups() {
-            return groups == null ? (groups = new PVEGroups(client)) : groups;
+            PVEGroups instance = groups;
+            if (instance == null) {
+                groups = instance = new PVEGroups(client);
+            }
+            return instance;
         }
         private PVERoles roles;
 
         public PVERoles getRoles() {
-            return roles == null ? (roles = new PVERoles(client)) : roles;
+            PVERoles instance = roles;
+            if (instance == null) {
+                roles = instance = new PVERoles(client);
+            }
+            return instance;
         }
         private PVEAcl acl;
 
         public PVEAcl getAcl() {
-            return acl == null ? (acl = new PVEAcl(client)) : acl;
+            PVEAcl instance = acl;
+            if (instance == null) {
+                acl = instance = new PVEAcl(client);
+            }
+            return instance;
         }
         private PVEDomains domains;
 
         public PVEDomains getDomains() {
-            return domains == null ? (domains = new PVEDomains(client)) : domains;
+            PVEDomains instance = domains;
+            if (instance == null) {
+                domains = instance = new PVEDomains(client);
+            }
+            return instance;
         }
         private PVEOpenid openid;
 
         public PVEOpenid getOpenid() {
-            return openid == null ? (openid = new PVEOpenid(client)) : openid;
+            PVEOpenid instance = openid;
+            if (instance == null) {
+                openid = instance = new PVEOpenid(client);
+            }
+            return instance;
         }
         private PVETfa tfa;
 
         public PVETfa getTfa() {
-            return tfa == null ? (tfa = new PVETfa(client)) : tfa;
+            PVETfa instance = tfa;
+            if (instance == null) {
+                tfa = instance = new PVETfa(client);
+            }
+            return instance;
         }
         private PVETicket ticket;
 
         public PVETicket getTicket() {
-            return ticket == null ? (ticket = new PVETicket(client)) : ticket;
+            PVETicket instance = ticket;
+            if (instance == null) {
+                ticket = instance = new PVETicket(client);
+            }
+            return instance;
         }
         private PVEPassword password;
 
         public PVEPassword getPassword() {
-            return password == null ? (password = new PVEPassword(client)) : password;
+            PVEPassword instance = password;
+            if (instance == null) {
+                password = instance = new PVEPassword(client);
+            }
+            return instance;
         }
         private PVEPermissions permissions;
 
         public PVEPermissions getPermissions() {
-            return permissions == null ? (permissions = new PVEPermissions(client)) : permissions;
+            PVEPermissions instance = permissions;
+            if (instance == null) {
+                permissions = instance = new PVEPermissions(client);
+            }
+            return instance;
         }
 
         public class PVEUsers {
@@ -19768,8 +19918,11 @@ public class PveClient extends PveClientBase {
 
             }
 
+            private final PveHandleCache<PVEUseridItem> handles = new PveHandleCache<>();
+
             public PVEUseridItem get(Object userid) {
-                return new PVEUseridItem(client, userid);
+                PVEUseridItem item = handles.get(userid);
+                return item != null ? item : handles.put(userid, new PVEUseridItem(client, userid));
             }
 
             public class PVEUseridItem {
@@ -19785,17 +19938,29 @@ public class PveClient extends PveClientBase {
                 private PVETfa tfa;
 
                 public PVETfa getTfa() {
-                    return tfa == null ? (tfa = new PVETfa(client, this.userid)) : tfa;
+                    PVETfa instance = tfa;
+                    if (instance == null) {
+                        tfa = instance = new PVETfa(client, this.userid);
+                    }
+                    return instance;
                 }
                 private PVEUnlockTfa unlockTfa;
 
                 public PVEUnlockTfa getUnlockTfa() {
-                    return unlockTfa == null ? (unlockTfa = new PVEUnlockTfa(client, this.userid)) : unlockTfa;
+                    PVEUnlockTfa instance = unlockTfa;
+                    if (instance == null) {
+                        unlockTfa = instance = new PVEUnlockTfa(client, this.userid);
+                    }
+                    return instance;
                 }
                 private PVEToken token;
 
                 public PVEToken getToken() {
-                    return token == null ? (token = new PVEToken(client, this.userid)) : token;
+                    PVEToken instance = token;
+                    if (instance == null) {
+                        token = instance = new PVEToken(client, this.userid);
+                    }
+                    return instance;
                 }
 
                 public class PVETfa {
@@ -19816,9 +19981,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result readUserTfaType(Boolean multiple) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("multiple", multiple);
-                        return client.get("/access/users/" + this.userid + "/tfa", parameters);
+                        return Operations.GET_ACCESS_USERS_USERID_TFA.execute(client, Operations.GET_ACCESS_USERS_USERID_TFA.parameters(multiple), this.userid);
                     }
 
                     /**
@@ -19829,7 +19992,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result readUserTfaType() throws JSONException {
-                        return client.get("/access/users/" + this.userid + "/tfa", null);
+                        return Operations.GET_ACCESS_USERS_USERID_TFA.execute(client, null, this.userid);
                     }
 
                 }
@@ -19851,7 +20014,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result unlockTfa() throws JSONException {
-                        return client.set("/access/users/" + this.userid + "/unlock-tfa", null);
+                        return Operations.SET_ACCESS_USERS_USERID_UNLOCK_TFA.execute(client, null, this.userid);
                     }
 
                 }
@@ -19866,8 +20029,11 @@ public class PveClient extends PveClientBase {
                         this.userid = userid;
                     }
 
+                    private final PveHandleCache<PVETokenidItem> handles = new PveHandleCache<>();
+
                     public PVETokenidItem get(Object tokenid) {
-                        return new PVETokenidItem(client, this.userid, tokenid);
+                        PVETokenidItem item = handles.get(tokenid);
+                        return item != null ? item : handles.put(tokenid, new PVETokenidItem(client, this.userid, tokenid));
                     }
 
                     public class PVETokenidItem {
@@ -19889,7 +20055,7 @@ public class PveClient extends PveClientBase {
                          * @throws JSONException
                          */
                         public Result removeToken() throws JSONException {
-                            return client.delete("/access/users/" + this.userid + "/token/" + this.tokenid + "", null);
+                            return Operations.DELETE_ACCESS_USERS_USERID_TOKEN_TOKENID.execute(client, null, this.userid, this.tokenid);
                         }
 
                         /**
@@ -19900,7 +20066,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result readToken() throws JSONException {
-                            return client.get("/access/users/" + this.userid + "/token/" + this.tokenid + "", null);
+                            return Operations.GET_ACCESS_USERS_USERID_TOKEN_TOKENID.execute(client, null, this.userid, this.tokenid);
                         }
 
                         /**
@@ -19919,11 +20085,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result generateToken(String comment, Integer expire, Boolean privsep) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("comment", comment);
-                            parameters.put("expire", expire);
-                            parameters.put("privsep", privsep);
-                            return client.create("/access/users/" + this.userid + "/token/" + this.tokenid + "", parameters);
+                            return Operations.CREATE_ACCESS_USERS_USERID_TOKEN_TOKENID.execute(client, Operations.CREATE_ACCESS_USERS_USERID_TOKEN_TOKENID.parameters(comment, expire, privsep), this.userid, this.tokenid);
                         }
 
                         /**
@@ -19936,7 +20098,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result generateToken() throws JSONException {
-                            return client.create("/access/users/" + this.userid + "/token/" + this.tokenid + "", null);
+                            return Operations.CREATE_ACCESS_USERS_USERID_TOKEN_TOKENID.execute(client, null, this.userid, this.tokenid);
                         }
 
                         /**
@@ -19953,11 +20115,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result updateTokenInfo(String comment, Integer expire, Boolean privsep) throws JSONException {
-                            Map<String, Object> parameters = new HashMap<>();
-                            parameters.put("comment", comment);
-                            parameters.put("expire", expire);
-                            parameters.put("privsep", privsep);
-                            return client.set("/access/users/" + this.userid + "/token/" + this.tokenid + "", parameters);
+                            return Operations.SET_ACCESS_USERS_USERID_TOKEN_TOKENID.execute(client, Operations.SET_ACCESS_USERS_USERID_TOKEN_TOKENID.parameters(comment, expire, privsep), this.userid, this.tokenid);
                         }
 
                         /**
@@ -19968,7 +20126,7 @@ public class PveClient extends PveClientBase {
                          */
 
                         public Result updateTokenInfo() throws JSONException {
-                            return client.set("/access/users/" + this.userid + "/token/" + this.tokenid + "", null);
+                            return Operations.SET_ACCESS_USERS_USERID_TOKEN_TOKENID.execute(client, null, this.userid, this.tokenid);
                         }
 
                     }
@@ -19980,7 +20138,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result tokenIndex() throws JSONException {
-                        return client.get("/access/users/" + this.userid + "/token", null);
+                        return Operations.GET_ACCESS_USERS_USERID_TOKEN.execute(client, null, this.userid);
                     }
 
                 }
@@ -19992,7 +20150,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result deleteUser() throws JSONException {
-                    return client.delete("/access/users/" + this.userid + "", null);
+                    return Operations.DELETE_ACCESS_USERS_USERID.execute(client, null, this.userid);
                 }
 
                 /**
@@ -20003,7 +20161,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result readUser() throws JSONException {
-                    return client.get("/access/users/" + this.userid + "", null);
+                    return Operations.GET_ACCESS_USERS_USERID.execute(client, null, this.userid);
                 }
 
                 /**
@@ -20025,17 +20183,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result updateUser(Boolean append, String comment, String email, Boolean enable, Integer expire, String firstname, String groups, String keys, String lastname) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("append", append);
-                    parameters.put("comment", comment);
-                    parameters.put("email", email);
-                    parameters.put("enable", enable);
-                    parameters.put("expire", expire);
-                    parameters.put("firstname", firstname);
-                    parameters.put("groups", groups);
-                    parameters.put("keys", keys);
-                    parameters.put("lastname", lastname);
-                    return client.set("/access/users/" + this.userid + "", parameters);
+                    return Operations.SET_ACCESS_USERS_USERID.execute(client, Operations.SET_ACCESS_USERS_USERID.parameters(append, comment, email, enable, expire, firstname, groups, keys, lastname), this.userid);
                 }
 
                 /**
@@ -20046,7 +20194,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result updateUser() throws JSONException {
-                    return client.set("/access/users/" + this.userid + "", null);
+                    return Operations.SET_ACCESS_USERS_USERID.execute(client, null, this.userid);
                 }
 
             }
@@ -20060,10 +20208,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index(Boolean enabled, Boolean full) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("enabled", enabled);
-                parameters.put("full", full);
-                return client.get("/access/users", parameters);
+                return Operations.GET_ACCESS_USERS.execute(client, Operations.GET_ACCESS_USERS.parameters(enabled, full));
             }
 
             /**
@@ -20074,7 +20219,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result index() throws JSONException {
-                return client.get("/access/users", null);
+                return Operations.GET_ACCESS_USERS.execute(client, null);
             }
 
             /**
@@ -20097,18 +20242,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result createUser(String userid, String comment, String email, Boolean enable, Integer expire, String firstname, String groups, String keys, String lastname, String password) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("userid", userid);
-                parameters.put("comment", comment);
-                parameters.put("email", email);
-                parameters.put("enable", enable);
-                parameters.put("expire", expire);
-                parameters.put("firstname", firstname);
-                parameters.put("groups", groups);
-                parameters.put("keys", keys);
-                parameters.put("lastname", lastname);
-                parameters.put("password", password);
-                return client.create("/access/users", parameters);
+                return Operations.CREATE_ACCESS_USERS.execute(client, Operations.CREATE_ACCESS_USERS.parameters(userid, comment, email, enable, expire, firstname, groups, keys, lastname, password));
             }
 
             /**
@@ -20120,9 +20254,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result createUser(String userid) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("userid", userid);
-                return client.create("/access/users", parameters);
+                return Operations.CREATE_ACCESS_USERS.execute(client, Operations.CREATE_ACCESS_USERS.parameters(userid));
             }
 
         }
@@ -20136,8 +20268,11 @@ public class PveClient extends PveClientBase {
 
             }
 
+            private final PveHandleCache<PVEGroupidItem> handles = new PveHandleCache<>();
+
             public PVEGroupidItem get(Object groupid) {
-                return new PVEGroupidItem(client, groupid);
+                PVEGroupidItem item = handles.get(groupid);
+                return item != null ? item : handles.put(groupid, new PVEGroupidItem(client, groupid));
             }
 
             public class PVEGroupidItem {
@@ -20157,7 +20292,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result deleteGroup() throws JSONException {
-                    return client.delete("/access/groups/" + this.groupid + "", null);
+                    return Operations.DELETE_ACCESS_GROUPS_GROUPID.execute(client, null, this.groupid);
                 }
 
                 /**
@@ -20168,7 +20303,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result readGroup() throws JSONException {
-                    return client.get("/access/groups/" + this.groupid + "", null);
+                    return Operations.GET_ACCESS_GROUPS_GROUPID.execute(client, null, this.groupid);
                 }
 
                 /**
@@ -20180,9 +20315,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result updateGroup(String comment) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("comment", comment);
-                    return client.set("/access/groups/" + this.groupid + "", parameters);
+                    return Operations.SET_ACCESS_GROUPS_GROUPID.execute(client, Operations.SET_ACCESS_GROUPS_GROUPID.parameters(comment), this.groupid);
                 }
 
                 /**
@@ -20193,7 +20326,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result updateGroup() throws JSONException {
-                    return client.set("/access/groups/" + this.groupid + "", null);
+                    return Operations.SET_ACCESS_GROUPS_GROUPID.execute(client, null, this.groupid);
                 }
 
             }
@@ -20205,7 +20338,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/access/groups", null);
+                return Operations.GET_ACCESS_GROUPS.execute(client, null);
             }
 
             /**
@@ -20218,10 +20351,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result createGroup(String groupid, String comment) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("groupid", groupid);
-                parameters.put("comment", comment);
-                return client.create("/access/groups", parameters);
+                return Operations.CREATE_ACCESS_GROUPS.execute(client, Operations.CREATE_ACCESS_GROUPS.parameters(groupid, comment));
             }
 
             /**
@@ -20233,9 +20363,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result createGroup(String groupid) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("groupid", groupid);
-                return client.create("/access/groups", parameters);
+                return Operations.CREATE_ACCESS_GROUPS.execute(client, Operations.CREATE_ACCESS_GROUPS.parameters(groupid));
             }
 
         }
@@ -20249,8 +20377,11 @@ public class PveClient extends PveClientBase {
 
             }
 
+            private final PveHandleCache<PVERoleidItem> handles = new PveHandleCache<>();
+
             public PVERoleidItem get(Object roleid) {
-                return new PVERoleidItem(client, roleid);
+                PVERoleidItem item = handles.get(roleid);
+                return item != null ? item : handles.put(roleid, new PVERoleidItem(client, roleid));
             }
 
             public class PVERoleidItem {
@@ -20270,7 +20401,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result deleteRole() throws JSONException {
-                    return client.delete("/access/roles/" + this.roleid + "", null);
+                    return Operations.DELETE_ACCESS_ROLES_ROLEID.execute(client, null, this.roleid);
                 }
 
                 /**
@@ -20281,7 +20412,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result readRole() throws JSONException {
-                    return client.get("/access/roles/" + this.roleid + "", null);
+                    return Operations.GET_ACCESS_ROLES_ROLEID.execute(client, null, this.roleid);
                 }
 
                 /**
@@ -20294,10 +20425,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result updateRole(Boolean append, String privs) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("append", append);
-                    parameters.put("privs", privs);
-                    return client.set("/access/roles/" + this.roleid + "", parameters);
+                    return Operations.SET_ACCESS_ROLES_ROLEID.execute(client, Operations.SET_ACCESS_ROLES_ROLEID.parameters(append, privs), this.roleid);
                 }
 
                 /**
@@ -20308,7 +20436,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result updateRole() throws JSONException {
-                    return client.set("/access/roles/" + this.roleid + "", null);
+                    return Operations.SET_ACCESS_ROLES_ROLEID.execute(client, null, this.roleid);
                 }
 
             }
@@ -20320,7 +20448,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/access/roles", null);
+                return Operations.GET_ACCESS_ROLES.execute(client, null);
             }
 
             /**
@@ -20333,10 +20461,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result createRole(String roleid, String privs) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("roleid", roleid);
-                parameters.put("privs", privs);
-                return client.create("/access/roles", parameters);
+                return Operations.CREATE_ACCESS_ROLES.execute(client, Operations.CREATE_ACCESS_ROLES.parameters(roleid, privs));
             }
 
             /**
@@ -20348,9 +20473,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result createRole(String roleid) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("roleid", roleid);
-                return client.create("/access/roles", parameters);
+                return Operations.CREATE_ACCESS_ROLES.execute(client, Operations.CREATE_ACCESS_ROLES.parameters(roleid));
             }
 
         }
@@ -20371,7 +20494,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result readAcl() throws JSONException {
-                return client.get("/access/acl", null);
+                return Operations.GET_ACCESS_ACL.execute(client, null);
             }
 
             /**
@@ -20389,15 +20512,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result updateAcl(String path, String roles, Boolean delete, String groups, Boolean propagate, String tokens, String users) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("path", path);
-                parameters.put("roles", roles);
-                parameters.put("delete", delete);
-                parameters.put("groups", groups);
-                parameters.put("propagate", propagate);
-                parameters.put("tokens", tokens);
-                parameters.put("users", users);
-                return client.set("/access/acl", parameters);
+                return Operations.SET_ACCESS_ACL.execute(client, Operations.SET_ACCESS_ACL.parameters(path, roles, delete, groups, propagate, tokens, users));
             }
 
             /**
@@ -20410,10 +20525,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result updateAcl(String path, String roles) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("path", path);
-                parameters.put("roles", roles);
-                return client.set("/access/acl", parameters);
+                return Operations.SET_ACCESS_ACL.execute(client, Operations.SET_ACCESS_ACL.parameters(path, roles));
             }
 
         }
@@ -20427,8 +20539,11 @@ public class PveClient extends PveClientBase {
 
             }
 
+            private final PveHandleCache<PVERealmItem> handles = new PveHandleCache<>();
+
             public PVERealmItem get(Object realm) {
-                return new PVERealmItem(client, realm);
+                PVERealmItem item = handles.get(realm);
+                return item != null ? item : handles.put(realm, new PVERealmItem(client, realm));
             }
 
             public class PVERealmItem {
@@ -20444,7 +20559,11 @@ public class PveClient extends PveClientBase {
                 private PVESync sync;
 
                 public PVESync getSync() {
-                    return sync == null ? (sync = new PVESync(client, this.realm)) : sync;
+                    PVESync instance = sync;
+                    if (instance == null) {
+                        sync = instance = new PVESync(client, this.realm);
+                    }
+                    return instance;
                 }
 
                 public class PVESync {
@@ -20488,14 +20607,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result sync(Boolean dry_run, Boolean enable_new, Boolean full, Boolean purge, String remove_vanished, String scope) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("dry-run", dry_run);
-                        parameters.put("enable-new", enable_new);
-                        parameters.put("full", full);
-                        parameters.put("purge", purge);
-                        parameters.put("remove-vanished", remove_vanished);
-                        parameters.put("scope", scope);
-                        return client.create("/access/domains/" + this.realm + "/sync", parameters);
+                        return Operations.CREATE_ACCESS_DOMAINS_REALM_SYNC.execute(client, Operations.CREATE_ACCESS_DOMAINS_REALM_SYNC.parameters(dry_run, enable_new, full, purge, remove_vanished, scope), this.realm);
                     }
 
                     /**
@@ -20509,7 +20621,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result sync() throws JSONException {
-                        return client.create("/access/domains/" + this.realm + "/sync", null);
+                        return Operations.CREATE_ACCESS_DOMAINS_REALM_SYNC.execute(client, null, this.realm);
                     }
 
                 }
@@ -20521,7 +20633,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result delete() throws JSONException {
-                    return client.delete("/access/domains/" + this.realm + "", null);
+                    return Operations.DELETE_ACCESS_DOMAINS_REALM.execute(client, null, this.realm);
                 }
 
                 /**
@@ -20532,7 +20644,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result read() throws JSONException {
-                    return client.get("/access/domains/" + this.realm + "", null);
+                    return Operations.GET_ACCESS_DOMAINS_REALM.execute(client, null, this.realm);
                 }
 
                 /**
@@ -20599,44 +20711,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result update(String acr_values, Boolean autocreate, String base_dn, String bind_dn, String capath, Boolean case_sensitive, String cert, String certkey, String client_id, String client_key, String comment, Boolean default_, String delete, String digest, String domain, String filter, String group_classes, String group_dn, String group_filter, String group_name_attr, String issuer_url, String mode, String password, Integer port, String prompt, String scopes, Boolean secure, String server1, String server2, String sslversion, String sync_defaults_options, String sync_attributes, String tfa, String user_attr, String user_classes, Boolean verify) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("acr-values", acr_values);
-                    parameters.put("autocreate", autocreate);
-                    parameters.put("base_dn", base_dn);
-                    parameters.put("bind_dn", bind_dn);
-                    parameters.put("capath", capath);
-                    parameters.put("case-sensitive", case_sensitive);
-                    parameters.put("cert", cert);
-                    parameters.put("certkey", certkey);
-                    parameters.put("client-id", client_id);
-                    parameters.put("client-key", client_key);
-                    parameters.put("comment", comment);
-                    parameters.put("default", default_);
-                    parameters.put("delete", delete);
-                    parameters.put("digest", digest);
-                    parameters.put("domain", domain);
-                    parameters.put("filter", filter);
-                    parameters.put("group_classes", group_classes);
-                    parameters.put("group_dn", group_dn);
-                    parameters.put("group_filter", group_filter);
-                    parameters.put("group_name_attr", group_name_attr);
-                    parameters.put("issuer-url", issuer_url);
-                    parameters.put("mode", mode);
-                    parameters.put("password", password);
-                    parameters.put("port", port);
-                    parameters.put("prompt", prompt);
-                    parameters.put("scopes", scopes);
-                    parameters.put("secure", secure);
-                    parameters.put("server1", server1);
-                    parameters.put("server2", server2);
-                    parameters.put("sslversion", sslversion);
-                    parameters.put("sync-defaults-options", sync_defaults_options);
-                    parameters.put("sync_attributes", sync_attributes);
-                    parameters.put("tfa", tfa);
-                    parameters.put("user_attr", user_attr);
-                    parameters.put("user_classes", user_classes);
-                    parameters.put("verify", verify);
-                    return client.set("/access/domains/" + this.realm + "", parameters);
+                    return Operations.SET_ACCESS_DOMAINS_REALM.execute(client, Operations.SET_ACCESS_DOMAINS_REALM.parameters(acr_values, autocreate, base_dn, bind_dn, capath, case_sensitive, cert, certkey, client_id, client_key, comment, default_, delete, digest, domain, filter, group_classes, group_dn, group_filter, group_name_attr, issuer_url, mode, password, port, prompt, scopes, secure, server1, server2, sslversion, sync_defaults_options, sync_attributes, tfa, user_attr, user_classes, verify), this.realm);
                 }
 
                 /**
@@ -20647,7 +20722,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result update() throws JSONException {
-                    return client.set("/access/domains/" + this.realm + "", null);
+                    return Operations.SET_ACCESS_DOMAINS_REALM.execute(client, null, this.realm);
                 }
 
             }
@@ -20659,7 +20734,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/access/domains", null);
+                return Operations.GET_ACCESS_DOMAINS.execute(client, null);
             }
 
             /**
@@ -20724,45 +20799,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result create(String realm, String type, String acr_values, Boolean autocreate, String base_dn, String bind_dn, String capath, Boolean case_sensitive, String cert, String certkey, String client_id, String client_key, String comment, Boolean default_, String domain, String filter, String group_classes, String group_dn, String group_filter, String group_name_attr, String issuer_url, String mode, String password, Integer port, String prompt, String scopes, Boolean secure, String server1, String server2, String sslversion, String sync_defaults_options, String sync_attributes, String tfa, String user_attr, String user_classes, String username_claim, Boolean verify) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("realm", realm);
-                parameters.put("type", type);
-                parameters.put("acr-values", acr_values);
-                parameters.put("autocreate", autocreate);
-                parameters.put("base_dn", base_dn);
-                parameters.put("bind_dn", bind_dn);
-                parameters.put("capath", capath);
-                parameters.put("case-sensitive", case_sensitive);
-                parameters.put("cert", cert);
-                parameters.put("certkey", certkey);
-                parameters.put("client-id", client_id);
-                parameters.put("client-key", client_key);
-                parameters.put("comment", comment);
-                parameters.put("default", default_);
-                parameters.put("domain", domain);
-                parameters.put("filter", filter);
-                parameters.put("group_classes", group_classes);
-                parameters.put("group_dn", group_dn);
-                parameters.put("group_filter", group_filter);
-                parameters.put("group_name_attr", group_name_attr);
-                parameters.put("issuer-url", issuer_url);
-                parameters.put("mode", mode);
-                parameters.put("password", password);
-                parameters.put("port", port);
-                parameters.put("prompt", prompt);
-                parameters.put("scopes", scopes);
-                parameters.put("secure", secure);
-                parameters.put("server1", server1);
-                parameters.put("server2", server2);
-                parameters.put("sslversion", sslversion);
-                parameters.put("sync-defaults-options", sync_defaults_options);
-                parameters.put("sync_attributes", sync_attributes);
-                parameters.put("tfa", tfa);
-                parameters.put("user_attr", user_attr);
-                parameters.put("user_classes", user_classes);
-                parameters.put("username-claim", username_claim);
-                parameters.put("verify", verify);
-                return client.create("/access/domains", parameters);
+                return Operations.CREATE_ACCESS_DOMAINS.execute(client, Operations.CREATE_ACCESS_DOMAINS.parameters(realm, type, acr_values, autocreate, base_dn, bind_dn, capath, case_sensitive, cert, certkey, client_id, client_key, comment, default_, domain, filter, group_classes, group_dn, group_filter, group_name_attr, issuer_url, mode, password, port, prompt, scopes, secure, server1, server2, sslversion, sync_defaults_options, sync_attributes, tfa, user_attr, user_classes, username_claim, verify));
             }
 
             /**
@@ -20775,10 +20812,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result create(String realm, String type) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("realm", realm);
-                parameters.put("type", type);
-                return client.create("/access/domains", parameters);
+                return Operations.CREATE_ACCESS_DOMAINS.execute(client, Operations.CREATE_ACCESS_DOMAINS.parameters(realm, type));
             }
 
         }
@@ -20795,12 +20829,20 @@ public class PveClient extends PveClientBase {
             private PVEAuthUrl authUrl;
 
             public PVEAuthUrl getAuthUrl() {
-                return authUrl == null ? (authUrl = new PVEAuthUrl(client)) : authUrl;
+                PVEAuthUrl instance = authUrl;
+                if (instance == null) {
+                    authUrl = instance = new PVEAuthUrl(client);
+                }
+                return instance;
             }
             private PVELogin login;
 
             public PVELogin getLogin() {
-                return login == null ? (login = new PVELogin(client)) : login;
+                PVELogin instance = login;
+                if (instance == null) {
+                    login = instance = new PVELogin(client);
+                }
+                return instance;
             }
 
             public class PVEAuthUrl {
@@ -20822,10 +20864,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result authUrl(String realm, String redirect_url) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("realm", realm);
-                    parameters.put("redirect-url", redirect_url);
-                    return client.create("/access/openid/auth-url", parameters);
+                    return Operations.CREATE_ACCESS_OPENID_AUTH_URL.execute(client, Operations.CREATE_ACCESS_OPENID_AUTH_URL.parameters(realm, redirect_url));
                 }
 
             }
@@ -20850,11 +20889,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result login(String code, String redirect_url, String state) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("code", code);
-                    parameters.put("redirect-url", redirect_url);
-                    parameters.put("state", state);
-                    return client.create("/access/openid/login", parameters);
+                    return Operations.CREATE_ACCESS_OPENID_LOGIN.execute(client, Operations.CREATE_ACCESS_OPENID_LOGIN.parameters(code, redirect_url, state));
                 }
 
             }
@@ -20866,7 +20901,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result index() throws JSONException {
-                return client.get("/access/openid", null);
+                return Operations.GET_ACCESS_OPENID.execute(client, null);
             }
 
         }
@@ -20880,8 +20915,11 @@ public class PveClient extends PveClientBase {
 
             }
 
+            private final PveHandleCache<PVEUseridItem> handles = new PveHandleCache<>();
+
             public PVEUseridItem get(Object userid) {
-                return new PVEUseridItem(client, userid);
+                PVEUseridItem item = handles.get(userid);
+                return item != null ? item : handles.put(userid, new PVEUseridItem(client, userid));
             }
 
             public class PVEUseridItem {
@@ -20894,8 +20932,11 @@ public class PveClient extends PveClientBase {
                     this.userid = userid;
                 }
 
+                private final PveHandleCache<PVEIdItem> handles = new PveHandleCache<>();
+
                 public PVEIdItem get(Object id) {
-                    return new PVEIdItem(client, this.userid, id);
+                    PVEIdItem item = handles.get(id);
+                    return item != null ? item : handles.put(id, new PVEIdItem(client, this.userid, id));
                 }
 
                 public class PVEIdItem {
@@ -20918,9 +20959,7 @@ public class PveClient extends PveClientBase {
                      * @throws JSONException
                      */
                     public Result deleteTfa(String password) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("password", password);
-                        return client.delete("/access/tfa/" + this.userid + "/" + this.id + "", parameters);
+                        return Operations.DELETE_ACCESS_TFA_USERID_ID.execute(client, Operations.DELETE_ACCESS_TFA_USERID_ID.parameters(password), this.userid, this.id);
                     }
 
                     /**
@@ -20931,7 +20970,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result deleteTfa() throws JSONException {
-                        return client.delete("/access/tfa/" + this.userid + "/" + this.id + "", null);
+                        return Operations.DELETE_ACCESS_TFA_USERID_ID.execute(client, null, this.userid, this.id);
                     }
 
                     /**
@@ -20942,7 +20981,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result getTfaEntry() throws JSONException {
-                        return client.get("/access/tfa/" + this.userid + "/" + this.id + "", null);
+                        return Operations.GET_ACCESS_TFA_USERID_ID.execute(client, null, this.userid, this.id);
                     }
 
                     /**
@@ -20958,11 +20997,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateTfaEntry(String description, Boolean enable, String password) throws JSONException {
-                        Map<String, Object> parameters = new HashMap<>();
-                        parameters.put("description", description);
-                        parameters.put("enable", enable);
-                        parameters.put("password", password);
-                        return client.set("/access/tfa/" + this.userid + "/" + this.id + "", parameters);
+                        return Operations.SET_ACCESS_TFA_USERID_ID.execute(client, Operations.SET_ACCESS_TFA_USERID_ID.parameters(description, enable, password), this.userid, this.id);
                     }
 
                     /**
@@ -20973,7 +21008,7 @@ public class PveClient extends PveClientBase {
                      */
 
                     public Result updateTfaEntry() throws JSONException {
-                        return client.set("/access/tfa/" + this.userid + "/" + this.id + "", null);
+                        return Operations.SET_ACCESS_TFA_USERID_ID.execute(client, null, this.userid, this.id);
                     }
 
                 }
@@ -20985,7 +21020,7 @@ public class PveClient extends PveClientBase {
                  * @throws JSONException
                  */
                 public Result listUserTfa() throws JSONException {
-                    return client.get("/access/tfa/" + this.userid + "", null);
+                    return Operations.GET_ACCESS_TFA_USERID.execute(client, null, this.userid);
                 }
 
                 /**
@@ -21006,14 +21041,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result addTfaEntry(String type, String challenge, String description, String password, String totp, String value) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("type", type);
-                    parameters.put("challenge", challenge);
-                    parameters.put("description", description);
-                    parameters.put("password", password);
-                    parameters.put("totp", totp);
-                    parameters.put("value", value);
-                    return client.create("/access/tfa/" + this.userid + "", parameters);
+                    return Operations.CREATE_ACCESS_TFA_USERID.execute(client, Operations.CREATE_ACCESS_TFA_USERID.parameters(type, challenge, description, password, totp, value), this.userid);
                 }
 
                 /**
@@ -21026,9 +21054,7 @@ public class PveClient extends PveClientBase {
                  */
 
                 public Result addTfaEntry(String type) throws JSONException {
-                    Map<String, Object> parameters = new HashMap<>();
-                    parameters.put("type", type);
-                    return client.create("/access/tfa/" + this.userid + "", parameters);
+                    return Operations.CREATE_ACCESS_TFA_USERID.execute(client, Operations.CREATE_ACCESS_TFA_USERID.parameters(type), this.userid);
                 }
 
             }
@@ -21040,7 +21066,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result listTfa() throws JSONException {
-                return client.get("/access/tfa", null);
+                return Operations.GET_ACCESS_TFA.execute(client, null);
             }
 
         }
@@ -21061,7 +21087,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result getTicket() throws JSONException {
-                return client.get("/access/ticket", null);
+                return Operations.GET_ACCESS_TICKET.execute(client, null);
             }
 
             /**
@@ -21087,16 +21113,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result createTicket(String password, String username, Boolean new_format, String otp, String path, String privs, String realm, String tfa_challenge) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("password", password);
-                parameters.put("username", username);
-                parameters.put("new-format", new_format);
-                parameters.put("otp", otp);
-                parameters.put("path", path);
-                parameters.put("privs", privs);
-                parameters.put("realm", realm);
-                parameters.put("tfa-challenge", tfa_challenge);
-                return client.create("/access/ticket", parameters);
+                return Operations.CREATE_ACCESS_TICKET.execute(client, Operations.CREATE_ACCESS_TICKET.parameters(password, username, new_format, otp, path, privs, realm, tfa_challenge));
             }
 
             /**
@@ -21110,10 +21127,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result createTicket(String password, String username) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("password", password);
-                parameters.put("username", username);
-                return client.create("/access/ticket", parameters);
+                return Operations.CREATE_ACCESS_TICKET.execute(client, Operations.CREATE_ACCESS_TICKET.parameters(password, username));
             }
 
         }
@@ -21136,10 +21150,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result changePassword(String password, String userid) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("password", password);
-                parameters.put("userid", userid);
-                return client.set("/access/password", parameters);
+                return Operations.SET_ACCESS_PASSWORD.execute(client, Operations.SET_ACCESS_PASSWORD.parameters(password, userid));
             }
 
         }
@@ -21162,10 +21173,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result permissions(String path, String userid) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("path", path);
-                parameters.put("userid", userid);
-                return client.get("/access/permissions", parameters);
+                return Operations.GET_ACCESS_PERMISSIONS.execute(client, Operations.GET_ACCESS_PERMISSIONS.parameters(path, userid));
             }
 
             /**
@@ -21176,7 +21184,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result permissions() throws JSONException {
-                return client.get("/access/permissions", null);
+                return Operations.GET_ACCESS_PERMISSIONS.execute(client, null);
             }
 
         }
@@ -21188,7 +21196,7 @@ public class PveClient extends PveClientBase {
          * @throws JSONException
          */
         public Result index() throws JSONException {
-            return client.get("/access", null);
+            return Operations.GET_ACCESS.execute(client, null);
         }
 
     }
@@ -21202,8 +21210,11 @@ public class PveClient extends PveClientBase {
 
         }
 
+        private final PveHandleCache<PVEPoolidItem> handles = new PveHandleCache<>();
+
         public PVEPoolidItem get(Object poolid) {
-            return new PVEPoolidItem(client, poolid);
+            PVEPoolidItem item = handles.get(poolid);
+            return item != null ? item : handles.put(poolid, new PVEPoolidItem(client, poolid));
         }
 
         public class PVEPoolidItem {
@@ -21223,7 +21234,7 @@ public class PveClient extends PveClientBase {
              * @throws JSONException
              */
             public Result deletePool() throws JSONException {
-                return client.delete("/pools/" + this.poolid + "", null);
+                return Operations.DELETE_POOLS_POOLID.execute(client, null, this.poolid);
             }
 
             /**
@@ -21235,9 +21246,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result readPool(String type) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("type", type);
-                return client.get("/pools/" + this.poolid + "", parameters);
+                return Operations.GET_POOLS_POOLID.execute(client, Operations.GET_POOLS_POOLID.parameters(type), this.poolid);
             }
 
             /**
@@ -21248,7 +21257,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result readPool() throws JSONException {
-                return client.get("/pools/" + this.poolid + "", null);
+                return Operations.GET_POOLS_POOLID.execute(client, null, this.poolid);
             }
 
             /**
@@ -21263,12 +21272,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result updatePool(String comment, Boolean delete, String storage, String vms) throws JSONException {
-                Map<String, Object> parameters = new HashMap<>();
-                parameters.put("comment", comment);
-                parameters.put("delete", delete);
-                parameters.put("storage", storage);
-                parameters.put("vms", vms);
-                return client.set("/pools/" + this.poolid + "", parameters);
+                return Operations.SET_POOLS_POOLID.execute(client, Operations.SET_POOLS_POOLID.parameters(comment, delete, storage, vms), this.poolid);
             }
 
             /**
@@ -21279,7 +21283,7 @@ public class PveClient extends PveClientBase {
              */
 
             public Result updatePool() throws JSONException {
-                return client.set("/pools/" + this.poolid + "", null);
+                return Operations.SET_POOLS_POOLID.execute(client, null, this.poolid);
             }
 
         }
@@ -21291,7 +21295,7 @@ public class PveClient extends PveClientBase {
          * @throws JSONException
          */
         public Result index() throws JSONException {
-            return client.get("/pools", null);
+            return Operations.GET_POOLS.execute(client, null);
         }
 
         /**
@@ -21304,10 +21308,7 @@ public class PveClient extends PveClientBase {
          */
 
         public Result createPool(String poolid, String comment) throws JSONException {
-            Map<String, Object> parameters = new HashMap<>();
-            parameters.put("poolid", poolid);
-            parameters.put("comment", comment);
-            return client.create("/pools", parameters);
+            return Operations.CREATE_POOLS.execute(client, Operations.CREATE_POOLS.parameters(poolid, comment));
         }
 
         /**
@@ -21319,9 +21320,7 @@ public class PveClient extends PveClientBase {
          */
 
         public Result createPool(String poolid) throws JSONException {
-            Map<String, Object> parameters = new HashMap<>();
-            parameters.put("poolid", poolid);
-            return client.create("/pools", parameters);
+            return Operations.CREATE_POOLS.execute(client, Operations.CREATE_POOLS.parameters(poolid));
         }
 
     }
@@ -21343,7 +21342,7 @@ public class PveClient extends PveClientBase {
          * @throws JSONException
          */
         public Result version() throws JSONException {
-            return client.get("/version", null);
+            return Operations.GET_VERSION.execute(client, null);
         }
 
     }
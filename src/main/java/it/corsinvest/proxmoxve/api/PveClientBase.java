@@ -4,52 +4,135 @@
  */
 package it.corsinvest.proxmoxve.api;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.lang.ref.WeakReference;
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.net.URLEncoder;
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.X509Certificate;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSession;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
+import java.util.regex.Pattern;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
 /**
  * Proxmox VE Client Base
+ *
+ * The client is thread safe: one instance, and one login, can be shared by
+ * many threads. The ticket is published atomically, requests in progress keep
+ * the ticket they started with.
+ *
+ * The ticket of login expires after two hours, it is renewed in background
+ * by the first request made after the renewal time (see setTicketRenewAfter),
+ * concurrent requests share the same renewal.
  */
 public class PveClientBase {
 
-    private String _ticketCSRFPreventionToken;
-    private String _ticketPVEAuthCookie;
+    /**
+     * Threads of the shared executor: four times the connections kept alive
+     * for each host, at least 16.
+     */
+    public static final int DEFAULT_EXECUTOR_THREADS = Math.max(16, 4 * PveConnectionPool.getMaxIdleConnectionsPerHost());
+
+    /**
+     * Calls waiting in the queue of the shared executor, with a full queue a
+     * call runs in the calling thread.
+     */
+    public static final int DEFAULT_EXECUTOR_QUEUE = 1024;
+
+    private static final String TICKET_RESOURCE = "/access/ticket";
+    private static final long TICKET_LIFETIME = 2 * 60 * 60 * 1000L;
+    private static final long TICKET_RENEWAL_RETRY = 30 * 1000L;
+    private static final long NODE_DISCOVERY_INTERVAL = 5 * 60 * 1000L;
+    private static final long ENDPOINT_DOWN_TIME = 30 * 1000L;
+    private static final String HEALTH_CHECK_RESOURCE = "/version";
+    private static final Pattern CONFIG_RESOURCE = Pattern.compile("/nodes/[^/]+/(qemu|lxc)/[^/]+/config");
+
+    private final AtomicReference<Ticket> _ticket = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Boolean>> _ticketRenewal = new AtomicReference<>();
+    private final AtomicLong _ticketRenewals = new AtomicLong();
+    private final AtomicLong _ticketRenewalFailures = new AtomicLong();
+    private volatile long _ticketRenewalFailedAt;
+    private volatile long _ticketRenewAfter = 60 * 60 * 1000L;
     private final String _hostname;
     private final int _port;
-    private int _timeout = 10000;
-    private int _debugLevel;
-    private Result _lastResult;
-    private ResponseType _responseType = ResponseType.JSON;
-    private String _apiToken;
+    private volatile int _timeout = 10000;
+    private volatile int _debugLevel;
+    private volatile boolean _trackLastResult = true;
+    private volatile Result _lastResult;
+    private volatile ResponseType _responseType = ResponseType.JSON;
+    private volatile String _apiToken;
+    private final PveConnectionPool _connectionPool = new PveConnectionPool();
+    private volatile Executor _executor;
+    private volatile PveJsonCodec _jsonCodec = PveOrgJsonCodec.INSTANCE;
+    private volatile PveResponseCache _responseCache;
+    private volatile boolean _coalesceRequests;
+    private final Map<String, CompletableFuture<Result>> _requestsInProgress = new ConcurrentHashMap<>();
+    private final AtomicLong _coalescedRequests = new AtomicLong();
+    private final PveEndpoint _entryEndpoint;
+    private final List<PveEndpoint> _endpoints = new CopyOnWriteArrayList<>();
+    private final AtomicLong _failovers = new AtomicLong();
+    private volatile long _healthCheckInterval = 10000;
+    private final AtomicBoolean _healthCheck = new AtomicBoolean();
+    private volatile PveRetryPolicy _retryPolicy;
+    private final AtomicLong _retries = new AtomicLong();
+    private volatile int _circuitBreakerThreshold;
+    private volatile long _circuitBreakerOpenTime;
+    private final Map<String, PveCircuitBreaker> _circuitBreakers = new ConcurrentHashMap<>();
+    private volatile PveRequestLimiter _requestLimiter;
+    private volatile long _writeCoalescingWindow;
+    private final Map<String, PendingWrite> _pendingWrites = new HashMap<>();
+    private final AtomicLong _coalescedWrites = new AtomicLong();
+    private volatile boolean _nodeRouting;
+    private volatile Map<String, PveEndpoint> _nodeEndpoints = Collections.emptyMap();
+    private volatile long _nodeDiscoveryNext;
+    private final AtomicBoolean _nodeDiscovery = new AtomicBoolean();
+    private final AtomicLong _nodeFallbacks = new AtomicLong();
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static volatile ExecutorService _defaultExecutor;
+    private static volatile ScheduledExecutorService _scheduler;
 
     public PveClientBase(String hostname, int port) {
         _hostname = hostname;
         _port = port;
+        _entryEndpoint = new PveEndpoint(hostname, hostname, port);
+        _endpoints.add(_entryEndpoint);
     }
 
     /**
@@ -82,7 +165,8 @@ public class PveClientBase {
 
     /**
      * Set the response type that is going to be returned when doing requests
-     * (json, png).
+     * (json, png). The value is shared by all threads using the client, use
+     * getImage to read a single image.
      *
      * @param responseType Response type
      */
@@ -140,7 +224,7 @@ public class PveClientBase {
      */
     public boolean login(String username, String password, String realm, String otp)
             throws JSONException, PveExceptionAuthentication {
-        Result result = create("/access/ticket", new HashMap<String, Object>() {
+        Result result = create(TICKET_RESOURCE, new HashMap<String, Object>() {
             {
                 put("password", password);
                 put("username", username);
@@ -155,19 +239,179 @@ public class PveClientBase {
                         "Couldn't authenticate user: missing Two Factor Authentication (TFA)");
             }
 
-            _ticketCSRFPreventionToken = result.getResponse().getJSONObject("data").getString("CSRFPreventionToken");
-            _ticketPVEAuthCookie = result.getResponse().getJSONObject("data").getString("ticket");
+            JSONObject data = result.getResponse().getJSONObject("data");
+            _ticket.set(new Ticket(data.optString("username", username + "@" + realm),
+                    data.getString("ticket"),
+                    data.getString("CSRFPreventionToken")));
+
+            // results of another user are not valid
+            PveResponseCache cache = _responseCache;
+            if (cache != null) {
+                cache.clear();
+            }
         }
         return result.isSuccessStatusCode();
     }
 
+    /**
+     * Millisecond after login when the ticket is renewed.
+     *
+     * @return long
+     */
+    public long getTicketRenewAfter() {
+        return _ticketRenewAfter;
+    }
+
+    /**
+     * Set millisecond after login when the ticket is renewed, default one
+     * hour. The ticket is valid two hours.
+     *
+     * @param ticketRenewAfter Millisecond, 0 disable renewal
+     */
+    public void setTicketRenewAfter(long ticketRenewAfter) {
+        _ticketRenewAfter = ticketRenewAfter;
+    }
+
+    /**
+     * Number of ticket renewed.
+     *
+     * @return long
+     */
+    public long getTicketRenewals() {
+        return _ticketRenewals.get();
+    }
+
+    /**
+     * Number of ticket renewal failed.
+     *
+     * @return long
+     */
+    public long getTicketRenewalFailures() {
+        return _ticketRenewalFailures.get();
+    }
+
+    /**
+     * Renew the ticket of login in background. Concurrent calls share the same
+     * renewal.
+     *
+     * @return CompletableFuture true if the ticket is renewed
+     */
+    public CompletableFuture<Boolean> renewTicket() {
+        return renewTicket(null, false);
+    }
+
+    /**
+     * Renew the ticket, inline in the calling thread when it must wait the
+     * renewal, so no thread of the executor is needed.
+     */
+    private CompletableFuture<Boolean> renewTicket(Ticket observed, boolean inline) {
+        while (true) {
+            CompletableFuture<Boolean> renewal = _ticketRenewal.get();
+            if (renewal != null) {
+                return renewal;
+            }
+
+            Ticket ticket = _ticket.get();
+            if (observed != null && observed != ticket) {
+                // already renewed by another request
+                return CompletableFuture.completedFuture(true);
+            }
+
+            renewal = new CompletableFuture<>();
+            if (_ticketRenewal.compareAndSet(null, renewal)) {
+                CompletableFuture<Boolean> newRenewal = renewal;
+                Runnable renew = () -> {
+                    try {
+                        newRenewal.complete(requestTicket(ticket));
+                    } catch (RuntimeException ex) {
+                        newRenewal.completeExceptionally(ex);
+                    } finally {
+                        _ticketRenewal.compareAndSet(newRenewal, null);
+                    }
+                };
+                try {
+                    if (inline) {
+                        renew.run();
+                    } else {
+                        getExecutor().execute(renew);
+                    }
+                } catch (RuntimeException ex) {
+                    _ticketRenewal.compareAndSet(newRenewal, null);
+                    newRenewal.completeExceptionally(ex);
+                }
+                return newRenewal;
+            }
+        }
+    }
+
+    private boolean requestTicket(Ticket ticket) {
+        if (ticket == null) {
+            return false;
+        }
+
+        // the ticket is used as password to get a new one
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("username", ticket._username);
+        parameters.put("password", ticket._pveAuthCookie);
+        Result result = executeRequest(TICKET_RESOURCE, MethodType.CREATE, parameters, ResponseType.JSON, null, null);
+
+        if (result.isSuccessStatusCode()) {
+            JSONObject data = result.getResponse().getJSONObject("data");
+            Ticket newTicket = new Ticket(ticket._username,
+                    data.getString("ticket"),
+                    data.getString("CSRFPreventionToken"));
+
+            // a new login wins over the renewal
+            if (_ticket.compareAndSet(ticket, newTicket)) {
+                _ticketRenewals.incrementAndGet();
+            }
+            return true;
+        }
+
+        _ticketRenewalFailedAt = System.currentTimeMillis();
+        _ticketRenewalFailures.incrementAndGet();
+        return false;
+    }
+
+    private void checkTicket() {
+        Ticket ticket = _ticket.get();
+        long renewAfter = _ticketRenewAfter;
+        if (ticket == null || renewAfter <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long age = now - ticket._created;
+        if (age < renewAfter || now - _ticketRenewalFailedAt < TICKET_RENEWAL_RETRY) {
+            return;
+        }
+
+        boolean expired = age >= TICKET_LIFETIME;
+        CompletableFuture<Boolean> renewal = renewTicket(ticket, expired);
+        if (expired) {
+            // expired, request can not use the old ticket
+            try {
+                renewal.get(_timeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException ex) {
+                Logger.getLogger(PveClientBase.class.getName()).log(Level.WARNING, "Ticket renewal failed", ex);
+            }
+        }
+    }
+
     /**
      * Returns the base URL used to interact with the Proxmox VE API.
      *
      * @return The proxmox API URL.
      */
     public String getApiUrl() {
-        return "https://" + getHostname() + ":" + getPort() + "/api2/json";
+        return getApiUrl(getResponseType());
+    }
+
+    private String getApiUrl(ResponseType responseType) {
+        return "https://" + getHostname() + ":" + getPort()
+                + (responseType == ResponseType.PNG ? "/api2/png" : "/api2/json");
     }
 
     /**
@@ -182,6 +426,52 @@ public class PveClientBase {
         return executeAction(resource, MethodType.GET, parameters);
     }
 
+    /**
+     * Execute method GET and stream the elements of "data" array to action
+     * without building the whole response in memory. The response of the
+     * result does not contain "data".
+     *
+     * @param resource Url request
+     * @param parameters Additional parameters
+     * @param action Consumer of each element of data (JSONObject, JSONArray,
+     * String, Number, Boolean or JSONObject.NULL)
+     * @return Result
+     * @throws JSONException
+     */
+    public Result getStream(String resource, Map<String, Object> parameters, Consumer<Object> action)
+            throws JSONException {
+        return executeAction(resource, MethodType.GET, parameters, ResponseType.JSON, action, null);
+    }
+
+    /**
+     * Execute method GET and return the image (PNG) as raw bytes, see
+     * Result.getResponseBuffer() and Result.writeTo(). The response type of
+     * the client is not used.
+     *
+     * @param resource Url request
+     * @param parameters Additional parameters
+     * @return Result
+     * @throws JSONException
+     */
+    public Result getImage(String resource, Map<String, Object> parameters) throws JSONException {
+        return executeAction(resource, MethodType.GET, parameters, ResponseType.PNG, null, null);
+    }
+
+    /**
+     * Execute method GET and write the image (PNG) to channel without keeping
+     * it in memory. The response type of the client is not used.
+     *
+     * @param resource Url request
+     * @param parameters Additional parameters
+     * @param target Channel where image is written
+     * @return Result
+     * @throws JSONException
+     */
+    public Result getImage(String resource, Map<String, Object> parameters, WritableByteChannel target)
+            throws JSONException {
+        return executeAction(resource, MethodType.GET, parameters, ResponseType.PNG, null, target);
+    }
+
     /**
      * Execute method PUT
      *
@@ -218,6 +508,141 @@ public class PveClientBase {
         return executeAction(resource, MethodType.DELETE, parameters);
     }
 
+    /**
+     * Execute method GET asynchronously
+     *
+     * @param resource Url request
+     * @param parameters Additional parameters
+     * @return CompletableFuture of Result
+     */
+    public CompletableFuture<Result> getAsync(String resource, Map<String, Object> parameters) {
+        return async(() -> get(resource, parameters));
+    }
+
+    /**
+     * Execute method PUT asynchronously
+     *
+     * @param resource Url request
+     * @param parameters Additional parameters
+     * @return CompletableFuture of Result
+     */
+    public CompletableFuture<Result> setAsync(String resource, Map<String, Object> parameters) {
+        return async(() -> set(resource, parameters));
+    }
+
+    /**
+     * Execute method POST asynchronously
+     *
+     * @param resource Url request
+     * @param parameters Additional parameters
+     * @return CompletableFuture of Result
+     */
+    public CompletableFuture<Result> createAsync(String resource, Map<String, Object> parameters) {
+        return async(() -> create(resource, parameters));
+    }
+
+    /**
+     * Execute method DELETE asynchronously
+     *
+     * @param resource Url request
+     * @param parameters Additional parameters
+     * @return CompletableFuture of Result
+     */
+    public CompletableFuture<Result> deleteAsync(String resource, Map<String, Object> parameters) {
+        return async(() -> delete(resource, parameters));
+    }
+
+    /**
+     * Execute any call of the client asynchronously on the executor, eg.
+     * client.async(() -&gt; client.getNodes().get("pve1").getQemu().vmlist())
+     *
+     * A convenience wrapper: the call is blocking and holds a thread of the
+     * executor until the response is read.
+     *
+     * @param <T> Type of result
+     * @param call Call to execute
+     * @return CompletableFuture of call result
+     */
+    public <T> CompletableFuture<T> async(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, getExecutor());
+    }
+
+    /**
+     * Executor used for asynchronous calls. If not set a shared pool of daemon
+     * threads is used, bounded to DEFAULT_EXECUTOR_THREADS: calls beyond are
+     * queued, up to DEFAULT_EXECUTOR_QUEUE, then run in the calling thread so
+     * a fast producer is slowed down. Set an executor to run more calls at the
+     * same time, eg. with many hosts.
+     *
+     * @return Executor
+     */
+    public Executor getExecutor() {
+        Executor executor = _executor;
+        return executor != null ? executor : getDefaultExecutor();
+    }
+
+    /**
+     * Set executor used for asynchronous calls.
+     *
+     * @param executor Executor, null for shared pool
+     */
+    public void setExecutor(Executor executor) {
+        _executor = executor;
+    }
+
+    /**
+     * Use a virtual thread per asynchronous call (Java 21 or later). On older
+     * runtime the executor is not changed.
+     *
+     * @return true if virtual threads are used
+     */
+    public boolean useVirtualThreads() {
+        Executor executor = newVirtualThreadExecutor();
+        if (executor != null) {
+            setExecutor(executor);
+        }
+        return executor != null;
+    }
+
+    /**
+     * Create an executor starting a virtual thread for each task.
+     *
+     * @return Executor or null if virtual threads are not supported by the
+     * runtime
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        try {
+            // reflection keep the library compatible with Java 8
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static ExecutorService getDefaultExecutor() {
+        if (_defaultExecutor == null) {
+            synchronized (PveClientBase.class) {
+                if (_defaultExecutor == null) {
+                    // caller runs: back-pressure without blocking a thread of the pool
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_EXECUTOR_THREADS,
+                            DEFAULT_EXECUTOR_THREADS,
+                            60,
+                            TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(DEFAULT_EXECUTOR_QUEUE),
+                            runnable -> {
+                                Thread thread = new Thread(runnable, "pve-client-" + THREAD_COUNT.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            },
+                            new ThreadPoolExecutor.CallerRunsPolicy());
+                    executor.allowCoreThreadTimeOut(true);
+                    _defaultExecutor = executor;
+                }
+            }
+        }
+        return _defaultExecutor;
+    }
+
     /**
      * Set debug level
      *
@@ -263,134 +688,918 @@ public class PveClientBase {
         _apiToken = apiToken;
     }
 
-    private void setToken(HttpURLConnection httpCon) {
-        if (_ticketCSRFPreventionToken != null) {
-            httpCon.setRequestProperty("CSRFPreventionToken", _ticketCSRFPreventionToken);
-            httpCon.setRequestProperty("Cookie", "PVEAuthCookie=" + _ticketPVEAuthCookie);
-        }
+    /**
+     * Json codec used to decode responses.
+     *
+     * @return PveJsonCodec
+     */
+    public PveJsonCodec getJsonCodec() {
+        return _jsonCodec;
+    }
 
-        if (_apiToken != null && !_apiToken.isEmpty()) {
-            httpCon.setRequestProperty("Authorization", "PVEAPIToken " + _apiToken);
-        }
+    /**
+     * Set json codec used to decode responses, default org.json.
+     *
+     * @param jsonCodec Json codec
+     */
+    public void setJsonCodec(PveJsonCodec jsonCodec) {
+        _jsonCodec = jsonCodec == null ? PveOrgJsonCodec.INSTANCE : jsonCodec;
     }
 
-    private Result executeAction(String resource, MethodType methodType, Map<String, Object> parameters)
-            throws JSONException {
-        String url = getApiUrl() + resource;
+    /**
+     * Cache of GET results.
+     *
+     * @return PveResponseCache or null if not used
+     */
+    public PveResponseCache getResponseCache() {
+        return _responseCache;
+    }
 
-        // decode http method
-        String httpMethod = "";
-        switch (methodType) {
-            case GET:
-                httpMethod = "GET";
-                break;
+    /**
+     * Set cache of GET results, eg. new PveResponseCache(1000).addPolicy("/version", 60000)
+     *
+     * @param responseCache Cache, null disable cache
+     */
+    public void setResponseCache(PveResponseCache responseCache) {
+        _responseCache = responseCache;
+    }
 
-            case SET:
-                httpMethod = "PUT";
-                break;
+    /**
+     * Get if identical GET requests in progress are coalesced.
+     *
+     * @return boolean
+     */
+    public boolean isCoalesceRequests() {
+        return _coalesceRequests;
+    }
 
-            case CREATE:
-                httpMethod = "POST";
-                break;
+    /**
+     * Set if identical GET requests (same resource and parameters) made while
+     * one is in progress wait its response instead of sending a new request.
+     * Each waiting caller gets a copy of the result.
+     *
+     * @param coalesceRequests Coalesce requests
+     */
+    public void setCoalesceRequests(boolean coalesceRequests) {
+        _coalesceRequests = coalesceRequests;
+    }
 
-            case DELETE:
-                httpMethod = "DELETE";
-                break;
+    /**
+     * Number of GET requests served by a request already in progress.
+     *
+     * @return long
+     */
+    public long getCoalescedRequests() {
+        return _coalescedRequests.get();
+    }
 
-            default:
-                throw new AssertionError();
-        }
+    /**
+     * Connection pool used for requests.
+     *
+     * @return PveConnectionPool
+     */
+    public PveConnectionPool getConnectionPool() {
+        return _connectionPool;
+    }
 
-        Map params = new LinkedHashMap<>();
-        if (parameters != null) {
-            parameters.entrySet().stream().filter((entry) -> (entry.getValue() != null)).forEachOrdered((entry) -> {
-                String value = entry.getValue().toString();
-                if (entry.getValue() instanceof Boolean) {
-                    value = ((Boolean) entry.getValue()) ? "1" : "0";
-                }
-                params.put(entry.getKey(), value);
-            });
-        }
+    /**
+     * Routing of node requests is enabled.
+     *
+     * @return boolean
+     */
+    public boolean isNodeRouting() {
+        return _nodeRouting;
+    }
 
-        // Create a trust manager that does not validate certificate chains
-        TrustManager[] trustAllCerts = new TrustManager[]{new X509TrustManager() {
-            @Override
-            public java.security.cert.X509Certificate[] getAcceptedIssuers() {
-                return null;
-            }
+    /**
+     * Enable routing of node requests. Requests to /nodes/{node}/... are sent
+     * directly to the address of the node read from /cluster/status (same
+     * port), instead of being proxied by the node configured. Addresses are
+     * read in background and refreshed every five minutes; a node that can't
+     * be reached is skipped for 30 seconds and the request is sent to the node
+     * configured. The ticket and the API token are valid on every node of the
+     * cluster.
+     *
+     * @param nodeRouting Enable routing
+     */
+    public void setNodeRouting(boolean nodeRouting) {
+        _nodeRouting = nodeRouting;
+    }
 
-            @Override
-            public void checkClientTrusted(X509Certificate[] certs, String authType) {
-            }
+    /**
+     * Read addresses of the nodes from /cluster/status. Nodes offline are not
+     * routed, the node that answers is reached through the member that answers.
+     *
+     * @return boolean Success
+     * @throws JSONException
+     */
+    public boolean discoverNodes() throws JSONException {
+        checkTicket();
+        PveEndpoint member = selectEndpoint(MethodType.GET, null);
+        Result result = executeRequest("/cluster/status",
+                MethodType.GET,
+                null,
+                ResponseType.JSON,
+                null,
+                null,
+                new Route(member));
+
+        boolean success = result.isSuccessStatusCode();
+        if (success) {
+            Map<String, PveEndpoint> current = _nodeEndpoints;
+            Map<String, PveEndpoint> endpoints = new HashMap<>();
+            JSONArray data = result.getResponse().optJSONArray("data");
+            for (int i = 0; data != null && i < data.length(); i++) {
+                JSONObject item = data.optJSONObject(i);
+                if (item == null
+                        || !"node".equals(item.optString("type"))
+                        || item.optInt("online", 1) != 1) {
+                    continue;
+                }
 
-            @Override
-            public void checkServerTrusted(X509Certificate[] certs, String authType) {
+                String name = item.getString("name");
+                String ip = item.optString("ip");
+                PveEndpoint endpoint = item.optInt("local", 0) == 1 ? member : findEndpoint(ip);
+                if (endpoint == null && !ip.isEmpty()) {
+                    endpoint = current.get(name);
+                    if (endpoint == null || !endpoint.getHost().equals(ip)) {
+                        endpoint = new PveEndpoint(name, ip, _port);
+                    }
+                }
+                if (endpoint != null) {
+                    endpoints.put(name, endpoint);
+                }
             }
-        }};
-
-        // Install the all-trusting trust manager
-        try {
-            SSLContext sc = SSLContext.getInstance("SSL");
-            sc.init(null, trustAllCerts, new java.security.SecureRandom());
-            HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
-        } catch (NoSuchAlgorithmException | KeyManagementException ex) {
-            Logger.getLogger(PveClientBase.class.getName()).log(Level.SEVERE, null, ex);
+            _nodeEndpoints = Collections.unmodifiableMap(endpoints);
         }
 
-        // Create all-trusting host name verifier
-        HostnameVerifier allHostsValid = (String hostname, SSLSession session) -> true;
-
-        // Install the all-trusting host verifier
-        HttpsURLConnection.setDefaultHostnameVerifier(allHostsValid);
+        _nodeDiscoveryNext = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(success ? NODE_DISCOVERY_INTERVAL : ENDPOINT_DOWN_TIME);
+        return success;
+    }
 
-        int statusCode = 0;
-        String reasonPhrase = "";
-        JSONObject response = new JSONObject();
-        HttpURLConnection httpCon = null;
+    /**
+     * Endpoint of the node configured.
+     *
+     * @return PveEndpoint
+     */
+    public PveEndpoint getEntryEndpoint() {
+        return _entryEndpoint;
+    }
 
-        try {
-            switch (methodType) {
-                case GET: {
-                    if (!params.isEmpty()) {
-                        StringBuilder urlParams = new StringBuilder();
-                        params.forEach((key, value) -> {
-                            try {
-                                urlParams.append(urlParams.length() > 0 ? "&" : "").append(key).append("=")
-                                        .append(URLEncoder.encode((String) value, "UTF-8"));
-                            } catch (UnsupportedEncodingException ex) {
-                                Logger.getLogger(PveClientBase.class.getName()).log(Level.SEVERE, null, ex);
-                            }
-                        });
-                        url += "?" + urlParams.toString();
-                    }
+    /**
+     * Add a member of the cluster. Requests not routed to a node are sent to
+     * the members: GET requests to the less loaded of two members chosen at
+     * random, writes to the first member available in order of addition. A
+     * GET without response, or a request not connected, is sent to another
+     * member. The ticket of login is valid on every member.
+     *
+     * @param hostname Host name or ip address
+     * @param port Port
+     * @return PveEndpoint
+     */
+    public PveEndpoint addEndpoint(String hostname, int port) {
+        PveEndpoint endpoint = new PveEndpoint(hostname, hostname, port);
+        _endpoints.add(endpoint);
+        startHealthCheck();
+        return endpoint;
+    }
 
-                    httpCon = (HttpURLConnection) new URL(url).openConnection();
-                    httpCon.setRequestMethod("GET");
+    /**
+     * Members of the cluster, the node configured is the first.
+     *
+     * @return List
+     */
+    public List<PveEndpoint> getEndpoints() {
+        return Collections.unmodifiableList(_endpoints);
+    }
+
+    /**
+     * Number of requests sent again to another member because the member was
+     * not reachable.
+     *
+     * @return long
+     */
+    public long getFailovers() {
+        return _failovers.get();
+    }
+
+    /**
+     * Get interval of health check of members.
+     *
+     * @return long Millisecond
+     */
+    public long getHealthCheckInterval() {
+        return _healthCheckInterval;
+    }
+
+    /**
+     * Set interval of health check of members. With more than one member, each
+     * member is checked (GET /version) at this interval: a member without
+     * response or with server error does not receive requests until a check
+     * succeeds.
+     *
+     * @param healthCheckInterval Millisecond, 0 disable health check
+     */
+    public void setHealthCheckInterval(long healthCheckInterval) {
+        _healthCheckInterval = healthCheckInterval;
+        startHealthCheck();
+    }
+
+    /**
+     * Check health of every member. Don't call from a thread of the executor,
+     * use checkEndpointsAsync.
+     */
+    public void checkEndpoints() {
+        checkEndpointsAsync().join();
+    }
+
+    /**
+     * Check health of every member asynchronously on the executor.
+     *
+     * @return CompletableFuture completed when all members are checked
+     */
+    public CompletableFuture<Void> checkEndpointsAsync() {
+        List<CompletableFuture<Void>> checks = new ArrayList<>();
+        for (PveEndpoint endpoint : _endpoints) {
+            checks.add(CompletableFuture.runAsync(() -> {
+                Result result = executeRequest(HEALTH_CHECK_RESOURCE,
+                        MethodType.GET,
+                        null,
+                        ResponseType.JSON,
+                        null,
+                        null,
+                        new Route(endpoint));
+
+                // any answer of pveproxy (also 401 without login) is healthy
+                int statusCode = result.getStatusCode();
+                if (statusCode != 0 && statusCode < HttpURLConnection.HTTP_INTERNAL_ERROR) {
+                    endpoint.markUp();
+                } else {
+                    endpoint.markDown(Math.max(_healthCheckInterval * 2, ENDPOINT_DOWN_TIME));
+                }
+            }, getExecutor()));
+        }
+        return CompletableFuture.allOf(checks.toArray(new CompletableFuture<?>[0])).exceptionally(ex -> null);
+    }
+
+    private void startHealthCheck() {
+        if (_endpoints.size() > 1 && _healthCheckInterval > 0 && _healthCheck.compareAndSet(false, true)) {
+            scheduleHealthCheck(new WeakReference<>(this), 0);
+        }
+    }
+
+    private static void scheduleHealthCheck(WeakReference<PveClientBase> reference, long delay) {
+        getScheduler().schedule(() -> {
+            // the check stops when the client is no longer used
+            PveClientBase client = reference.get();
+            if (client == null) {
+                return;
+            }
+
+            if (client._healthCheckInterval <= 0) {
+                client._healthCheck.set(false);
+                client.startHealthCheck();
+                return;
+            }
+
+            // the next check is scheduled on completion, no thread of the
+            // executor waits for the checks (it can be the only one)
+            try {
+                client.checkEndpointsAsync().whenComplete((value, ex) -> {
+                    PveClientBase current = reference.get();
+                    if (current != null) {
+                        scheduleHealthCheck(reference, Math.max(current._healthCheckInterval, 1));
+                    }
+                });
+            } catch (RuntimeException ex) {
+                Logger.getLogger(PveClientBase.class.getName()).log(Level.WARNING, "Health check failed", ex);
+                scheduleHealthCheck(reference, client._healthCheckInterval);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private PveEndpoint findEndpoint(String host) {
+        for (PveEndpoint endpoint : _endpoints) {
+            if (endpoint.getHost().equals(host) && endpoint.getPort() == _port) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Select member for request.
+     *
+     * @param methodType Method type
+     * @param excluded Members already tried, can be null
+     * @return PveEndpoint or null if all members were tried
+     */
+    private PveEndpoint selectEndpoint(MethodType methodType, List<PveEndpoint> excluded) {
+        List<PveEndpoint> endpoints = _endpoints;
+        if (excluded == null && endpoints.size() == 1) {
+            return _entryEndpoint;
+        }
+
+        List<PveEndpoint> candidates = new ArrayList<>(endpoints.size());
+        for (PveEndpoint endpoint : endpoints) {
+            if (endpoint.isAvailable() && (excluded == null || !excluded.contains(endpoint))) {
+                candidates.add(endpoint);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            // all members down: try the members not tried yet anyway
+            for (PveEndpoint endpoint : endpoints) {
+                if (excluded == null || !excluded.contains(endpoint)) {
+                    return endpoint;
+                }
+            }
+            return null;
+        } else if (candidates.size() == 1 || methodType != MethodType.GET) {
+            return candidates.get(0);
+        }
+
+        // power of two choices, least outstanding requests then recent latency
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        PveEndpoint a = candidates.get(first);
+        PveEndpoint b = candidates.get(second);
+        if (a.getOutstanding() != b.getOutstanding()) {
+            return a.getOutstanding() < b.getOutstanding() ? a : b;
+        }
+        return a.getRecentLatency() <= b.getRecentLatency() ? a : b;
+    }
+
+    /**
+     * Endpoints of the nodes routed, by node name.
+     *
+     * @return Map
+     */
+    public Map<String, PveEndpoint> getNodeEndpoints() {
+        return _nodeEndpoints;
+    }
+
+    /**
+     * Number of routed requests sent again to the node configured because the
+     * node was not reachable.
+     *
+     * @return long
+     */
+    public long getNodeFallbacks() {
+        return _nodeFallbacks.get();
+    }
+
+    private PveEndpoint getNodeEndpoint(String resource) {
+        if (!_nodeRouting || !resource.startsWith("/nodes/")) {
+            return null;
+        }
+
+        long next = _nodeDiscoveryNext;
+        if ((next == 0 || System.nanoTime() - next >= 0) && _nodeDiscovery.compareAndSet(false, true)) {
+            try {
+                getExecutor().execute(() -> {
+                    try {
+                        discoverNodes();
+                    } catch (RuntimeException ex) {
+                        Logger.getLogger(PveClientBase.class.getName()).log(Level.WARNING, "Node discovery failed", ex);
+                    } finally {
+                        _nodeDiscovery.set(false);
+                    }
+                });
+            } catch (RuntimeException ex) {
+                _nodeDiscovery.set(false);
+                Logger.getLogger(PveClientBase.class.getName()).log(Level.WARNING, "Node discovery failed", ex);
+            }
+        }
+
+        PveEndpoint endpoint = _nodeEndpoints.get(getNodeName(resource));
+        return endpoint != null && endpoint.isAvailable() ? endpoint : null;
+    }
+
+    private static String getNodeName(String resource) {
+        if (!resource.startsWith("/nodes/")) {
+            return null;
+        }
+        int end = resource.indexOf('/', 7);
+        return end < 0 ? resource.substring(7) : resource.substring(7, end);
+    }
+
+    /**
+     * Get retry policy.
+     *
+     * @return PveRetryPolicy or null if requests are not retried
+     */
+    public PveRetryPolicy getRetryPolicy() {
+        return _retryPolicy;
+    }
+
+    /**
+     * Set retry policy of requests failed for a transient reason, eg. new
+     * PveRetryPolicy(3, 200, 5000).
+     *
+     * @param retryPolicy Retry policy, null requests are not retried
+     */
+    public void setRetryPolicy(PveRetryPolicy retryPolicy) {
+        _retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Number of requests retried.
+     *
+     * @return long
+     */
+    public long getRetries() {
+        return _retries.get();
+    }
+
+    /**
+     * Set circuit breaker for every target: node of path /nodes/{node}/...,
+     * otherwise the host of the request. After consecutive transient failures
+     * the requests to the target fail immediately with status code 0 for the
+     * open time.
+     *
+     * @param failureThreshold Consecutive failures that open the circuit, 0
+     * disable circuit breakers
+     * @param openTime Millisecond the circuit stays open
+     */
+    public void setCircuitBreaker(int failureThreshold, long openTime) {
+        _circuitBreakerOpenTime = openTime;
+        _circuitBreakerThreshold = failureThreshold;
+        _circuitBreakers.clear();
+    }
+
+    /**
+     * Circuit breakers by target.
+     *
+     * @return Map
+     */
+    public Map<String, PveCircuitBreaker> getCircuitBreakers() {
+        return Collections.unmodifiableMap(_circuitBreakers);
+    }
+
+    /**
+     * Get limiter of requests.
+     *
+     * @return PveRequestLimiter or null if requests are not limited
+     */
+    public PveRequestLimiter getRequestLimiter() {
+        return _requestLimiter;
+    }
+
+    /**
+     * Set limiter of requests for host and class of request, eg. new
+     * PveRequestLimiter(30000).setLimit(RequestClass.LONG_RUNNING, 2, 4).
+     *
+     * @param requestLimiter Limiter, null requests are not limited
+     */
+    public void setRequestLimiter(PveRequestLimiter requestLimiter) {
+        _requestLimiter = requestLimiter;
+    }
+
+    private PveCircuitBreaker getCircuitBreaker(String name) {
+        int failureThreshold = _circuitBreakerThreshold;
+        if (failureThreshold <= 0) {
+            return null;
+        }
+        return _circuitBreakers.computeIfAbsent(name,
+                k -> new PveCircuitBreaker(k, failureThreshold, _circuitBreakerOpenTime));
+    }
+
+    private HttpURLConnection openConnection(URL url, Route route) throws IOException {
+        HttpURLConnection httpCon = _connectionPool.open(url, _timeout);
+        if (httpCon == null) {
+            route._poolTimeout = true;
+            throw new IOException("Timeout waiting a free connection to " + url.getHost());
+        }
+        return httpCon;
+    }
+
+    private void setToken(HttpURLConnection httpCon) {
+        Ticket ticket = _ticket.get();
+        if (ticket != null) {
+            httpCon.setRequestProperty("CSRFPreventionToken", ticket._csrfPreventionToken);
+            httpCon.setRequestProperty("Cookie", "PVEAuthCookie=" + ticket._pveAuthCookie);
+        }
+
+        String apiToken = _apiToken;
+        if (apiToken != null && !apiToken.isEmpty()) {
+            httpCon.setRequestProperty("Authorization", "PVEAPIToken " + apiToken);
+        }
+    }
+
+    private Result executeAction(String resource, MethodType methodType, Map<String, Object> parameters)
+            throws JSONException {
+        if (_writeCoalescingWindow > 0
+                && (methodType == MethodType.SET || methodType == MethodType.CREATE)
+                && CONFIG_RESOURCE.matcher(resource).matches()) {
+            return coalesceWrite(resource, methodType, parameters);
+        }
+        return executeAction(resource, methodType, parameters, getResponseType(), null, null);
+    }
+
+    /**
+     * Get window of write coalescing.
+     *
+     * @return long Millisecond, 0 disabled
+     */
+    public long getWriteCoalescingWindow() {
+        return _writeCoalescingWindow;
+    }
+
+    /**
+     * Set window of write coalescing. Updates of the configuration of a VM or
+     * container (/nodes/{node}/qemu|lxc/{vmid}/config) with the same method
+     * made within the window are merged in one request, so the configuration
+     * lock is taken once. Every caller receives the result of the merged
+     * request. An update with a parameter of different value, a parameter
+     * deleted by another update or a digest is sent with a new request, after
+     * the previous one.
+     *
+     * @param writeCoalescingWindow Millisecond, 0 disable coalescing
+     */
+    public void setWriteCoalescingWindow(long writeCoalescingWindow) {
+        _writeCoalescingWindow = writeCoalescingWindow;
+    }
+
+    /**
+     * Number of updates merged in the request of another update.
+     *
+     * @return long
+     */
+    public long getCoalescedWrites() {
+        return _coalescedWrites.get();
+    }
+
+    private Result coalesceWrite(String resource, MethodType methodType, Map<String, Object> parameters)
+            throws JSONException {
+        String key = methodType + " " + resource;
+        PendingWrite write;
+        boolean owner = false;
+        synchronized (_pendingWrites) {
+            PendingWrite pending = _pendingWrites.get(key);
+            if (pending != null && pending.merge(parameters)) {
+                write = pending;
+                _coalescedWrites.incrementAndGet();
+            } else {
+                // a conflicting update is sent after the previous one
+                write = new PendingWrite(key,
+                        resource,
+                        methodType,
+                        parameters,
+                        pending == null ? null : pending._result);
+                _pendingWrites.put(key, write);
+                owner = true;
+                if (pending != null) {
+                    flushWrite(pending);
+                }
+
+                PendingWrite scheduled = write;
+                getScheduler().schedule(() -> flushWrite(scheduled), _writeCoalescingWindow, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (owner) {
+            // sent by the thread of the first update, no thread of the executor is needed
+            sendWrite(write);
+        }
+
+        try {
+            Result result = write._result.join();
+            if (_trackLastResult) {
+                _lastResult = result;
+            }
+            return result;
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : ex;
+        }
+    }
+
+    private void flushWrite(PendingWrite write) {
+        synchronized (_pendingWrites) {
+            if (write._flushed) {
+                return;
+            }
+            write._flushed = true;
+        }
+        write._ready.complete(null);
+    }
+
+    private void sendWrite(PendingWrite write) {
+        try {
+            // end of window or conflicting update, then the previous update
+            write._ready.join();
+            if (write._previous != null) {
+                write._previous.exceptionally(ex -> null).join();
+            }
+            write._result.complete(executeAction(write._resource,
+                    write._methodType,
+                    write._parameters,
+                    getResponseType(),
+                    null,
+                    null));
+        } catch (RuntimeException ex) {
+            write._result.completeExceptionally(ex);
+        } finally {
+            synchronized (_pendingWrites) {
+                _pendingWrites.remove(write._key, write);
+            }
+        }
+    }
+
+    private Result executeAction(String resource,
+            MethodType methodType,
+            Map<String, Object> parameters,
+            ResponseType responseType,
+            Consumer<Object> dataAction,
+            WritableByteChannel target) throws JSONException {
+        if (!TICKET_RESOURCE.equals(resource)) {
+            checkTicket();
+        }
+
+        PveResponseCache cache = _responseCache;
+        Result result;
+        if (methodType == MethodType.GET
+                && responseType == ResponseType.JSON
+                && dataAction == null
+                && target == null
+                && (cache != null || _coalesceRequests)) {
+            result = executeGet(resource, parameters, cache);
+        } else {
+            result = executeRequest(resource, methodType, parameters, responseType, dataAction, target);
+            if (cache != null && methodType != MethodType.GET) {
+                cache.invalidate(resource);
+            }
+        }
+
+        if (_trackLastResult) {
+            _lastResult = result;
+        }
+        return result;
+    }
+
+    private Result executeGet(String resource, Map<String, Object> parameters, PveResponseCache cache)
+            throws JSONException {
+        String key = createRequestKey(resource, parameters);
+        long ttl = cache == null ? 0 : cache.getTtl(resource);
+        if (ttl > 0) {
+            Result result = cache.get(key);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        CompletableFuture<Result> request = null;
+        if (_coalesceRequests) {
+            // identical requests in progress share the same response, each caller gets a copy
+            request = new CompletableFuture<>();
+            CompletableFuture<Result> inProgress = _requestsInProgress.putIfAbsent(key, request);
+            if (inProgress != null) {
+                _coalescedRequests.incrementAndGet();
+                try {
+                    return inProgress.join().copy();
+                } catch (CompletionException ex) {
+                    throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : ex;
+                }
+            }
+        }
+
+        try {
+            Result result = executeRequest(resource, MethodType.GET, parameters, ResponseType.JSON, null, null);
+            if (ttl > 0 && result.isSuccessStatusCode()) {
+                cache.put(key, result, ttl);
+            }
+            if (request != null) {
+                request.complete(result);
+            }
+            return result;
+        } catch (RuntimeException ex) {
+            if (request != null) {
+                request.completeExceptionally(ex);
+            }
+            throw ex;
+        } finally {
+            if (request != null) {
+                _requestsInProgress.remove(key, request);
+            }
+        }
+    }
+
+    /**
+     * Create key of request, parameters are sorted by name.
+     *
+     * @param resource Path
+     * @param parameters Parameters
+     * @return String
+     */
+    static String createRequestKey(String resource, Map<String, Object> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return resource;
+        }
+
+        StringBuilder key = new StringBuilder(resource);
+        char separator = '?';
+        for (Map.Entry<String, Object> entry : new TreeMap<>(parameters).entrySet()) {
+            if (entry.getValue() != null) {
+                key.append(separator).append(entry.getKey()).append('=').append(entry.getValue());
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    private Result executeRequest(String resource,
+            MethodType methodType,
+            Map<String, Object> parameters,
+            ResponseType responseType,
+            Consumer<Object> dataAction,
+            WritableByteChannel target) throws JSONException {
+        String node = getNodeName(resource);
+        boolean streaming = dataAction != null || target != null;
+        PveRetryPolicy retryPolicy = _retryPolicy;
+        int retries = 0;
+        PveEndpoint nodeEndpoint = getNodeEndpoint(resource);
+        PveEndpoint endpoint = nodeEndpoint != null ? nodeEndpoint : selectEndpoint(methodType, null);
+        List<PveEndpoint> tried = null;
+        while (true) {
+            Route route = new Route(endpoint);
+            PveCircuitBreaker circuitBreaker = getCircuitBreaker(node != null ? node : endpoint.getName());
+            boolean rejected = circuitBreaker != null && !circuitBreaker.allowRequest();
+            Result result;
+            if (rejected) {
+                result = new Result(null,
+                        new JSONObject(),
+                        PveOrgJsonCodec.INSTANCE,
+                        0,
+                        "Circuit breaker open for " + circuitBreaker.getName(),
+                        resource,
+                        parameters,
+                        methodType,
+                        responseType);
+            } else {
+                result = executeRequest(resource, methodType, parameters, responseType, dataAction, target, route);
+
+                // local waits (queue, connection pool) say nothing about the target
+                if (circuitBreaker != null && !route._queueTimeout && !route._poolTimeout) {
+                    if (result.isTransientError()) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+                }
+            }
+
+            // the limiter bounds the wait: no failover or retry after a queue timeout
+            if (route._queueTimeout) {
+                return result;
+            }
+            boolean sent = !rejected && !route._connectFailed && !route._poolTimeout;
+
+            // only requests not sent or safe to send again go to another member,
+            // a node with open circuit is not reachable from any member
+            if (result.getStatusCode() == 0
+                    && (!sent || (methodType == MethodType.GET && !streaming))
+                    && !(rejected && node != null)) {
+                if (route._connectFailed) {
+                    endpoint.markDown(ENDPOINT_DOWN_TIME);
+                }
+                if (tried == null) {
+                    tried = new ArrayList<>();
+                }
+                tried.add(endpoint);
+
+                PveEndpoint next = selectEndpoint(methodType, tried);
+                if (next != null) {
+                    if (endpoint == nodeEndpoint) {
+                        _nodeFallbacks.incrementAndGet();
+                    } else {
+                        _failovers.incrementAndGet();
+                    }
+                    endpoint = next;
+                    continue;
+                }
+            }
+
+            if (rejected
+                    || retryPolicy == null
+                    || retries >= retryPolicy.getMaxRetries()
+                    || !result.isTransientError()
+                    || (sent && !(retryPolicy.isRetried(methodType) && (result.getStatusCode() != 0 || !streaming)))) {
+                return result;
+            }
+
+            try {
+                Thread.sleep(retryPolicy.getDelay(retries++));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return result;
+            }
+
+            _retries.incrementAndGet();
+            nodeEndpoint = getNodeEndpoint(resource);
+            endpoint = nodeEndpoint != null ? nodeEndpoint : selectEndpoint(methodType, null);
+            tried = null;
+        }
+    }
+
+    private Result executeRequest(String resource,
+            MethodType methodType,
+            Map<String, Object> parameters,
+            ResponseType responseType,
+            Consumer<Object> dataAction,
+            WritableByteChannel target,
+            Route route) throws JSONException {
+        String url = route._endpoint.getApiUrl(responseType) + resource;
+
+        // decode http method
+        String httpMethod = "";
+        switch (methodType) {
+            case GET:
+                httpMethod = "GET";
+                break;
+
+            case SET:
+                httpMethod = "PUT";
+                break;
+
+            case CREATE:
+                httpMethod = "POST";
+                break;
+
+            case DELETE:
+                httpMethod = "DELETE";
+                break;
+
+            default:
+                throw new AssertionError();
+        }
+
+        int statusCode = 0;
+        String reasonPhrase = "";
+        PveJsonCodec codec = _jsonCodec;
+        Object response = new JSONObject();
+        byte[] responseBody = null;
+        HttpURLConnection httpCon = null;
+        URL requestUrl = null;
+        ParameterEncoder postData = null;
+        long start = 0;
+        boolean started = false;
+        PveRequestLimiter limiter = _requestLimiter;
+        PveRequestLimiter.Lane lane = null;
+
+        try {
+            if (limiter != null) {
+                PveRequestLimiter.Lane waited = limiter.getLane(route._endpoint.getHost(), methodType, resource);
+                if (waited != null) {
+                    try {
+                        if (!waited.acquire()) {
+                            route._queueTimeout = true;
+                            throw new IOException("Timeout waiting in queue " + waited.getName());
+                        }
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        route._queueTimeout = true;
+                        throw new IOException("Interrupted waiting in queue " + waited.getName(), ex);
+                    }
+                    lane = waited;
+                }
+            }
+
+            switch (methodType) {
+                case GET: {
+                    ParameterEncoder urlParams = ParameterEncoder.acquire().encode(parameters, true);
+                    if (urlParams.length() > 0) {
+                        url += "?" + urlParams.toString();
+                    }
+                    urlParams.release();
+
+                    requestUrl = new URL(url);
+                    httpCon = openConnection(requestUrl, route);
+                    httpCon.setRequestMethod("GET");
                     setToken(httpCon);
                     break;
                 }
 
                 case SET:
                 case CREATE: {
-                    StringBuilder postData = new StringBuilder();
-                    params.forEach((key, value) -> {
-                        postData.append(postData.length() > 0 ? "&" : "").append(key).append("=").append(value);
-                    });
-
-                    byte[] postDataBytes = postData.toString().getBytes("UTF-8");
-                    httpCon = (HttpURLConnection) new URL(url).openConnection();
+                    postData = ParameterEncoder.acquire().encode(parameters, false);
+                    requestUrl = new URL(url);
+                    httpCon = openConnection(requestUrl, route);
                     httpCon.setRequestMethod(httpMethod);
                     httpCon.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
-                    httpCon.setRequestProperty("Content-Length", String.valueOf(postDataBytes.length));
+                    httpCon.setRequestProperty("Content-Length", String.valueOf(postData.length()));
                     setToken(httpCon);
-
                     httpCon.setDoOutput(true);
-                    httpCon.getOutputStream().write(postDataBytes);
                     break;
                 }
 
                 case DELETE: {
-                    httpCon = (HttpURLConnection) new URL(url).openConnection();
+                    requestUrl = new URL(url);
+                    httpCon = openConnection(requestUrl, route);
                     httpCon.setRequestMethod("DELETE");
                     setToken(httpCon);
                     break;
@@ -402,65 +1611,145 @@ public class PveClientBase {
 
             if (getDebugLevel() >= 1) {
                 System.out.println("Method: " + httpMethod + " , Url: " + url);
-                if (methodType != MethodType.GET) {
+                if (methodType != MethodType.GET && parameters != null) {
                     System.out.println("Parameters:");
-                    params.forEach((key, value) -> {
-                        System.out.println(key + " : " + value);
+                    parameters.forEach((key, value) -> {
+                        if (value != null) {
+                            System.out.println(key + " : " + (value instanceof Boolean
+                                    ? ((Boolean) value ? "1" : "0")
+                                    : value));
+                        }
                     });
                 }
             }
 
-            statusCode = httpCon.getResponseCode();
-            reasonPhrase = httpCon.getResponseMessage();
+            start = route._endpoint.begin();
+            started = true;
+            try {
+                httpCon.connect();
+            } catch (IOException ex) {
+                route._connectFailed = true;
+                throw ex;
+            }
 
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(httpCon.getInputStream()))) {
-                StringBuilder sb = new StringBuilder();
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    sb.append(line).append("\n");
+            if (postData != null) {
+                try (OutputStream out = httpCon.getOutputStream()) {
+                    postData.writeTo(out);
                 }
+            }
 
-                switch (getResponseType()) {
-                    case JSON:
-                        response = new JSONObject(sb.toString());
-                        break;
-
-                    case PNG:
-                        response = new JSONObject("data:image/png;base64,"
-                                + new String(Base64.getEncoder().encode(sb.toString().getBytes())));
-                        break;
+            statusCode = httpCon.getResponseCode();
+            reasonPhrase = httpCon.getResponseMessage();
 
-                    default:
-                        throw new AssertionError();
+            // error body is read too, so the connection can be reused
+            InputStream in = statusCode >= HttpURLConnection.HTTP_BAD_REQUEST
+                    ? httpCon.getErrorStream()
+                    : httpCon.getInputStream();
+
+            if (in != null) {
+                try (InputStream body = in) {
+                    boolean success = statusCode < HttpURLConnection.HTTP_BAD_REQUEST;
+                    if (success && dataAction != null && responseType == ResponseType.JSON) {
+                        Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+                        codec = PveOrgJsonCodec.INSTANCE;
+                        response = JSONDataStream.read(reader, dataAction);
+                        JSONDataStream.drain(reader);
+                    } else if (success && target != null) {
+                        // binary copied as is, never held in memory
+                        byte[] buffer = new byte[8192];
+                        int read;
+                        while ((read = body.read(buffer)) != -1) {
+                            ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                            while (chunk.hasRemaining()) {
+                                target.write(chunk);
+                            }
+                        }
+                    } else {
+                        // body is decoded on demand by result
+                        responseBody = readBody(body, httpCon.getContentLength());
+                        response = null;
+                    }
                 }
-
             }
         } catch (IOException ex) {
             Logger.getLogger(PveClientBase.class.getName()).log(Level.SEVERE, null, ex);
+            codec = PveOrgJsonCodec.INSTANCE;
+            responseBody = null;
+            response = new JSONObject();
+        } finally {
+            if (httpCon != null) {
+                _connectionPool.release(requestUrl);
+            }
+            if (started) {
+                route._endpoint.end(start, statusCode != 0);
+            }
+            if (lane != null) {
+                lane.release();
+            }
+            if (postData != null) {
+                postData.release();
+            }
         }
 
-        _lastResult = new Result(response,
+        Result result = new Result(responseBody,
+                response,
+                codec,
                 statusCode,
                 reasonPhrase,
                 resource,
                 parameters,
                 methodType,
-                getResponseType());
+                responseType);
 
         if (getDebugLevel() >= 2) {
-            System.out.println(response.toString(2));
-            System.out.println("StatusCode:          " + _lastResult.getStatusCode());
-            System.out.println("ReasonPhrase:        " + _lastResult.getReasonPhrase());
-            System.out.println("IsSuccessStatusCode: " + _lastResult.isSuccessStatusCode());
+            System.out.println(result.getResponse().toString(2));
+            System.out.println("StatusCode:          " + result.getStatusCode());
+            System.out.println("ReasonPhrase:        " + result.getReasonPhrase());
+            System.out.println("IsSuccessStatusCode: " + result.isSuccessStatusCode());
         }
         if (getDebugLevel() > 0) {
             System.out.println("=============================");
         }
-        return _lastResult;
+        return result;
+    }
+
+    private static byte[] readBody(InputStream in, int contentLength) throws IOException {
+        if (contentLength > 0) {
+            // exact size, no intermediate copy
+            byte[] body = new byte[contentLength];
+            int offset = 0;
+            int read;
+            while (offset < contentLength && (read = in.read(body, offset, contentLength - offset)) != -1) {
+                offset += read;
+            }
+            int next = offset == contentLength ? in.read() : -1;
+            if (offset == contentLength && next == -1) {
+                return body;
+            }
+
+            // length not match the header
+            ByteArrayOutputStream out = new ByteArrayOutputStream(contentLength + 1024);
+            out.write(body, 0, offset);
+            if (next != -1) {
+                out.write(next);
+            }
+            return readBody(in, out);
+        }
+        return readBody(in, new ByteArrayOutputStream(1024));
+    }
+
+    private static byte[] readBody(InputStream in, ByteArrayOutputStream out) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
     }
 
     /**
-     * Last result
+     * Last result. With many threads it is the last result of any of them,
+     * use the value returned from the call instead.
      *
      * @return Result
      */
@@ -468,6 +1757,28 @@ public class PveClientBase {
         return _lastResult;
     }
 
+    /**
+     * Get if last result is tracked.
+     *
+     * @return boolean
+     */
+    public boolean isTrackLastResult() {
+        return _trackLastResult;
+    }
+
+    /**
+     * Set if last result is tracked, disable it to not retain the last
+     * response in memory.
+     *
+     * @param trackLastResult Track last result
+     */
+    public void setTrackLastResult(boolean trackLastResult) {
+        _trackLastResult = trackLastResult;
+        if (!trackLastResult) {
+            _lastResult = null;
+        }
+    }
+
     /**
      * Add indexed parameter
      *
@@ -484,12 +1795,14 @@ public class PveClientBase {
     }
 
     /**
-     * Wait for task to finish
+     * Wait for task to finish, the thread sleeps between the checks.
      *
      * @param task Task identifier
      * @param wait Millisecond wait next check
      * @param timeOut Millisecond timeout
-     * @return 0 Success
+     * @return true if the task is finished, false if it is still running when
+     * timeOut expires or the thread is interrupted (the interrupt status is
+     * kept)
      * @throws JSONException
      */
     public boolean waitForTaskToFinish(String task, long wait, long timeOut) throws JSONException {
@@ -501,15 +1814,129 @@ public class PveClientBase {
             timeOut = wait + 5000;
         }
         long timeStart = System.currentTimeMillis();
-        long waitTime = System.currentTimeMillis();
-        while (isRunning && (System.currentTimeMillis() - timeStart) < timeOut) {
-            if ((System.currentTimeMillis() - waitTime) >= wait) {
-                waitTime = System.currentTimeMillis();
-                isRunning = taskIsRunning(task);
+        long elapsed = 0;
+        while (isRunning && elapsed < timeOut) {
+            // sleep instead of spinning, a virtual thread releases its carrier
+            try {
+                Thread.sleep(Math.min(wait, timeOut - elapsed));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            isRunning = taskIsRunning(task);
+            elapsed = System.currentTimeMillis() - timeStart;
+        }
+
+        return !isRunning;
+    }
+
+    /**
+     * Wait for task to finish without blocking a thread, the status is checked
+     * every wait milliseconds.
+     *
+     * @param task Task identifier
+     * @param wait Millisecond wait next check
+     * @param timeOut Millisecond timeout
+     * @return CompletableFuture of TaskOutcome, not finished if timed out
+     */
+    public CompletableFuture<TaskOutcome> waitForTaskToFinishAsync(String task, long wait, long timeOut) {
+        return waitForTaskToFinishAsync(task, wait, wait, timeOut);
+    }
+
+    /**
+     * Wait for task to finish without blocking a thread, the wait between
+     * checks is doubled at every check up to maxWait.
+     *
+     * @param task Task identifier
+     * @param wait Millisecond wait first check
+     * @param maxWait Millisecond max wait between checks
+     * @param timeOut Millisecond timeout
+     * @return CompletableFuture of TaskOutcome, not finished if timed out
+     */
+    public CompletableFuture<TaskOutcome> waitForTaskToFinishAsync(String task,
+            long wait,
+            long maxWait,
+            long timeOut) {
+        if (wait <= 0) {
+            wait = 500;
+        }
+        if (maxWait < wait) {
+            maxWait = wait;
+        }
+        if (timeOut < wait) {
+            timeOut = wait + 5000;
+        }
+
+        CompletableFuture<TaskOutcome> outcome = new CompletableFuture<>();
+        scheduleTaskCheck(task, outcome, wait, maxWait, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeOut));
+        return outcome;
+    }
+
+    private void scheduleTaskCheck(String task,
+            CompletableFuture<TaskOutcome> outcome,
+            long wait,
+            long maxWait,
+            long deadline) {
+        long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remaining <= 0) {
+            outcome.complete(new TaskOutcome(task, false, null));
+            return;
+        }
+
+        // the scheduler only hands over the check, requests run on the executor
+        getScheduler().schedule(() -> {
+            if (!outcome.isDone()) {
+                try {
+                    getExecutor().execute(() -> checkTask(task, outcome, wait, maxWait, deadline));
+                } catch (RuntimeException ex) {
+                    outcome.completeExceptionally(ex);
+                }
             }
+        }, Math.min(wait, remaining), TimeUnit.MILLISECONDS);
+    }
+
+    private void checkTask(String task,
+            CompletableFuture<TaskOutcome> outcome,
+            long wait,
+            long maxWait,
+            long deadline) {
+        if (outcome.isDone()) {
+            return;
         }
 
-        return System.currentTimeMillis() - timeStart < timeOut;
+        try {
+            Result result = readTaskStatus(task);
+            if (result.isSuccessStatusCode()) {
+                JSONObject data = result.getResponse().getJSONObject("data");
+                if (!"running".equals(data.getString("status"))) {
+                    outcome.complete(new TaskOutcome(task, true, data.optString("exitstatus", null)));
+                    return;
+                }
+            }
+            scheduleTaskCheck(task, outcome, Math.min(wait * 2, maxWait), maxWait, deadline);
+        } catch (RuntimeException ex) {
+            outcome.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Scheduler shared by clients for timed checks.
+     *
+     * @return ScheduledExecutorService
+     */
+    static ScheduledExecutorService getScheduler() {
+        if (_scheduler == null) {
+            synchronized (PveClientBase.class) {
+                if (_scheduler == null) {
+                    _scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "pve-client-scheduler");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return _scheduler;
     }
 
     /**
@@ -572,4 +1999,138 @@ public class PveClientBase {
     private Result readTaskStatus(String task) throws JSONException {
         return get("/nodes/" + getNodeFromTask(task) + "/tasks/" + task + "/status", null);
     }
+
+    /**
+     * Configuration update waiting the coalescing window, updates to the same
+     * resource are merged until they conflict.
+     */
+    private static final class PendingWrite {
+
+        private final String _key;
+        private final String _resource;
+        private final MethodType _methodType;
+        private final Map<String, Object> _parameters = new LinkedHashMap<>();
+        private final CompletableFuture<Result> _previous;
+        private final CompletableFuture<Void> _ready = new CompletableFuture<>();
+        private final CompletableFuture<Result> _result = new CompletableFuture<>();
+        private boolean _flushed;
+
+        PendingWrite(String key,
+                String resource,
+                MethodType methodType,
+                Map<String, Object> parameters,
+                CompletableFuture<Result> previous) {
+            _key = key;
+            _resource = resource;
+            _methodType = methodType;
+            _previous = previous;
+            if (parameters != null) {
+                parameters.forEach((name, value) -> {
+                    if (value != null) {
+                        _parameters.put(name, value);
+                    }
+                });
+            }
+        }
+
+        /**
+         * Merge parameters of another update.
+         *
+         * @return false if the update conflicts
+         */
+        boolean merge(Map<String, Object> parameters) {
+            if (_flushed || _parameters.containsKey("digest")) {
+                return false;
+            }
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            if (parameters != null) {
+                parameters.forEach((name, value) -> {
+                    if (value != null) {
+                        values.put(name, value);
+                    }
+                });
+            }
+            if (values.containsKey("digest")) {
+                return false;
+            }
+
+            List<String> deleted = getDeleted(_parameters);
+            List<String> deleting = getDeleted(values);
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                String name = entry.getKey();
+                Object current = _parameters.get(name);
+                if (!"delete".equals(name)
+                        && ((current != null && !current.toString().equals(entry.getValue().toString()))
+                        || deleted.contains(name))) {
+                    return false;
+                }
+            }
+            for (String name : deleting) {
+                if (_parameters.containsKey(name)) {
+                    return false;
+                }
+            }
+
+            values.forEach((name, value) -> {
+                if (!"delete".equals(name)) {
+                    _parameters.put(name, value);
+                }
+            });
+            for (String name : deleting) {
+                if (!deleted.contains(name)) {
+                    deleted.add(name);
+                }
+            }
+            if (!deleted.isEmpty()) {
+                _parameters.put("delete", String.join(",", deleted));
+            }
+            return true;
+        }
+
+        private static List<String> getDeleted(Map<String, Object> parameters) {
+            List<String> ret = new ArrayList<>();
+            Object delete = parameters.get("delete");
+            if (delete != null) {
+                for (String name : delete.toString().split("[,;\\s]+")) {
+                    if (!name.isEmpty()) {
+                        ret.add(name);
+                    }
+                }
+            }
+            return ret;
+        }
+    }
+
+    /**
+     * Endpoint of an attempt and why it failed before the request was sent.
+     */
+    private static final class Route {
+
+        private final PveEndpoint _endpoint;
+        private boolean _connectFailed;
+        private boolean _queueTimeout;
+        private boolean _poolTimeout;
+
+        Route(PveEndpoint endpoint) {
+            _endpoint = endpoint;
+        }
+    }
+
+    /**
+     * Ticket of login, immutable so it is published atomically.
+     */
+    private static final class Ticket {
+
+        private final String _username;
+        private final String _pveAuthCookie;
+        private final String _csrfPreventionToken;
+        private final long _created = System.currentTimeMillis();
+
+        Ticket(String username, String pveAuthCookie, String csrfPreventionToken) {
+            _username = username;
+            _pveAuthCookie = pveAuthCookie;
+            _csrfPreventionToken = csrfPreventionToken;
+        }
+    }
 }
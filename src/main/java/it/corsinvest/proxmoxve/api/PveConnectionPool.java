@@ -0,0 +1,369 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+/**
+ * Connection pool used by the client.
+ *
+ * The SSL context is created once per pool, so TLS sessions are cached and
+ * resumed, and keep-alive sockets are reused by the JDK HTTP keep-alive cache
+ * as long as every response body is fully consumed.
+ *
+ * The requests in progress for host are not limited, unless a limit is set
+ * with setMaxConnectionsPerHost. The idle sockets are kept by the JDK
+ * keep-alive cache: at most http.maxConnections (default 5) for host, closed
+ * after the keep-alive time of the server or http.keepAlive.time.server
+ * seconds (JDK 11.0.17 or later). These are system properties of the JVM,
+ * read once by the JDK and shared by every HTTP client of the process; the
+ * pool does not change them. Connections over http.maxConnections are closed
+ * after use.
+ */
+public class PveConnectionPool {
+
+    private static final HostnameVerifier ALL_HOSTS_VALID = (String hostname, SSLSession session) -> true;
+
+    private final SSLContext _sslContext;
+    private final SSLSocketFactory _socketFactory;
+    private static final int MAX_TRACKED_SESSIONS = 4096;
+
+    private final Map<String, HostPermits> _hostPermits = new ConcurrentHashMap<>();
+    private final Set<String> _sessionIds = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private volatile int _maxConnectionsPerHost = Integer.MAX_VALUE;
+    private final AtomicLong _requests = new AtomicLong();
+    private final AtomicLong _connectionsOpened = new AtomicLong();
+    private final AtomicLong _handshakes = new AtomicLong();
+    private final AtomicLong _sessionsResumed = new AtomicLong();
+    private final AtomicLong _inFlight = new AtomicLong();
+    private final AtomicLong _waitTimeouts = new AtomicLong();
+
+    public PveConnectionPool() {
+        SSLContext sslContext = null;
+        try {
+            // Create a trust manager that does not validate certificate chains
+            TrustManager[] trustAllCerts = new TrustManager[]{new X509TrustManager() {
+                @Override
+                public X509Certificate[] getAcceptedIssuers() {
+                    return new X509Certificate[0];
+                }
+
+                @Override
+                public void checkClientTrusted(X509Certificate[] certs, String authType) {
+                }
+
+                @Override
+                public void checkServerTrusted(X509Certificate[] certs, String authType) {
+                }
+            }};
+
+            sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, trustAllCerts, new SecureRandom());
+        } catch (NoSuchAlgorithmException | KeyManagementException ex) {
+            Logger.getLogger(PveConnectionPool.class.getName()).log(Level.SEVERE, null, ex);
+            sslContext = null;
+        }
+        _sslContext = sslContext;
+        _socketFactory = sslContext == null ? null : new CountingSocketFactory(sslContext.getSocketFactory());
+    }
+
+    /**
+     * Get max idle connections kept for host by the JDK keep-alive cache
+     * (http.maxConnections).
+     *
+     * @return int
+     */
+    public static int getMaxIdleConnectionsPerHost() {
+        Integer ret = Integer.getInteger("http.maxConnections", 5);
+        return ret > 0 ? ret : 5;
+    }
+
+    /**
+     * Get max concurrent connections for host, Integer.MAX_VALUE (default) no
+     * limit.
+     *
+     * @return int
+     */
+    public int getMaxConnectionsPerHost() {
+        return _maxConnectionsPerHost;
+    }
+
+    /**
+     * Set max concurrent connections for host. Request over the limit wait a
+     * free connection up to the client timeout, then fail with status 0.
+     * Connections over getMaxIdleConnectionsPerHost are closed after use.
+     *
+     * @param maxConnectionsPerHost Max connections, must be greater than zero,
+     * Integer.MAX_VALUE no limit
+     */
+    public synchronized void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+        if (maxConnectionsPerHost <= 0) {
+            throw new IllegalArgumentException("maxConnectionsPerHost must be greater than zero");
+        }
+        int delta = maxConnectionsPerHost - _maxConnectionsPerHost;
+        _maxConnectionsPerHost = maxConnectionsPerHost;
+        _hostPermits.values().forEach(permits -> permits.resize(delta));
+    }
+
+    /**
+     * Set TLS session cache timeout, sessions idle over this time require a
+     * full handshake.
+     *
+     * @param seconds Timeout in seconds, 0 no limit
+     */
+    public void setSessionTimeout(int seconds) {
+        if (_sslContext != null) {
+            _sslContext.getClientSessionContext().setSessionTimeout(seconds);
+        }
+    }
+
+    /**
+     * Open connection and acquire a slot for the host.
+     *
+     * @param url Url
+     * @param timeout Millisecond wait a free slot
+     * @return HttpURLConnection or null if no slot is free in time
+     * @throws IOException
+     */
+    HttpURLConnection open(URL url, int timeout) throws IOException {
+        HostPermits permits = getHostPermits(url);
+        try {
+            if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                _waitTimeouts.incrementAndGet();
+                return null;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting a connection", ex);
+        }
+
+        _requests.incrementAndGet();
+        _inFlight.incrementAndGet();
+        HttpURLConnection httpCon;
+        try {
+            httpCon = (HttpURLConnection) url.openConnection();
+        } catch (IOException | RuntimeException ex) {
+            release(url);
+            throw ex;
+        }
+
+        if (httpCon instanceof HttpsURLConnection) {
+            HttpsURLConnection httpsCon = (HttpsURLConnection) httpCon;
+            if (_socketFactory != null) {
+                httpsCon.setSSLSocketFactory(_socketFactory);
+            }
+            httpsCon.setHostnameVerifier(ALL_HOSTS_VALID);
+        }
+        return httpCon;
+    }
+
+    /**
+     * Release slot acquired from open.
+     *
+     * @param url Url
+     */
+    void release(URL url) {
+        getHostPermits(url).release();
+        _inFlight.decrementAndGet();
+    }
+
+    private HostPermits getHostPermits(URL url) {
+        String key = url.getHost() + ":" + url.getPort();
+        HostPermits permits = _hostPermits.get(key);
+        if (permits == null) {
+            synchronized (this) {
+                permits = _hostPermits.computeIfAbsent(key, k -> new HostPermits(_maxConnectionsPerHost));
+            }
+        }
+        return permits;
+    }
+
+    /**
+     * Number of requests executed.
+     *
+     * @return long
+     */
+    public long getRequests() {
+        return _requests.get();
+    }
+
+    /**
+     * Number of new connections opened.
+     *
+     * @return long
+     */
+    public long getConnectionsOpened() {
+        return _connectionsOpened.get();
+    }
+
+    /**
+     * Number of requests served on a keep-alive connection.
+     *
+     * @return long
+     */
+    public long getConnectionsReused() {
+        return Math.max(0, _requests.get() - _connectionsOpened.get());
+    }
+
+    /**
+     * Number of TLS handshakes done.
+     *
+     * @return long
+     */
+    public long getHandshakes() {
+        return _handshakes.get();
+    }
+
+    /**
+     * Number of TLS handshakes that resumed a cached session.
+     *
+     * @return long
+     */
+    public long getSessionsResumed() {
+        return _sessionsResumed.get();
+    }
+
+    /**
+     * Number of requests in progress.
+     *
+     * @return long
+     */
+    public long getInFlight() {
+        return _inFlight.get();
+    }
+
+    /**
+     * Number of requests failed waiting a free connection.
+     *
+     * @return long
+     */
+    public long getWaitTimeouts() {
+        return _waitTimeouts.get();
+    }
+
+    @Override
+    public String toString() {
+        return "Requests: " + getRequests()
+                + ", Opened: " + getConnectionsOpened()
+                + ", Reused: " + getConnectionsReused()
+                + ", Handshakes: " + getHandshakes()
+                + ", Resumed: " + getSessionsResumed()
+                + ", InFlight: " + getInFlight()
+                + ", WaitTimeouts: " + getWaitTimeouts();
+    }
+
+    private static class HostPermits extends Semaphore {
+
+        private static final long serialVersionUID = 1L;
+
+        HostPermits(int permits) {
+            super(permits, true);
+        }
+
+        void resize(int delta) {
+            if (delta > 0) {
+                release(delta);
+            } else if (delta < 0) {
+                reducePermits(-delta);
+            }
+        }
+    }
+
+    private class CountingSocketFactory extends SSLSocketFactory {
+
+        private final SSLSocketFactory _delegate;
+
+        CountingSocketFactory(SSLSocketFactory delegate) {
+            _delegate = delegate;
+        }
+
+        private Socket track(Socket socket) {
+            _connectionsOpened.incrementAndGet();
+            if (socket instanceof SSLSocket) {
+                long created = System.currentTimeMillis();
+                ((SSLSocket) socket).addHandshakeCompletedListener(event -> {
+                    _handshakes.incrementAndGet();
+                    // resumed session keep the creation time (TLS 1.3) or the id (TLS 1.2) of the cached one
+                    String id = Base64.getEncoder().encodeToString(event.getSession().getId());
+                    boolean newId = _sessionIds.add(id);
+                    if (!newId || event.getSession().getCreationTime() < created) {
+                        _sessionsResumed.incrementAndGet();
+                    }
+                    if (_sessionIds.size() > MAX_TRACKED_SESSIONS) {
+                        _sessionIds.clear();
+                    }
+                });
+            }
+            return socket;
+        }
+
+        @Override
+        public String[] getDefaultCipherSuites() {
+            return _delegate.getDefaultCipherSuites();
+        }
+
+        @Override
+        public String[] getSupportedCipherSuites() {
+            return _delegate.getSupportedCipherSuites();
+        }
+
+        @Override
+        public Socket createSocket() throws IOException {
+            return track(_delegate.createSocket());
+        }
+
+        @Override
+        public Socket createSocket(Socket s, String host, int port, boolean autoClose) throws IOException {
+            return track(_delegate.createSocket(s, host, port, autoClose));
+        }
+
+        @Override
+        public Socket createSocket(String host, int port) throws IOException {
+            return track(_delegate.createSocket(host, port));
+        }
+
+        @Override
+        public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+            return track(_delegate.createSocket(host, port, localHost, localPort));
+        }
+
+        @Override
+        public Socket createSocket(InetAddress host, int port) throws IOException {
+            return track(_delegate.createSocket(host, port));
+        }
+
+        @Override
+        public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort)
+                throws IOException {
+            return track(_delegate.createSocket(address, port, localAddress, localPort));
+        }
+    }
+}
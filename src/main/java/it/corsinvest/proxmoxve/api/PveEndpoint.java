@@ -0,0 +1,191 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Host that receives requests, with its statistics.
+ */
+public class PveEndpoint {
+
+    private final String _name;
+    private final String _host;
+    private final int _port;
+    private final AtomicLong _requests = new AtomicLong();
+    private final AtomicLong _failures = new AtomicLong();
+    private final AtomicLong _latency = new AtomicLong();
+    private final AtomicInteger _outstanding = new AtomicInteger();
+    private double _recentLatency;
+    private volatile long _downUntil;
+
+    /**
+     * Constructor
+     *
+     * @param name Name, eg. node name
+     * @param host Host name or ip address
+     * @param port Port
+     */
+    public PveEndpoint(String name, String host, int port) {
+        _name = name;
+        _host = host;
+        _port = port;
+    }
+
+    /**
+     * Name, eg. node name.
+     *
+     * @return String
+     */
+    public String getName() {
+        return _name;
+    }
+
+    /**
+     * Host name or ip address.
+     *
+     * @return String
+     */
+    public String getHost() {
+        return _host;
+    }
+
+    /**
+     * Port.
+     *
+     * @return int
+     */
+    public int getPort() {
+        return _port;
+    }
+
+    /**
+     * Number of requests sent.
+     *
+     * @return long
+     */
+    public long getRequests() {
+        return _requests.get();
+    }
+
+    /**
+     * Number of requests without response.
+     *
+     * @return long
+     */
+    public long getFailures() {
+        return _failures.get();
+    }
+
+    /**
+     * Number of requests in progress.
+     *
+     * @return int
+     */
+    public int getOutstanding() {
+        return _outstanding.get();
+    }
+
+    /**
+     * Average latency of requests.
+     *
+     * @return double Millisecond
+     */
+    public double getAverageLatency() {
+        long requests = _requests.get();
+        return requests == 0 ? 0 : _latency.get() / 1000000.0 / requests;
+    }
+
+    /**
+     * Latency of recent requests (exponentially weighted).
+     *
+     * @return double Millisecond
+     */
+    public synchronized double getRecentLatency() {
+        return _recentLatency;
+    }
+
+    /**
+     * Endpoint is not marked as down.
+     *
+     * @return boolean
+     */
+    public boolean isAvailable() {
+        long downUntil = _downUntil;
+        return downUntil == 0 || downUntil - System.nanoTime() <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return _name + " (" + _host + ":" + _port + ")"
+                + " Requests: " + getRequests()
+                + ", Failures: " + getFailures()
+                + ", Outstanding: " + getOutstanding()
+                + ", AverageLatency: " + String.format("%.1f", getAverageLatency()) + "ms"
+                + ", RecentLatency: " + String.format("%.1f", getRecentLatency()) + "ms"
+                + (isAvailable() ? "" : ", Down");
+    }
+
+    /**
+     * Base url of api.
+     *
+     * @param responseType Response type
+     * @return String
+     */
+    String getApiUrl(ResponseType responseType) {
+        String host = _host.indexOf(':') >= 0 && !_host.startsWith("[") ? "[" + _host + "]" : _host;
+        return "https://" + host + ":" + _port
+                + (responseType == ResponseType.PNG ? "/api2/png" : "/api2/json");
+    }
+
+    /**
+     * Request started.
+     *
+     * @return long Start time
+     */
+    long begin() {
+        _outstanding.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Request ended.
+     *
+     * @param start Start time from begin
+     * @param responded Response received
+     */
+    void end(long start, boolean responded) {
+        long latency = System.nanoTime() - start;
+        _outstanding.decrementAndGet();
+        _requests.incrementAndGet();
+        _latency.addAndGet(latency);
+        if (!responded) {
+            _failures.incrementAndGet();
+        }
+
+        double millis = latency / 1000000.0;
+        synchronized (this) {
+            _recentLatency = _recentLatency == 0 ? millis : _recentLatency * 0.8 + millis * 0.2;
+        }
+    }
+
+    /**
+     * Mark endpoint as down.
+     *
+     * @param time Millisecond
+     */
+    void markDown(long time) {
+        _downUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(time);
+    }
+
+    /**
+     * Mark endpoint as available.
+     */
+    void markUp() {
+        _downUntil = 0;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of resource objects of PveClient by id (node, vmid, ...), so
+ * navigating the same path again doesn't allocate new objects. When the cache
+ * is full it is emptied, the objects are immutable and are recreated on
+ * demand.
+ *
+ * @param <V> Type of resource object
+ */
+final class PveHandleCache<V> {
+
+    /**
+     * Max objects of a collection.
+     */
+    static final int MAX_SIZE = 1024;
+
+    private final Map<Object, V> _handles = new ConcurrentHashMap<>();
+
+    /**
+     * Get object of id.
+     *
+     * @param id Id
+     * @return Object or null if not cached
+     */
+    V get(Object id) {
+        return id == null ? null : _handles.get(id);
+    }
+
+    /**
+     * Add object of id.
+     *
+     * @param id Id
+     * @param handle Object created
+     * @return Object cached, handle if not already present
+     */
+    V put(Object id, V handle) {
+        if (id == null) {
+            return handle;
+        }
+        if (_handles.size() >= MAX_SIZE) {
+            _handles.clear();
+        }
+        V ret = _handles.putIfAbsent(id, handle);
+        return ret == null ? handle : ret;
+    }
+}
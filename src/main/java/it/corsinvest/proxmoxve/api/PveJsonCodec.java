@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Map;
+import org.json.JSONObject;
+
+/**
+ * Json codec used to decode Proxmox VE responses.
+ *
+ * A codec decodes the body in its own document model, e.g. a Jackson or Gson
+ * Map, and converts it on demand to JSONObject for Result.getResponse() or to
+ * a codec-neutral tree of Map, List, String, Number, Boolean and null for
+ * Result.getResponseMap().
+ */
+public interface PveJsonCodec {
+
+    /**
+     * Decode the response body.
+     *
+     * @param reader Reader of body
+     * @return Object Document of codec
+     * @throws IOException
+     */
+    Object decode(Reader reader) throws IOException;
+
+    /**
+     * Convert document to JSONObject.
+     *
+     * @param document Document returned from decode
+     * @return JSONObject
+     */
+    @SuppressWarnings("unchecked")
+    default JSONObject toJSONObject(Object document) {
+        return document instanceof JSONObject
+                ? (JSONObject) document
+                : new JSONObject((Map<String, Object>) document);
+    }
+
+    /**
+     * Convert document to codec-neutral tree of Map, List, String, Number,
+     * Boolean and null.
+     *
+     * @param document Document returned from decode
+     * @return Map
+     */
+    @SuppressWarnings("unchecked")
+    default Map<String, Object> toMap(Object document) {
+        return document instanceof JSONObject
+                ? ((JSONObject) document).toMap()
+                : (Map<String, Object>) document;
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.json.JSONException;
+
+/**
+ * Operation of api: method and path template (eg. GET
+ * /nodes/{node}/qemu/{vmid}/status/current) parsed once, for calls made many
+ * times.
+ *
+ * <pre>
+ * static final PveOperation VM_STATUS = new PveOperation(MethodType.GET, "/nodes/{node}/qemu/{vmid}/status/current");
+ * Result result = VM_STATUS.execute(client, null, "pve1", 100);
+ *
+ * static final PveOperation VM_SNAPSHOT = new PveOperation(MethodType.CREATE, "/nodes/{node}/qemu/{vmid}/snapshot",
+ *         "snapname", "description");
+ * Result result = VM_SNAPSHOT.execute(client, VM_SNAPSHOT.parameters("before-upgrade", null), "pve1", 100);
+ * </pre>
+ */
+public final class PveOperation {
+
+    private final MethodType _methodType;
+    private final String _pathTemplate;
+    private final String[] _literals;
+    private final String[] _names;
+    private final String[] _parameterNames;
+    private final int _literalsLength;
+
+    /**
+     * Constructor
+     *
+     * @param methodType Method type
+     * @param pathTemplate Path with parameters in braces, eg.
+     * /nodes/{node}/qemu/{vmid}/config
+     * @param parameterNames Names of parameters, in the order of the values of
+     * parameters
+     */
+    public PveOperation(MethodType methodType, String pathTemplate, String... parameterNames) {
+        _methodType = methodType;
+        _pathTemplate = pathTemplate;
+        _parameterNames = parameterNames.clone();
+
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = pathTemplate.indexOf('{', position)) >= 0) {
+            int close = pathTemplate.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Missing '}' in " + pathTemplate);
+            }
+            literals.add(pathTemplate.substring(position, open));
+            names.add(pathTemplate.substring(open + 1, close));
+            position = close + 1;
+        }
+        literals.add(pathTemplate.substring(position));
+
+        _literals = literals.toArray(new String[0]);
+        _names = names.toArray(new String[0]);
+        int literalsLength = 0;
+        for (String literal : _literals) {
+            literalsLength += literal.length();
+        }
+        _literalsLength = literalsLength;
+    }
+
+    /**
+     * Method type.
+     *
+     * @return MethodType
+     */
+    public MethodType getMethodType() {
+        return _methodType;
+    }
+
+    /**
+     * Path template.
+     *
+     * @return String
+     */
+    public String getPathTemplate() {
+        return _pathTemplate;
+    }
+
+    /**
+     * Names of path parameters, in order.
+     *
+     * @return String[]
+     */
+    public String[] getPathParameters() {
+        return _names.clone();
+    }
+
+    /**
+     * Names of parameters, in order.
+     *
+     * @return String[]
+     */
+    public String[] getParameterNames() {
+        return _parameterNames.clone();
+    }
+
+    /**
+     * Parameters of a call, without the allocations of a HashMap. Values are
+     * in the order of the names, missing trailing values and null values are
+     * not sent.
+     *
+     * @param values Values of parameters, in order
+     * @return Map read only
+     */
+    public Map<String, Object> parameters(Object... values) {
+        return new PveParameters(_parameterNames, values);
+    }
+
+    /**
+     * Path with parameters replaced.
+     *
+     * @param values Values of path parameters, in order
+     * @return String
+     */
+    public String resolve(Object... values) {
+        if (values.length != _names.length) {
+            throw new IllegalArgumentException(_pathTemplate + " requires " + _names.length + " values");
+        }
+        if (_names.length == 0) {
+            return _literals[0];
+        }
+
+        // ids are short: the estimate avoids growing and a string for numbers
+        StringBuilder path = new StringBuilder(_literalsLength + 16 * values.length).append(_literals[0]);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value instanceof Integer || value instanceof Long) {
+                path.append(((Number) value).longValue());
+            } else {
+                path.append(value);
+            }
+            path.append(_literals[i + 1]);
+        }
+        return path.toString();
+    }
+
+    /**
+     * Execute operation.
+     *
+     * @param client Client
+     * @param parameters Additional parameters, can be null
+     * @param values Values of path parameters, in order
+     * @return Result
+     * @throws JSONException
+     */
+    public Result execute(PveClientBase client, Map<String, Object> parameters, Object... values)
+            throws JSONException {
+        return send(client, resolve(values), parameters);
+    }
+
+    /**
+     * Execute operation asynchronously on the client executor.
+     *
+     * @param client Client
+     * @param parameters Additional parameters, can be null
+     * @param values Values of path parameters, in order
+     * @return CompletableFuture of Result
+     */
+    public CompletableFuture<Result> executeAsync(PveClientBase client,
+            Map<String, Object> parameters,
+            Object... values) {
+        String resource = resolve(values);
+        return client.async(() -> send(client, resource, parameters));
+    }
+
+    private Result send(PveClientBase client, String resource, Map<String, Object> parameters)
+            throws JSONException {
+        switch (_methodType) {
+            case GET:
+                return client.get(resource, parameters);
+
+            case SET:
+                return client.set(resource, parameters);
+
+            case CREATE:
+                return client.create(resource, parameters);
+
+            case DELETE:
+                return client.delete(resource, parameters);
+
+            default:
+                throw new AssertionError();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return _methodType + " " + _pathTemplate;
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.io.Reader;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+/**
+ * Default json codec based on org.json.
+ */
+public class PveOrgJsonCodec implements PveJsonCodec {
+
+    /**
+     * Shared instance
+     */
+    public static final PveOrgJsonCodec INSTANCE = new PveOrgJsonCodec();
+
+    @Override
+    public Object decode(Reader reader) {
+        return new JSONObject(new JSONTokener(reader));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read only parameters of an operation: names shared by the operation and
+ * values of the call, in the same order. Unlike a HashMap no table or entry is
+ * created by the call, and the encoder reads the arrays directly.
+ */
+final class PveParameters extends AbstractMap<String, Object> {
+
+    private final String[] _names;
+    private final Object[] _values;
+
+    /**
+     * Constructor
+     *
+     * @param names Names, shared
+     * @param values Values, at most one for each name
+     */
+    PveParameters(String[] names, Object[] values) {
+        if (values.length > names.length) {
+            throw new IllegalArgumentException("Expected at most " + names.length + " values");
+        }
+        _names = names;
+        _values = values;
+    }
+
+    /**
+     * Name at index.
+     *
+     * @param index Index
+     * @return String
+     */
+    String getName(int index) {
+        return _names[index];
+    }
+
+    /**
+     * Value at index.
+     *
+     * @param index Index
+     * @return Object, can be null
+     */
+    Object getValue(int index) {
+        return _values[index];
+    }
+
+    @Override
+    public int size() {
+        return _values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : _values[index];
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Object>>() {
+            @Override
+            public int size() {
+                return _values.length;
+            }
+
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return new Iterator<Map.Entry<String, Object>>() {
+                    private int _index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return _index < _values.length;
+                    }
+
+                    @Override
+                    public Map.Entry<String, Object> next() {
+                        if (_index >= _values.length) {
+                            throw new NoSuchElementException();
+                        }
+                        int index = _index++;
+                        return new SimpleImmutableEntry<>(_names[index], _values[index]);
+                    }
+                };
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < _values.length; i++) {
+            if (_names[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
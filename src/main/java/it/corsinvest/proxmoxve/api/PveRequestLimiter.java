@@ -0,0 +1,339 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limiter of requests sent to a host, so bulk jobs don't saturate the workers
+ * of pveproxy.
+ *
+ * Requests are divided by class: READ (GET), LONG_RUNNING (actions that start
+ * a task, eg. /status/start, /migrate, /clone) and WRITE (all other). Every
+ * host and class has its own lane with a token bucket (requests per second)
+ * and a bulkhead (max requests in progress). A request waits in the lane up to
+ * the queue timeout, then fails with status code 0, without retry or failover.
+ *
+ * The host is the host of the url of the request: with node routing, the
+ * address of the node.
+ */
+public class PveRequestLimiter {
+
+    /**
+     * Class of request.
+     */
+    public enum RequestClass {
+        READ, WRITE, LONG_RUNNING
+    }
+
+    private final long _queueTimeout;
+    private final Map<RequestClass, Limit> _limits = new ConcurrentHashMap<>();
+    private final Map<String, Limit> _hostLimits = new ConcurrentHashMap<>();
+    private final Map<String, Lane> _lanes = new ConcurrentHashMap<>();
+    private final Set<String> _longRunningActions = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /**
+     * Constructor
+     *
+     * @param queueTimeout Millisecond a request waits in the lane
+     */
+    public PveRequestLimiter(long queueTimeout) {
+        _queueTimeout = queueTimeout;
+        _longRunningActions.addAll(Arrays.asList("start", "stop", "shutdown", "reboot", "reset",
+                "suspend", "resume", "migrate", "remote_migrate", "clone", "template", "rollback", "snapshot",
+                "move_disk", "move_volume", "resize", "vzdump", "startall", "stopall", "migrateall"));
+    }
+
+    /**
+     * Set limit of class for every host.
+     *
+     * @param requestClass Class of request
+     * @param requestsPerSecond Requests per second, 0 no limit
+     * @param maxInProgress Max requests in progress, 0 no limit
+     * @return PveRequestLimiter
+     */
+    public PveRequestLimiter setLimit(RequestClass requestClass, double requestsPerSecond, int maxInProgress) {
+        _limits.put(requestClass, new Limit(requestsPerSecond, maxInProgress));
+        _lanes.clear();
+        return this;
+    }
+
+    /**
+     * Set limit of class for a host, overrides the limit for every host.
+     *
+     * @param host Host name or ip address, as in the url of the request
+     * @param requestClass Class of request
+     * @param requestsPerSecond Requests per second, 0 no limit
+     * @param maxInProgress Max requests in progress, 0 no limit
+     * @return PveRequestLimiter
+     */
+    public PveRequestLimiter setLimit(String host,
+            RequestClass requestClass,
+            double requestsPerSecond,
+            int maxInProgress) {
+        _hostLimits.put(getKey(host, requestClass), new Limit(requestsPerSecond, maxInProgress));
+        _lanes.clear();
+        return this;
+    }
+
+    /**
+     * Add last segment of path of a long running action, eg. "vncproxy".
+     *
+     * @param action Last segment of path
+     * @return PveRequestLimiter
+     */
+    public PveRequestLimiter addLongRunningAction(String action) {
+        _longRunningActions.add(action);
+        return this;
+    }
+
+    /**
+     * Millisecond a request waits in the lane.
+     *
+     * @return long
+     */
+    public long getQueueTimeout() {
+        return _queueTimeout;
+    }
+
+    /**
+     * Lanes used, by host and class (eg. "10.0.0.1 READ").
+     *
+     * @return Map
+     */
+    public Map<String, Lane> getLanes() {
+        return Collections.unmodifiableMap(_lanes);
+    }
+
+    /**
+     * Class of request.
+     *
+     * @param methodType Method type
+     * @param resource Path
+     * @return RequestClass
+     */
+    public RequestClass getRequestClass(MethodType methodType, String resource) {
+        if (methodType == MethodType.GET) {
+            return RequestClass.READ;
+        }
+        String action = resource.substring(resource.lastIndexOf('/') + 1);
+        return _longRunningActions.contains(action) ? RequestClass.LONG_RUNNING : RequestClass.WRITE;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder ret = new StringBuilder();
+        _lanes.values().forEach(lane -> ret.append(lane).append('\n'));
+        return ret.toString();
+    }
+
+    /**
+     * Lane of request.
+     *
+     * @param host Host of request
+     * @param methodType Method type
+     * @param resource Path
+     * @return Lane or null if the request is not limited
+     */
+    Lane getLane(String host, MethodType methodType, String resource) {
+        RequestClass requestClass = getRequestClass(methodType, resource);
+        String key = getKey(host, requestClass);
+        Lane lane = _lanes.get(key);
+        if (lane == null) {
+            Limit limit = _hostLimits.get(key);
+            if (limit == null) {
+                limit = _limits.get(requestClass);
+            }
+            if (limit == null || (limit._requestsPerSecond <= 0 && limit._maxInProgress <= 0)) {
+                return null;
+            }
+
+            Limit laneLimit = limit;
+            lane = _lanes.computeIfAbsent(key, k -> new Lane(k, laneLimit, _queueTimeout));
+        }
+        return lane;
+    }
+
+    private static String getKey(String host, RequestClass requestClass) {
+        return host + " " + requestClass;
+    }
+
+    private static class Limit {
+
+        private final double _requestsPerSecond;
+        private final int _maxInProgress;
+
+        Limit(double requestsPerSecond, int maxInProgress) {
+            _requestsPerSecond = requestsPerSecond;
+            _maxInProgress = maxInProgress;
+        }
+    }
+
+    /**
+     * Lane of host and class, with its statistics.
+     */
+    public static class Lane {
+
+        private final String _name;
+        private final double _requestsPerSecond;
+        private final double _burst;
+        private final int _maxInProgress;
+        private final Semaphore _inProgress;
+        private final long _queueTimeout;
+        private double _tokens;
+        private long _refilledAt = System.nanoTime();
+        private final AtomicInteger _queued = new AtomicInteger();
+        private final AtomicInteger _maxQueued = new AtomicInteger();
+        private final AtomicLong _requests = new AtomicLong();
+        private final AtomicLong _waitTime = new AtomicLong();
+        private final AtomicLong _timeouts = new AtomicLong();
+
+        Lane(String name, Limit limit, long queueTimeout) {
+            _name = name;
+            _requestsPerSecond = limit._requestsPerSecond;
+            _burst = Math.max(1, limit._requestsPerSecond);
+            _tokens = _burst;
+            _maxInProgress = limit._maxInProgress;
+            _inProgress = _maxInProgress > 0 ? new Semaphore(_maxInProgress, true) : null;
+            _queueTimeout = TimeUnit.MILLISECONDS.toNanos(queueTimeout);
+        }
+
+        /**
+         * Name, host and class.
+         *
+         * @return String
+         */
+        public String getName() {
+            return _name;
+        }
+
+        /**
+         * Number of requests waiting.
+         *
+         * @return int
+         */
+        public int getQueueDepth() {
+            return _queued.get();
+        }
+
+        /**
+         * Max number of requests waiting at the same time.
+         *
+         * @return int
+         */
+        public int getMaxQueueDepth() {
+            return _maxQueued.get();
+        }
+
+        /**
+         * Number of requests entered in the lane.
+         *
+         * @return long
+         */
+        public long getRequests() {
+            return _requests.get();
+        }
+
+        /**
+         * Number of requests failed waiting in the lane.
+         *
+         * @return long
+         */
+        public long getTimeouts() {
+            return _timeouts.get();
+        }
+
+        /**
+         * Average wait of requests in the lane.
+         *
+         * @return double Millisecond
+         */
+        public double getAverageWaitTime() {
+            long requests = _requests.get();
+            return requests == 0 ? 0 : _waitTime.get() / 1000000.0 / requests;
+        }
+
+        /**
+         * Number of requests in progress, -1 if not limited.
+         *
+         * @return int
+         */
+        public int getInProgress() {
+            return _inProgress == null ? -1 : _maxInProgress - _inProgress.availablePermits();
+        }
+
+        @Override
+        public String toString() {
+            return _name
+                    + " Requests: " + getRequests()
+                    + ", QueueDepth: " + getQueueDepth()
+                    + ", MaxQueueDepth: " + getMaxQueueDepth()
+                    + ", InProgress: " + getInProgress()
+                    + ", AverageWaitTime: " + String.format("%.1f", getAverageWaitTime()) + "ms"
+                    + ", Timeouts: " + getTimeouts();
+        }
+
+        /**
+         * Wait a token and a free slot up to the queue timeout.
+         *
+         * @return boolean Acquired, release must be called
+         * @throws InterruptedException
+         */
+        boolean acquire() throws InterruptedException {
+            long start = System.nanoTime();
+            long deadline = start + _queueTimeout;
+            _requests.incrementAndGet();
+            _maxQueued.accumulateAndGet(_queued.incrementAndGet(), Math::max);
+            try {
+                if (_requestsPerSecond > 0) {
+                    long wait;
+                    synchronized (this) {
+                        long now = System.nanoTime();
+                        _tokens = Math.min(_burst, _tokens + (now - _refilledAt) / 1e9 * _requestsPerSecond);
+                        _refilledAt = now;
+
+                        // the token is reserved, the request waits its turn
+                        wait = _tokens >= 1 ? 0 : (long) ((1 - _tokens) / _requestsPerSecond * 1e9);
+                        if (now + wait - deadline > 0) {
+                            _timeouts.incrementAndGet();
+                            return false;
+                        }
+                        _tokens -= 1;
+                    }
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                }
+
+                if (_inProgress != null
+                        && !_inProgress.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    _timeouts.incrementAndGet();
+                    return false;
+                }
+                return true;
+            } finally {
+                _queued.decrementAndGet();
+                _waitTime.addAndGet(System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Release slot acquired.
+         */
+        void release() {
+            if (_inProgress != null) {
+                _inProgress.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Read-through cache of GET results.
+ *
+ * A result is cached only if its path match a policy, eg.
+ * cache.addPolicy("/version", 60000) or
+ * cache.addPolicy("/nodes/{node}/capabilities/**", 300000). A "{name}" or "*"
+ * segment match one segment of the path, a final "**" match the rest of the
+ * path. Writes (PUT/POST/DELETE) to a path invalidate cached results of the
+ * same path, of its parents and of its children. Least recently used results
+ * are evicted when the cache is full.
+ *
+ * Every hit returns a new Result on the same raw body, so callers never share
+ * the decoded response.
+ */
+public class PveResponseCache {
+
+    private final int _maxSize;
+    private final List<Policy> _policies = new CopyOnWriteArrayList<>();
+    private final LinkedHashMap<String, CachedResult> _entries;
+    private final AtomicLong _hits = new AtomicLong();
+    private final AtomicLong _misses = new AtomicLong();
+    private final AtomicLong _evictions = new AtomicLong();
+    private final AtomicLong _invalidations = new AtomicLong();
+
+    /**
+     * Constructor
+     *
+     * @param maxSize Max number of results cached
+     */
+    public PveResponseCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than zero");
+        }
+        _maxSize = maxSize;
+        _entries = new LinkedHashMap<String, CachedResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                if (size() > _maxSize) {
+                    _evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Add a policy, the first policy that match a path is used.
+     *
+     * @param pathPattern Path pattern eg. /nodes/{node}/qemu
+     * @param ttl Millisecond a result is valid
+     * @return PveResponseCache
+     */
+    public PveResponseCache addPolicy(String pathPattern, long ttl) {
+        _policies.add(new Policy(pathPattern, ttl));
+        return this;
+    }
+
+    /**
+     * Max number of results cached.
+     *
+     * @return int
+     */
+    public int getMaxSize() {
+        return _maxSize;
+    }
+
+    /**
+     * Number of results cached.
+     *
+     * @return int
+     */
+    public synchronized int size() {
+        return _entries.size();
+    }
+
+    /**
+     * Remove all results.
+     */
+    public synchronized void clear() {
+        _entries.clear();
+    }
+
+    /**
+     * Number of requests served from cache.
+     *
+     * @return long
+     */
+    public long getHits() {
+        return _hits.get();
+    }
+
+    /**
+     * Number of cacheable requests not found in cache.
+     *
+     * @return long
+     */
+    public long getMisses() {
+        return _misses.get();
+    }
+
+    /**
+     * Number of results evicted because the cache was full.
+     *
+     * @return long
+     */
+    public long getEvictions() {
+        return _evictions.get();
+    }
+
+    /**
+     * Number of results removed by writes.
+     *
+     * @return long
+     */
+    public long getInvalidations() {
+        return _invalidations.get();
+    }
+
+    /**
+     * Ratio of hits over cacheable requests.
+     *
+     * @return double
+     */
+    public double getHitRatio() {
+        long hits = _hits.get();
+        long total = hits + _misses.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "Size: " + size()
+                + ", Hits: " + getHits()
+                + ", Misses: " + getMisses()
+                + ", Evictions: " + getEvictions()
+                + ", Invalidations: " + getInvalidations();
+    }
+
+    /**
+     * Time to live for the path.
+     *
+     * @param resource Path
+     * @return long Millisecond, 0 not cacheable
+     */
+    long getTtl(String resource) {
+        for (Policy policy : _policies) {
+            if (policy._pattern.matcher(resource).matches()) {
+                return policy._ttl;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Get valid result, a copy decoding its own response from the shared raw
+     * body, so a caller changing the JSONObject of the response does not
+     * change the result of the other callers.
+     *
+     * @param key Key of request
+     * @return Result or null
+     */
+    synchronized Result get(String key) {
+        CachedResult entry = _entries.get(key);
+        if (entry != null && entry._expire - System.nanoTime() > 0) {
+            _hits.incrementAndGet();
+            return entry._result.copy();
+        }
+
+        if (entry != null) {
+            _entries.remove(key);
+        }
+        _misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Put result.
+     *
+     * @param key Key of request
+     * @param result Result
+     * @param ttl Millisecond a result is valid
+     */
+    synchronized void put(String key, Result result, long ttl) {
+        _entries.put(key, new CachedResult(result, System.nanoTime() + ttl * 1000000L));
+    }
+
+    /**
+     * Remove results of path, its parents and its children.
+     *
+     * @param resource Path written
+     */
+    synchronized void invalidate(String resource) {
+        String path = normalize(resource);
+        Iterator<Map.Entry<String, CachedResult>> iterator = _entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            String cached = normalize(iterator.next().getValue()._result.getRequestResource());
+            if (isPrefix(cached, path) || isPrefix(path, cached)) {
+                iterator.remove();
+                _invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    private static String normalize(String resource) {
+        return resource.endsWith("/") ? resource : resource + "/";
+    }
+
+    private static boolean isPrefix(String prefix, String path) {
+        return path.startsWith(prefix);
+    }
+
+    private static class CachedResult {
+
+        private final Result _result;
+        private final long _expire;
+
+        CachedResult(Result result, long expire) {
+            _result = result;
+            _expire = expire;
+        }
+    }
+
+    private static class Policy {
+
+        private final Pattern _pattern;
+        private final long _ttl;
+
+        Policy(String pathPattern, long ttl) {
+            _pattern = compile(pathPattern);
+            _ttl = ttl;
+        }
+
+        private static Pattern compile(String pathPattern) {
+            StringBuilder regex = new StringBuilder();
+            String[] segments = pathPattern.split("/", -1);
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if ("**".equals(segment)) {
+                    regex.append("(/.*)?");
+                    continue;
+                }
+
+                if (i > 0) {
+                    regex.append('/');
+                }
+                if ("*".equals(segment) || (segment.startsWith("{") && segment.endsWith("}"))) {
+                    regex.append("[^/]+");
+                } else {
+                    regex.append(Pattern.quote(segment));
+                }
+            }
+            return Pattern.compile(regex.toString());
+        }
+    }
+}
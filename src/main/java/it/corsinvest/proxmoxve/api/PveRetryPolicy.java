@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry of requests failed for a transient reason (see
+ * Result.isTransientError).
+ *
+ * The delay before a retry grows exponentially from the initial delay up to
+ * the max delay, a random jitter of half the delay spreads the retries of
+ * many clients. Only GET requests are retried, other methods can be added
+ * with addMethodType. Requests that could not connect are always retried.
+ */
+public class PveRetryPolicy {
+
+    private final int _maxRetries;
+    private final long _initialDelay;
+    private final long _maxDelay;
+    private volatile Set<MethodType> _methodTypes = EnumSet.of(MethodType.GET);
+
+    /**
+     * Constructor
+     *
+     * @param maxRetries Max number of retries of a request
+     * @param initialDelay Millisecond before first retry
+     * @param maxDelay Max millisecond between retries
+     */
+    public PveRetryPolicy(int maxRetries, long initialDelay, long maxDelay) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries must not be negative");
+        }
+        if (initialDelay < 0 || maxDelay < initialDelay) {
+            throw new IllegalArgumentException("initialDelay must not be negative and not greater than maxDelay");
+        }
+        _maxRetries = maxRetries;
+        _initialDelay = initialDelay;
+        _maxDelay = maxDelay;
+    }
+
+    /**
+     * Add method retried, eg. SET for update of configuration.
+     *
+     * @param methodType Method type
+     * @return PveRetryPolicy
+     */
+    public synchronized PveRetryPolicy addMethodType(MethodType methodType) {
+        Set<MethodType> methodTypes = EnumSet.copyOf(_methodTypes);
+        methodTypes.add(methodType);
+        _methodTypes = methodTypes;
+        return this;
+    }
+
+    /**
+     * Max number of retries of a request.
+     *
+     * @return int
+     */
+    public int getMaxRetries() {
+        return _maxRetries;
+    }
+
+    /**
+     * Millisecond before first retry.
+     *
+     * @return long
+     */
+    public long getInitialDelay() {
+        return _initialDelay;
+    }
+
+    /**
+     * Max millisecond between retries.
+     *
+     * @return long
+     */
+    public long getMaxDelay() {
+        return _maxDelay;
+    }
+
+    /**
+     * Method is retried.
+     *
+     * @param methodType Method type
+     * @return boolean
+     */
+    public boolean isRetried(MethodType methodType) {
+        return _methodTypes.contains(methodType);
+    }
+
+    /**
+     * Delay before retry.
+     *
+     * @param retry Number of retry, from 0
+     * @return long Millisecond
+     */
+    public long getDelay(int retry) {
+        long delay = _initialDelay;
+        for (int i = 0; i < retry && delay < _maxDelay; i++) {
+            delay *= 2;
+        }
+        delay = Math.min(delay, _maxDelay);
+        long half = delay / 2;
+        return half + (half > 0 ? ThreadLocalRandom.current().nextLong(half + 1) : 0);
+    }
+
+    @Override
+    public String toString() {
+        return "MaxRetries: " + _maxRetries
+                + ", InitialDelay: " + _initialDelay
+                + ", MaxDelay: " + _maxDelay
+                + ", Methods: " + _methodTypes;
+    }
+}
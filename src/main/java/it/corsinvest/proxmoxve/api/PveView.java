@@ -0,0 +1,175 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import org.json.JSONObject;
+
+/**
+ * Typed view of an object of the response. The view wraps the JSONObject of
+ * the decoded response, it does not save decoding. A numeric field is
+ * converted from the JSONObject value on first read and kept as a primitive,
+ * later reads skip the lookup and the conversion.
+ *
+ * Like JSONObject, a view is not thread safe.
+ */
+public abstract class PveView {
+
+    private final JSONObject _data;
+    private final long[] _values;
+    private long _decoded;
+
+    /**
+     * Constructor
+     *
+     * @param data Object of response
+     * @param fields Number of numeric fields of view, max 64
+     */
+    protected PveView(JSONObject data, int fields) {
+        _data = data == null ? new JSONObject() : data;
+        _values = new long[fields];
+    }
+
+    /**
+     * Object of response.
+     *
+     * @return JSONObject
+     */
+    public JSONObject getData() {
+        return _data;
+    }
+
+    @Override
+    public String toString() {
+        return _data.toString();
+    }
+
+    /**
+     * String value of key.
+     *
+     * @param key Key
+     * @return String or null if missing
+     */
+    protected final String getString(String key) {
+        return getString(null, key);
+    }
+
+    /**
+     * String value of key of nested object.
+     *
+     * @param object Key of nested object, null for this object
+     * @param key Key
+     * @return String or null if missing
+     */
+    protected final String getString(String object, String key) {
+        Object value = get(object, key);
+        return value == null || JSONObject.NULL.equals(value) ? null : value.toString();
+    }
+
+    /**
+     * Numeric value of key, converted once.
+     *
+     * @param field Index of field
+     * @param key Key
+     * @return long, 0 if missing
+     */
+    protected final long getLong(int field, String key) {
+        return getLong(field, null, key);
+    }
+
+    /**
+     * Numeric value of key of nested object, converted once.
+     *
+     * @param field Index of field
+     * @param object Key of nested object, null for this object
+     * @param key Key
+     * @return long, 0 if missing
+     */
+    protected final long getLong(int field, String object, String key) {
+        long bit = 1L << field;
+        if ((_decoded & bit) == 0) {
+            Object value = get(object, key);
+            _values[field] = value instanceof Number
+                    ? ((Number) value).longValue()
+                    : (long) toDouble(value);
+            _decoded |= bit;
+        }
+        return _values[field];
+    }
+
+    /**
+     * Numeric value of key, converted once.
+     *
+     * @param field Index of field
+     * @param key Key
+     * @return double, 0 if missing
+     */
+    protected final double getDouble(int field, String key) {
+        return getDouble(field, null, key);
+    }
+
+    /**
+     * Numeric value of key of nested object, converted once.
+     *
+     * @param field Index of field
+     * @param object Key of nested object, null for this object
+     * @param key Key
+     * @return double, 0 if missing
+     */
+    protected final double getDouble(int field, String object, String key) {
+        long bit = 1L << field;
+        if ((_decoded & bit) == 0) {
+            _values[field] = Double.doubleToRawLongBits(toDouble(get(object, key)));
+            _decoded |= bit;
+        }
+        return Double.longBitsToDouble(_values[field]);
+    }
+
+    /**
+     * Boolean value of key (1/0 or true/false), converted once.
+     *
+     * @param field Index of field
+     * @param key Key
+     * @return boolean, false if missing
+     */
+    protected final boolean getBoolean(int field, String key) {
+        return getBoolean(field, null, key);
+    }
+
+    /**
+     * Boolean value of key of nested object, converted once.
+     *
+     * @param field Index of field
+     * @param object Key of nested object, null for this object
+     * @param key Key
+     * @return boolean, false if missing
+     */
+    protected final boolean getBoolean(int field, String object, String key) {
+        long bit = 1L << field;
+        if ((_decoded & bit) == 0) {
+            Object value = get(object, key);
+            _values[field] = Boolean.TRUE.equals(value) || "true".equals(value) || toDouble(value) != 0 ? 1 : 0;
+            _decoded |= bit;
+        }
+        return _values[field] != 0;
+    }
+
+    private Object get(String object, String key) {
+        JSONObject data = object == null ? _data : _data.optJSONObject(object);
+        return data == null ? null : data.opt(key);
+    }
+
+    private static double toDouble(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        } else if (value instanceof String) {
+            try {
+                return Double.parseDouble((String) value);
+            } catch (NumberFormatException ex) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+}
@@ -4,8 +4,21 @@
  */
 package it.corsinvest.proxmoxve.api;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
@@ -16,7 +29,11 @@ public class Result {
 
     private final String _reasonPhrase;
     private final int _statusCode;
-    private final JSONObject _response;
+    private final byte[] _body;
+    private volatile Object _document;
+    private final PveJsonCodec _codec;
+    private volatile JSONObject _response;
+    private volatile Map<String, Object> _responseMap;
     private final String _requestResource;
     private final Map<String, Object> _requestParameters;
     private final MethodType _methodType;
@@ -29,7 +46,60 @@ public class Result {
             Map<String, Object> requestParameters,
             MethodType methodType,
             ResponseType responseType) {
-        _response = response;
+        this(response,
+                PveOrgJsonCodec.INSTANCE,
+                statusCode,
+                reasonPhrase,
+                requestResource,
+                requestParameters,
+                methodType,
+                responseType);
+    }
+
+    protected Result(Object document,
+            PveJsonCodec codec,
+            int statusCode,
+            String reasonPhrase,
+            String requestResource,
+            Map<String, Object> requestParameters,
+            MethodType methodType,
+            ResponseType responseType) {
+        this(null,
+                document,
+                codec,
+                statusCode,
+                reasonPhrase,
+                requestResource,
+                requestParameters,
+                methodType,
+                responseType);
+    }
+
+    /**
+     * Result from raw body, the body is decoded on first access to response.
+     *
+     * @param body Raw body of response
+     * @param document Decoded document, null decode body on demand
+     * @param codec Json codec
+     * @param statusCode Status code
+     * @param reasonPhrase Reason phrase
+     * @param requestResource Resource request
+     * @param requestParameters Request parameters
+     * @param methodType Method type
+     * @param responseType Response type
+     */
+    protected Result(byte[] body,
+            Object document,
+            PveJsonCodec codec,
+            int statusCode,
+            String reasonPhrase,
+            String requestResource,
+            Map<String, Object> requestParameters,
+            MethodType methodType,
+            ResponseType responseType) {
+        _body = body;
+        _document = document;
+        _codec = codec;
         _statusCode = statusCode;
         _reasonPhrase = reasonPhrase;
         _requestResource = requestResource;
@@ -38,6 +108,26 @@ public class Result {
         _responseType = responseType;
     }
 
+    /**
+     * Copy on the same raw body, the response is decoded again on first
+     * access. A result without raw body is returned as is.
+     *
+     * @return Result
+     */
+    Result copy() {
+        return _body == null
+                ? this
+                : new Result(_body,
+                        null,
+                        _codec,
+                        _statusCode,
+                        _reasonPhrase,
+                        _requestResource,
+                        _requestParameters,
+                        _methodType,
+                        _responseType);
+    }
+
     /**
      * Method type
      *
@@ -102,13 +192,170 @@ public class Result {
         return _statusCode == HttpURLConnection.HTTP_OK;
     }
 
+    /**
+     * Gets a value that indicates if the request failed for a transient
+     * reason: no response (0), bad gateway (502), service unavailable (503),
+     * gateway timeout (504) or pveproxy unable to reach the node (595, 596).
+     *
+     * @return
+     */
+    public boolean isTransientError() {
+        switch (_statusCode) {
+            case 0:
+            case HttpURLConnection.HTTP_BAD_GATEWAY:
+            case HttpURLConnection.HTTP_UNAVAILABLE:
+            case HttpURLConnection.HTTP_GATEWAY_TIMEOUT:
+            case 595:
+            case 596:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
     /**
      * Proxmox VE response.
      *
      * @return JSONObject
      */
     public JSONObject getResponse() {
-        return _response;
+        JSONObject response = _response;
+        if (response == null) {
+            _response = response = _codec.toJSONObject(getDocument());
+        }
+        return response;
+    }
+
+    /**
+     * Proxmox VE response as codec-neutral tree of Map, List, String, Number,
+     * Boolean and null.
+     *
+     * @return Map
+     */
+    public Map<String, Object> getResponseMap() {
+        Map<String, Object> responseMap = _responseMap;
+        if (responseMap == null) {
+            _responseMap = responseMap = _codec.toMap(getDocument());
+        }
+        return responseMap;
+    }
+
+    /**
+     * Value of "data" of the response as codec-neutral tree of Map, List,
+     * String, Number, Boolean and null.
+     *
+     * @return Object
+     */
+    public Object getData() {
+        return getResponseMap().get("data");
+    }
+
+    /**
+     * Value of "data" of the response as string, read from the raw response
+     * without decoding it, eg. the UPID of a task. Objects and arrays are
+     * returned as JSON text. For ResponseType.PNG the data uri of the image.
+     *
+     * @return String or null if data is missing or null
+     */
+    public String getDataAsString() {
+        // an image is not json, data is the data uri built by getResponse
+        if (_body == null || _document != null || _responseType == ResponseType.PNG) {
+            Object data = getResponse().opt("data");
+            return data == null || JSONObject.NULL.equals(data) ? null : data.toString();
+        }
+        return JSONDataScanner.dataAsString(_body);
+    }
+
+    /**
+     * Value of "data" of the response as typed view, eg. VmStatus. The view
+     * wraps the object of the response, decoded as getResponse().
+     *
+     * @param <T> Type of view
+     * @param view Constructor of view, eg. VmStatus::new
+     * @return View or null if data is not an object
+     */
+    public <T extends PveView> T getDataAs(Function<JSONObject, T> view) {
+        JSONObject data = getResponse().optJSONObject("data");
+        return data == null ? null : view.apply(data);
+    }
+
+    /**
+     * Value of "data" of the response as list of typed views, eg.
+     * ClusterResource. The views wrap the objects of the response, decoded as
+     * getResponse().
+     *
+     * @param <T> Type of view
+     * @param view Constructor of view, eg. ClusterResource::new
+     * @return List of views, empty if data is not an array
+     */
+    public <T extends PveView> List<T> getDataAsList(Function<JSONObject, T> view) {
+        JSONArray data = getResponse().optJSONArray("data");
+        if (data == null) {
+            return Collections.emptyList();
+        }
+
+        List<T> ret = new ArrayList<>(data.length());
+        for (int i = 0; i < data.length(); i++) {
+            JSONObject item = data.optJSONObject(i);
+            if (item != null) {
+                ret.add(view.apply(item));
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Raw body of the response, eg. the image for ResponseType.PNG.
+     *
+     * @return ByteBuffer read only or null if body was not retained
+     */
+    public ByteBuffer getResponseBuffer() {
+        return _body == null ? null : ByteBuffer.wrap(_body).asReadOnlyBuffer();
+    }
+
+    /**
+     * Write raw body of the response to channel.
+     *
+     * @param channel Channel
+     * @return long Number of bytes written
+     * @throws IOException
+     */
+    public long writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = getResponseBuffer();
+        if (buffer == null) {
+            return 0;
+        }
+
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer);
+        }
+        return written;
+    }
+
+    private Object getDocument() {
+        Object document = _document;
+        if (document == null) {
+            if (_body == null || _body.length == 0) {
+                document = new JSONObject();
+            } else if (_responseType == ResponseType.PNG && isSuccessStatusCode()) {
+                document = new JSONObject().put("data",
+                        "data:image/png;base64," + Base64.getEncoder().encodeToString(_body));
+            } else {
+                try (Reader reader = new InputStreamReader(new ByteArrayInputStream(_body), StandardCharsets.UTF_8)) {
+                    document = _codec.decode(reader);
+                } catch (IOException | RuntimeException ex) {
+                    // error body is not always json
+                    if (isSuccessStatusCode()) {
+                        throw ex instanceof JSONException ? (JSONException) ex : new JSONException(ex);
+                    }
+                    document = new JSONObject();
+                }
+            }
+            _document = document;
+        }
+        return document;
     }
 
     /**
@@ -118,7 +365,7 @@ public class Result {
      * @throws org.json.JSONException
      */
     public boolean responseInError() throws JSONException {
-        return !_response.isNull("errors");
+        return !getResponse().isNull("errors");
     }
 
     /**
@@ -130,7 +377,7 @@ public class Result {
     public String getError() throws JSONException {
         StringBuilder ret = new StringBuilder();
         if (responseInError()) {
-            JSONObject errors = _response.getJSONObject("errors");
+            JSONObject errors = getResponse().getJSONObject("errors");
             for (int i = 0; i < errors.names().length(); i++) {
                 if (ret.length() > 0) {
                     ret.append("\n");
@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+/**
+ * Outcome of a task
+ */
+public class TaskOutcome {
+
+    private final String _task;
+    private final boolean _finished;
+    private final String _exitStatus;
+
+    protected TaskOutcome(String task, boolean finished, String exitStatus) {
+        _task = task;
+        _finished = finished;
+        _exitStatus = exitStatus;
+    }
+
+    /**
+     * Task identifier (UPID)
+     *
+     * @return String
+     */
+    public String getTask() {
+        return _task;
+    }
+
+    /**
+     * Task is finished, false if the wait timed out.
+     *
+     * @return boolean
+     */
+    public boolean isFinished() {
+        return _finished;
+    }
+
+    /**
+     * Exit status of the task, eg. OK or the error message.
+     *
+     * @return String or null if not finished
+     */
+    public String getExitStatus() {
+        return _exitStatus;
+    }
+
+    /**
+     * Task is finished with exit status OK.
+     *
+     * @return boolean
+     */
+    public boolean isSuccess() {
+        return _finished && "OK".equals(_exitStatus);
+    }
+
+    @Override
+    public String toString() {
+        return _task + (_finished ? " " + _exitStatus : " running");
+    }
+}
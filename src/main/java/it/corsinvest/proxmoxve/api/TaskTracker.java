@@ -0,0 +1,211 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.json.JSONObject;
+
+/**
+ * Tracker of many tasks.
+ *
+ * At every interval the status of all tracked tasks is read from a single
+ * request of the cluster task list (/cluster/tasks). Only the tasks missing
+ * from the list are checked one by one (/nodes/{node}/tasks/{upid}/status).
+ */
+public class TaskTracker implements AutoCloseable {
+
+    private final PveClientBase _client;
+    private final long _interval;
+    private final Map<String, TrackedTask> _tasks = new ConcurrentHashMap<>();
+    private final AtomicBoolean _scheduled = new AtomicBoolean();
+    private final AtomicLong _listRequests = new AtomicLong();
+    private final AtomicLong _statusRequests = new AtomicLong();
+    private volatile boolean _closed;
+
+    /**
+     * Constructor
+     *
+     * @param client Client
+     * @param interval Millisecond between checks
+     */
+    public TaskTracker(PveClientBase client, long interval) {
+        _client = client;
+        _interval = interval <= 0 ? 1000 : interval;
+    }
+
+    /**
+     * Track task until finished.
+     *
+     * @param task Task identifier (UPID)
+     * @return CompletableFuture of TaskOutcome
+     */
+    public CompletableFuture<TaskOutcome> track(String task) {
+        return track(task, 0);
+    }
+
+    /**
+     * Track task until finished or timeout.
+     *
+     * @param task Task identifier (UPID)
+     * @param timeOut Millisecond timeout, 0 no timeout
+     * @return CompletableFuture of TaskOutcome, not finished if timed out
+     */
+    public CompletableFuture<TaskOutcome> track(String task, long timeOut) {
+        if (_closed) {
+            throw new IllegalStateException("TaskTracker closed");
+        }
+
+        // fail early on a malformed UPID
+        PveClientBase.getNodeFromTask(task);
+
+        long deadline = timeOut > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeOut) : 0;
+        TrackedTask tracked = _tasks.computeIfAbsent(task, k -> new TrackedTask(task, deadline));
+        schedule();
+        return tracked._outcome;
+    }
+
+    /**
+     * Number of tasks tracked.
+     *
+     * @return int
+     */
+    public int size() {
+        return _tasks.size();
+    }
+
+    /**
+     * Number of requests of the cluster task list.
+     *
+     * @return long
+     */
+    public long getListRequests() {
+        return _listRequests.get();
+    }
+
+    /**
+     * Number of requests of single task status.
+     *
+     * @return long
+     */
+    public long getStatusRequests() {
+        return _statusRequests.get();
+    }
+
+    /**
+     * Stop tracking, the tasks tracked are completed as not finished.
+     */
+    @Override
+    public void close() {
+        _closed = true;
+        _tasks.values().forEach(tracked -> complete(tracked, false, null));
+    }
+
+    private void schedule() {
+        if (!_closed && !_tasks.isEmpty() && _scheduled.compareAndSet(false, true)) {
+            try {
+                PveClientBase.getScheduler().schedule(() -> {
+                    try {
+                        _client.getExecutor().execute(this::check);
+                    } catch (RuntimeException ex) {
+                        _scheduled.set(false);
+                        Logger.getLogger(TaskTracker.class.getName()).log(Level.SEVERE, null, ex);
+                    }
+                }, _interval, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException ex) {
+                _scheduled.set(false);
+                throw ex;
+            }
+        }
+    }
+
+    private void check() {
+        CompletableFuture<Void> checks;
+        try {
+            checks = _tasks.isEmpty() ? CompletableFuture.completedFuture(null) : checkTasks();
+        } catch (RuntimeException ex) {
+            Logger.getLogger(TaskTracker.class.getName()).log(Level.SEVERE, null, ex);
+            checks = CompletableFuture.completedFuture(null);
+        }
+
+        // next check starts when all single checks are done, without blocking
+        // a thread of the executor (it can be the only one)
+        checks.whenComplete((value, ex) -> {
+            _scheduled.set(false);
+            schedule();
+        });
+    }
+
+    private CompletableFuture<Void> checkTasks() {
+        Set<String> listed = new HashSet<>();
+        _listRequests.incrementAndGet();
+        Result result = _client.getStream("/cluster/tasks", null, item -> {
+            if (item instanceof JSONObject) {
+                JSONObject task = (JSONObject) item;
+                TrackedTask tracked = _tasks.get(task.optString("upid"));
+                if (tracked != null) {
+                    listed.add(tracked._task);
+                    if (task.has("endtime")) {
+                        complete(tracked, true, task.optString("status", null));
+                    }
+                }
+            }
+        });
+
+        long now = System.nanoTime();
+        List<CompletableFuture<Void>> checks = new ArrayList<>();
+        for (TrackedTask tracked : _tasks.values()) {
+            if (tracked._outcome.isDone()) {
+                // cancelled by caller
+                _tasks.remove(tracked._task, tracked);
+            } else if (tracked._deadline != 0 && tracked._deadline - now <= 0) {
+                complete(tracked, false, null);
+            } else if (!result.isSuccessStatusCode() || !listed.contains(tracked._task)) {
+                checks.add(CompletableFuture.runAsync(() -> checkTask(tracked), _client.getExecutor()));
+            }
+        }
+
+        return CompletableFuture.allOf(checks.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private void checkTask(TrackedTask tracked) {
+        _statusRequests.incrementAndGet();
+        Result result = _client.get("/nodes/" + PveClientBase.getNodeFromTask(tracked._task)
+                + "/tasks/" + tracked._task + "/status", null);
+        if (result.isSuccessStatusCode()) {
+            JSONObject data = result.getResponse().getJSONObject("data");
+            if (!"running".equals(data.getString("status"))) {
+                complete(tracked, true, data.optString("exitstatus", null));
+            }
+        }
+    }
+
+    private void complete(TrackedTask tracked, boolean finished, String exitStatus) {
+        _tasks.remove(tracked._task, tracked);
+        tracked._outcome.complete(new TaskOutcome(tracked._task, finished, exitStatus));
+    }
+
+    private static class TrackedTask {
+
+        private final String _task;
+        private final long _deadline;
+        private final CompletableFuture<TaskOutcome> _outcome = new CompletableFuture<>();
+
+        TrackedTask(String task, long deadline) {
+            _task = task;
+            _deadline = deadline;
+        }
+    }
+}
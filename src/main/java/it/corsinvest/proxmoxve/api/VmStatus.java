@@ -0,0 +1,218 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import org.json.JSONObject;
+
+/**
+ * Status of VM/CT, data of /nodes/{node}/qemu/{vmid}/status/current or item of
+ * /nodes/{node}/qemu (same for lxc).
+ *
+ * <pre>
+ * VmStatus status = result.getDataAs(VmStatus::new);
+ * </pre>
+ */
+public class VmStatus extends PveView {
+
+    private static final int VMID = 0;
+    private static final int TEMPLATE = 1;
+    private static final int CPU = 2;
+    private static final int CPUS = 3;
+    private static final int MEM = 4;
+    private static final int MAXMEM = 5;
+    private static final int DISK = 6;
+    private static final int MAXDISK = 7;
+    private static final int UPTIME = 8;
+    private static final int NETIN = 9;
+    private static final int NETOUT = 10;
+    private static final int DISKREAD = 11;
+    private static final int DISKWRITE = 12;
+    private static final int PID = 13;
+    private static final int HA_MANAGED = 14;
+
+    public VmStatus(JSONObject data) {
+        super(data, 15);
+    }
+
+    /**
+     * Name.
+     *
+     * @return String
+     */
+    public String getName() {
+        return getString("name");
+    }
+
+    /**
+     * Status: running or stopped.
+     *
+     * @return String
+     */
+    public String getStatus() {
+        return getString("status");
+    }
+
+    /**
+     * Status of QEMU, eg. running, paused, prelaunch.
+     *
+     * @return String
+     */
+    public String getQmpStatus() {
+        return getString("qmpstatus");
+    }
+
+    /**
+     * Lock.
+     *
+     * @return String
+     */
+    public String getLock() {
+        return getString("lock");
+    }
+
+    /**
+     * Tags, separated by ;
+     *
+     * @return String
+     */
+    public String getTags() {
+        return getString("tags");
+    }
+
+    /**
+     * Id.
+     *
+     * @return long
+     */
+    public long getVmId() {
+        return getLong(VMID, "vmid");
+    }
+
+    /**
+     * Is a template.
+     *
+     * @return boolean
+     */
+    public boolean isTemplate() {
+        return getBoolean(TEMPLATE, "template");
+    }
+
+    /**
+     * CPU utilization, 1 is 100% of cpus.
+     *
+     * @return double
+     */
+    public double getCpu() {
+        return getDouble(CPU, "cpu");
+    }
+
+    /**
+     * Number of CPUs.
+     *
+     * @return double
+     */
+    public double getCpus() {
+        return getDouble(CPUS, "cpus");
+    }
+
+    /**
+     * Used memory in bytes.
+     *
+     * @return long
+     */
+    public long getMem() {
+        return getLong(MEM, "mem");
+    }
+
+    /**
+     * Memory size in bytes.
+     *
+     * @return long
+     */
+    public long getMaxMem() {
+        return getLong(MAXMEM, "maxmem");
+    }
+
+    /**
+     * Used disk space in bytes.
+     *
+     * @return long
+     */
+    public long getDisk() {
+        return getLong(DISK, "disk");
+    }
+
+    /**
+     * Disk size in bytes.
+     *
+     * @return long
+     */
+    public long getMaxDisk() {
+        return getLong(MAXDISK, "maxdisk");
+    }
+
+    /**
+     * Uptime in seconds.
+     *
+     * @return long
+     */
+    public long getUptime() {
+        return getLong(UPTIME, "uptime");
+    }
+
+    /**
+     * Bytes received by network.
+     *
+     * @return long
+     */
+    public long getNetIn() {
+        return getLong(NETIN, "netin");
+    }
+
+    /**
+     * Bytes sent by network.
+     *
+     * @return long
+     */
+    public long getNetOut() {
+        return getLong(NETOUT, "netout");
+    }
+
+    /**
+     * Bytes read from disks.
+     *
+     * @return long
+     */
+    public long getDiskRead() {
+        return getLong(DISKREAD, "diskread");
+    }
+
+    /**
+     * Bytes written to disks.
+     *
+     * @return long
+     */
+    public long getDiskWrite() {
+        return getLong(DISKWRITE, "diskwrite");
+    }
+
+    /**
+     * PID of process.
+     *
+     * @return long
+     */
+    public long getPid() {
+        return getLong(PID, "pid");
+    }
+
+    /**
+     * Managed by HA.
+     *
+     * @return boolean
+     */
+    public boolean isHaManaged() {
+        return getBoolean(HA_MANAGED, "ha", "managed");
+    }
+}
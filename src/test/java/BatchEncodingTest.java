@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+
+import it.corsinvest.proxmoxve.api.MethodType;
+import it.corsinvest.proxmoxve.api.PveBatch;
+import it.corsinvest.proxmoxve.api.PveClient;
+import it.corsinvest.proxmoxve.api.ResponseType;
+import it.corsinvest.proxmoxve.api.Result;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Arguments of a batch with characters of form encoding (+ & % =) reach the
+ * node unchanged. No server is needed: the request of the batch is written as
+ * the form body sent by the client and decoded as the server does.
+ */
+public class BatchEncodingTest {
+
+    public static void main(String[] args) throws JSONException {
+        PveClient client = new PveClient("localhost", 8006) {
+            @Override
+            public Result create(String resource, Map<String, Object> parameters) throws JSONException {
+                //form body written by the client, values as they are
+                StringBuilder body = new StringBuilder();
+                parameters.forEach((key, value) -> body.append(body.length() > 0 ? "&" : "")
+                        .append(key).append("=").append(value));
+
+                //node: echo args of every command
+                JSONArray out = new JSONArray();
+                JSONArray commands = new JSONArray(decode(body.toString()).get("commands"));
+                for (int i = 0; i < commands.length(); i++) {
+                    out.put(new JSONObject()
+                            .put("status", 200)
+                            .put("data", commands.getJSONObject(i).getJSONObject("args")));
+                }
+
+                return new Result(new JSONObject().put("data", out),
+                        200,
+                        "OK",
+                        resource,
+                        parameters,
+                        MethodType.CREATE,
+                        ResponseType.JSON) {
+                };
+            }
+        };
+
+        String[] values = {"a+b", "x&y=z", "100%", "key=a+b&c", "plain", "spa ce;é"};
+        PveBatch batch = new PveBatch(client, "pve1", 10);
+        for (String value : values) {
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("description", value);
+            batch.set("/qemu/100/config", parameters);
+        }
+
+        int errors = 0;
+        List<Result> results = batch.execute();
+        for (int i = 0; i < values.length; i++) {
+            String received = results.get(i).getResponse().getJSONObject("data").optString("description");
+            if (!values[i].equals(received)) {
+                System.out.println("Sent: " + values[i] + " received: " + received);
+                errors++;
+            }
+        }
+
+        System.out.println("Values: " + values.length + " errors: " + errors);
+        if (errors > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, String> decode(String body) {
+        Map<String, String> ret = new HashMap<>();
+        for (String pair : body.split("&")) {
+            int index = pair.indexOf('=');
+            try {
+                ret.put(URLDecoder.decode(pair.substring(0, index), "UTF-8"),
+                        URLDecoder.decode(pair.substring(index + 1), "UTF-8"));
+            } catch (UnsupportedEncodingException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+
+import it.corsinvest.proxmoxve.api.PveJsonCodec;
+import it.corsinvest.proxmoxve.api.PveOrgJsonCodec;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Json codecs decoding a /cluster/resources body (StubPve.resources) and
+ * reading mem and status of every item:
+ *
+ * - org.json: PveOrgJsonCodec, items read from JSONObject (getResponse)
+ * - org.json map: PveOrgJsonCodec, items read from the neutral tree
+ * (getResponseMap)
+ * - map: MapCodec below, a codec building the neutral tree directly, as a
+ * Jackson or Gson codec would
+ *
+ * Allocated bytes are read from com.sun.management.ThreadMXBean (HotSpot).
+ *
+ * Arguments: resources (default 1000), decodes for round (default 500).
+ */
+public class CodecBenchmark {
+
+    private static long _sink;
+
+    public static void main(String[] args) throws IOException {
+        int resources = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int decodes = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        byte[] body = StubPve.resources(resources).getBytes(StandardCharsets.UTF_8);
+        System.out.println("Resources: " + resources + ", body: " + body.length / 1024 + " KB");
+
+        long expected = readJSONObject(PveOrgJsonCodec.INSTANCE, body);
+        if (readMap(PveOrgJsonCodec.INSTANCE, body) != expected || readMap(MapCodec.INSTANCE, body) != expected) {
+            System.out.println("Codecs read different values");
+            System.exit(1);
+        }
+
+        for (int round = 1; round <= 5; round++) {
+            System.out.println("Round " + round);
+            run("org.json", decodes, () -> readJSONObject(PveOrgJsonCodec.INSTANCE, body));
+            run("org.json map", decodes, () -> readMap(PveOrgJsonCodec.INSTANCE, body));
+            run("map", decodes, () -> readMap(MapCodec.INSTANCE, body));
+        }
+        System.out.println(_sink == 0 ? "" : "Done");
+    }
+
+    private interface Decode {
+
+        long run() throws IOException;
+    }
+
+    private static void run(String name, int decodes, Decode decode) throws IOException {
+        com.sun.management.ThreadMXBean threads
+                = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        long allocated = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < decodes; i++) {
+            _sink += decode.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        allocated = threads.getThreadAllocatedBytes(thread) - allocated;
+
+        System.out.println("  " + name + ": " + elapsed / decodes / 1000 + " us/decode, "
+                + allocated / decodes / 1024 + " KB/decode");
+    }
+
+    private static Reader reader(byte[] body) {
+        return new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8);
+    }
+
+    private static long readJSONObject(PveJsonCodec codec, byte[] body) throws IOException {
+        JSONArray data = codec.toJSONObject(codec.decode(reader(body))).getJSONArray("data");
+        long ret = 0;
+        for (int i = 0; i < data.length(); i++) {
+            JSONObject item = data.getJSONObject(i);
+            ret += item.optLong("mem") + ("running".equals(item.optString("status")) ? 1 : 0);
+        }
+        return ret;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long readMap(PveJsonCodec codec, byte[] body) throws IOException {
+        List<Object> data = (List<Object>) codec.toMap(codec.decode(reader(body))).get("data");
+        long ret = 0;
+        for (Object value : data) {
+            Map<String, Object> item = (Map<String, Object>) value;
+            Object mem = item.get("mem");
+            ret += (mem instanceof Number ? ((Number) mem).longValue() : 0)
+                    + ("running".equals(item.get("status")) ? 1 : 0);
+        }
+        return ret;
+    }
+
+    /**
+     * Codec decoding straight into Map, List, String, Long, Double, Boolean
+     * and null.
+     */
+    private static class MapCodec implements PveJsonCodec {
+
+        static final MapCodec INSTANCE = new MapCodec();
+
+        @Override
+        public Object decode(Reader reader) throws IOException {
+            return new Parser(reader).value();
+        }
+    }
+
+    private static class Parser {
+
+        private final Reader _reader;
+        private final StringBuilder _text = new StringBuilder();
+        private final char[] _buffer = new char[8192];
+        private int _position;
+        private int _length;
+
+        Parser(Reader reader) {
+            _reader = reader;
+        }
+
+        private int peek() throws IOException {
+            if (_position == _length) {
+                _length = _reader.read(_buffer, 0, _buffer.length);
+                _position = 0;
+                if (_length <= 0) {
+                    _length = 0;
+                    return -1;
+                }
+            }
+            return _buffer[_position];
+        }
+
+        private int read() throws IOException {
+            int ret = peek();
+            if (ret != -1) {
+                _position++;
+            }
+            return ret;
+        }
+
+        private int clean() throws IOException {
+            while (Character.isWhitespace(peek())) {
+                read();
+            }
+            return peek();
+        }
+
+        private void expect(char c) throws IOException {
+            if (read() != c) {
+                throw new IOException("Expected " + c);
+            }
+        }
+
+        Object value() throws IOException {
+            switch (clean()) {
+                case '{': {
+                    read();
+                    Map<String, Object> ret = new LinkedHashMap<>();
+                    if (clean() == '}') {
+                        read();
+                        return ret;
+                    }
+                    do {
+                        clean();
+                        String key = string();
+                        clean();
+                        expect(':');
+                        ret.put(key, value());
+                    } while (clean() == ',' && read() == ',');
+                    expect('}');
+                    return ret;
+                }
+
+                case '[': {
+                    read();
+                    List<Object> ret = new ArrayList<>();
+                    if (clean() == ']') {
+                        read();
+                        return ret;
+                    }
+                    do {
+                        ret.add(value());
+                    } while (clean() == ',' && read() == ',');
+                    expect(']');
+                    return ret;
+                }
+
+                case '"':
+                    return string();
+
+                default:
+                    return literal();
+            }
+        }
+
+        private String string() throws IOException {
+            expect('"');
+            _text.setLength(0);
+            int c;
+            while ((c = read()) != '"') {
+                if (c == -1) {
+                    throw new IOException("Unterminated string");
+                } else if (c == '\\') {
+                    c = read();
+                    switch (c) {
+                        case 'b':
+                            _text.append('\b');
+                            break;
+                        case 'f':
+                            _text.append('\f');
+                            break;
+                        case 'n':
+                            _text.append('\n');
+                            break;
+                        case 'r':
+                            _text.append('\r');
+                            break;
+                        case 't':
+                            _text.append('\t');
+                            break;
+                        case 'u':
+                            char[] hex = new char[4];
+                            for (int i = 0; i < 4; i++) {
+                                hex[i] = (char) read();
+                            }
+                            _text.append((char) Integer.parseInt(new String(hex), 16));
+                            break;
+                        default:
+                            _text.append((char) c);
+                    }
+                } else {
+                    _text.append((char) c);
+                }
+            }
+            return _text.toString();
+        }
+
+        private Object literal() throws IOException {
+            _text.setLength(0);
+            while (peek() != -1 && ",:]} \t\r\n".indexOf(peek()) < 0) {
+                _text.append((char) read());
+            }
+
+            String text = _text.toString();
+            switch (text) {
+                case "true":
+                    return Boolean.TRUE;
+                case "false":
+                    return Boolean.FALSE;
+                case "null":
+                    return null;
+                default:
+                    try {
+                        return text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0
+                                ? (Object) Long.parseLong(text)
+                                : (Object) Double.parseDouble(text);
+                    } catch (NumberFormatException ex) {
+                        throw new IOException("Invalid value " + text, ex);
+                    }
+            }
+        }
+    }
+}
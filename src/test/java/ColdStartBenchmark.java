@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+
+import it.corsinvest.proxmoxve.api.MethodType;
+import it.corsinvest.proxmoxve.api.PveApiClient;
+import it.corsinvest.proxmoxve.api.PveClient;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cold start of a short lived tool: a new JVM logs in to StubPve and executes
+ * three calls (qemu status, lxc config, cluster resources) with PveClient
+ * (typed) and with PveApiClient (table). Each run reports the time of main,
+ * the classes loaded by the JVM and the metaspace used; the median of the
+ * runs is printed.
+ *
+ * Arguments: runs for client (default 10).
+ */
+public class ColdStartBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2) {
+            run(args[0], Integer.parseInt(args[1]));
+            return;
+        }
+
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        try (StubPve server = new StubPve()) {
+            List<long[]> typed = new ArrayList<>();
+            List<long[]> table = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                typed.add(fork("typed", server.getPort()));
+                table.add(fork("table", server.getPort()));
+            }
+            print("typed (PveClient)", typed);
+            print("table (PveApiClient)", table);
+        }
+    }
+
+    private static void run(String mode, int port) throws Exception {
+        long start = System.nanoTime();
+        if ("typed".equals(mode)) {
+            PveClient client = new PveClient("127.0.0.1", port);
+            client.login("root@pam", "secret");
+            client.getNodes().get("pve1").getQemu().get(100).getStatus().getCurrent().vmStatus();
+            client.getNodes().get("pve1").getLxc().get(101).getConfig().vmConfig();
+            client.getCluster().getResources().resources();
+        } else {
+            PveApiClient client = new PveApiClient("127.0.0.1", port);
+            client.login("root@pam", "secret");
+            client.execute(MethodType.GET, "/nodes/{node}/qemu/{vmid}/status/current", null, "pve1", 100);
+            client.execute(MethodType.GET, "/nodes/{node}/lxc/{vmid}/config", null, "pve1", 101);
+            client.execute(MethodType.GET, "/cluster/resources", null);
+        }
+        long elapsed = (System.nanoTime() - start) / 1000000;
+
+        long metaspace = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if ("Metaspace".equals(pool.getName())) {
+                metaspace = pool.getUsage().getUsed() / 1024;
+            }
+        }
+        System.out.println(elapsed + " " + ManagementFactory.getClassLoadingMXBean().getLoadedClassCount()
+                + " " + metaspace);
+    }
+
+    private static long[] fork(String mode, int port) throws Exception {
+        Process process = new ProcessBuilder(System.getProperty("java.home") + File.separator + "bin"
+                + File.separator + "java",
+                "-cp", System.getProperty("java.class.path"),
+                ColdStartBenchmark.class.getName(), mode, String.valueOf(port))
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+
+        String line;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                StandardCharsets.UTF_8))) {
+            line = reader.readLine();
+        }
+        if (process.waitFor() != 0 || line == null) {
+            throw new IllegalStateException("Run " + mode + " failed");
+        }
+
+        String[] values = line.split(" ");
+        return new long[]{Long.parseLong(values[0]), Long.parseLong(values[1]), Long.parseLong(values[2])};
+    }
+
+    private static void print(String name, List<long[]> runs) {
+        System.out.println(name + ": main " + median(runs, 0) + " ms, classes " + median(runs, 1)
+                + ", metaspace " + median(runs, 2) + " KB");
+    }
+
+    private static long median(List<long[]> runs, int index) {
+        List<Long> values = new ArrayList<>();
+        for (long[] run : runs) {
+            values.add(run[index]);
+        }
+        Collections.sort(values);
+        return values.get(values.size() / 2);
+    }
+}
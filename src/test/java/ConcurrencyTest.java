@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+
+import it.corsinvest.proxmoxve.api.PveClient;
+import it.corsinvest.proxmoxve.api.PveResponseCache;
+import it.corsinvest.proxmoxve.api.Result;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.json.JSONObject;
+
+/**
+ * Stress of a client shared by many threads:
+ *
+ * - getters: the lazy getters, no server is needed. Each round uses a new
+ * client so every getter races on first access.
+ * - stub: GETs to StubPve with response cache, coalescing of requests and a
+ * ticket renewed after 1 millisecond, so every call checks the ticket and
+ * renewals run while requests are in progress.
+ *
+ * Arguments: rounds of getters (default 2000), calls for thread to the stub
+ * (default 200).
+ */
+public class ConcurrencyTest {
+
+    private static final String VERSION = "/api2/json/version";
+
+    public static void main(String[] args) throws Exception {
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int calls = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        int errors = getters(threads, rounds);
+        System.out.println("Getters rounds: " + rounds + " threads: " + threads + " errors: " + errors);
+
+        try (StubPve server = new StubPve()) {
+            server.setDelay(5);
+            errors += stub(server, threads, calls);
+        }
+
+        if (errors > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static int getters(int threads, int rounds) throws InterruptedException {
+        AtomicInteger errors = new AtomicInteger();
+        for (int round = 0; round < rounds; round++) {
+            PveClient client = new PveClient("localhost", 8006);
+            run(threads, errors, i -> {
+                int vmid = 100 + (i % 4);
+                //chain of lazy getters and cached items
+                return client.getNodes().get("pve1").getQemu().get(vmid).getStatus().getCurrent() != null
+                        && client.getCluster().getHa().getResources() != null
+                        && client.getAccess().getUsers() != null
+                        && client.getVersion() != null;
+            });
+        }
+        return errors.get();
+    }
+
+    private static int stub(StubPve server, int threads, int calls) throws Exception {
+        PveClient client = new PveClient("127.0.0.1", server.getPort());
+        client.setTimeout(60000);
+        if (!client.login("root@pam", "secret")) {
+            System.out.println("Stub login failed");
+            return 1;
+        }
+        client.setResponseCache(new PveResponseCache(100).addPolicy("/version", 60000));
+        client.setCoalesceRequests(true);
+        client.setTicketRenewAfter(1);
+
+        AtomicInteger errors = new AtomicInteger();
+        run(threads, errors, i -> {
+            int vmid = 100 + (i % 2);
+            String status = "/api2/json/nodes/pve1/qemu/" + vmid + "/status/current";
+            for (int call = 0; call < calls; call++) {
+                //cached: a caller changing its response must not change the others
+                JSONObject version = data(client.getVersion().version());
+                if (version == null || !VERSION.equals(version.optString("path"))) {
+                    return false;
+                }
+                version.put("path", "changed");
+
+                //coalesced only
+                JSONObject current = data(client.getNodes().get("pve1").getQemu().get(vmid)
+                        .getStatus().getCurrent().vmStatus());
+                if (current == null || !status.equals(current.optString("path"))) {
+                    return false;
+                }
+                current.put("path", "changed");
+            }
+            return true;
+        });
+
+        //login, then each renewal replaces the ticket
+        long renewals = client.getTicketRenewals();
+        if (server.getHits(VERSION) != 1
+                || renewals == 0
+                || server.getLogins() != 1 + renewals
+                || client.getTicketRenewalFailures() > 0) {
+            errors.incrementAndGet();
+        }
+
+        System.out.println("Stub calls: " + threads * calls * 2 + " threads: " + threads
+                + " version requests: " + server.getHits(VERSION)
+                + " cache hits: " + client.getResponseCache().getHits()
+                + " coalesced: " + client.getCoalescedRequests()
+                + " logins: " + server.getLogins()
+                + " renewals: " + renewals
+                + " renewal failures: " + client.getTicketRenewalFailures()
+                + " errors: " + errors.get());
+        return errors.get();
+    }
+
+    private static JSONObject data(Result result) {
+        return result.isSuccessStatusCode() ? result.getResponse().optJSONObject("data") : null;
+    }
+
+    private interface Check {
+
+        boolean run(int thread) throws Exception;
+    }
+
+    private static void run(int threads, AtomicInteger errors, Check check) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            int thread = i;
+            new Thread(() -> {
+                try {
+                    start.await();
+                    if (!check.run(thread)) {
+                        errors.incrementAndGet();
+                    }
+                } catch (Throwable ex) {
+                    errors.incrementAndGet();
+                    ex.printStackTrace();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        done.await();
+    }
+}
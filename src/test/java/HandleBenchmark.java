@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+
+import it.corsinvest.proxmoxve.api.PveClient;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Allocation and time per navigation chain of the resource tree,
+ * client.getNodes().get(node).getQemu().get(vmid).getStatus().getCurrent():
+ *
+ * - cached: the same 8 VMs again and again, items found in the caches
+ * - new: a new vmid every chain, items created as without cache
+ *
+ * No request is sent. Allocated bytes are read from
+ * com.sun.management.ThreadMXBean (HotSpot).
+ *
+ * Arguments: chains for round (default 1000000).
+ */
+public class HandleBenchmark {
+
+    private static int _sink;
+
+    public static void main(String[] args) {
+        int chains = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        PveClient client = new PveClient("localhost", 8006);
+
+        for (int round = 1; round <= 5; round++) {
+            System.out.println("Round " + round
+                    + " cached: " + run(client, chains, 8)
+                    + ", new: " + run(client, chains, Integer.MAX_VALUE));
+        }
+        System.out.println(_sink == 0 ? "" : "Done");
+    }
+
+    private static String run(PveClient client, int chains, int vms) {
+        com.sun.management.ThreadMXBean threads
+                = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        long allocated = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < chains; i++) {
+            Object vmid = vms == Integer.MAX_VALUE ? 100 + i : 100 + i % vms;
+            _sink += System.identityHashCode(client.getNodes().get("pve1").getQemu().get(vmid)
+                    .getStatus().getCurrent());
+        }
+        long elapsed = System.nanoTime() - start;
+        allocated = threads.getThreadAllocatedBytes(thread) - allocated;
+
+        return allocated / chains + " B/chain " + elapsed / chains + " ns/chain";
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Stub of Proxmox VE for the tests and benchmarks, HTTPS on 127.0.0.1 with a
+ * self signed certificate created by keytool.
+ *
+ * - /access/ticket: new ticket for each login
+ * - /cluster/resources: resources(RESOURCES)
+ * - /nodes/{node}/tasks/{upid}/status: running for taskPolls checks
+ * - /nodes/{node}/execute: result of each command, args as data
+ * - others: path, method, query and body of the request as data
+ *
+ * Every response waits delay milliseconds.
+ */
+public class StubPve implements AutoCloseable {
+
+    public static final int RESOURCES = 1000;
+    private static final String PASSWORD = "stubpve";
+
+    private final HttpsServer _server;
+    private final ExecutorService _executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "stub-pve");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, AtomicInteger> _hits = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> _taskChecks = new ConcurrentHashMap<>();
+    private final AtomicInteger _logins = new AtomicInteger();
+    private final byte[] _resources = resources(RESOURCES).getBytes(StandardCharsets.UTF_8);
+    private volatile int _delay;
+    private volatile int _taskPolls = 3;
+
+    public StubPve() throws IOException, GeneralSecurityException, InterruptedException {
+        _server = HttpsServer.create(new InetSocketAddress("127.0.0.1", 0), 1000);
+        _server.setHttpsConfigurator(new HttpsConfigurator(createSslContext()));
+        _server.setExecutor(_executor);
+        _server.createContext("/", this::handle);
+        _server.start();
+    }
+
+    public int getPort() {
+        return _server.getAddress().getPort();
+    }
+
+    public void setDelay(int delay) {
+        _delay = delay;
+    }
+
+    public void setTaskPolls(int taskPolls) {
+        _taskPolls = taskPolls;
+    }
+
+    public int getLogins() {
+        return _logins.get();
+    }
+
+    /**
+     * Requests received for a path, eg. /api2/json/version.
+     *
+     * @param path Path
+     * @return int
+     */
+    public int getHits(String path) {
+        AtomicInteger ret = _hits.get(path);
+        return ret == null ? 0 : ret.get();
+    }
+
+    @Override
+    public void close() {
+        _server.stop(0);
+        _executor.shutdownNow();
+    }
+
+    /**
+     * Body of /cluster/resources as sent by Proxmox VE, a node every 50 VM/CT.
+     *
+     * @param count Number of resources
+     * @return String
+     */
+    public static String resources(int count) {
+        StringBuilder ret = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                ret.append(',');
+            }
+            String node = "pve" + (i / 50);
+            if (i % 50 == 0) {
+                ret.append("{\"id\":\"node/").append(node).append("\",\"type\":\"node\",\"node\":\"").append(node)
+                        .append("\",\"status\":\"online\",\"cpu\":0.0712,\"maxcpu\":64,\"mem\":82463371264,")
+                        .append("\"maxmem\":540857491456,\"disk\":12046950400,\"maxdisk\":100861726720,")
+                        .append("\"uptime\":1918720,\"level\":\"\",\"cgroup-mode\":2}");
+            } else {
+                int vmid = 100 + i;
+                String type = i % 5 == 0 ? "lxc" : "qemu";
+                ret.append("{\"id\":\"").append(type).append('/').append(vmid).append("\",\"type\":\"").append(type)
+                        .append("\",\"vmid\":").append(vmid).append(",\"name\":\"vm-").append(vmid)
+                        .append("\",\"node\":\"").append(node).append("\",\"status\":\"")
+                        .append(i % 7 == 0 ? "stopped" : "running").append("\",\"template\":0,\"cpu\":0.0")
+                        .append(i % 97).append(",\"maxcpu\":4,\"mem\":").append(1073741824L + i * 4096L)
+                        .append(",\"maxmem\":4294967296,\"disk\":0,\"maxdisk\":34359738368,\"netin\":")
+                        .append(i * 1234567L).append(",\"netout\":").append(i * 7654321L)
+                        .append(",\"diskread\":").append(i * 98765L).append(",\"diskwrite\":").append(i * 56789L)
+                        .append(",\"uptime\":").append(86400 + i).append(",\"pool\":\"pool").append(i % 4)
+                        .append("\",\"tags\":\"prod;web\",\"hastate\":\"started\"}");
+            }
+        }
+        return ret.append("]}").toString();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            _hits.computeIfAbsent(path, k -> new AtomicInteger()).incrementAndGet();
+            byte[] request = readAll(exchange.getRequestBody());
+            if (_delay > 0) {
+                Thread.sleep(_delay);
+            }
+
+            byte[] body;
+            if (path.endsWith("/access/ticket")) {
+                body = ("{\"data\":{\"ticket\":\"PVE:root@pam:" + _logins.incrementAndGet()
+                        + "\",\"CSRFPreventionToken\":\"csrf\",\"username\":\"root@pam\"}}")
+                        .getBytes(StandardCharsets.UTF_8);
+            } else if (path.endsWith("/cluster/resources")) {
+                body = _resources;
+            } else if (path.contains("/tasks/") && path.endsWith("/status")) {
+                String upid = path.substring(path.indexOf("/tasks/") + 7, path.length() - 7);
+                boolean running = _taskChecks.computeIfAbsent(upid, k -> new AtomicInteger())
+                        .incrementAndGet() < _taskPolls;
+                body = ("{\"data\":{\"upid\":\"" + upid + "\",\"status\":\""
+                        + (running ? "running\"" : "stopped\",\"exitstatus\":\"OK\"") + "}}")
+                        .getBytes(StandardCharsets.UTF_8);
+            } else if (path.endsWith("/execute")) {
+                String commands = URLDecoder.decode(
+                        new String(request, StandardCharsets.UTF_8).substring("commands=".length()), "UTF-8");
+                JSONArray in = new JSONArray(commands);
+                JSONArray out = new JSONArray();
+                for (int i = 0; i < in.length(); i++) {
+                    out.put(new JSONObject()
+                            .put("status", 200)
+                            .put("data", in.getJSONObject(i).getJSONObject("args")));
+                }
+                body = new JSONObject().put("data", out).toString().getBytes(StandardCharsets.UTF_8);
+            } else {
+                body = new JSONObject().put("data", new JSONObject()
+                        .put("path", path)
+                        .put("method", exchange.getRequestMethod())
+                        .put("query", exchange.getRequestURI().getRawQuery() == null
+                                ? ""
+                                : exchange.getRequestURI().getRawQuery())
+                        .put("body", new String(request, StandardCharsets.UTF_8)))
+                        .toString()
+                        .getBytes(StandardCharsets.UTF_8);
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static SSLContext createSslContext() throws IOException, GeneralSecurityException, InterruptedException {
+        File file = File.createTempFile("stub-pve", ".p12");
+        file.delete();
+        file.deleteOnExit();
+
+        Process keytool = new ProcessBuilder(System.getProperty("java.home") + File.separator + "bin"
+                + File.separator + "keytool",
+                "-genkeypair", "-alias", "stub", "-keyalg", "RSA", "-keysize", "2048", "-validity", "1",
+                "-dname", "CN=127.0.0.1", "-storetype", "PKCS12", "-keystore", file.getAbsolutePath(),
+                "-storepass", PASSWORD, "-keypass", PASSWORD)
+                .redirectErrorStream(true)
+                .start();
+        readAll(keytool.getInputStream());
+        if (keytool.waitFor() != 0) {
+            throw new IOException("keytool failed");
+        }
+
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = new FileInputStream(file)) {
+            keyStore.load(in, PASSWORD.toCharArray());
+        }
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, PASSWORD.toCharArray());
+        SSLContext ret = SSLContext.getInstance("TLS");
+        ret.init(keyManagerFactory.getKeyManagers(), null, null);
+        return ret;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream ret = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+            ret.write(buffer, 0, read);
+        }
+        return ret.toByteArray();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+
+import it.corsinvest.proxmoxve.api.PveClient;
+import it.corsinvest.proxmoxve.api.Result;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Fan-out of asynchronous calls to StubPve, each answered after a delay, on
+ * the default executor (platform threads) and with useVirtualThreads (Java 21
+ * or later, skipped on older runtimes).
+ *
+ * Arguments: calls (default 2000), delay of server in millisecond (default
+ * 50).
+ */
+public class VirtualThreadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int calls = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int delay = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        try (StubPve server = new StubPve()) {
+            server.setDelay(delay);
+            System.out.println("Java " + System.getProperty("java.version")
+                    + ", calls: " + calls + ", delay: " + delay + " ms");
+
+            PveClient platform = newClient(server);
+            run("platform", platform, calls);
+            run("platform", platform, calls);
+
+            PveClient virtual = newClient(server);
+            if (virtual.useVirtualThreads()) {
+                run("virtual", virtual, calls);
+                run("virtual", virtual, calls);
+                ((ExecutorService) virtual.getExecutor()).shutdown();
+            } else {
+                System.out.println("virtual: not supported by the runtime");
+            }
+        }
+    }
+
+    private static PveClient newClient(StubPve server) throws Exception {
+        PveClient ret = new PveClient("127.0.0.1", server.getPort());
+        ret.setTimeout(60000);
+        ret.login("root@pam", "secret");
+        return ret;
+    }
+
+    private static void run(String mode, PveClient client, int calls) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Result>> futures = new ArrayList<>(calls);
+        for (int i = 0; i < calls; i++) {
+            String node = "pve" + (i % 20);
+            int vmid = 100 + i;
+            futures.add(client.async(() -> client.getNodes().get(node).getQemu().get(vmid)
+                    .getStatus().getCurrent().vmStatus()));
+        }
+
+        int errors = 0;
+        for (CompletableFuture<Result> future : futures) {
+            if (!future.join().isSuccessStatusCode()) {
+                errors++;
+            }
+        }
+        long elapsed = (System.nanoTime() - start) / 1000000;
+
+        System.out.println(mode + ": " + elapsed + " ms, "
+                + (calls * 1000L / Math.max(1, elapsed)) + " calls/s, "
+                + "peak threads: " + threads.getPeakThreadCount()
+                + ", errors: " + errors);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: Copyright Corsinvest Srl
+ * SPDX-License-Identifier: GPL-3.0-only
+ */
+package it.corsinvest.proxmoxve.api;
+
+import java.io.UnsupportedEncodingException;
+import java.lang.management.ManagementFactory;
+import java.net.URLEncoder;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Allocation and time per call to build path and query of a typed GET:
+ *
+ * - before: HashMap of parameters, path concatenated, parameters copied into a
+ * LinkedHashMap by a stream and encoded by URLEncoder, as the client did
+ * - after: PveOperation (parameters and resolve) and ParameterEncoder
+ *
+ * In the package of the library to reach ParameterEncoder. Allocated bytes
+ * are read from com.sun.management.ThreadMXBean (HotSpot).
+ *
+ * Arguments: calls for round (default 1000000).
+ */
+public class OperationBenchmark {
+
+    private static final PveOperation RRDDATA = new PveOperation(MethodType.GET,
+            "/nodes/{node}/qemu/{vmid}/rrddata",
+            "timeframe",
+            "cf");
+
+    private static int _sink;
+
+    public static void main(String[] args) {
+        int calls = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        com.sun.management.ThreadMXBean threads
+                = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        for (int round = 1; round <= 5; round++) {
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                _sink += before("pve1", 100 + (i & 7));
+            }
+            long beforeTime = System.nanoTime() - start;
+            long beforeBytes = threads.getThreadAllocatedBytes(thread) - allocated;
+
+            allocated = threads.getThreadAllocatedBytes(thread);
+            start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                _sink += after("pve1", 100 + (i & 7));
+            }
+            long afterTime = System.nanoTime() - start;
+            long afterBytes = threads.getThreadAllocatedBytes(thread) - allocated;
+
+            System.out.println("Round " + round
+                    + " before: " + beforeBytes / calls + " B/call " + beforeTime / calls + " ns/call,"
+                    + " after: " + afterBytes / calls + " B/call " + afterTime / calls + " ns/call");
+        }
+        System.out.println(_sink == 0 ? "" : "Done");
+    }
+
+    private static int before(Object node, Object vmid) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("timeframe", "hour");
+        parameters.put("cf", "AVERAGE");
+        String resource = "/nodes/" + node + "/qemu/" + vmid + "/rrddata";
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        parameters.entrySet().stream()
+                .filter(entry -> entry.getValue() != null)
+                .forEachOrdered(entry -> {
+                    Object value = entry.getValue();
+                    params.put(entry.getKey(), value instanceof Boolean
+                            ? ((Boolean) value ? "1" : "0")
+                            : value.toString());
+                });
+
+        StringBuilder query = new StringBuilder();
+        params.forEach((key, value) -> {
+            try {
+                query.append(query.length() > 0 ? "&" : "").append(key).append("=")
+                        .append(URLEncoder.encode((String) value, "UTF-8"));
+            } catch (UnsupportedEncodingException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        return resource.length() + query.toString().length();
+    }
+
+    private static int after(Object node, Object vmid) {
+        Map<String, Object> parameters = RRDDATA.parameters("hour", "AVERAGE");
+        String resource = RRDDATA.resolve(node, vmid);
+
+        ParameterEncoder query = ParameterEncoder.acquire().encode(parameters, true);
+        int ret = resource.length() + query.toString().length();
+        query.release();
+        return ret;
+    }
+}